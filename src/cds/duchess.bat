@@ -0,0 +1,4 @@
+@echo off
+rem Starts Duchess with the class data sharing archive built by "gradlew cdsArchive".
+rem Any arguments, such as "-mode console", are passed on to Duchess.
+java -XX:SharedArchiveFile="%~dp0@archiveName@" -Xshare:auto -jar "%~dp0@jarName@" %*
@@ -0,0 +1,5 @@
+#!/usr/bin/env sh
+# Starts Duchess with the class data sharing archive built by "gradlew cdsArchive".
+# Any arguments, such as "-mode console", are passed on to Duchess.
+DIR="$(cd "$(dirname "$0")" && pwd -P)"
+exec java -XX:SharedArchiveFile="$DIR/@archiveName@" -Xshare:auto -jar "$DIR/@jarName@" "$@"
@@ -0,0 +1,74 @@
+package duke.io;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmark for {@code DateTimeParser.parseDateTime} over a mix of dates
+ * resembling a typical session, compared against the previous chain of
+ * {@code DateTimeFormatter}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeParserBenchmark {
+    private static final String[] DATE_MIX = {
+        "2-12-20 1600",
+        "2-12-20",
+        "tomorrow",
+        "friday",
+        "31-1-21 0900",
+        "15-6-20",
+        "today",
+        "mon",
+    };
+
+    /**
+     * Parses every date in the mix with the current {@code DateTimeParser}.
+     *
+     * @param blackhole Sink for the parsed dates.
+     */
+    @Benchmark
+    public void parseDateTime(Blackhole blackhole) {
+        for (String date : DATE_MIX) {
+            blackhole.consume(DateTimeParser.parseDateTime(date));
+        }
+    }
+
+    /**
+     * Parses the numeric dates in the mix the way {@code DateTimeParser} used to, by
+     * trying each {@code DateTimeFormatter} in turn and catching the failures.
+     *
+     * @param blackhole Sink for the parsed dates.
+     */
+    @Benchmark
+    public void parseWithFormatters(Blackhole blackhole) {
+        for (String date : DATE_MIX) {
+            if (!Character.isDigit(date.charAt(0))) {
+                blackhole.consume(DateTimeParser.parseDateTime(date));
+                continue;
+            }
+            try {
+                blackhole.consume(LocalDateTime.parse(date, DateTimeParser.dateTimePattern));
+            } catch (DateTimeParseException e) {
+                blackhole.consume(LocalDate.parse(date, DateTimeParser.datePattern).atTime(17, 0));
+            }
+        }
+    }
+}
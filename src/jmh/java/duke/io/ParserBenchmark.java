@@ -0,0 +1,80 @@
+package duke.io;
+
+import static duke.util.StringCleaner.cleanAndLowerString;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.command.Command;
+
+/**
+ * JMH benchmark for {@code Parser.parse} over a mix of commands resembling a
+ * typical session, compared against the previous regex split and linear scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+    private static final String[] COMMAND_MIX = {
+        "list",
+        "todo Go for a run",
+        "deadline Finish Week 2 IP /by Thursday",
+        "event Go for CS2103 class /at Friday 2-4pm",
+        "done 3",
+        "l",
+        "find run",
+        "dl submit report /by 2-12-20 1600 /every week",
+        "snooze 2 /for 3 days",
+        "delete 4",
+        "list",
+        "stats this week",
+        "undo",
+        "archive view",
+        "t buy milk",
+        "sort",
+    };
+
+    /**
+     * Parses every command in the mix with the current {@code Parser}.
+     *
+     * @param blackhole Sink for the parsed commands.
+     */
+    @Benchmark
+    public void parse(Blackhole blackhole) {
+        for (String command : COMMAND_MIX) {
+            blackhole.consume(Parser.parse(command));
+        }
+    }
+
+    /**
+     * Parses every command in the mix the way {@code Parser} used to, by splitting
+     * with a regex and scanning the aliases of every command.
+     *
+     * @param blackhole Sink for the parsed commands.
+     */
+    @Benchmark
+    public void parseWithLinearScan(Blackhole blackhole) {
+        for (String command : COMMAND_MIX) {
+            String formattedCommand = cleanAndLowerString(command.split("\\s", 2)[0]);
+            for (Command cmd : Command.values()) {
+                if (cmd.commands.contains(formattedCommand)) {
+                    blackhole.consume(cmd);
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package duke.reminder;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.task.Deadline;
+import duke.task.Task;
+
+/**
+ * JMH benchmark for {@code ReminderScheduler} with deadlines spread over the next
+ * year. The cost of a tick and of rescheduling a deadline should not grow with the
+ * number of deadlines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReminderSchedulerBenchmark {
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int MINUTES_PER_YEAR = 365 * 24 * 60;
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private SettableClock clock;
+    private ReminderScheduler scheduler;
+    private ArrayList<Task> tasks;
+    private int nextIndex;
+
+    /**
+     * Schedules reminders for the deadlines, with the default lead times.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        this.tasks = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.tasks.add(new Deadline("Deadline " + i, START_TIME.plusMinutes(random.nextInt(MINUTES_PER_YEAR))));
+        }
+        this.clock = new SettableClock(START_TIME.toInstant(ZoneOffset.UTC));
+        this.scheduler = new ReminderScheduler(ReminderScheduler.DEFAULT_LEAD_TIMES, this.clock);
+        this.scheduler.addListener(reminder -> { });
+        this.scheduler.onTasksReplaced(this.tasks);
+    }
+
+    /**
+     * Advances the clock by a second and sends the reminders that are due.
+     */
+    @Benchmark
+    public void tick() {
+        this.clock.instant = this.clock.instant.plusSeconds(1);
+        this.scheduler.tick();
+    }
+
+    /**
+     * Reschedules the reminders of one deadline, as after it is snoozed.
+     */
+    @Benchmark
+    public void updateDeadline() {
+        this.nextIndex = (this.nextIndex + 1) % this.size;
+        this.scheduler.onTaskUpdated(this.nextIndex, this.tasks.get(this.nextIndex));
+    }
+
+    /**
+     * The {@code SettableClock} is a {@code Clock} in UTC whose time is set by the
+     * benchmark.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
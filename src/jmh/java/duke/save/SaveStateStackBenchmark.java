@@ -0,0 +1,57 @@
+package duke.save;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.task.TaskDataset;
+import duke.task.TaskList;
+
+/**
+ * JMH benchmark for {@code SaveStateStack.saveState}, which runs before every
+ * command that changes the list, over synthetic lists from {@code TaskDataset}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveStateStackBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TaskList taskList;
+    private SaveStateStack saveStateStack;
+
+    /**
+     * Creates the synthetic list and an empty stack.
+     */
+    @Setup
+    public void setUp() {
+        this.taskList = TaskDataset.createTaskList(this.size);
+        this.saveStateStack = new SaveStateStack();
+    }
+
+    /**
+     * Saves the state of the list and pops it again, so that the stack never
+     * holds more than one state.
+     *
+     * @return The saved state.
+     */
+    @Benchmark
+    public SaveState saveState() {
+        this.saveStateStack.saveState("done 1", this.taskList);
+        return this.saveStateStack.pop();
+    }
+}
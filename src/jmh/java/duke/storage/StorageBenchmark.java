@@ -0,0 +1,85 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.task.Task;
+import duke.task.TaskDataset;
+import duke.task.TaskList;
+
+/**
+ * JMH benchmark for {@code Storage.save} and {@code Storage.load} over synthetic
+ * lists from {@code TaskDataset}, written to a temporary save file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private Storage storage;
+    private TaskList taskList;
+
+    /**
+     * Creates the synthetic list and writes it to a temporary save file.
+     *
+     * @throws IOException If the temporary directory cannot be created.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("duke-storage-benchmark");
+        this.storage = new Storage(this.directory.resolve("tasks.json").toString());
+        this.taskList = TaskDataset.createTaskList(this.size);
+        this.storage.save(this.taskList);
+    }
+
+    /**
+     * Deletes the temporary save file.
+     *
+     * @throws IOException If the save file cannot be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.directory.resolve("tasks.json"));
+        Files.deleteIfExists(this.directory);
+    }
+
+    /**
+     * Saves the list to the save file.
+     */
+    @Benchmark
+    public void save() {
+        this.storage.save(this.taskList);
+    }
+
+    /**
+     * Loads the list from the save file.
+     *
+     * @return The loaded tasks and archive.
+     */
+    @Benchmark
+    public ArrayList<ArrayList<Task>> load() {
+        return this.storage.load();
+    }
+}
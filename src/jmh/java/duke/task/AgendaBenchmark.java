@@ -0,0 +1,94 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.io.RecurrenceRuleParser;
+import duke.util.Frequency;
+
+/**
+ * JMH benchmark for {@code TaskList.getAgenda} over lists of recurring deadlines
+ * that started years before the window, so each series has to skip ahead before
+ * its occurrences are merged. The deadlines repeat either by a {@code Frequency}
+ * or by recurrence rules on several days of the week or month.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AgendaBenchmark {
+    private static final Frequency[] FREQUENCIES = {Frequency.DAILY, Frequency.WEEKLY, Frequency.FORTNIGHTLY,
+        Frequency.MONTHLY};
+    private static final String[] RULES = {"freq=daily;byday=mo,tu,we,th,fr", "freq=weekly;byday=mo,we,fr",
+        "freq=weekly;interval=2;byday=tu,th", "freq=monthly;bymonthday=1,15,-1"};
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"7", "365"})
+    private int days;
+
+    @Param({"frequency", "rule"})
+    private String recurrence;
+
+    private TaskList taskList;
+    private LocalDateTime from;
+
+    /**
+     * Creates recurring deadlines of every frequency or rule that started up to three years ago.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArrayList<Task> tasks = new ArrayList<>(this.size);
+        this.from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < this.size; i++) {
+            LocalDateTime firstDeadline = this.from.minusDays(i % 1000).withHour(i % 24);
+            tasks.add(this.recurrence.equals("rule")
+                    ? new RecurringDeadline("Series " + i, firstDeadline,
+                            RecurrenceRuleParser.parseRecurrenceRule(RULES[i % RULES.length]))
+                    : new RecurringDeadline("Series " + i, firstDeadline, FREQUENCIES[i % FREQUENCIES.length]));
+        }
+        this.taskList = new TaskList(tasks, new ArrayList<>());
+    }
+
+    /**
+     * Takes the first page of the agenda, which should not depend on the window.
+     *
+     * @param blackhole Consumes the occurrences.
+     */
+    @Benchmark
+    public void firstTwenty(Blackhole blackhole) {
+        Iterator<Occurrence> occurrences = this.taskList.getAgenda(this.from, this.from.plusDays(this.days));
+        for (int i = 0; i < 20 && occurrences.hasNext(); i++) {
+            blackhole.consume(occurrences.next());
+        }
+    }
+
+    /**
+     * Goes through every occurrence in the window.
+     *
+     * @param blackhole Consumes the occurrences.
+     */
+    @Benchmark
+    public void all(Blackhole blackhole) {
+        this.taskList.getAgenda(this.from, this.from.plusDays(this.days)).forEachRemaining(blackhole::consume);
+    }
+}
@@ -0,0 +1,93 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for finding the events during a day and the clashes of a new event
+ * with {@code TaskList}'s interval tree, against checking every task in the list.
+ * The events are spread over ten years, a few hours each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventQueryBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private TaskList taskList;
+    private LocalDateTime day;
+    private Event newEvent;
+
+    /**
+     * Creates events spread over ten years, with to-dos in between.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArrayList<Task> tasks = new ArrayList<>(this.size);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        long minutesApart = 10L * 365 * 24 * 60 / this.size;
+        for (int i = 0; i < this.size; i++) {
+            LocalDateTime eventStart = start.plusMinutes(i * minutesApart);
+            tasks.add(i % 4 == 0 ? new ToDo("Task " + i)
+                    : new Event("Event " + i, "Room " + i, eventStart, eventStart.plusHours(1 + i % 3)));
+        }
+        this.taskList = new TaskList(tasks, new ArrayList<>());
+        this.day = start.plusYears(5);
+        this.newEvent = new Event("New", "Room", this.day.plusHours(9), this.day.plusHours(11));
+    }
+
+    /**
+     * Finds the events during a day with the interval tree.
+     *
+     * @return Events during the day.
+     */
+    @Benchmark
+    public List<Event> eventsDuringDayByTree() {
+        return this.taskList.getEvents(this.day, this.day.plusDays(1));
+    }
+
+    /**
+     * Finds the events during a day by checking every task.
+     *
+     * @return Events during the day.
+     */
+    @Benchmark
+    public List<Event> eventsDuringDayByScan() {
+        List<Event> events = new ArrayList<>();
+        for (Task task : this.taskList.getTaskArray()) {
+            if (task instanceof Event && ((Event) task).isDuring(this.day, this.day.plusDays(1))) {
+                events.add((Event) task);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Finds the events clashing with a new event with the interval tree.
+     *
+     * @return Clashing events.
+     */
+    @Benchmark
+    public List<Event> clashesByTree() {
+        return this.taskList.getClashingEvents(this.newEvent);
+    }
+}
@@ -0,0 +1,98 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for finding the next tasks to do with {@code TaskList}'s heap,
+ * against sorting the incomplete tasks, and for moving a snoozed deadline in the
+ * heap. The tasks are spread evenly over every priority and no priority.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NextTasksBenchmark {
+    private static final int NUM_OF_TASKS = 10;
+    private static final Period SNOOZE_PERIOD = Period.ofDays(1);
+    private static final Period UNSNOOZE_PERIOD = Period.ofDays(-1);
+    private static final Comparator<Task> TASK_ORDER = Comparator.<Task>comparingInt(task ->
+            task.getPriority() == Task.NO_PRIORITY ? Task.LOWEST_PRIORITY + 1 : task.getPriority())
+            .thenComparing(task -> task instanceof Deadline ? ((Deadline) task).getDeadline() : null,
+                    Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()));
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TaskList taskList;
+    private int deadlineIndex;
+    private boolean isSnoozed;
+
+    /**
+     * Creates tasks with every priority, and finds a deadline to snooze.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArrayList<Task> tasks = TaskDataset.createTasks(this.size);
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setPriority(i % (Task.LOWEST_PRIORITY + 1));
+        }
+        this.taskList = new TaskList(tasks, new ArrayList<>());
+        this.deadlineIndex = this.taskList.findIndices(task -> task instanceof Deadline && !task.isCompleted()
+                && task.getPriority() == Task.HIGHEST_PRIORITY)[0];
+    }
+
+    /**
+     * Finds the next tasks to do with the heap.
+     *
+     * @return Next tasks to do.
+     */
+    @Benchmark
+    public List<Task> nextByHeap() {
+        return this.taskList.getNextTasks(NUM_OF_TASKS);
+    }
+
+    /**
+     * Finds the next tasks to do by sorting every incomplete task.
+     *
+     * @return Next tasks to do.
+     */
+    @Benchmark
+    public List<Task> nextBySort() {
+        return this.taskList.getTaskArray().stream().filter(task -> !task.isCompleted()).sorted(TASK_ORDER)
+                .limit(NUM_OF_TASKS).collect(Collectors.toList());
+    }
+
+    /**
+     * Snoozes a high priority deadline, or moves it back, and finds the next tasks
+     * to do with the heap.
+     *
+     * @return Next tasks to do.
+     */
+    @Benchmark
+    public List<Task> snoozeAndNextByHeap() {
+        this.taskList.snoozeTask(this.deadlineIndex, this.isSnoozed ? UNSNOOZE_PERIOD : SNOOZE_PERIOD);
+        this.isSnoozed = !this.isSnoozed;
+        return this.taskList.getNextTasks(NUM_OF_TASKS);
+    }
+}
@@ -0,0 +1,110 @@
+package duke.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for filtering a {@code TaskList} by tags, as in
+ * "list #work #urgent -#someday", with the bitmap of each tag against checking
+ * the tags of every task. Common tags such as "work" are on half of the tasks and
+ * rare ones such as "urgent" on one in a hundred.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagFilterBenchmark {
+    private static final List<String> INCLUDED_TAGS = List.of("work", "urgent");
+    private static final List<String> EXCLUDED_TAGS = List.of("someday");
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TaskList taskList;
+
+    /**
+     * Creates tasks tagged with common, uncommon and rare tags.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArrayList<Task> tasks = TaskDataset.createTasks(this.size);
+        for (int i = 0; i < tasks.size(); i++) {
+            List<String> tags = new ArrayList<>();
+            if (i % 2 == 0) {
+                tags.add("work");
+            }
+            if (i % 100 == 0) {
+                tags.add("urgent");
+            }
+            if (i % 7 == 0) {
+                tags.add("someday");
+            }
+            tasks.get(i).setTags(tags);
+        }
+        this.taskList = new TaskList(tasks, new ArrayList<>());
+    }
+
+    /**
+     * Filters the tasks by tags with the bitmap of each tag.
+     *
+     * @return Indices of the matching tasks.
+     */
+    @Benchmark
+    public int[] filterByBitmaps() {
+        return this.taskList.findIndicesWithTags(INCLUDED_TAGS, EXCLUDED_TAGS);
+    }
+
+    /**
+     * Filters the tasks by tags with only a common tag to include and a tag to
+     * exclude, so that the result is large.
+     *
+     * @return Indices of the matching tasks.
+     */
+    @Benchmark
+    public int[] filterCommonTagByBitmaps() {
+        return this.taskList.findIndicesWithTags(List.of("work"), EXCLUDED_TAGS);
+    }
+
+    /**
+     * Deletes the first task, which moves every other task, and then filters the
+     * tasks by tags, as the first "list #tag" after a "delete 1" does. The task is
+     * added back to the end of the list so that the size of the list stays the same.
+     *
+     * @return Indices of the matching tasks.
+     */
+    @Benchmark
+    public int[] filterAfterDeletingFirstTask() {
+        Task task = this.taskList.getTask(0);
+        this.taskList.removeTask(0);
+        int[] indices = this.taskList.findIndicesWithTags(INCLUDED_TAGS, EXCLUDED_TAGS);
+        this.taskList.addTask(task);
+        return indices;
+    }
+
+    /**
+     * Filters the tasks by tags by checking the tags of every task.
+     *
+     * @return Indices of the matching tasks.
+     */
+    @Benchmark
+    public int[] filterByScan() {
+        return this.taskList.findIndices(task -> task.getTags().containsAll(INCLUDED_TAGS)
+                && EXCLUDED_TAGS.stream().noneMatch(task.getTags()::contains));
+    }
+}
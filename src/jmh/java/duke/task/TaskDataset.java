@@ -0,0 +1,96 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import duke.util.Frequency;
+
+/**
+ * The {@code TaskDataset} creates synthetic lists of tasks for benchmarks. The
+ * lists are the same on every run, so that results can be compared across runs.
+ *
+ * <p>The active tasks are an even mix of todos, events, deadlines and recurring
+ * deadlines with distinct descriptions, of which about a third are completed. The
+ * archive holds one completed deadline for every ten active tasks.
+ */
+public class TaskDataset {
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2020, 2, 10, 9, 0);
+    private static final Frequency[] FREQUENCIES = Frequency.values();
+
+    /**
+     * Returns {@code size} synthetic active tasks.
+     *
+     * @param size Number of tasks.
+     * @return List of tasks.
+     */
+    public static ArrayList<Task> createTasks(int size) {
+        ArrayList<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(createTask(i));
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns synthetic archived tasks to go with {@code size} active tasks.
+     *
+     * @param size Number of active tasks.
+     * @return List of archived tasks.
+     */
+    public static ArrayList<Task> createArchive(int size) {
+        ArrayList<Task> archive = new ArrayList<>(size / 10);
+        for (int i = 0; i < size / 10; i++) {
+            archive.add(createArchivedTask(i));
+        }
+        return archive;
+    }
+
+    /**
+     * Returns the synthetic archived task at position {@code i}, a completed deadline
+     * of which half were completed on time.
+     *
+     * @param i Position of the archived task.
+     * @return Synthetic archived task.
+     */
+    public static Task createArchivedTask(int i) {
+        LocalDateTime deadline = BASE_TIME.minusDays(i % 60);
+        return new Deadline("Archived report " + i, deadline, true, deadline.minusDays(7),
+                deadline.minusHours(i % 48), i % 2 == 0);
+    }
+
+    /**
+     * Returns a {@code TaskList} of {@code size} synthetic active tasks along with
+     * their archive.
+     *
+     * @param size Number of active tasks.
+     * @return {@code TaskList} of synthetic tasks.
+     */
+    public static TaskList createTaskList(int size) {
+        return new TaskList(createTasks(size), createArchive(size));
+    }
+
+    /**
+     * Returns the synthetic task at position {@code i}.
+     *
+     * @param i Position of the task.
+     * @return Synthetic task.
+     */
+    public static Task createTask(int i) {
+        boolean isCompleted = i % 3 == 0;
+        LocalDateTime creationTime = BASE_TIME.minusDays(i % 400);
+        LocalDateTime completionTime = isCompleted ? creationTime.plusDays(i % 5) : null;
+        LocalDateTime deadline = BASE_TIME.plusHours(i % 2000 - 1000);
+        switch (i % 4) {
+        case 0:
+            return new ToDo("Go for run number " + i, isCompleted, creationTime, completionTime);
+        case 1:
+            return new Event("Attend lecture " + i, "Friday 2-4pm", isCompleted, creationTime, completionTime);
+        case 2:
+            return new Deadline("Submit report " + i, deadline, isCompleted, creationTime, completionTime,
+                    isCompleted);
+        default:
+            return new RecurringDeadline("Water plants " + i, deadline, FREQUENCIES[i % FREQUENCIES.length],
+                    null, isCompleted, creationTime, completionTime, isCompleted);
+        }
+    }
+}
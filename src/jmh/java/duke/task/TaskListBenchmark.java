@@ -0,0 +1,109 @@
+package duke.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmark for the {@code TaskList} operations that change the list, over
+ * synthetic lists from {@code TaskDataset}. Queries over the list are measured by
+ * {@code TaskListQueryBenchmark}.
+ *
+ * <p>Operations that reorder or shrink the list run on a fresh copy of the shuffled
+ * list each time, and the copying is not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private ArrayList<Task> shuffledTasks;
+    private ArrayList<Task> archive;
+    private TaskList taskList;
+    private int numOfTasksAdded;
+
+    /**
+     * Creates the synthetic list in a fixed random order.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        this.shuffledTasks = TaskDataset.createTasks(this.size);
+        Collections.shuffle(this.shuffledTasks, new Random(this.size));
+        this.archive = TaskDataset.createArchive(this.size);
+        this.taskList = new TaskList(new ArrayList<>(this.shuffledTasks), new ArrayList<>(this.archive));
+    }
+
+    /**
+     * Adds a new todo, including the check for duplicates, and removes it again so
+     * that the list keeps its size.
+     *
+     * @return The list after adding and removing the todo.
+     */
+    @Benchmark
+    public TaskList addTask() {
+        this.taskList.addTask(new ToDo("Buy milk " + this.numOfTasksAdded++));
+        this.taskList.removeTask(this.taskList.size() - 1);
+        return this.taskList;
+    }
+
+    /**
+     * Sorts the shuffled list.
+     *
+     * @param shuffledList Fresh copy of the shuffled list.
+     * @return The sorted list.
+     */
+    @Benchmark
+    public TaskList sort(ShuffledList shuffledList) {
+        shuffledList.taskList.sort();
+        return shuffledList.taskList;
+    }
+
+    /**
+     * Archives the completed tasks, about a third of the list.
+     *
+     * @param shuffledList Fresh copy of the shuffled list.
+     * @return The list after archiving.
+     */
+    @Benchmark
+    public TaskList archive(ShuffledList shuffledList) {
+        shuffledList.taskList.archive();
+        return shuffledList.taskList;
+    }
+
+    /**
+     * Copy of the shuffled list that is restored before each call.
+     */
+    @State(Scope.Thread)
+    public static class ShuffledList {
+        private final TaskList taskList = new TaskList();
+
+        /**
+         * Restores the shuffled list of the benchmark.
+         *
+         * @param benchmark Benchmark holding the shuffled list.
+         */
+        @Setup(Level.Invocation)
+        public void setUp(TaskListBenchmark benchmark) {
+            this.taskList.replaceLists(new ArrayList<>(benchmark.shuffledTasks), new ArrayList<>(benchmark.archive));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.util.Pair;
+
+/**
+ * JMH benchmark for {@code TaskList.find} and {@code TaskList.getStats} over large
+ * lists. Each query is submitted to a {@code ForkJoinPool} of the given parallelism,
+ * which the parallel path then runs in, so speedup can be compared across core counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskListQueryBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    @Param({"1", "4", "16"})
+    private int parallelism;
+
+    private TaskList taskList;
+    private ForkJoinPool pool;
+
+    /**
+     * Creates a list of tasks where every tenth task is completed and archived.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArrayList<Task> tasks = new ArrayList<>(this.size);
+        ArrayList<Task> archive = new ArrayList<>(this.size / 10);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < this.size; i++) {
+            if (i % 10 == 0) {
+                archive.add(new Deadline("Archived report " + i, now.minusDays(i % 30), true,
+                        now.minusDays(i % 60), now.minusDays(i % 30), true));
+            } else {
+                tasks.add(new ToDo("Go for run number " + i, i % 3 == 0, now.minusDays(i % 400), now));
+            }
+        }
+        this.taskList = new TaskList(tasks, archive);
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    /**
+     * Shuts down the pool used by the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Finds the tasks containing a word that matches about a tenth of them.
+     *
+     * @return Matching tasks with their indices.
+     * @throws ExecutionException   If the query fails.
+     * @throws InterruptedException If interrupted while waiting for the query.
+     */
+    @Benchmark
+    public ArrayList<Pair<Task, Integer>> find() throws ExecutionException, InterruptedException {
+        return this.pool.submit(() -> this.taskList.find("7")).get();
+    }
+
+    /**
+     * Gets the stats for this month over the tasks and archive.
+     *
+     * @return Stats of the task list.
+     * @throws ExecutionException   If the query fails.
+     * @throws InterruptedException If interrupted while waiting for the query.
+     */
+    @Benchmark
+    public Integer[] getStats() throws ExecutionException, InterruptedException {
+        return this.pool.submit(() -> this.taskList.getStats(Period.ofMonths(1))).get();
+    }
+}
@@ -0,0 +1,78 @@
+package duke.ui;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import duke.task.TaskDataset;
+import duke.task.TaskList;
+import duke.util.DateTimeStringFormatter;
+import duke.util.DateTimeStringFormatter.RenderContext;
+
+/**
+ * JMH benchmark for {@code Ui.printTaskList} over synthetic lists from
+ * {@code TaskDataset}, rendered within a {@code RenderContext} as commands are,
+ * along with a single page of the list for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UiBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Ui ui;
+    private TaskList taskList;
+
+    /**
+     * Creates the synthetic list.
+     */
+    @Setup
+    public void setUp() {
+        this.ui = new Ui();
+        this.taskList = TaskDataset.createTaskList(this.size);
+    }
+
+    /**
+     * Prints the whole list.
+     *
+     * @return The printed list.
+     */
+    @Benchmark
+    public String printTaskList() {
+        RenderContext context = DateTimeStringFormatter.openRenderContext();
+        try {
+            return this.ui.printTaskList(this.taskList);
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Prints the first page of the list.
+     *
+     * @return The printed page.
+     */
+    @Benchmark
+    public String printTaskListPage() {
+        RenderContext context = DateTimeStringFormatter.openRenderContext();
+        try {
+            return this.ui.printTaskListPage(this.taskList, 1, 20);
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package duke.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import duke.util.DateTimeStringFormatter.RenderContext;
+
+/**
+ * JMH benchmark for formatting the deadlines of a 10k task list, with and
+ * without a {@code RenderContext} open.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeStringFormatterBenchmark {
+    private static final int NUM_OF_DEADLINES = 10_000;
+
+    private LocalDateTime[] deadlines;
+
+    /**
+     * Creates deadlines spread over the year around today, at 17:00 as most
+     * deadlines are.
+     */
+    @Setup
+    public void setUp() {
+        this.deadlines = new LocalDateTime[NUM_OF_DEADLINES];
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < NUM_OF_DEADLINES; i++) {
+            this.deadlines[i] = today.plusDays(i % 365 - 180).atTime(17, 0);
+        }
+    }
+
+    /**
+     * Formats every deadline within one {@code RenderContext}, as a command does.
+     *
+     * @param blackhole Sink for the formatted deadlines.
+     */
+    @Benchmark
+    public void formatWithRenderContext(Blackhole blackhole) {
+        RenderContext context = DateTimeStringFormatter.openRenderContext();
+        try {
+            for (LocalDateTime deadline : this.deadlines) {
+                blackhole.consume(DateTimeStringFormatter.formatDateTime(deadline, false));
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Formats every deadline on its own, reading the clock for each.
+     *
+     * @param blackhole Sink for the formatted deadlines.
+     */
+    @Benchmark
+    public void formatWithoutRenderContext(Blackhole blackhole) {
+        for (LocalDateTime deadline : this.deadlines) {
+            blackhole.consume(DateTimeStringFormatter.formatDateTime(deadline, false));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package duke.workload;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import duke.Duke;
+import duke.command.Command;
+import duke.exception.DuchessException;
+import duke.io.Parser;
+import duke.ui.Ui;
+
+/**
+ * The {@code ReplayHarness} replays a stream of commands against a copy of a save
+ * file through {@code Duke.getResponse}, and reports latency percentiles for each
+ * {@code Command}.
+ *
+ * <p>With a target rate, commands are started on a fixed schedule whether or not
+ * the previous command has finished, and latency is measured from the scheduled
+ * start. A slow command therefore also counts against the commands queued behind
+ * it, as it would for a user typing at that rate. Without a target rate, commands
+ * run back to back and latency is the time taken by each command alone.
+ *
+ * <p>Flags: "-data FILE" (default "build/workload/tasks.json"), "-commands FILE"
+ * (default "build/workload/commands.txt"), "-rate N" for the commands started per
+ * second, or 0 to run back to back (default 0), and "-warmup N" for the number of
+ * commands replayed first without being measured (default 1000).
+ */
+public class ReplayHarness {
+    private static final String INVALID_COMMAND = "INVALID";
+    private static final String ERROR_MARKER = "\u0000";
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Duke duke;
+    private final String errorPrefix;
+    private final Map<Command, LatencyRecorder> recorders;
+    private final LatencyRecorder invalidRecorder;
+
+    /**
+     * Initialises a {@code ReplayHarness} that replays commands against the given
+     * save file. The save file is changed by the commands.
+     *
+     * @param saveFile Location of the save file.
+     */
+    public ReplayHarness(Path saveFile) {
+        this.duke = new Duke(saveFile.toString());
+        String sampleError = new Ui().printError(ERROR_MARKER);
+        this.errorPrefix = sampleError.substring(0, sampleError.indexOf(ERROR_MARKER));
+        this.recorders = new EnumMap<>(Command.class);
+        this.invalidRecorder = new LatencyRecorder();
+    }
+
+    /**
+     * Replays the commands with the settings given by the flags and prints the
+     * latency percentiles.
+     *
+     * @param args Flags for the replay.
+     * @throws IOException If the files cannot be read or copied.
+     */
+    public static void main(String[] args) throws IOException {
+        final List<String> arguments = Arrays.asList(args);
+        final Path saveFile = Path.of(getFlag(arguments, "-data", "build/workload/tasks.json"));
+        final List<String> commands = Files.readAllLines(Path.of(getFlag(arguments, "-commands",
+                "build/workload/commands.txt")));
+        final double rate = Double.parseDouble(getFlag(arguments, "-rate", "0"));
+        final int numOfWarmupCommands = Math.min(commands.size(),
+                Integer.parseInt(getFlag(arguments, "-warmup", "1000")));
+
+        // Every replay starts from the same save file, which is left untouched.
+        Path directory = Files.createTempDirectory("duke-replay");
+        Path workingCopy = directory.resolve("tasks.json");
+        try {
+            Files.copy(saveFile, workingCopy, StandardCopyOption.REPLACE_EXISTING);
+            ReplayHarness harness = new ReplayHarness(workingCopy);
+            harness.replay(commands.subList(0, numOfWarmupCommands), 0);
+            harness.reset();
+            long elapsedTime = harness.replay(commands.subList(numOfWarmupCommands, commands.size()), rate);
+            int numOfCommands = commands.size() - numOfWarmupCommands;
+            System.out.printf("Replayed %d commands in %.1f s (%.1f commands/s)%n", numOfCommands,
+                    elapsedTime / 1e9, numOfCommands / (elapsedTime / 1e9));
+            System.out.print(harness.getReport());
+        } finally {
+            Files.deleteIfExists(workingCopy);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Replays the given commands, recording the latency of each.
+     *
+     * @param commands Commands to replay.
+     * @param rate     Commands to start per second, or 0 to run them back to back.
+     * @return Nanoseconds taken to replay all of the commands.
+     */
+    public long replay(List<String> commands, double rate) {
+        final long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+        final long startTime = System.nanoTime();
+        for (int i = 0; i < commands.size(); i++) {
+            long scheduledTime = rate > 0 ? startTime + i * intervalNanos : System.nanoTime();
+            long waitTime = scheduledTime - System.nanoTime();
+            if (waitTime > 0) {
+                LockSupport.parkNanos(waitTime);
+            }
+            String command = commands.get(i);
+            String response = this.duke.getResponse(command);
+            long latency = System.nanoTime() - scheduledTime;
+            this.getRecorder(command).record(latency, response.startsWith(this.errorPrefix));
+        }
+        return System.nanoTime() - startTime;
+    }
+
+    /**
+     * Clears the latencies recorded so far.
+     */
+    public void reset() {
+        this.recorders.clear();
+        this.invalidRecorder.clear();
+    }
+
+    /**
+     * Returns a table of the number of commands, errors and latency percentiles for
+     * each {@code Command} replayed, in milliseconds.
+     *
+     * @return Latency report.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder(String.format("%-12s %8s %7s", "Command", "Count", "Errors"));
+        for (double percentile : PERCENTILES) {
+            report.append(String.format(" %9s", "p" + (percentile == (int) percentile
+                    ? String.valueOf((int) percentile) : String.valueOf(percentile))));
+        }
+        report.append(String.format(" %9s%n", "max"));
+        for (Map.Entry<Command, LatencyRecorder> entry : this.recorders.entrySet()) {
+            entry.getValue().appendSummary(report, entry.getKey().name());
+        }
+        if (this.invalidRecorder.getCount() > 0) {
+            this.invalidRecorder.appendSummary(report, INVALID_COMMAND);
+        }
+        return report.toString();
+    }
+
+    private LatencyRecorder getRecorder(String command) {
+        try {
+            return this.recorders.computeIfAbsent(Parser.parse(command), key -> new LatencyRecorder());
+        } catch (DuchessException e) {
+            return this.invalidRecorder;
+        }
+    }
+
+    private static String getFlag(List<String> arguments, String flag, String defaultValue) {
+        int index = arguments.indexOf(flag);
+        return index == -1 || index + 1 >= arguments.size() ? defaultValue : arguments.get(index + 1);
+    }
+
+    /**
+     * The {@code LatencyRecorder} records the latencies of one type of command.
+     */
+    private static class LatencyRecorder {
+        private long[] latencies = new long[64];
+        private int count;
+        private int numOfErrors;
+
+        void record(long latency, boolean isError) {
+            if (this.count == this.latencies.length) {
+                this.latencies = Arrays.copyOf(this.latencies, this.count * 2);
+            }
+            this.latencies[this.count++] = latency;
+            if (isError) {
+                this.numOfErrors++;
+            }
+        }
+
+        void clear() {
+            this.count = 0;
+            this.numOfErrors = 0;
+        }
+
+        int getCount() {
+            return this.count;
+        }
+
+        /**
+         * Appends a row with the count, errors and latency percentiles in milliseconds.
+         *
+         * @param report Report to append to.
+         * @param name   Name of the command.
+         */
+        void appendSummary(StringBuilder report, String name) {
+            long[] sortedLatencies = Arrays.copyOf(this.latencies, this.count);
+            Arrays.sort(sortedLatencies);
+            report.append(String.format("%-12s %8d %7d", name, this.count, this.numOfErrors));
+            for (double percentile : PERCENTILES) {
+                // Nearest-rank percentile.
+                int rank = (int) Math.ceil(percentile / 100 * this.count);
+                report.append(String.format(" %9.3f", sortedLatencies[Math.max(rank, 1) - 1] / 1e6));
+            }
+            report.append(String.format(" %9.3f%n", sortedLatencies[this.count - 1] / 1e6));
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package duke.workload;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import duke.save.SaveStateStack;
+import duke.storage.Storage;
+import duke.task.Task;
+import duke.task.TaskDataset;
+import duke.task.TaskList;
+
+/**
+ * The {@code WorkloadGenerator} writes a synthetic save file and a stream of
+ * commands to replay against it with the {@code ReplayHarness}.
+ *
+ * <p>The save file holds a mix of todos, events, deadlines and recurring deadlines
+ * from {@code TaskDataset}, along with an archive of any size. The commands are
+ * reads (list pages, find, stats and archive pages) and writes (adding, completing,
+ * deleting, snoozing, sorting, archiving and undoing) in the given ratio. The size
+ * of the list is tracked as the commands are generated, so that indices and pages
+ * stay within bounds, though a command may still fail if the task it picks is of
+ * the wrong kind, e.g. snoozing a todo.
+ *
+ * <p>Flags: "-tasks N" (default 1000), "-archive N" (default a tenth of the tasks),
+ * "-commands N" (default 10000), "-reads R" for the fraction of reads between 0 and 1
+ * (default 0.8), "-seed S" (default 42) and "-out DIR" (default "build/workload").
+ * The files are written to {@code DIR/tasks.json} and {@code DIR/commands.txt}.
+ */
+public class WorkloadGenerator {
+    private static final int PAGE_SIZE = 20;
+    private static final String[] DATE_TIMES = {"tomorrow", "friday", "2-3-20 1600", "14-2-20 0900", "1-1-21 2359"};
+    private static final String[] FREQUENCIES = {"day", "week", "fortnight", "month"};
+    private static final String[] SEARCH_WORDS = {"run", "report", "lecture", "plants", "milk", "7"};
+
+    private final Random random;
+    private final Deque<int[]> undoSizes;
+    private int size;
+    private int archiveSize;
+    private int numOfCompleted;
+    private int numOfTasksAdded;
+
+    /**
+     * Initialises a {@code WorkloadGenerator} for a list that starts with the given
+     * number of tasks.
+     *
+     * @param random      Source of randomness.
+     * @param size        Number of active tasks at the start.
+     * @param archiveSize Number of archived tasks at the start.
+     */
+    public WorkloadGenerator(Random random, int size, int archiveSize) {
+        this.random = random;
+        this.undoSizes = new ArrayDeque<>();
+        this.size = size;
+        this.archiveSize = archiveSize;
+        // A third of the tasks from TaskDataset are completed.
+        this.numOfCompleted = (size + 2) / 3;
+    }
+
+    /**
+     * Writes a save file and a command stream with the settings given by the flags.
+     *
+     * @param args Flags for the workload.
+     * @throws IOException If the files cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        final List<String> arguments = Arrays.asList(args);
+        final int numOfTasks = getIntFlag(arguments, "-tasks", 1000);
+        final int numOfArchived = getIntFlag(arguments, "-archive", numOfTasks / 10);
+        final int numOfCommands = getIntFlag(arguments, "-commands", 10000);
+        final double readRatio = Double.parseDouble(getFlag(arguments, "-reads", "0.8"));
+        final Random random = new Random(getIntFlag(arguments, "-seed", 42));
+        final Path outputDirectory = Path.of(getFlag(arguments, "-out", "build/workload"));
+
+        Files.createDirectories(outputDirectory);
+        Path saveFile = outputDirectory.resolve("tasks.json");
+        writeSaveFile(saveFile, numOfTasks, numOfArchived);
+        Path commandFile = outputDirectory.resolve("commands.txt");
+        WorkloadGenerator generator = new WorkloadGenerator(random, numOfTasks, numOfArchived);
+        Files.write(commandFile, generator.generateCommands(numOfCommands, readRatio));
+        System.out.println("Wrote " + numOfTasks + " tasks and " + numOfArchived + " archived tasks to " + saveFile);
+        System.out.println("Wrote " + numOfCommands + " commands to " + commandFile);
+    }
+
+    /**
+     * Writes a save file of synthetic tasks.
+     *
+     * @param saveFile      Location of the save file.
+     * @param numOfTasks    Number of active tasks.
+     * @param numOfArchived Number of archived tasks.
+     */
+    public static void writeSaveFile(Path saveFile, int numOfTasks, int numOfArchived) {
+        ArrayList<Task> archive = new ArrayList<>(numOfArchived);
+        for (int i = 0; i < numOfArchived; i++) {
+            archive.add(TaskDataset.createArchivedTask(i));
+        }
+        new Storage(saveFile.toString()).save(new TaskList(TaskDataset.createTasks(numOfTasks), archive));
+    }
+
+    /**
+     * Returns a stream of commands in which about {@code readRatio} of the commands
+     * are reads.
+     *
+     * @param numOfCommands Number of commands.
+     * @param readRatio     Fraction of commands that only read the list.
+     * @return List of commands.
+     */
+    public List<String> generateCommands(int numOfCommands, double readRatio) {
+        List<String> commands = new ArrayList<>(numOfCommands);
+        for (int i = 0; i < numOfCommands; i++) {
+            commands.add(this.random.nextDouble() < readRatio ? this.nextRead() : this.nextWrite());
+        }
+        return commands;
+    }
+
+    // Private helper methods
+
+    private String nextRead() {
+        int choice = this.random.nextInt(100);
+        if (choice < 40) {
+            return "list page " + this.nextPage(this.size);
+        } else if (choice < 45) {
+            return "list";
+        } else if (choice < 75) {
+            return "find " + this.pick(SEARCH_WORDS);
+        } else if (choice < 85) {
+            return "stats this week";
+        } else if (choice < 97 && this.archiveSize > 0) {
+            return "archive view page " + this.nextPage(this.archiveSize);
+        }
+        return "help";
+    }
+
+    private String nextWrite() {
+        int choice = this.random.nextInt(100);
+        if (this.size == 0 || choice < 25) {
+            return this.change(1, "todo Workload task " + this.numOfTasksAdded++);
+        } else if (choice < 40) {
+            return this.change(1, "deadline Workload report " + this.numOfTasksAdded++ + " /by "
+                    + this.pick(DATE_TIMES));
+        } else if (choice < 50) {
+            return this.change(1, "event Workload meeting " + this.numOfTasksAdded++ + " /at Friday 2-4pm");
+        } else if (choice < 55) {
+            return this.change(1, "dl Workload chore " + this.numOfTasksAdded++ + " /by "
+                    + this.pick(DATE_TIMES) + " /every " + this.pick(FREQUENCIES));
+        } else if (choice < 75) {
+            return this.change(0, 0, 1, "done " + this.nextIndex());
+        } else if (choice < 85) {
+            boolean isDeletingCompleted = this.random.nextInt(this.size) < this.numOfCompleted;
+            return this.change(-1, 0, isDeletingCompleted ? -1 : 0, "delete " + this.nextIndex());
+        } else if (choice < 90) {
+            return this.change(0, "snooze " + this.nextIndex() + " /for " + (this.random.nextInt(3) + 1) + " days");
+        } else if (choice < 95 && !this.undoSizes.isEmpty()) {
+            int[] sizes = this.undoSizes.pop();
+            this.size = sizes[0];
+            this.archiveSize = sizes[1];
+            this.numOfCompleted = sizes[2];
+            return "undo";
+        } else if (choice < 98) {
+            return this.change(0, "sort");
+        }
+        return this.change(-this.numOfCompleted, this.numOfCompleted, -this.numOfCompleted, "archive");
+    }
+
+    /**
+     * Records a change to the size of the list, which can then be undone.
+     *
+     * @param sizeChange Change to the number of active tasks.
+     * @param command    Command making the change.
+     * @return The given command.
+     */
+    private String change(int sizeChange, String command) {
+        return this.change(sizeChange, 0, 0, command);
+    }
+
+    /**
+     * Records a change to the sizes of the list and archive, which can then be undone.
+     *
+     * @param sizeChange        Change to the number of active tasks.
+     * @param archiveSizeChange Change to the number of archived tasks.
+     * @param completedChange   Change to the number of completed active tasks.
+     * @param command           Command making the change.
+     * @return The given command.
+     */
+    private String change(int sizeChange, int archiveSizeChange, int completedChange, String command) {
+        this.undoSizes.push(new int[] {this.size, this.archiveSize, this.numOfCompleted});
+        if (this.undoSizes.size() > SaveStateStack.MAX_SAVE_STATE_CAPACITY) {
+            this.undoSizes.removeLast();
+        }
+        this.size += sizeChange;
+        this.archiveSize += archiveSizeChange;
+        this.numOfCompleted = Math.min(this.size, Math.max(0, this.numOfCompleted + completedChange));
+        return command;
+    }
+
+    private int nextIndex() {
+        return this.random.nextInt(this.size) + 1;
+    }
+
+    private int nextPage(int numOfTasks) {
+        return this.random.nextInt(Math.max(1, (numOfTasks + PAGE_SIZE - 1) / PAGE_SIZE)) + 1;
+    }
+
+    private String pick(String[] options) {
+        return options[this.random.nextInt(options.length)];
+    }
+
+    private static String getFlag(List<String> arguments, String flag, String defaultValue) {
+        int index = arguments.indexOf(flag);
+        return index == -1 || index + 1 >= arguments.size() ? defaultValue : arguments.get(index + 1);
+    }
+
+    private static int getIntFlag(List<String> arguments, String flag, int defaultValue) {
+        return Integer.parseInt(getFlag(arguments, flag, String.valueOf(defaultValue)));
+    }
+}
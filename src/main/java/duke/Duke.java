@@ -1,15 +1,29 @@
 package duke;
 
+import static duke.util.MagicStrings.ERROR_FAIL_TO_READ_SCRIPT;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 
 import duke.command.Command;
 import duke.exception.DuchessException;
 import duke.io.Parser;
+import duke.metrics.CommandMetrics;
+import duke.metrics.CommandMetrics.CommandTimer;
+import duke.metrics.DukeCommandEvent;
+import duke.reminder.Reminder;
 import duke.save.SaveStateStack;
 import duke.storage.Storage;
 import duke.task.Task;
 import duke.task.TaskList;
 import duke.ui.Ui;
+import duke.util.DateTimeStringFormatter;
+import duke.util.DateTimeStringFormatter.RenderContext;
 
 /**
  * The {@code Duke} class is the entry point of the Duchess program.
@@ -29,6 +43,7 @@ public class Duke {
     private Storage storage;
     private String loadingErrorMessage;
     private SaveStateStack saveStateStack;
+    private boolean isGui;
 
     /**
      * Initialises a newly created {@code Duke} object that uses the
@@ -38,16 +53,7 @@ public class Duke {
      *                 save file.
      */
     public Duke(String filePath) {
-        this.ui = new Ui();
-        this.storage = new Storage(filePath);
-        this.saveStateStack = new SaveStateStack();
-        try {
-            ArrayList<ArrayList<Task>> savedData = this.storage.load();
-            this.taskList = new TaskList(savedData.get(0), savedData.get(1));
-        } catch (DuchessException e) {
-            this.ui.printToConsole(e.getMessage());
-            this.taskList = new TaskList();
-        }
+        this(filePath, false);
     }
 
     /**
@@ -62,27 +68,59 @@ public class Duke {
      *                 Gui mode.
      */
     public Duke(String filePath, boolean isGui) {
+        this(filePath, isGui, false);
+    }
+
+    private Duke(String filePath, boolean isGui, boolean isLoadDeferred) {
         this.ui = new Ui();
+        this.storage = new Storage(filePath);
         this.saveStateStack = new SaveStateStack();
+        this.taskList = new TaskList();
+        this.isGui = isGui;
+        if (!isLoadDeferred) {
+            this.loadTasks();
+        }
+    }
+
+    /**
+     * Returns a {@code Duke} object for GUI mode that starts with an empty
+     * {@code TaskList}, so that the window can be shown before the JSON save
+     * file is read. {@link #loadTasks()} must be called before any command is run.
+     *
+     * @param filePath A {@code String} denoting the location of the JSON
+     *                 save file.
+     * @return {@code Duke} object whose tasks are not loaded yet.
+     */
+    public static Duke createWithDeferredLoading(String filePath) {
+        return new Duke(filePath, true, true);
+    }
+
+    /**
+     * Loads the tasks in the JSON save file into the {@code TaskList}, which
+     * notifies its listeners of the loaded tasks. If the save file cannot be
+     * read, the {@code TaskList} is left empty and the error is printed, or
+     * stored for the welcome message in GUI mode.
+     */
+    public void loadTasks() {
         try {
-            this.storage = new Storage(filePath);
             ArrayList<ArrayList<Task>> savedData = this.storage.load();
-            this.taskList = new TaskList(savedData.get(0), savedData.get(1));
+            this.taskList.replaceLists(savedData.get(0), savedData.get(1));
         } catch (DuchessException e) {
-            if (isGui) {
+            if (this.isGui) {
                 this.loadingErrorMessage = this.ui.printLoadingError(e.getMessage());
             } else {
                 this.ui.printToConsole(e.getMessage());
             }
-            this.taskList = new TaskList();
         }
     }
 
     /**
      * Begins the console version of the Duchess program. Upon calling
      * the run() method, the user can begin to interact with the program.
+     * Task lists are written to the console line by line as they are formatted.
      */
     public void run() {
+        this.ui.setConsoleWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
         this.ui.printConsoleWelcome();
         ui.printLine();
         boolean isRunning = true;
@@ -91,8 +129,7 @@ public class Duke {
                 String fullCommand = this.ui.readCommand();
                 this.ui.printLine();
                 Command command = Parser.parse(fullCommand);
-                String response = command.execute.apply(fullCommand, this.taskList,
-                        this.ui, this.storage, this.saveStateStack);
+                String response = this.execute(command, fullCommand);
                 this.ui.printToConsole(response);
                 if (command == Command.BYE) {
                     isRunning = false;
@@ -105,6 +142,62 @@ public class Duke {
         }
     }
 
+    /**
+     * Runs every command in the given script file as a single transaction. All
+     * changes are undone together by one {@code undo}, and the save file is only
+     * written once after the last command. Errors are reported with their line
+     * number without stopping the remaining commands.
+     *
+     * @param scriptPath Location of the script file with one command per line.
+     */
+    public void runBatch(String scriptPath) {
+        final long readStartTime = System.nanoTime();
+        List<String> commands;
+        try {
+            commands = Files.readAllLines(Path.of(scriptPath));
+        } catch (IOException e) {
+            this.ui.printToConsole(this.ui.printError(ERROR_FAIL_TO_READ_SCRIPT));
+            return;
+        }
+
+        final long executeStartTime = System.nanoTime();
+        int numOfCommandsExecuted = 0;
+        int numOfErrors = 0;
+        this.saveStateStack.beginTransaction("batch " + scriptPath);
+        this.storage.deferSaves();
+        try {
+            for (int i = 0; i < commands.size(); i++) {
+                String fullCommand = commands.get(i);
+                if (fullCommand.isBlank()) {
+                    continue;
+                }
+                try {
+                    Command command = Parser.parse(fullCommand);
+                    this.execute(command, fullCommand);
+                    numOfCommandsExecuted += 1;
+                    if (command == Command.BYE) {
+                        break;
+                    }
+                } catch (DuchessException e) {
+                    numOfErrors += 1;
+                    this.ui.printToConsole(this.ui.printBatchError(i + 1, fullCommand, e.getMessage()));
+                }
+            }
+        } finally {
+            this.saveStateStack.endTransaction();
+        }
+
+        long saveStartTime = System.nanoTime();
+        try {
+            this.storage.commit(this.taskList);
+        } catch (DuchessException e) {
+            this.ui.printToConsole(this.ui.printError(e.getMessage()));
+        }
+        long endTime = System.nanoTime();
+        this.ui.printToConsole(this.ui.printBatchSummary(numOfCommandsExecuted, numOfErrors,
+                executeStartTime - readStartTime, saveStartTime - executeStartTime, endTime - saveStartTime));
+    }
+
     /**
      * Returns a Duke response to the given input.
      *
@@ -114,12 +207,50 @@ public class Duke {
     public String getResponse(String input) {
         try {
             Command command = Parser.parse(input);
-            return command.execute.apply(input, this.taskList, this.ui, this.storage, this.saveStateStack);
+            return this.execute(command, input);
         } catch (DuchessException e) {
             return ui.printError(e.getMessage());
         }
     }
 
+    /**
+     * Returns the message for the given reminder.
+     *
+     * @param reminder {@code Reminder} that is due.
+     * @return Reminder message.
+     */
+    public String getReminderMessage(Reminder reminder) {
+        return this.ui.printReminder(reminder);
+    }
+
+    /**
+     * Prints the given reminder to the console for console mode.
+     *
+     * @param reminder {@code Reminder} that is due.
+     */
+    public void printReminder(Reminder reminder) {
+        this.ui.printToConsole(this.ui.printReminder(reminder));
+    }
+
+    /**
+     * Returns the {@code TaskList} that commands work on, so that views can
+     * listen to its changes.
+     *
+     * @return The {@code TaskList} of this program.
+     */
+    public TaskList getTaskList() {
+        return this.taskList;
+    }
+
+    /**
+     * Returns the error encountered when loading the save file in GUI mode.
+     *
+     * @return Loading error message, or null if the save file was loaded.
+     */
+    public String getLoadingErrorMessage() {
+        return this.loadingErrorMessage;
+    }
+
     /**
      * Returns the welcome message for GUI mode.
      *
@@ -132,4 +263,36 @@ public class Duke {
             return this.ui.printWelcome();
         }
     }
+
+    /**
+     * Executes the given {@code Command} and returns its response. Dates in the
+     * response are all formatted relative to the time the command started, and the
+     * command is measured by {@code CommandMetrics} and recorded as a
+     * {@code DukeCommandEvent} for JDK Flight Recorder.
+     *
+     * @param command     Parsed type of the command.
+     * @param fullCommand Full user command string.
+     * @return Response of the command.
+     * @throws DuchessException If the command fails.
+     */
+    private String execute(Command command, String fullCommand) throws DuchessException {
+        DukeCommandEvent event = new DukeCommandEvent();
+        event.begin();
+        RenderContext context = DateTimeStringFormatter.openRenderContext();
+        try (CommandTimer timer = CommandMetrics.startTimer(command)) {
+            String response = command.execute.apply(fullCommand, this.taskList, this.ui, this.storage,
+                    this.saveStateStack);
+            timer.markSuccessful();
+            event.setSuccessful(true);
+            return response;
+        } finally {
+            context.close();
+            event.end();
+            if (event.shouldCommit()) {
+                event.setCommand(command.name());
+                event.setTaskCount(this.taskList.size());
+                event.commit();
+            }
+        }
+    }
 }
@@ -3,6 +3,10 @@ package duke;
 import java.util.Arrays;
 import java.util.List;
 
+import duke.exception.DuchessException;
+import duke.metrics.CommandMetrics;
+import duke.reminder.ReminderScheduler;
+import duke.reminder.ReminderSettings;
 import javafx.application.Application;
 
 /**
@@ -10,6 +14,16 @@ import javafx.application.Application;
  * When starting up the program using the command line, use the flag
  * "-mode console" to run the application in console mode. Else it will
  * default to "-mode gui" by default.
+ *
+ * <p>Use the flags "-mode batch -script FILE" to run every command in
+ * {@code FILE} as a single transaction without any interaction.
+ *
+ * <p>In GUI mode, use the flag "-messages N" to keep only the last {@code N}
+ * messages in the chat transcript.
+ *
+ * <p>In console and GUI mode, use the flags "-remind TIMES" and
+ * "-reminder-hook COMMAND" to change when and how deadlines are reminded about,
+ * as described in {@code ReminderSettings}.
  */
 public class Launcher {
     /**
@@ -23,7 +37,14 @@ public class Launcher {
         final int modeIndex = arguments.indexOf("-mode");
         final String mode = modeIndex == -1 ? "gui" : arguments.get(modeIndex + 1);
         if ("console".equals(mode.toLowerCase())) {
-            runConsole();
+            runConsole(arguments);
+        } else if ("batch".equals(mode.toLowerCase())) {
+            final int scriptIndex = arguments.indexOf("-script");
+            if (scriptIndex == -1 || scriptIndex + 1 >= arguments.size()) {
+                System.err.println("Missing script: use -script FILE");
+                return;
+            }
+            runBatch(arguments.get(scriptIndex + 1));
         } else if ("gui".equals(mode.toLowerCase())) {
             Application.launch(Main.class, args);
         } else {
@@ -31,8 +52,27 @@ public class Launcher {
         }
     }
 
-    private static void runConsole() {
+    private static void runConsole(List<String> arguments) {
         Duke duchess = new Duke("data/tasks.json");
+        CommandMetrics.registerMBean();
+        ReminderScheduler reminderScheduler = null;
+        try {
+            ReminderSettings reminderSettings = ReminderSettings.fromArguments(arguments);
+            if (reminderSettings.isEnabled()) {
+                reminderScheduler = reminderSettings.createScheduler(duchess::printReminder);
+                reminderScheduler.start(duchess.getTaskList());
+            }
+        } catch (DuchessException e) {
+            System.err.println(e.getMessage());
+        }
         duchess.run();
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
+    }
+
+    private static void runBatch(String scriptPath) {
+        Duke duchess = new Duke("data/tasks.json");
+        duchess.runBatch(scriptPath);
     }
 }
@@ -1,21 +1,50 @@
 package duke;
 
+import java.util.List;
+
 import duke.controller.MainWindow;
+import duke.exception.DuchessException;
+import duke.metrics.CommandMetrics;
+import duke.reminder.ReminderScheduler;
+import duke.reminder.ReminderSettings;
+import duke.util.StartupTimer;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 /**
  * The {@code Main} class helps to start up the GUI for Duchess.
+ *
+ * <p>The window is shown before the save file is read, and the time taken by each
+ * phase of starting up is logged: initialising JavaFX, loading the FXML, drawing
+ * the first frame and loading the tasks.
  */
 public class Main extends Application {
 
-    private Duke duke = new Duke("data/tasks.json", true);
+    private final StartupTimer startupTimer = new StartupTimer();
+    private Duke duke;
+    private MainWindow mainWindow;
+    private ReminderScheduler reminderScheduler;
+
+    @Override
+    public void init() {
+        startupTimer.mark("FX init");
+    }
 
     @Override
     public void start(Stage stage) {
-        MainWindow ap = new MainWindow(duke);
+        duke = Duke.createWithDeferredLoading("data/tasks.json");
+        MainWindow ap = new MainWindow(duke, getMaxMessages());
+        mainWindow = ap;
+        startupTimer.mark("FXML");
         Scene scene = new Scene(ap);
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                startupTimer.mark("First paint");
+            }
+        });
         stage.setScene(scene);
         stage.setMinHeight(600);
         stage.setHeight(600);
@@ -33,5 +62,66 @@ public class Main extends Application {
         });
         // @@author
         stage.show();
+        ap.loadTasks(this::onTasksLoaded);
+    }
+
+    /**
+     * Marks the end of loading the tasks, and only then registers the metrics MBean
+     * and starts the reminders so that they do not slow down startup.
+     */
+    private void onTasksLoaded() {
+        startupTimer.mark("Storage load");
+        CommandMetrics.registerMBean();
+        startReminders();
+    }
+
+    /**
+     * Starts reminding about deadlines in the transcript, with the settings given by
+     * the "-remind" and "-reminder-hook" flags.
+     */
+    private void startReminders() {
+        try {
+            ReminderSettings reminderSettings = ReminderSettings.fromArguments(this.getParameters().getRaw());
+            if (reminderSettings.isEnabled()) {
+                reminderScheduler = reminderSettings.createScheduler(reminder ->
+                        mainWindow.showReminder(duke.getReminderMessage(reminder)));
+                reminderScheduler.start(duke.getTaskList());
+            }
+        } catch (DuchessException e) {
+            mainWindow.showReminder(e.getMessage());
+        }
+    }
+
+    /**
+     * Waits for queued commands to finish before the program exits.
+     */
+    @Override
+    public void stop() {
+        if (reminderScheduler != null) {
+            reminderScheduler.stop();
+        }
+        if (mainWindow != null) {
+            mainWindow.shutdown();
+        }
+    }
+
+    /**
+     * Returns the number of messages to keep in the transcript, given by the
+     * "-messages N" flag.
+     *
+     * @return Maximum number of messages, or the default if the flag is missing or invalid.
+     */
+    private int getMaxMessages() {
+        List<String> arguments = this.getParameters().getRaw();
+        int index = arguments.indexOf("-messages");
+        if (index == -1 || index + 1 >= arguments.size()) {
+            return MainWindow.DEFAULT_MAX_MESSAGES;
+        }
+        try {
+            int maxMessages = Integer.parseInt(arguments.get(index + 1));
+            return maxMessages > 0 ? maxMessages : MainWindow.DEFAULT_MAX_MESSAGES;
+        } catch (NumberFormatException e) {
+            return MainWindow.DEFAULT_MAX_MESSAGES;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package duke.command;
 
+import static duke.util.MagicStrings.ERROR_METRICS_INVALID_OPTION;
 import static duke.util.MagicStrings.ERROR_NO_MORE_UNDOS;
 import static duke.util.MagicStrings.ERROR_STATS_INVALID_TIME;
 import static duke.util.StringCleaner.cleanAndLowerString;
@@ -9,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 import duke.exception.DuchessException;
+import duke.metrics.CommandMetrics;
 import duke.save.SaveState;
 import duke.save.SaveStateStack;
 import duke.storage.Storage;
@@ -100,6 +102,32 @@ public class AdminCommandHandler {
         return ui.printStats(stats, statsPeriod);
     }
 
+    /**
+     * Shows the latency, allocation and time breakdown of every command run so far,
+     * or clears them with "metrics reset".
+     *
+     * @param command        Full user command string.
+     * @param taskList       List of tasks.
+     * @param ui             Ui instance.
+     * @param storage        Storage instance.
+     * @param saveStateStack Collection of save states.
+     * @return Metrics of the commands, or the reset message.
+     * @throws DuchessException If the option after "metrics" is not recognised.
+     */
+    static String handleMetricsCommand(String command, TaskList taskList, Ui ui, Storage storage,
+                                       SaveStateStack saveStateStack) throws DuchessException {
+        ArrayList<String> commands = new ArrayList<>(Arrays.asList(command.trim().split("\\s", 2)));
+        assert Command.METRICS.hasCommand(cleanAndLowerString(commands.get(0))); // pre-condition
+        if (commands.size() < 2) {
+            return ui.printMetrics(CommandMetrics.getSummaries());
+        }
+        if (!cleanAndLowerString(commands.get(1)).equals("reset")) {
+            throw new DuchessException(ERROR_METRICS_INVALID_OPTION);
+        }
+        CommandMetrics.reset();
+        return ui.printMetricsReset();
+    }
+
     // Private helper methods
 
     /**
@@ -2,6 +2,8 @@ package duke.command;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import duke.save.SaveStateStack;
 import duke.storage.Storage;
@@ -25,12 +27,32 @@ public enum Command {
     DELETE(TaskListCommandHandler::handleDeleteCommand, "delete", "del"),
     SNOOZE(TaskListCommandHandler::handleSnoozeCommand, "snooze"),
     SORT(TaskListCommandHandler::handleSortCommand, "sort", "s"),
+    AGENDA(TaskListCommandHandler::handleAgendaCommand, "agenda", "ag", "calendar"),
+    EVENTS(TaskListCommandHandler::handleEventsCommand, "events", "ev", "schedule"),
+    NEXT(TaskListCommandHandler::handleNextCommand, "next", "n"),
     HELP(AdminCommandHandler::handleHelpCommand, "help", "h"),
     UNDO(AdminCommandHandler::handleUndoCommand, "undo"),
     ARCHIVE(TaskListCommandHandler::handleArchiveCommand, "archive", "arc", "a"),
     STATISTICS(AdminCommandHandler::handleStatsCommand, "statistics", "statistic", "stat", "stats"),
+    METRICS(AdminCommandHandler::handleMetricsCommand, "metrics"),
     BYE(AdminCommandHandler::handleByeCommand, "bye", "exit", "quit");
 
+    /**
+     * Maps every recognised user input to its command type. Built once when the
+     * enum is loaded so that lookups do not scan every alias of every command.
+     */
+    private static final Map<String, Command> COMMAND_LOOKUP;
+
+    static {
+        HashMap<String, Command> commandLookup = new HashMap<>();
+        for (Command cmd : Command.values()) {
+            for (String alias : cmd.commands) {
+                commandLookup.put(alias, cmd);
+            }
+        }
+        COMMAND_LOOKUP = Map.copyOf(commandLookup);
+    }
+
     /**
      * Executes the command. Use {@code execute.apply} to run the function.
      */
@@ -54,6 +76,16 @@ public enum Command {
     }
 
     public boolean hasCommand(String command) {
-        return this.commands.contains(command);
+        return COMMAND_LOOKUP.get(command) == this;
+    }
+
+    /**
+     * Returns the command type that the given cleaned user input maps to.
+     *
+     * @param command Cleaned lowercase user input, e.g. "todo" or "dl".
+     * @return The matching command type, or null if the input is not recognised.
+     */
+    public static Command lookup(String command) {
+        return COMMAND_LOOKUP.get(command);
     }
 }
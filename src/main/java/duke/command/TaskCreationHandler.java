@@ -7,15 +7,20 @@ import static duke.util.MagicStrings.ERROR_EVENT_MISSING_TIME_FRAME;
 import static duke.util.MagicStrings.ERROR_INVALID_COMMAND;
 import static duke.util.MagicStrings.ERROR_TODO_MISSING_CONTENT;
 import static duke.util.StringCleaner.cleanAndLowerString;
-import static duke.util.StringCleaner.cleanString;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 import duke.exception.DuchessException;
+import duke.io.ArgumentTokenizer;
+import duke.io.ArgumentTokenizer.Prefix;
 import duke.io.DateTimeParser;
-import duke.io.FrequencyParser;
+import duke.io.PriorityParser;
+import duke.io.RecurrenceRuleParser;
+import duke.io.TagParser;
+import duke.io.TimeFrameParser;
 import duke.save.SaveStateStack;
 import duke.storage.Storage;
 import duke.task.Deadline;
@@ -25,7 +30,8 @@ import duke.task.Task;
 import duke.task.TaskList;
 import duke.task.ToDo;
 import duke.ui.Ui;
-import duke.util.Frequency;
+import duke.util.Pair;
+import duke.util.RecurrenceRule;
 
 /**
  * The {@code TaskCreationHandler} class contains all static methods
@@ -33,6 +39,10 @@ import duke.util.Frequency;
  * command, taskList, ui and storage.
  */
 public class TaskCreationHandler {
+    private static final Set<Prefix> TODO_PREFIXES = EnumSet.noneOf(Prefix.class);
+    private static final Set<Prefix> EVENT_PREFIXES = EnumSet.of(Prefix.AT);
+    private static final Set<Prefix> DEADLINE_PREFIXES = EnumSet.of(Prefix.BY, Prefix.EVERY, Prefix.STOP);
+
     /**
      * Creates a {@code ToDo} based on the command and given the entire command and
      * the supporting instances.
@@ -61,15 +71,17 @@ public class TaskCreationHandler {
      * @param ui             Ui instance.
      * @param storage        Storage instance.
      * @param saveStateStack Collection of save states.
-     * @return Success message of event creation.
+     * @return Success message of event creation, warning of any events it clashes with.
      * @throws DuchessException If the list fails to be saved or /at [details] is
      *                          missing.
      */
     static String handleEventCommand(String command, TaskList taskList, Ui ui, Storage storage,
                                      SaveStateStack saveStateStack) throws DuchessException {
-        Task newTask = getTaskFromCommand(command, "/at");
+        Event newEvent = (Event) getTaskFromCommand(command, Prefix.AT);
         saveStateStack.saveState(command, taskList); // An immutable copy is made of current state.
-        return saveTask(newTask, taskList, storage, ui);
+        String message = saveTask(newEvent, taskList, storage, ui);
+        List<Event> clashingEvents = taskList.getClashingEvents(newEvent);
+        return clashingEvents.isEmpty() ? message : message + ui.printClashingEvents(clashingEvents);
     }
 
     /**
@@ -87,7 +99,7 @@ public class TaskCreationHandler {
      */
     static String handleDeadlineCommand(String command, TaskList taskList, Ui ui, Storage storage,
                                         SaveStateStack saveStateStack) throws DuchessException {
-        Task newTask = getTaskFromCommand(command, "/by");
+        Task newTask = getTaskFromCommand(command, Prefix.BY);
         saveStateStack.saveState(command, taskList); // An immutable copy is made of current state.
         return saveTask(newTask, taskList, storage, ui);
     }
@@ -104,15 +116,16 @@ public class TaskCreationHandler {
      * @throws DuchessException If the given command is of an invalid format.
      */
     private static Task getTaskFromCommand(String command) throws DuchessException {
-        ArrayList<String> commands = new ArrayList<>(Arrays.asList(command.split("\\s", 2)));
-        String type = cleanAndLowerString(commands.get(0));
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(command, TODO_PREFIXES);
+        String type = cleanAndLowerString(tokenizer.getCommandWord());
 
         assert Command.TODO.commands.contains(type); // pre-condition as only handleTodoCommand would call this
 
-        if (commands.size() < 2) {
+        String description = tokenizer.getPreamble();
+        if (description.isEmpty()) {
             handleMissingContent(type);
         }
-        return new ToDo(cleanString(commands.get(1)));
+        return new ToDo(description);
     }
 
     /**
@@ -120,88 +133,67 @@ public class TaskCreationHandler {
      * processes. the input and checks for any errors. If error is found, an
      * appropriate error is thrown.
      *
-     * @param command        Raw uncleaned command to process.
-     * @param detailsKeyword Keyword to split command by.
+     * @param command       Raw uncleaned command to process.
+     * @param detailsPrefix Prefix that introduces the details of the task.
      * @return Task created from command.
      * @throws DuchessException If the given command is of an invalid format.
      */
-    private static Task getTaskFromCommand(String command, String detailsKeyword) throws DuchessException {
-        ArrayList<String> commands = new ArrayList<>(Arrays.asList(command.split("\\s", 2)));
-        String type = cleanAndLowerString(commands.get(0));
+    private static Task getTaskFromCommand(String command, Prefix detailsPrefix) throws DuchessException {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(command,
+                detailsPrefix == Prefix.AT ? EVENT_PREFIXES : DEADLINE_PREFIXES);
+        String type = cleanAndLowerString(tokenizer.getCommandWord());
 
         // Check if description of the task is missing.
-        if (commands.size() < 2 || cleanAndLowerString(commands.get(1)).startsWith(detailsKeyword)) {
+        String description = tokenizer.getPreamble();
+        if (description.isEmpty()) {
             handleMissingContent(type);
         }
 
         // Check for details such as deadline and time frame.
-        ArrayList<String> details = new ArrayList<>(Arrays.asList(commands.get(1).split(detailsKeyword)));
-        if (details.size() < 2) {
+        String details = tokenizer.getValue(detailsPrefix);
+        if (details == null || details.isEmpty()) {
             handleMissingDetails(type);
         }
 
         if (Command.EVENT.hasCommand(type)) {
-            // User is creating an Event
-            return new Event(cleanString(details.get(0)), cleanString(details.get(1)));
+            // User is creating an Event, which is scheduled if its time frame is made up of times
+            Pair<LocalDateTime, LocalDateTime> times = TimeFrameParser.parseTimeFrame(cleanAndLowerString(details));
+            return times == null
+                    ? new Event(description, details)
+                    : new Event(description, details, times.getFirst(), times.getSecond());
         }
 
         assert Command.DEADLINE.commands.contains(type); // pre-condition
 
-        return getDeadlineFromDetails(commands.get(1));
+        return getDeadlineFromDetails(description, tokenizer);
     }
 
     /**
-     * Returns a {@code Deadline} object if the user input suggests that
-     * recurrence is desired, else return null.
+     * Returns a {@code Deadline}, which is a {@code RecurringDeadline} if the user
+     * input suggests that recurrence is desired.
      *
-     * @param command Original user command.
+     * @param description Description of the deadline.
+     * @param tokenizer   Tokenized user command containing a /by value.
      * @return {@code Deadline} object.
      * @throws DuchessException If the deadline format is invalid.
      */
-    private static Deadline getDeadlineFromDetails(String command) throws DuchessException {
-        ArrayList<String> details = new ArrayList<>(Arrays.asList(command.split("/")));
-
-        // Details to catch
-        Frequency frequency = null;
-        LocalDateTime deadline = null;
-        LocalDateTime recurrenceEndTime = null;
-
-        // Going in reverse order to handle default case
-        for (int i = details.size() - 1; i > -1; i--) {
-            String detail = details.get(i);
-            String[] commands = detail.split("\\s", 2);
-            switch (commands[0].toLowerCase()) {
-            case "by":
-                deadline = DateTimeParser.parseDateTime(cleanAndLowerString(commands[1]));
-                break;
-            case "every":
-                frequency = FrequencyParser.parseFrequency(cleanAndLowerString(commands[1]));
-                break;
-            case "stop":
-                recurrenceEndTime = DateTimeParser.parseDateTime(cleanAndLowerString(commands[1]));
-                break;
-            default:
-                // Means a slash was inside the command. Assume it to be part of the previous segment,
-                // thus we will append it to the previous segment.
-                if (i != 0) {
-                    details.set(i - 1, details.get(i - 1) + "/" + detail);
-                }
-                break;
-            }
-        }
-
-        if (deadline == null) {
-            throw new DuchessException(ERROR_DEADLINE_MISSING_DEADLINE);
-        }
-
-        String description = cleanString(details.get(0));
-        if (frequency == null) {
+    private static Deadline getDeadlineFromDetails(String description, ArgumentTokenizer tokenizer)
+            throws DuchessException {
+        LocalDateTime deadline = DateTimeParser.parseDateTime(cleanAndLowerString(tokenizer.getValue(Prefix.BY)));
+        RecurrenceRule rule = tokenizer.hasPrefix(Prefix.EVERY)
+                ? RecurrenceRuleParser.parseRecurrenceRule(cleanAndLowerString(tokenizer.getValue(Prefix.EVERY)))
+                : null;
+        LocalDateTime recurrenceEndTime = tokenizer.hasPrefix(Prefix.STOP)
+                ? DateTimeParser.parseDateTime(cleanAndLowerString(tokenizer.getValue(Prefix.STOP)))
+                : null;
+
+        if (rule == null) {
             return new Deadline(description, deadline);
         }
         if (recurrenceEndTime == null) {
-            return new RecurringDeadline(description, deadline, frequency);
+            return new RecurringDeadline(description, deadline, rule);
         }
-        return new RecurringDeadline(description, deadline, frequency, recurrenceEndTime);
+        return new RecurringDeadline(description, deadline, rule, recurrenceEndTime);
     }
 
     /**
@@ -237,7 +229,8 @@ public class TaskCreationHandler {
     }
 
     /**
-     * Saves the newly created {@code Task} and returns a success message.
+     * Saves the newly created {@code Task} with the #tags and priority in its
+     * description, and returns a success message.
      *
      * @param newTask  {@code Task} to be saved.
      * @param taskList {@code TaskList} to save to.
@@ -248,6 +241,8 @@ public class TaskCreationHandler {
      */
     private static String saveTask(Task newTask, TaskList taskList,
                                    Storage storage, Ui ui) throws DuchessException {
+        newTask.setTags(TagParser.parseTags(newTask.getDescription()));
+        newTask.setPriority(PriorityParser.parsePriority(newTask.getDescription()));
         taskList.addTask(newTask);
         storage.save(taskList);
         return ui.printTaskAdded(newTask, taskList.size());
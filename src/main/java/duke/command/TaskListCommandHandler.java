@@ -1,24 +1,43 @@
 package duke.command;
 
-import static duke.util.MagicStrings.ERROR_COMMAND_MISSING_INDEX;
-import static duke.util.MagicStrings.ERROR_COMMAND_TOO_MANY_INDICES;
-import static duke.util.MagicStrings.ERROR_INDEX_OUT_OF_BOUNDS;
+import static duke.util.MagicStrings.ERROR_AGENDA_INVALID_RANGE;
+import static duke.util.MagicStrings.ERROR_AGENDA_MISSING_RANGE;
+import static duke.util.MagicStrings.ERROR_EVENTS_INVALID_RANGE;
+import static duke.util.MagicStrings.ERROR_EVENTS_MISSING_RANGE;
 import static duke.util.MagicStrings.ERROR_INVALID_COMMAND;
 import static duke.util.MagicStrings.ERROR_INVALID_SNOOZE_DURATION;
+import static duke.util.MagicStrings.ERROR_INVALID_NEXT_COUNT;
+import static duke.util.MagicStrings.ERROR_INVALID_PAGE;
+import static duke.util.MagicStrings.ERROR_NO_MATCHING_TASKS;
+import static duke.util.MagicStrings.ERROR_PAGE_OUT_OF_BOUNDS;
 import static duke.util.MagicStrings.ERROR_SNOOZING_NON_DEADLINE;
 import static duke.util.MagicStrings.ERROR_SORTING_EMPTY_LIST;
 import static duke.util.StringCleaner.cleanAndLowerString;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.temporal.TemporalAmount;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import duke.exception.DuchessException;
+import duke.io.ArgumentTokenizer;
+import duke.io.ArgumentTokenizer.Prefix;
+import duke.io.DateTimeParser;
 import duke.io.DurationParser;
+import duke.io.IndexParser;
+import duke.io.QueryParser;
+import duke.io.TagParser;
 import duke.save.SaveStateStack;
 import duke.storage.Storage;
 import duke.task.Deadline;
+import duke.task.Occurrence;
 import duke.task.Task;
 import duke.task.TaskList;
 import duke.ui.Ui;
@@ -29,25 +48,58 @@ import duke.util.Pair;
  * commands given the same arguments of command, taskList, ui and storage.
  */
 public class TaskListCommandHandler {
+    private static final String QUERY_KEYWORD = "where";
+    private static final String PAGE_KEYWORD = "page";
+    private static final String PAGE_SIZE_KEYWORD = "size";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int DEFAULT_NEXT_COUNT = 5;
+    private static final Set<Prefix> DONE_PREFIXES = EnumSet.of(Prefix.CATCHUP);
+    private static final Set<Prefix> SNOOZE_PREFIXES = EnumSet.of(Prefix.FOR);
+    private static final Set<Prefix> DAY_RANGE_PREFIXES = EnumSet.of(Prefix.TO);
+
     /**
-     * Prints out the given {@code TaskList} with the given {@code Ui} instance.
+     * Prints out the given {@code TaskList} with the given {@code Ui} instance. Tags
+     * such as "list #work #urgent -#someday" only print the tasks with every tag
+     * given and without any "-#" tag given.
      *
      * @param command        Full user command string.
      * @param taskList       List of tasks.
      * @param ui             Ui instance.
      * @param storage        Storage instance.
      * @param saveStateStack Collection of save states.
-     * @return String containing all {@code Task}s.
+     * @return String containing all {@code Task}s, the requested page of them, or
+     *         those with the requested tags.
+     * @throws DuchessException If the page requested is invalid or does not exist, or
+     *                          the tag filter is invalid.
      */
     static String handleListCommand(String command, TaskList taskList, Ui ui, Storage storage,
                                     SaveStateStack saveStateStack) throws DuchessException {
-        assert Command.LIST.hasCommand(cleanAndLowerString(command)); // pre-condition
-        return ui.printTaskList(taskList);
+        String[] commands = cleanAndLowerString(command).split("\\s+");
+        assert Command.LIST.hasCommand(commands[0]); // pre-condition
+        if (commands.length == 1) {
+            return ui.printTaskList(taskList);
+        }
+        String arguments = cleanAndLowerString(command).split("\\s+", 2)[1];
+        if (TagParser.isTagFilter(arguments)) {
+            Pair<List<String>, List<String>> tags = TagParser.parseTagFilter(arguments);
+            int[] indices = taskList.findIndicesWithTags(tags.getFirst(), tags.getSecond());
+            ArrayList<Pair<Task, Integer>> filteredTaskList = new ArrayList<>(indices.length);
+            for (int index : indices) {
+                filteredTaskList.add(new Pair<>(taskList.getTask(index), index));
+            }
+            return ui.printFilteredTaskList(filteredTaskList);
+        }
+        int[] page = getPageFromArguments(commands, 1, taskList.size());
+        return ui.printTaskListPage(taskList, page[0], page[1]);
     }
 
     /**
-     * Completes a {@code Task} based on the command and given the entire command
-     * and the supporting instances.
+     * Completes {@code Task}s based on the command and given the entire command
+     * and the supporting instances. Multiple indices and ranges such as
+     * "done 1 4 7-20" are completed together as a single change, as are all
+     * incomplete tasks matching a query such as "done where deadline < today".
+     * With "/catchup", overdue recurring deadlines skip every deadline that has
+     * passed instead, such as "done 3 /catchup".
      *
      * @param command        Full user command string.
      * @param taskList       List of tasks.
@@ -56,17 +108,33 @@ public class TaskListCommandHandler {
      * @param saveStateStack Collection of save states.
      * @return Success message for completing the task.
      * @throws DuchessException If the list fails to be saved or the index is out of
-     *                          bounds or the task is already completed.
+     *                          bounds or the task is already completed, or a task
+     *                          caught up on is not an overdue recurring deadline.
      */
     static String handleDoneCommand(String command, TaskList taskList, Ui ui, Storage storage,
                                     SaveStateStack saveStateStack) throws DuchessException {
-        int index = getIntegerFromCommand(command);
-        checkBoundsOfIndex(index, taskList);
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(command, DONE_PREFIXES);
+        boolean isCatchingUp = tokenizer.hasPrefix(Prefix.CATCHUP);
+        String tasksCommand = isCatchingUp ? tokenizer.getCommandWord() + " " + tokenizer.getPreamble() : command;
+        String query = getQueryFromCommand(tasksCommand);
+        int[] indices = query == null
+                ? getIndicesFromCommand(tasksCommand, taskList)
+                : getMatchingIndices(QueryParser.parseQuery(query).and(task -> !task.isCompleted()), taskList);
 
         saveStateStack.saveState(command, taskList); // An immutable copy is made of current state.
-        Task taskCompleted = taskList.completeTask(index - 1);
+        if (isCatchingUp) {
+            List<Pair<Task, Integer>> tasksCaughtUp = taskList.catchUpTasks(indices, LocalDateTime.now());
+            storage.save(taskList);
+            return ui.printTasksCaughtUp(tasksCaughtUp);
+        }
+        if (indices.length == 1) {
+            Task taskCompleted = taskList.completeTask(indices[0]);
+            storage.save(taskList);
+            return ui.printTaskCompleted(taskCompleted);
+        }
+        List<Task> tasksCompleted = taskList.completeTasks(indices);
         storage.save(taskList);
-        return ui.printTaskCompleted(taskCompleted);
+        return ui.printTasksCompleted(tasksCompleted);
     }
 
     /**
@@ -90,8 +158,10 @@ public class TaskListCommandHandler {
     }
 
     /**
-     * Deletes a {@code Task} based on the command and given the entire command and
-     * the supporting instances.
+     * Deletes {@code Task}s based on the command and given the entire command and
+     * the supporting instances. Multiple indices and ranges such as "delete 3-9"
+     * are removed together in a single pass over the list, as are all tasks
+     * matching a query such as "delete where desc~standup and completed".
      *
      * @param command        Full user command string.
      * @param taskList       List of tasks.
@@ -114,20 +184,27 @@ public class TaskListCommandHandler {
             storage.save(taskList);
             return ui.printAllDeleted();
         }
-        int index = getIntegerFromCommand(command);
-        checkBoundsOfIndex(index, taskList);
+        String query = getQueryFromCommand(command);
+        int[] indices = query == null
+                ? getIndicesFromCommand(command, taskList)
+                : getMatchingIndices(QueryParser.parseQuery(query), taskList);
         saveStateStack.saveState(command, taskList); // An immutable copy is made of current state.
 
-        Task taskToDelete = taskList.getTask(index - 1);
-        taskList.removeTask(index - 1);
-
+        if (indices.length == 1) {
+            Task taskToDelete = taskList.getTask(indices[0]);
+            taskList.removeTask(indices[0]);
+            storage.save(taskList);
+            return ui.printTaskDeleted(taskToDelete, taskList.size());
+        }
+        List<Task> tasksDeleted = taskList.removeTasks(indices);
         storage.save(taskList);
-        return ui.printTaskDeleted(taskToDelete, taskList.size());
+        return ui.printTasksDeleted(tasksDeleted, taskList.size());
     }
 
     /**
-     * Snoozes a {@code Task} based on the command and given the entire command and
-     * the supporting instances.
+     * Snoozes {@code Task}s based on the command and given the entire command and
+     * the supporting instances. Multiple indices and ranges such as
+     * "snooze 2-5 /for 1 day" are snoozed together as a single change.
      *
      * @param command        Full user command string.
      * @param taskList       List of tasks.
@@ -140,27 +217,141 @@ public class TaskListCommandHandler {
      */
     static String handleSnoozeCommand(String command, TaskList taskList, Ui ui, Storage storage,
                                       SaveStateStack saveStateStack) throws DuchessException {
-        ArrayList<String> commands = new ArrayList<>(Arrays.asList(command.split("/for", 2)));
-        if (commands.size() < 2) {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(command, SNOOZE_PREFIXES);
+        if (!tokenizer.hasPrefix(Prefix.FOR)) {
             throw new DuchessException(ERROR_INVALID_SNOOZE_DURATION);
         }
 
-        assert Command.SNOOZE.hasCommand(cleanAndLowerString(commands.get(0))); // pre-condition
-
-        int index = getIntegerFromCommand(commands.get(0));
-        checkBoundsOfIndex(index, taskList);
+        assert Command.SNOOZE.hasCommand(cleanAndLowerString(tokenizer.getCommandWord())); // pre-condition
 
-        Task taskToSnooze = taskList.getTask(index - 1);
-        if (!(taskToSnooze instanceof Deadline)) {
-            throw new DuchessException(ERROR_SNOOZING_NON_DEADLINE);
+        int[] indices = IndexParser.parseIndices(tokenizer.getPreamble(), taskList.size());
+        List<Task> tasksToSnooze = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            Task taskToSnooze = taskList.getTask(index);
+            if (!(taskToSnooze instanceof Deadline)) {
+                throw new DuchessException(ERROR_SNOOZING_NON_DEADLINE);
+            }
+            tasksToSnooze.add(taskToSnooze);
         }
 
-        String duration = cleanAndLowerString(commands.get(1));
+        String duration = cleanAndLowerString(tokenizer.getValue(Prefix.FOR));
         TemporalAmount snoozePeriod = DurationParser.parseDuration(duration);
         saveStateStack.saveState(command, taskList); // An immutable copy is made of current state.
-        ((Deadline) taskToSnooze).snooze(snoozePeriod);
+        for (int index : indices) {
+            taskList.snoozeTask(index, snoozePeriod);
+        }
         storage.save(taskList);
-        return ui.printTaskSnoozed(taskToSnooze, DurationParser.parseDurationToString(duration));
+        if (tasksToSnooze.size() == 1) {
+            return ui.printTaskSnoozed(tasksToSnooze.get(0), DurationParser.parseDurationToString(duration));
+        }
+        return ui.printTasksSnoozed(tasksToSnooze, DurationParser.parseDurationToString(duration));
+    }
+
+    /**
+     * Prints out the deadlines due from one day to another, given the entire command
+     * such as "agenda today /to 31-12-20" and the supporting instances. Recurring
+     * deadlines are shown for every time they are due within those days. At most one
+     * page of deadlines is shown, the first unless another is asked for as in
+     * "agenda today /to 31-12-20 page 2 size 50".
+     *
+     * @param command        Full user command string.
+     * @param taskList       List of tasks.
+     * @param ui             Ui instance.
+     * @param storage        Storage instance.
+     * @param saveStateStack Collection of save states.
+     * @return Message containing the page of deadlines in order of time.
+     * @throws DuchessException If the days are missing, invalid or backwards, or the
+     *                          page requested is invalid or does not exist.
+     */
+    static String handleAgendaCommand(String command, TaskList taskList, Ui ui, Storage storage,
+                                      SaveStateStack saveStateStack) throws DuchessException {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(command, DAY_RANGE_PREFIXES);
+        assert Command.AGENDA.hasCommand(cleanAndLowerString(tokenizer.getCommandWord())); // pre-condition
+
+        String toInput = tokenizer.getValue(Prefix.TO);
+        int[] page = {1, DEFAULT_PAGE_SIZE};
+        if (toInput != null) {
+            String[] arguments = cleanAndLowerString(toInput).split("\\s+");
+            int pageStart = Arrays.asList(arguments).lastIndexOf(PAGE_KEYWORD);
+            if (pageStart > 0) {
+                page = parsePageArguments(arguments, pageStart);
+                toInput = String.join(" ", Arrays.copyOfRange(arguments, 0, pageStart));
+            }
+        }
+        LocalDate[] days = getDaysFromArguments(tokenizer.getPreamble(), toInput, ERROR_AGENDA_MISSING_RANGE,
+                ERROR_AGENDA_INVALID_RANGE);
+        Iterator<Occurrence> occurrences = taskList.getAgenda(days[0].atStartOfDay(), days[1].atTime(LocalTime.MAX));
+        // Occurrences before the page are skipped without being formatted.
+        for (long i = (long) (page[0] - 1) * page[1]; i > 0 && occurrences.hasNext(); i--) {
+            occurrences.next();
+        }
+        if (page[0] > 1 && !occurrences.hasNext()) {
+            throw new DuchessException(ERROR_PAGE_OUT_OF_BOUNDS);
+        }
+        return ui.printAgenda(days[0], days[1], occurrences, page[0], page[1]);
+    }
+
+    /**
+     * Prints out every scheduled event taking place from one day to another, given the
+     * entire command such as "events today /to 31-12-20" and the supporting instances.
+     *
+     * @param command        Full user command string.
+     * @param taskList       List of tasks.
+     * @param ui             Ui instance.
+     * @param storage        Storage instance.
+     * @param saveStateStack Collection of save states.
+     * @return Message containing the events in order of when they start.
+     * @throws DuchessException If the days are missing, invalid or backwards.
+     */
+    static String handleEventsCommand(String command, TaskList taskList, Ui ui, Storage storage,
+                                      SaveStateStack saveStateStack) throws DuchessException {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(command, DAY_RANGE_PREFIXES);
+        assert Command.EVENTS.hasCommand(cleanAndLowerString(tokenizer.getCommandWord())); // pre-condition
+
+        LocalDate[] days = getDaysFromArguments(tokenizer.getPreamble(), tokenizer.getValue(Prefix.TO),
+                ERROR_EVENTS_MISSING_RANGE, ERROR_EVENTS_INVALID_RANGE);
+        return ui.printEvents(days[0], days[1], taskList.getEvents(days[0].atStartOfDay(),
+                days[1].plusDays(1).atStartOfDay()));
+    }
+
+    /**
+     * Prints out the first incomplete tasks to do, by priority and then by deadline,
+     * given the entire command such as "next" or "next 10" and the supporting
+     * instances.
+     *
+     * @param command        Full user command string.
+     * @param taskList       List of tasks.
+     * @param ui             Ui instance.
+     * @param storage        Storage instance.
+     * @param saveStateStack Collection of save states.
+     * @return Message containing the tasks in the order they should be done.
+     * @throws DuchessException If the number of tasks asked for is invalid.
+     */
+    static String handleNextCommand(String command, TaskList taskList, Ui ui, Storage storage,
+                                    SaveStateStack saveStateStack) throws DuchessException {
+        String[] commands = cleanAndLowerString(command).split("\\s+");
+        assert Command.NEXT.hasCommand(commands[0]); // pre-condition
+        if (commands.length > 2) {
+            throw new DuchessException(ERROR_INVALID_NEXT_COUNT);
+        }
+        int numOfTasks = DEFAULT_NEXT_COUNT;
+        if (commands.length == 2) {
+            try {
+                numOfTasks = Integer.parseInt(commands[1]);
+            } catch (NumberFormatException e) {
+                throw new DuchessException(ERROR_INVALID_NEXT_COUNT);
+            }
+            if (numOfTasks < 1) {
+                throw new DuchessException(ERROR_INVALID_NEXT_COUNT);
+            }
+        }
+        List<Task> nextTasks = taskList.getNextTasks(numOfTasks);
+        int[] indices = taskList.getIndices(nextTasks);
+        ArrayList<Pair<Task, Integer>> nextTaskList = new ArrayList<>(nextTasks.size());
+        for (int i = 0; i < nextTasks.size(); i++) {
+            nextTaskList.add(new Pair<>(nextTasks.get(i), indices[i]));
+        }
+        return ui.printNextTasks(nextTaskList);
     }
 
     /**
@@ -189,7 +380,9 @@ public class TaskListCommandHandler {
     }
 
     /**
-     * Archives the completed tasks in the current list.
+     * Archives the completed tasks in the current list. Only the completed tasks
+     * matching the query are archived if one is given, e.g.
+     * "archive where completed before 1-1-26".
      *
      * @param command        Full user command string.
      * @param taskList       List of tasks.
@@ -203,6 +396,15 @@ public class TaskListCommandHandler {
                                        SaveStateStack saveStateStack) throws DuchessException {
         ArrayList<String> commands = new ArrayList<>(Arrays.asList(command.split("\\s", 2)));
         assert Command.ARCHIVE.hasCommand(cleanAndLowerString(commands.get(0))); // pre-condition
+        String query = getQueryFromCommand(command);
+        if (query != null) {
+            Predicate<Task> predicate = QueryParser.parseQuery(query);
+            getMatchingIndices(predicate.and(Task::isCompleted), taskList);
+            saveStateStack.saveState(command, taskList);
+            taskList.archive(predicate);
+            storage.save(taskList);
+            return ui.printTaskListArchived();
+        }
         if (commands.size() == 2) {
             return handleShowArchive(command, taskList, ui);
         }
@@ -213,40 +415,144 @@ public class TaskListCommandHandler {
         return ui.printTaskListArchived();
     }
 
-    private static Integer getIntegerFromCommand(String command) throws DuchessException {
-        ArrayList<String> commands = new ArrayList<>(Arrays.asList(command.split("\\s")));
-        checkSizeOfCommands(commands);
-        try {
-            return Integer.parseInt(commands.get(1).trim());
-        } catch (NumberFormatException e) {
-            throw new DuchessException(ERROR_INVALID_COMMAND);
+    /**
+     * Returns the sorted and distinct zero-based positions of the tasks that the
+     * command refers to.
+     *
+     * @param command  Command with the indices after its first word.
+     * @param taskList List of tasks the indices refer to.
+     * @return Zero-based positions of the tasks.
+     * @throws DuchessException If the indices are missing, invalid or out of bounds.
+     */
+    private static int[] getIndicesFromCommand(String command, TaskList taskList) throws DuchessException {
+        String[] commands = command.trim().split("\\s", 2);
+        return IndexParser.parseIndices(commands.length < 2 ? "" : commands[1], taskList.size());
+    }
+
+    /**
+     * Returns the first and last day given by a command such as "agenda today /to 31-12-20".
+     *
+     * @param preamble     Preamble of the command, giving the first day.
+     * @param toInput      Value given for "/to", giving the last day, or {@code null} if
+     *                     there is none.
+     * @param missingError Error message if either day is missing.
+     * @param invalidError Error message if the last day is before the first.
+     * @return The first and last day, in that order.
+     * @throws DuchessException If the days are missing, invalid or backwards.
+     */
+    private static LocalDate[] getDaysFromArguments(String preamble, String toInput, String missingError,
+                                                    String invalidError) throws DuchessException {
+        String fromInput = cleanAndLowerString(preamble);
+        if (fromInput.isEmpty() || toInput == null || toInput.isBlank()) {
+            throw new DuchessException(missingError);
         }
+        LocalDate from = DateTimeParser.parseDateTime(fromInput).toLocalDate();
+        LocalDate to = DateTimeParser.parseDateTime(cleanAndLowerString(toInput)).toLocalDate();
+        if (to.isBefore(from)) {
+            throw new DuchessException(invalidError);
+        }
+        return new LocalDate[]{from, to};
     }
 
-    private static void checkSizeOfCommands(ArrayList<String> commands) throws DuchessException {
-        if (commands.size() < 2) {
-            throw new DuchessException(ERROR_COMMAND_MISSING_INDEX);
+    /**
+     * Returns the query in the command if its arguments begin with "where", else null.
+     *
+     * @param command Full user command string.
+     * @return Query after "where", or null if the command is not a query.
+     */
+    private static String getQueryFromCommand(String command) {
+        String[] commands = command.trim().split("\\s", 2);
+        if (commands.length < 2) {
+            return null;
         }
-        if (commands.size() > 2) {
-            throw new DuchessException(ERROR_COMMAND_TOO_MANY_INDICES);
+        String[] arguments = commands[1].trim().split("\\s", 2);
+        if (!cleanAndLowerString(arguments[0]).equals(QUERY_KEYWORD)) {
+            return null;
         }
+        return arguments.length < 2 ? "" : arguments[1];
     }
 
-    private static void checkBoundsOfIndex(int index, TaskList taskList) throws DuchessException {
-        boolean isIndexTooLow = index < 0;
-        boolean isIndexTooHigh = index > taskList.size();
-        if (isIndexTooLow || isIndexTooHigh) {
-            throw new DuchessException(ERROR_INDEX_OUT_OF_BOUNDS);
+    /**
+     * Returns the sorted indices of the tasks that match the given {@code Predicate}.
+     *
+     * @param predicate {@code Predicate} that the tasks need to match.
+     * @param taskList  List of tasks to search.
+     * @return Sorted indices of the matching tasks.
+     * @throws DuchessException If no task matches.
+     */
+    private static int[] getMatchingIndices(Predicate<Task> predicate, TaskList taskList) throws DuchessException {
+        int[] indices = taskList.findIndices(predicate);
+        if (indices.length == 0) {
+            throw new DuchessException(ERROR_NO_MATCHING_TASKS);
         }
+        return indices;
     }
 
     private static String handleShowArchive(String command, TaskList taskList, Ui ui) throws DuchessException {
-        ArrayList<String> commands = new ArrayList<>(Arrays.asList(command.split("\\s")));
-        String secondaryCommand = cleanAndLowerString(commands.get(1));
+        String[] commands = cleanAndLowerString(command).split("\\s+");
+        String secondaryCommand = commands[1];
         ArrayList<String> validShowCommands = new ArrayList<>(List.of("show", "view", "list"));
         if (!validShowCommands.contains(secondaryCommand)) {
             throw new DuchessException(ERROR_INVALID_COMMAND);
         }
-        return ui.printArchive(taskList);
+        if (commands.length == 2) {
+            return ui.printArchive(taskList);
+        }
+        int[] page = getPageFromArguments(commands, 2, taskList.archiveSize());
+        return ui.printArchivePage(taskList, page[0], page[1]);
+    }
+
+    /**
+     * Returns the page number and page size given by arguments of the form
+     * "page N" or "page N size M", starting at {@code start}.
+     *
+     * @param arguments Lowercase arguments of the command.
+     * @param start     Position of the "page" keyword in {@code arguments}.
+     * @param numOfTasks Number of tasks to be paged through.
+     * @return Array of the one-based page number followed by the page size.
+     * @throws DuchessException If the arguments are of the wrong format or the page
+     *                          does not exist.
+     */
+    private static int[] getPageFromArguments(String[] arguments, int start, int numOfTasks)
+            throws DuchessException {
+        int[] page = parsePageArguments(arguments, start);
+        if (page[0] > Ui.getNumOfPages(numOfTasks, page[1])) {
+            throw new DuchessException(ERROR_PAGE_OUT_OF_BOUNDS);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the page number and page size given by arguments of the form
+     * "page N" or "page N size M", starting at {@code start}, without checking that
+     * the page exists.
+     *
+     * @param arguments Lowercase arguments of the command.
+     * @param start     Position of the "page" keyword in {@code arguments}.
+     * @return Array of the one-based page number followed by the page size.
+     * @throws DuchessException If the arguments are of the wrong format.
+     */
+    private static int[] parsePageArguments(String[] arguments, int start) throws DuchessException {
+        int remaining = arguments.length - start;
+        boolean isPageGiven = remaining >= 2 && arguments[start].equals(PAGE_KEYWORD);
+        boolean isSizeGiven = remaining == 4 && arguments[start + 2].equals(PAGE_SIZE_KEYWORD);
+        if (!isPageGiven || (remaining != 2 && !isSizeGiven)) {
+            throw new DuchessException(ERROR_INVALID_PAGE);
+        }
+        int page = parsePositiveNumber(arguments[start + 1]);
+        int pageSize = isSizeGiven ? parsePositiveNumber(arguments[start + 3]) : DEFAULT_PAGE_SIZE;
+        return new int[] {page, pageSize};
+    }
+
+    private static int parsePositiveNumber(String number) throws DuchessException {
+        try {
+            int value = Integer.parseInt(number);
+            if (value < 1) {
+                throw new DuchessException(ERROR_INVALID_PAGE);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new DuchessException(ERROR_INVALID_PAGE);
+        }
     }
 }
@@ -1,62 +1,89 @@
 package duke.controller;
 
-import java.io.IOException;
-import java.util.Collections;
-
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.Region;
 import javafx.scene.shape.Ellipse;
 
 /**
  * The {@code DialogBox} control represents a dialog box consisting of an ImageView to
  * represent the speaker's face and a label containing text from the speaker.
+ *
+ * <p>The layout is built in code rather than loaded from FXML, so that a
+ * {@code DialogBox} is cheap to create and can be reused for other messages with
+ * {@link #setMessage(String, Image, boolean)}.
  */
 public class DialogBox extends HBox {
+    private static final String SPEECH_BUBBLE_CLASS = "speech-bubble";
     private static final String USER_SPEECH_BUBBLE_CLASS = "user-speech-bubble";
+    private static final double DISPLAY_PICTURE_SIZE = 50.0;
 
-    @FXML
-    private HBox speechBubble;
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private final HBox speechBubble;
+    private final Label dialog;
+    private final ImageView displayPicture;
+    private boolean isFromUser;
 
-    private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource("/view/DialogBox.fxml"));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    /**
+     * Initialises an empty {@code DialogBox} laid out for a message from the user.
+     */
+    public DialogBox() {
+        this.dialog = new Label();
+        this.dialog.setWrapText(true);
+        this.dialog.setMinHeight(Label.USE_PREF_SIZE);
+        this.dialog.setPadding(new Insets(10.0));
+        HBox.setHgrow(this.dialog, Priority.ALWAYS);
+        HBox.setMargin(this.dialog, new Insets(5.0));
+
+        this.speechBubble = new HBox(this.dialog);
+        this.speechBubble.setAlignment(Pos.CENTER_RIGHT);
+        this.speechBubble.getStyleClass().addAll(SPEECH_BUBBLE_CLASS, USER_SPEECH_BUBBLE_CLASS);
+        HBox.setMargin(this.speechBubble, new Insets(5.0, 10.0, 5.0, 10.0));
 
-        dialog.setMinHeight(Label.USE_PREF_SIZE);
-        dialog.setText(text);
-        displayPicture.setImage(img);
+        this.displayPicture = new ImageView();
+        this.displayPicture.setFitWidth(DISPLAY_PICTURE_SIZE);
+        this.displayPicture.setFitHeight(DISPLAY_PICTURE_SIZE);
+        this.displayPicture.setPickOnBounds(true);
+        this.displayPicture.setPreserveRatio(true);
         // Solution below adapted from https://stackoverflow.com/a/38010904
-        double width = displayPicture.getFitWidth();
-        double height = displayPicture.getFitHeight();
-        Ellipse ellipse = new Ellipse(width / 2, height / 2, width / 2, height / 2);
-        displayPicture.setClip(ellipse);
+        double radius = DISPLAY_PICTURE_SIZE / 2;
+        this.displayPicture.setClip(new Ellipse(radius, radius, radius, radius));
+
+        this.setMinWidth(Region.USE_PREF_SIZE);
+        this.setAlignment(Pos.CENTER_RIGHT);
+        this.setPadding(new Insets(10.0));
+        this.getChildren().addAll(this.speechBubble, this.displayPicture);
+        this.isFromUser = true;
     }
 
     /**
-     * Flips the dialog box such that the ImageView is on the left and text on the right.
+     * Shows the given message in this dialog box, flipping it such that the
+     * ImageView is on the left and text on the right for messages from Duchess.
+     *
+     * @param text       Text in the dialog.
+     * @param img        Image for dialog.
+     * @param isFromUser Whether the message was sent by the user.
      */
-    private void flip() {
-        ObservableList<Node> tmp = FXCollections.observableArrayList(this.getChildren());
-        Collections.reverse(tmp);
-        getChildren().setAll(tmp);
-        setAlignment(Pos.CENTER_LEFT);
+    public void setMessage(String text, Image img, boolean isFromUser) {
+        this.dialog.setText(text);
+        this.displayPicture.setImage(img);
+        if (this.isFromUser == isFromUser) {
+            return;
+        }
+        this.isFromUser = isFromUser;
+        if (isFromUser) {
+            this.getChildren().setAll(this.speechBubble, this.displayPicture);
+            this.setAlignment(Pos.CENTER_RIGHT);
+            this.speechBubble.getStyleClass().add(USER_SPEECH_BUBBLE_CLASS);
+        } else {
+            this.getChildren().setAll(this.displayPicture, this.speechBubble);
+            this.setAlignment(Pos.CENTER_LEFT);
+            this.speechBubble.getStyleClass().remove(USER_SPEECH_BUBBLE_CLASS);
+        }
     }
 
     /**
@@ -67,8 +94,8 @@ public class DialogBox extends HBox {
      * @return Dialog for user.
      */
     public static DialogBox getUserDialog(String text, Image img) {
-        DialogBox userDialog = new DialogBox(text, img);
-        userDialog.speechBubble.getStyleClass().add(USER_SPEECH_BUBBLE_CLASS);
+        DialogBox userDialog = new DialogBox();
+        userDialog.setMessage(text, img, true);
         return userDialog;
     }
 
@@ -80,8 +107,8 @@ public class DialogBox extends HBox {
      * @return Dialog for Duke.
      */
     public static DialogBox getDukeDialog(String text, Image img) {
-        DialogBox db = new DialogBox(text, img);
-        db.flip();
+        DialogBox db = new DialogBox();
+        db.setMessage(text, img, false);
         return db;
     }
 }
@@ -0,0 +1,44 @@
+package duke.controller;
+
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+
+/**
+ * The {@code DialogCell} shows a {@code DialogMessage} in the chat transcript.
+ * Each cell builds a single {@code DialogBox} and reuses it for whichever message
+ * the {@code ListView} scrolls into it.
+ */
+public class DialogCell extends ListCell<DialogMessage> {
+    private final DialogBox dialogBox;
+    private final Image userImage;
+    private final Image dukeImage;
+
+    /**
+     * Initialises a {@code DialogCell}.
+     *
+     * @param userImage Image shown beside messages from the user.
+     * @param dukeImage Image shown beside messages from Duchess.
+     */
+    public DialogCell(Image userImage, Image dukeImage) {
+        this.dialogBox = new DialogBox();
+        this.userImage = userImage;
+        this.dukeImage = dukeImage;
+        // A zero preferred width stops long messages from widening the list instead of wrapping.
+        this.setPrefWidth(0);
+        this.dialogBox.prefWidthProperty().bind(this.widthProperty());
+        this.setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    @Override
+    protected void updateItem(DialogMessage message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            this.setGraphic(null);
+            return;
+        }
+        this.dialogBox.setMessage(message.getText(), message.isFromUser() ? this.userImage : this.dukeImage,
+                message.isFromUser());
+        this.setGraphic(this.dialogBox);
+    }
+}
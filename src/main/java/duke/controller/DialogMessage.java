@@ -0,0 +1,39 @@
+package duke.controller;
+
+/**
+ * The {@code DialogMessage} class represents one message in the chat transcript,
+ * either sent by the user or replied by Duchess.
+ */
+public class DialogMessage {
+    private final String text;
+    private final boolean isFromUser;
+
+    /**
+     * Initialises a {@code DialogMessage}.
+     *
+     * @param text       Text of the message.
+     * @param isFromUser Whether the message was sent by the user.
+     */
+    public DialogMessage(String text, boolean isFromUser) {
+        this.text = text;
+        this.isFromUser = isFromUser;
+    }
+
+    /**
+     * Returns the text of the message.
+     *
+     * @return Text of the message.
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Returns whether the message was sent by the user.
+     *
+     * @return True if the message was sent by the user, false if by Duchess.
+     */
+    public boolean isFromUser() {
+        return this.isFromUser;
+    }
+}
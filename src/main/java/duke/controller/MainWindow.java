@@ -1,17 +1,32 @@
 package duke.controller;
 
+import static duke.util.MagicStrings.ERROR_COMMAND_FAILED;
+import static duke.util.MagicStrings.ERROR_FAIL_TO_LOAD;
+import static duke.util.StringCleaner.cleanAndLowerString;
 import static duke.util.StringCleaner.cleanString;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import duke.Duke;
 import duke.Main;
 import duke.command.Command;
 import javafx.application.Platform;
+import javafx.beans.binding.Bindings;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
 import javafx.scene.control.ToggleButton;
 import javafx.scene.image.Image;
@@ -19,30 +34,117 @@ import javafx.scene.layout.VBox;
 
 /**
  * Controller for MainWindow. Provides the layout for the other controls.
+ *
+ * <p>The chat transcript is a {@code ListView}, so only the messages in view have
+ * a {@code DialogBox} and older messages past {@code maxMessages} are dropped.
+ *
+ * <p>Commands are run in the order they are entered on a single background thread,
+ * so that saving a large list never freezes the window. A busy indicator is shown
+ * while any command is still queued or running.
+ *
+ * <p>The task table in the side panel is backed by an {@code ObservableTaskList},
+ * so only the rows changed by a command are updated.
+ *
+ * <p>The window can be shown before the save file is read, as the tasks are loaded
+ * on the command thread by {@link #loadTasks(Runnable)}.
  */
 public class MainWindow extends VBox {
+    /**
+     * Number of messages kept in the transcript if no other number is given.
+     */
+    public static final int DEFAULT_MAX_MESSAGES = 500;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final String LOADING_PROMPT = "Loading your tasks...";
+
     @FXML
     public ToggleButton themeToggle;
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<DialogMessage> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ProgressIndicator busyIndicator;
+    @FXML
+    private ToggleButton taskPanelToggle;
+    @FXML
+    private VBox taskPanel;
+    @FXML
+    private TextField taskFilter;
+    @FXML
+    private TableView<TaskRow> taskTable;
+    @FXML
+    private TableColumn<TaskRow, Number> positionColumn;
+    @FXML
+    private TableColumn<TaskRow, String> typeColumn;
+    @FXML
+    private TableColumn<TaskRow, String> statusColumn;
+    @FXML
+    private TableColumn<TaskRow, String> descriptionColumn;
+    @FXML
+    private TableColumn<TaskRow, TaskRow.Due> dueColumn;
 
     private Duke duke;
+    private final int maxMessages;
+    private final ObservableList<DialogMessage> messages = FXCollections.observableArrayList();
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable ->
+            new Thread(runnable, "duchess-commands"));
+    private int numOfPendingCommands = 0;
 
-    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
-    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/DaDuchess.png"));
+    private Image userImage = loadImageInBackground("/images/DaUser.png");
+    private Image dukeImage = loadImageInBackground("/images/DaDuchess.png");
 
     /**
      * Initialises {@code MainWindow} via FXML.
      */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(list -> new DialogCell(userImage, dukeImage));
+        taskPanel.visibleProperty().bind(taskPanelToggle.selectedProperty());
+        taskPanel.managedProperty().bind(taskPanelToggle.selectedProperty());
+        positionColumn.setCellValueFactory(cell -> cell.getValue().positionProperty());
+        typeColumn.setCellValueFactory(cell -> cell.getValue().typeProperty());
+        statusColumn.setCellValueFactory(cell -> cell.getValue().statusProperty());
+        descriptionColumn.setCellValueFactory(cell -> cell.getValue().descriptionProperty());
+        dueColumn.setCellValueFactory(cell -> cell.getValue().dueProperty());
+    }
+
+    /**
+     * Shows the rows of the given {@code ObservableTaskList} in the task table. The
+     * table can be sorted by clicking on its headers and filtered by the text typed
+     * above it, both without changing the order of the {@code TaskList}.
+     *
+     * @param observableTaskList Projection of the {@code TaskList} to show.
+     */
+    private void showTaskTable(ObservableTaskList observableTaskList) {
+        FilteredList<TaskRow> filteredRows = new FilteredList<>(observableTaskList.getRows());
+        filteredRows.predicateProperty().bind(Bindings.createObjectBinding(() ->
+                getTaskFilter(taskFilter.getText()), taskFilter.textProperty()));
+        SortedList<TaskRow> sortedRows = new SortedList<>(filteredRows);
+        sortedRows.comparatorProperty().bind(taskTable.comparatorProperty());
+        taskTable.setItems(sortedRows);
+    }
+
+    /**
+     * Returns an {@code Image} that is decoded on a background thread, so that the
+     * window can be shown before the avatars are ready.
+     *
+     * @param path Location of the image resource.
+     * @return {@code Image} that is still loading.
+     */
+    private static Image loadImageInBackground(String path) {
+        return new Image(Main.class.getResource(path).toExternalForm(), true);
+    }
+
+    private static Predicate<TaskRow> getTaskFilter(String filterText) {
+        String cleanedText = cleanAndLowerString(filterText);
+        if (cleanedText.isEmpty()) {
+            return row -> true;
+        }
+        return row -> row.descriptionProperty().get().toLowerCase().contains(cleanedText)
+                || row.typeProperty().get().toLowerCase().contains(cleanedText);
     }
 
     /**
@@ -51,6 +153,19 @@ public class MainWindow extends VBox {
      * @param d Duke instance.
      */
     public MainWindow(Duke d) {
+        this(d, DEFAULT_MAX_MESSAGES);
+    }
+
+    /**
+     * Initialises a {@code MainWindow} controller instance that keeps at most
+     * {@code maxMessages} messages in its transcript.
+     *
+     * @param d           Duke instance.
+     * @param maxMessages Maximum number of messages kept, which must be positive.
+     */
+    public MainWindow(Duke d, int maxMessages) {
+        assert maxMessages > 0;
+        this.maxMessages = maxMessages;
         try {
             FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/view/MainWindow.fxml"));
             fxmlLoader.setController(this);
@@ -60,16 +175,60 @@ public class MainWindow extends VBox {
             e.printStackTrace();
         }
         this.duke = d;
+        showTaskTable(new ObservableTaskList(duke.getTaskList()));
         String welcomeMessage = duke.getWelcomeMessage();
-        dialogContainer.getChildren().add(
-                DialogBox.getDukeDialog(welcomeMessage, dukeImage)
-        );
+        addMessages(new DialogMessage(welcomeMessage, false));
+    }
+
+    /**
+     * Loads the tasks of Duke on the command thread, ahead of any command entered
+     * in the meantime, and shows the busy indicator until they are loaded. The
+     * task table is filled in once loading is done, and any loading error is shown
+     * as a message.
+     *
+     * @param onLoaded Runs on the command thread once the tasks are loaded.
+     */
+    public void loadTasks(Runnable onLoaded) {
+        String promptText = userInput.getPromptText();
+        userInput.setPromptText(LOADING_PROMPT);
+        setNumOfPendingCommands(numOfPendingCommands + 1);
+        commandExecutor.execute(() -> runLoadTasks(promptText, onLoaded));
+    }
+
+    private void runLoadTasks(String promptText, Runnable onLoaded) {
+        String loadingErrorMessage;
+        try {
+            duke.loadTasks();
+            onLoaded.run();
+            loadingErrorMessage = duke.getLoadingErrorMessage();
+        } catch (RuntimeException e) {
+            loadingErrorMessage = ERROR_FAIL_TO_LOAD;
+        }
+        String errorMessage = loadingErrorMessage;
+        Platform.runLater(() -> showLoadedTasks(promptText, errorMessage));
+    }
+
+    private void showLoadedTasks(String promptText, String loadingErrorMessage) {
+        userInput.setPromptText(promptText);
+        setNumOfPendingCommands(numOfPendingCommands - 1);
+        if (loadingErrorMessage != null && !loadingErrorMessage.isEmpty()) {
+            addMessages(new DialogMessage(loadingErrorMessage, false));
+        }
+    }
+
+    /**
+     * Shows the given reminder as a message from Duke. May be called from any thread.
+     *
+     * @param message Reminder message.
+     */
+    public void showReminder(String message) {
+        Platform.runLater(() -> addMessages(new DialogMessage(message, false)));
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing
-     * Duke's reply and then appends them to the dialog container. Clears the user
-     * input after processing.
+     * Shows the user input as a message and queues it to be run in the background,
+     * after which Duke's reply is appended to the transcript. Clears the user input
+     * straight away so that the next command can be typed.
      */
     @FXML
     private void handleUserInput() {
@@ -77,12 +236,68 @@ public class MainWindow extends VBox {
         if (input.isEmpty()) {
             return;
         }
-        String response = duke.getResponse(input);
-        dialogContainer.getChildren().addAll(DialogBox.getUserDialog(input, userImage),
-                DialogBox.getDukeDialog(response, dukeImage));
+        addMessages(new DialogMessage(input, true));
         userInput.clear();
+        setNumOfPendingCommands(numOfPendingCommands + 1);
+        commandExecutor.execute(() -> runCommand(input));
+    }
+
+    /**
+     * Runs the given command on the command thread and posts the reply back to the
+     * JavaFX application thread.
+     *
+     * @param input User input.
+     */
+    private void runCommand(String input) {
+        String response;
+        try {
+            response = duke.getResponse(input);
+        } catch (RuntimeException e) {
+            response = ERROR_COMMAND_FAILED;
+        }
+        String reply = response;
+        Platform.runLater(() -> showReply(input, reply));
+    }
+
+    private void showReply(String input, String response) {
+        addMessages(new DialogMessage(response, false));
+        setNumOfPendingCommands(numOfPendingCommands - 1);
         if (Command.BYE.hasCommand(cleanString(input))) {
             Platform.exit();
         }
     }
+
+    private void setNumOfPendingCommands(int numOfPendingCommands) {
+        this.numOfPendingCommands = numOfPendingCommands;
+        busyIndicator.setVisible(numOfPendingCommands > 0);
+        busyIndicator.setManaged(numOfPendingCommands > 0);
+    }
+
+    /**
+     * Stops accepting commands and waits for the queued commands to finish, so
+     * that their changes are saved before the program exits.
+     */
+    public void shutdown() {
+        commandExecutor.shutdown();
+        try {
+            commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Appends the given messages to the transcript, dropping the oldest messages
+     * beyond {@code maxMessages}, and scrolls to the latest message.
+     *
+     * @param newMessages Messages to append.
+     */
+    private void addMessages(DialogMessage... newMessages) {
+        messages.addAll(newMessages);
+        int excess = messages.size() - maxMessages;
+        if (excess > 0) {
+            messages.remove(0, excess);
+        }
+        dialogList.scrollTo(messages.size() - 1);
+    }
 }
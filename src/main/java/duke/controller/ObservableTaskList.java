@@ -0,0 +1,145 @@
+package duke.controller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.TaskListListener;
+import javafx.application.Platform;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * The {@code ObservableTaskList} is a JavaFX projection of the active tasks of a
+ * {@code TaskList}, kept up to date through {@code TaskListListener} events.
+ *
+ * <p>Events may arrive on any thread. They are queued and applied together on the
+ * JavaFX application thread, so a command that changes many tasks causes a single
+ * update of the view. Small batches are applied row by row, so that only the
+ * changed rows are repainted.
+ */
+public class ObservableTaskList implements TaskListListener {
+    private static final int BULK_UPDATE_THRESHOLD = 256;
+
+    private final ObservableList<TaskRow> rows = FXCollections.observableArrayList(row -> new Observable[] {
+        row.statusProperty(), row.descriptionProperty(), row.dueProperty()
+    });
+    private final List<RowChange> pendingChanges = new ArrayList<>();
+
+    /**
+     * Initialises an {@code ObservableTaskList} showing the given {@code TaskList}.
+     * This must be called on the JavaFX application thread while no command is
+     * changing the list.
+     *
+     * @param taskList {@code TaskList} to show.
+     */
+    public ObservableTaskList(TaskList taskList) {
+        List<TaskRow> initialRows = new ArrayList<>(taskList.size());
+        for (int i = 0; i < taskList.size(); i++) {
+            initialRows.add(new TaskRow(taskList.getTask(i)));
+        }
+        this.rows.setAll(initialRows);
+        this.renumberFrom(0);
+        taskList.addListener(this);
+    }
+
+    /**
+     * Returns the rows of the projection, in the order of the {@code TaskList}.
+     *
+     * @return Read-only list of rows.
+     */
+    public ObservableList<TaskRow> getRows() {
+        return FXCollections.unmodifiableObservableList(this.rows);
+    }
+
+    @Override
+    public void onTaskAdded(int index, Task task) {
+        TaskRow row = new TaskRow(task);
+        this.enqueue(new RowChange(rows -> rows.add(index, row), index, false));
+    }
+
+    @Override
+    public void onTaskRemoved(int index, Task task) {
+        this.enqueue(new RowChange(rows -> rows.remove(index), index, false));
+    }
+
+    @Override
+    public void onTaskUpdated(int index, Task task) {
+        TaskRow row = new TaskRow(task);
+        this.enqueue(new RowChange(rows -> rows.get(index).copyFrom(row), Integer.MAX_VALUE, false));
+    }
+
+    @Override
+    public void onTasksReplaced(List<Task> tasks) {
+        List<TaskRow> newRows = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            newRows.add(new TaskRow(task));
+        }
+        this.enqueue(new RowChange(rows -> {
+            rows.clear();
+            rows.addAll(newRows);
+        }, 0, true));
+    }
+
+    // Private helper methods
+
+    private void enqueue(RowChange change) {
+        synchronized (this.pendingChanges) {
+            this.pendingChanges.add(change);
+            if (this.pendingChanges.size() > 1) {
+                return; // Already scheduled to be applied.
+            }
+        }
+        if (Platform.isFxApplicationThread()) {
+            this.applyPendingChanges();
+        } else {
+            Platform.runLater(this::applyPendingChanges);
+        }
+    }
+
+    private void applyPendingChanges() {
+        List<RowChange> changes;
+        synchronized (this.pendingChanges) {
+            changes = new ArrayList<>(this.pendingChanges);
+            this.pendingChanges.clear();
+        }
+        boolean isBulkUpdate = changes.size() > BULK_UPDATE_THRESHOLD
+                || changes.stream().anyMatch(change -> change.isReplacement);
+        // A bulk update is applied to a plain copy and shown with a single change event.
+        List<TaskRow> targetRows = isBulkUpdate ? new ArrayList<>(this.rows) : this.rows;
+        int firstChangedIndex = Integer.MAX_VALUE;
+        for (RowChange change : changes) {
+            change.change.accept(targetRows);
+            firstChangedIndex = Math.min(firstChangedIndex, change.firstChangedIndex);
+        }
+        if (isBulkUpdate) {
+            this.rows.setAll(targetRows);
+        }
+        this.renumberFrom(firstChangedIndex);
+    }
+
+    private void renumberFrom(int index) {
+        for (int i = index; i < this.rows.size(); i++) {
+            this.rows.get(i).positionProperty().set(i + 1);
+        }
+    }
+
+    /**
+     * A queued change to the rows, after which the rows from
+     * {@code firstChangedIndex} onwards need renumbering.
+     */
+    private static class RowChange {
+        private final Consumer<List<TaskRow>> change;
+        private final int firstChangedIndex;
+        private final boolean isReplacement;
+
+        private RowChange(Consumer<List<TaskRow>> change, int firstChangedIndex, boolean isReplacement) {
+            this.change = change;
+            this.firstChangedIndex = firstChangedIndex;
+            this.isReplacement = isReplacement;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package duke.controller;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.RecurringDeadline;
+import duke.task.Task;
+import duke.util.DateTimeStringFormatter;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+
+/**
+ * The {@code TaskRow} holds what the task table shows for one {@code Task}. The
+ * values are read from the {@code Task} when the row is created, so a row can be
+ * built on the thread that changed the task and handed to the JavaFX application
+ * thread afterwards.
+ */
+public class TaskRow {
+    private final IntegerProperty position = new SimpleIntegerProperty();
+    private final StringProperty type = new SimpleStringProperty();
+    private final StringProperty status = new SimpleStringProperty();
+    private final StringProperty description = new SimpleStringProperty();
+    private final ObjectProperty<Due> due = new SimpleObjectProperty<>();
+
+    /**
+     * Initialises a {@code TaskRow} with the current values of the given {@code Task}.
+     *
+     * @param task {@code Task} to show.
+     */
+    public TaskRow(Task task) {
+        this.type.set(getType(task));
+        this.status.set(task.getStatusIcon());
+        this.description.set(task.getDescription());
+        this.due.set(getDue(task));
+    }
+
+    /**
+     * Copies the values of another row into this row, keeping its position.
+     *
+     * @param other Row with the new values.
+     */
+    public void copyFrom(TaskRow other) {
+        this.type.set(other.type.get());
+        this.status.set(other.status.get());
+        this.description.set(other.description.get());
+        this.due.set(other.due.get());
+    }
+
+    /**
+     * Returns the one-based position of the task in the {@code TaskList}, which is
+     * what commands such as "done" refer to.
+     *
+     * @return Position property.
+     */
+    public IntegerProperty positionProperty() {
+        return this.position;
+    }
+
+    /**
+     * Returns the type of the task, e.g. "Deadline".
+     *
+     * @return Type property.
+     */
+    public StringProperty typeProperty() {
+        return this.type;
+    }
+
+    /**
+     * Returns the tick or cross showing whether the task is completed.
+     *
+     * @return Status property.
+     */
+    public StringProperty statusProperty() {
+        return this.status;
+    }
+
+    /**
+     * Returns the description of the task.
+     *
+     * @return Description property.
+     */
+    public StringProperty descriptionProperty() {
+        return this.description;
+    }
+
+    /**
+     * Returns when the task is due or happening, if it has such a time.
+     *
+     * @return Due property.
+     */
+    public ObjectProperty<Due> dueProperty() {
+        return this.due;
+    }
+
+    private static String getType(Task task) {
+        if (task instanceof RecurringDeadline) {
+            return "Recurring";
+        } else if (task instanceof Deadline) {
+            return "Deadline";
+        } else if (task instanceof Event) {
+            return "Event";
+        }
+        return "Todo";
+    }
+
+    private static Due getDue(Task task) {
+        if (task instanceof Deadline) {
+            LocalDateTime deadline = ((Deadline) task).getDeadline();
+            return new Due(deadline, DateTimeStringFormatter.formatDateTime(deadline, task.isCompleted()));
+        } else if (task instanceof Event) {
+            return new Due(null, ((Event) task).getTimeFrame());
+        }
+        return new Due(null, "");
+    }
+
+    /**
+     * The {@code Due} value is shown as its label and sorted by its time, with
+     * values that have no time placed last.
+     */
+    public static class Due implements Comparable<Due> {
+        private static final Comparator<Due> COMPARATOR = Comparator
+                .comparing((Due due) -> due.time, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(due -> due.label);
+
+        private final LocalDateTime time;
+        private final String label;
+
+        private Due(LocalDateTime time, String label) {
+            this.time = time;
+            this.label = label;
+        }
+
+        @Override
+        public int compareTo(Due other) {
+            return COMPARATOR.compare(this, other);
+        }
+
+        @Override
+        public String toString() {
+            return this.label;
+        }
+    }
+}
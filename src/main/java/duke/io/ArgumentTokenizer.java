@@ -0,0 +1,181 @@
+package duke.io;
+
+import static duke.util.StringCleaner.cleanString;
+
+import java.util.Set;
+
+/**
+ * The {@code ArgumentTokenizer} splits a command such as
+ * "deadline submit report /by 2-12-20 /every week" into its command word, the
+ * preamble before the first prefix and the value given for each prefix.
+ *
+ * <p>The command is scanned once and only the offsets of each part are kept, so
+ * no part is copied until it is asked for. A prefix is only recognised when it is
+ * one of the prefixes given, is followed by whitespace or the end of the command,
+ * and has not been seen before. Anything else, such as a slash in a description,
+ * stays part of the surrounding text. A repeated prefix ends the value before it
+ * and its own value is ignored.
+ */
+public class ArgumentTokenizer {
+    /**
+     * Prefixes that introduce the details of a command.
+     */
+    public enum Prefix {
+        BY("by"), AT("at"), EVERY("every"), STOP("stop"), FOR("for"), TO("to"), CATCHUP("catchup");
+
+        private final String keyword;
+
+        Prefix(String keyword) {
+            this.keyword = keyword;
+        }
+
+        /**
+         * Returns the prefix as typed by the user, e.g. "/by".
+         *
+         * @return Prefix in {@code String} format.
+         */
+        @Override
+        public String toString() {
+            return "/" + this.keyword;
+        }
+    }
+
+    private static final Prefix[] PREFIXES = Prefix.values();
+
+    private final String command;
+    private final int commandWordStart;
+    private final int commandWordEnd;
+    private final int preambleEnd;
+    private final int[] valueStarts;
+    private final int[] valueEnds;
+
+    private ArgumentTokenizer(String command, Set<Prefix> prefixes) {
+        this.command = command;
+        this.valueStarts = new int[PREFIXES.length];
+        this.valueEnds = new int[PREFIXES.length];
+        for (int i = 0; i < PREFIXES.length; i++) {
+            this.valueStarts[i] = -1;
+        }
+
+        int length = command.length();
+        int i = 0;
+        while (i < length && Parser.isWhitespace(command.charAt(i))) {
+            i++;
+        }
+        this.commandWordStart = i;
+        while (i < length && !Parser.isWhitespace(command.charAt(i))) {
+            i++;
+        }
+        this.commandWordEnd = i;
+
+        int preambleEnd = -1;
+        int currentPrefix = -1; // -1 for the preamble, PREFIXES.length for an ignored value
+        while (i < length) {
+            if (command.charAt(i) != '/') {
+                i++;
+                continue;
+            }
+            Prefix prefix = matchPrefix(command, i, prefixes);
+            if (prefix == null) {
+                i++;
+                continue;
+            }
+            this.endSegment(currentPrefix, i);
+            if (preambleEnd == -1) {
+                preambleEnd = i;
+            }
+            i += prefix.keyword.length() + 1;
+            currentPrefix = this.valueStarts[prefix.ordinal()] == -1 ? prefix.ordinal() : PREFIXES.length;
+            if (currentPrefix != PREFIXES.length) {
+                this.valueStarts[currentPrefix] = i;
+            }
+        }
+        this.endSegment(currentPrefix, length);
+        this.preambleEnd = preambleEnd == -1 ? length : preambleEnd;
+    }
+
+    /**
+     * Returns the tokenized form of the given {@code command}, recognising only the
+     * given {@code prefixes}.
+     *
+     * @param command  Full user command string.
+     * @param prefixes Prefixes that the command accepts.
+     * @return {@code ArgumentTokenizer} holding the parts of the command.
+     */
+    public static ArgumentTokenizer tokenize(String command, Set<Prefix> prefixes) {
+        return new ArgumentTokenizer(command, prefixes);
+    }
+
+    /**
+     * Returns the command word, which is the first token of the command.
+     *
+     * @return Command word, which may be empty.
+     */
+    public String getCommandWord() {
+        return this.command.substring(this.commandWordStart, this.commandWordEnd);
+    }
+
+    /**
+     * Returns the text between the command word and the first prefix, such as the
+     * description of a task.
+     *
+     * @return Cleaned preamble, which may be empty.
+     */
+    public String getPreamble() {
+        return cleanString(this.command.substring(this.commandWordEnd, this.preambleEnd));
+    }
+
+    /**
+     * Returns whether the given {@code prefix} appears in the command.
+     *
+     * @param prefix Prefix to check.
+     * @return Whether the prefix is present.
+     */
+    public boolean hasPrefix(Prefix prefix) {
+        return this.valueStarts[prefix.ordinal()] != -1;
+    }
+
+    /**
+     * Returns the value given for the first occurrence of the given {@code prefix}.
+     *
+     * @param prefix Prefix to get the value of.
+     * @return Cleaned value, which may be empty, or null if the prefix is absent.
+     */
+    public String getValue(Prefix prefix) {
+        if (!this.hasPrefix(prefix)) {
+            return null;
+        }
+        return cleanString(this.command.substring(this.valueStarts[prefix.ordinal()],
+                this.valueEnds[prefix.ordinal()]));
+    }
+
+    // Private helper methods
+
+    private void endSegment(int currentPrefix, int end) {
+        if (currentPrefix >= 0 && currentPrefix < PREFIXES.length) {
+            this.valueEnds[currentPrefix] = end;
+        }
+    }
+
+    /**
+     * Returns the prefix starting with the slash at {@code slashIndex}, if it is one
+     * of the given {@code prefixes} and is followed by whitespace or the end of the
+     * command.
+     *
+     * @param command    Full user command string.
+     * @param slashIndex Index of a slash in the command.
+     * @param prefixes   Prefixes that the command accepts.
+     * @return Matching {@code Prefix}, or null if there is none.
+     */
+    private static Prefix matchPrefix(String command, int slashIndex, Set<Prefix> prefixes) {
+        for (Prefix prefix : PREFIXES) {
+            int end = slashIndex + 1 + prefix.keyword.length();
+            if (prefixes.contains(prefix)
+                    && command.regionMatches(true, slashIndex + 1, prefix.keyword, 0, prefix.keyword.length())
+                    && (end == command.length() || Parser.isWhitespace(command.charAt(end)))) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+}
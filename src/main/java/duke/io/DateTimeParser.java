@@ -6,6 +6,8 @@ import static duke.util.StringCleaner.cleanAndLowerString;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
@@ -35,6 +37,11 @@ public class DateTimeParser {
      * "Monday"; relative timings e.g. "Today", "Tonight"; of datetime format
      * "d-M-yy" or "d-M-yy HHmm".
      *
+     * <p>The common forms are recognised by a single scan over the string without
+     * creating intermediate objects or using exceptions. Only unusual numeric inputs,
+     * such as zero-padded fields or days past the end of the month, are left to the
+     * {@code DateTimeFormatter}s.
+     *
      * @param dateTimeString Cleaned user provided input in {@code String} format.
      * @return {@code LocalDateTime} object based on given {@code dateTimeString}.
      * @throws DuchessException If {@code dateTimeString} is not of the correct
@@ -42,42 +49,156 @@ public class DateTimeParser {
      */
     public static LocalDateTime parseDateTime(String dateTimeString) throws DuchessException {
         assert dateTimeString.equals(cleanAndLowerString(dateTimeString));
-        return getDateTimeFromWords(dateTimeString)
-                .or(() -> getDateTimeUsingDateTimePattern(dateTimeString)
-                        .or(() -> getDateTimeUsingDatePattern(dateTimeString)))
+        if (dateTimeString.isEmpty() || !isDigit(dateTimeString.charAt(0))) {
+            // Neither formatter accepts input that does not start with a digit.
+            LocalDateTime dateTime = getDateTimeFromWords(dateTimeString);
+            if (dateTime == null) {
+                throw new DuchessException(ERROR_WRONG_DATE_FORMAT);
+            }
+            return dateTime;
+        }
+        LocalDateTime dateTime = scanDateTime(dateTimeString);
+        if (dateTime != null) {
+            return dateTime;
+        }
+        return getDateTimeUsingDateTimePattern(dateTimeString)
+                .or(() -> getDateTimeUsingDatePattern(dateTimeString))
                 .orElseThrow(() -> new DuchessException(ERROR_WRONG_DATE_FORMAT));
     }
 
-    // Solutions below are adapted from https://www.youtube.com/watch?v=F02LKnWJWF4, around 17:00
-    // Uses Optional to handle null cases and exceptions
-    private static Optional<LocalDateTime> getDateTimeFromWords(String dateTimeString) {
+    /**
+     * Returns the {@code LocalDateTime} for a relative keyword or day of the week,
+     * where a day of the week may be shortened to the part before "day", e.g. "tues".
+     *
+     * @param dateTimeString Cleaned user provided input.
+     * @return {@code LocalDateTime} for the input, or null if it is not recognised.
+     */
+    private static LocalDateTime getDateTimeFromWords(String dateTimeString) {
         switch (dateTimeString) {
         case "today":
-            return Optional.of(LocalDate.now().atTime(17, 0));
+            return LocalDate.now().atTime(17, 0);
         case "tonight":
-            return Optional.of(LocalDate.now().atTime(21, 0));
+            return LocalDate.now().atTime(21, 0);
         case "tmr":
             // Fallthrough
         case "tomorrow":
-            return Optional.of(LocalDate.now().plusDays(1).atTime(17, 0));
+            return LocalDate.now().plusDays(1).atTime(17, 0);
+        default:
+            DayOfWeek dayOfWeek = getDayOfWeek(dateTimeString);
+            if (dayOfWeek == null) {
+                return null;
+            }
+            return LocalDate.now().with(TemporalAdjusters.next(dayOfWeek)).atTime(17, 0);
+        }
+    }
+
+    private static DayOfWeek getDayOfWeek(String dateTimeString) {
+        switch (dateTimeString) {
+        case "mon":
+            // Fallthrough
+        case "monday":
+            return DayOfWeek.MONDAY;
+        case "tues":
+            // Fallthrough
+        case "tuesday":
+            return DayOfWeek.TUESDAY;
+        case "wednes":
+            // Fallthrough
+        case "wednesday":
+            return DayOfWeek.WEDNESDAY;
+        case "thurs":
+            // Fallthrough
+        case "thursday":
+            return DayOfWeek.THURSDAY;
+        case "fri":
+            // Fallthrough
+        case "friday":
+            return DayOfWeek.FRIDAY;
+        case "satur":
+            // Fallthrough
+        case "saturday":
+            return DayOfWeek.SATURDAY;
+        case "sun":
+            // Fallthrough
+        case "sunday":
+            return DayOfWeek.SUNDAY;
         default:
-            try {
-                return Optional.of(LocalDate.now()
-                        .with(TemporalAdjusters.next(DayOfWeek.valueOf(
-                                extendDayOfWeek(dateTimeString).toUpperCase()))).atTime(17, 0));
-            } catch (IllegalArgumentException e) {
-                return Optional.empty();
+            return null;
+        }
+    }
+
+    /**
+     * Returns the {@code LocalDateTime} for input of the form "d-M-yy" or
+     * "d-M-yy HHmm", scanning each character once.
+     *
+     * @param dateTimeString Cleaned user provided input starting with a digit.
+     * @return {@code LocalDateTime} for the input, or null if it is not of the exact
+     *         form or has an out of range field.
+     */
+    private static LocalDateTime scanDateTime(String dateTimeString) {
+        int length = dateTimeString.length();
+        int day = 0;
+        int month = 0;
+        int year = 0;
+        int time = 0;
+        int field = 0;
+        int fieldLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = dateTimeString.charAt(i);
+            if (isDigit(c)) {
+                int digit = c - '0';
+                fieldLength++;
+                switch (field) {
+                case 0:
+                    day = day * 10 + digit;
+                    break;
+                case 1:
+                    month = month * 10 + digit;
+                    break;
+                case 2:
+                    year = year * 10 + digit;
+                    break;
+                default:
+                    time = time * 10 + digit;
+                    break;
+                }
+                if (fieldLength > (field < 3 ? 2 : 4)) {
+                    return null;
+                }
+            } else if (isFieldSeparator(c, field, fieldLength)) {
+                field++;
+                fieldLength = 0;
+            } else {
+                return null;
             }
         }
+        boolean isDateOnly = field == 2 && fieldLength == 2;
+        boolean isDateTime = field == 3 && fieldLength == 4;
+        if (!isDateOnly && !isDateTime) {
+            return null;
+        }
+        int hour = isDateTime ? time / 100 : 17;
+        int minute = isDateTime ? time % 100 : 0;
+        if (month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(2000 + year))
+                || hour > 23 || minute > 59) {
+            return null;
+        }
+        return LocalDateTime.of(2000 + year, month, day, hour, minute);
     }
 
-    private static String extendDayOfWeek(String dateTimeString) {
-        if (dateTimeString.endsWith("day")) {
-            return dateTimeString;
+    private static boolean isFieldSeparator(char c, int field, int fieldLength) {
+        if (fieldLength == 0) {
+            return false;
         }
-        return dateTimeString + "day";
+        return (field < 2 && c == '-') || (field == 2 && c == ' ' && fieldLength == 2);
     }
 
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Solutions below are adapted from https://www.youtube.com/watch?v=F02LKnWJWF4, around 17:00
+    // Uses Optional to handle null cases and exceptions
     private static Optional<LocalDateTime> getDateTimeUsingDateTimePattern(String dateTimeString) {
         try {
             return Optional.of(LocalDateTime.parse(dateTimeString, dateTimePattern));
@@ -15,7 +15,7 @@ public class FrequencyParser {
      * {@code String} format.
      *
      * <p>The formats accepted for the frequency include "daily", "day", "week",
-     * "biweekly", "fortnightly", etc.
+     * "biweekly", "fortnightly", "yearly", etc.
      *
      * @param userInput Given user input in {@code String} format.
      * @return A {@code Frequency} object.
@@ -34,6 +34,9 @@ public class FrequencyParser {
         if (isContainingMonthlyKeywords(userInput)) {
             return Frequency.MONTHLY;
         }
+        if (isContainingYearlyKeywords(userInput)) {
+            return Frequency.YEARLY;
+        }
         throw new DuchessException(ERROR_WRONG_FREQUENCY_FORMAT);
     }
 
@@ -55,4 +58,8 @@ public class FrequencyParser {
     private static boolean isContainingMonthlyKeywords(String userInput) {
         return userInput.contains("month");
     }
+
+    private static boolean isContainingYearlyKeywords(String userInput) {
+        return userInput.contains("year") || userInput.contains("annual");
+    }
 }
@@ -0,0 +1,58 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_COMMAND_MISSING_INDEX;
+import static duke.util.MagicStrings.ERROR_INDEX_OUT_OF_BOUNDS;
+import static duke.util.MagicStrings.ERROR_INVALID_COMMAND;
+import static duke.util.MagicStrings.ERROR_INVALID_INDEX_RANGE;
+
+import java.util.BitSet;
+
+import duke.exception.DuchessException;
+
+/**
+ * The {@code IndexParser} is a helper class with static methods to parse
+ * user provided task indices into positions in a {@code TaskList}.
+ */
+public class IndexParser {
+    /**
+     * Returns the zero-based positions referred to by the given {@code userInput},
+     * sorted in ascending order and without duplicates.
+     *
+     * <p>The input is made up of one-based indices and inclusive ranges separated by
+     * whitespace, e.g. "1 4 7-20".
+     *
+     * @param userInput User provided indices in {@code String} format.
+     * @param numOfTasks Number of tasks that the indices can refer to.
+     * @return Sorted array of distinct zero-based positions.
+     * @throws DuchessException If no index is given, an index is not a number, a range
+     *                          is reversed or an index is out of bounds.
+     */
+    public static int[] parseIndices(String userInput, int numOfTasks) throws DuchessException {
+        String cleanedInput = userInput.trim();
+        if (cleanedInput.isEmpty()) {
+            throw new DuchessException(ERROR_COMMAND_MISSING_INDEX);
+        }
+        BitSet positions = new BitSet(numOfTasks);
+        for (String token : cleanedInput.split("\\s+")) {
+            int separatorIndex = token.indexOf('-', 1);
+            int start = parseIndex(separatorIndex == -1 ? token : token.substring(0, separatorIndex));
+            int end = separatorIndex == -1 ? start : parseIndex(token.substring(separatorIndex + 1));
+            if (end < start) {
+                throw new DuchessException(ERROR_INVALID_INDEX_RANGE);
+            }
+            if (start < 1 || end > numOfTasks) {
+                throw new DuchessException(ERROR_INDEX_OUT_OF_BOUNDS);
+            }
+            positions.set(start - 1, end);
+        }
+        return positions.stream().toArray();
+    }
+
+    private static int parseIndex(String index) throws DuchessException {
+        try {
+            return Integer.parseInt(index);
+        } catch (NumberFormatException e) {
+            throw new DuchessException(ERROR_INVALID_COMMAND);
+        }
+    }
+}
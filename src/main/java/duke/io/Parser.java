@@ -20,14 +20,39 @@ public class Parser {
      * @throws DuchessException If the command is not recognised.
      */
     public static Command parse(String command) throws DuchessException {
-        String formattedCommand = cleanAndLowerString(command.split("\\s", 2)[0]);
-        // Solution below adapted from https://stackoverflow.com/a/4198066
-        for (Command cmd : Command.values()) {
-            if (cmd.hasCommand(formattedCommand)) {
-                return cmd;
+        String formattedCommand = cleanAndLowerString(getFirstToken(command));
+        Command cmd = Command.lookup(formattedCommand);
+        if (cmd == null) {
+            throw new DuchessException(ERROR_INVALID_COMMAND);
+        }
+        return cmd;
+    }
+
+    /**
+     * Returns the part of the command before the first whitespace character.
+     * This behaves like {@code command.split("\\s", 2)[0]} without compiling
+     * a regex or allocating the array of parts.
+     *
+     * @param command Entire command to be processed.
+     * @return The first token of the command, which may be empty.
+     */
+    static String getFirstToken(String command) {
+        int length = command.length();
+        for (int i = 0; i < length; i++) {
+            if (isWhitespace(command.charAt(i))) {
+                return command.substring(0, i);
             }
         }
-        throw new DuchessException(ERROR_INVALID_COMMAND);
+        return command;
+    }
 
+    /**
+     * Returns whether the character is matched by the regex {@code \s}.
+     *
+     * @param c Character to check.
+     * @return Whether the character is whitespace.
+     */
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 }
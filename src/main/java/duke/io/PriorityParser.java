@@ -0,0 +1,26 @@
+package duke.io;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import duke.task.Task;
+
+/**
+ * The {@code PriorityParser} is a helper class with static methods to parse the
+ * priority of a task from its description, such as "!1" in "Pay rent !1".
+ */
+public class PriorityParser {
+    private static final Pattern PRIORITY_PATTERN = Pattern.compile("(?<!\\S)!([1-5])(?!\\S)");
+
+    /**
+     * Returns the priority given in the {@code description}, which is a word from
+     * "!1", the highest, to "!5", the lowest. Only the first such word counts.
+     *
+     * @param description Description of a task.
+     * @return Priority from 1 to 5, or {@code Task.NO_PRIORITY} if none is given.
+     */
+    public static int parsePriority(String description) {
+        Matcher matcher = PRIORITY_PATTERN.matcher(description);
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : Task.NO_PRIORITY;
+    }
+}
@@ -0,0 +1,272 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_INVALID_QUERY;
+import static duke.util.StringCleaner.cleanAndLowerString;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import duke.exception.DuchessException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.RecurringDeadline;
+import duke.task.Task;
+import duke.task.ToDo;
+
+/**
+ * The {@code QueryParser} helps to compile user provided queries such as
+ * {@code desc~"standup" and completed before 1-1-26} into a {@code Predicate}
+ * over {@code Task}s.
+ *
+ * <p>A query is made up of conditions joined by "and", "or" and "not", with
+ * parentheses for grouping. The conditions recognised are:
+ * <ul>
+ *     <li>{@code desc~WORDS} and {@code desc=WORDS} on the description</li>
+ *     <li>{@code deadline OP TIME} and {@code created OP TIME}, where {@code OP} is one of
+ *     {@code < <= > >= =} or "before", "after", "on"</li>
+ *     <li>{@code completed} on its own, or {@code completed OP TIME}</li>
+ *     <li>{@code incomplete}, {@code overdue} and {@code type=todo/event/deadline/recurring}</li>
+ * </ul>
+ * Values containing whitespace must be wrapped in double quotes.
+ */
+public class QueryParser {
+    private final List<String> tokens;
+    private final List<Boolean> isQuotedTokens;
+    private int position;
+
+    private QueryParser(String query) throws DuchessException {
+        this.tokens = new ArrayList<>();
+        this.isQuotedTokens = new ArrayList<>();
+        tokenize(query);
+    }
+
+    /**
+     * Returns a {@code Predicate} that tests {@code Task}s against the given query.
+     *
+     * @param query User provided query in {@code String} format.
+     * @return {@code Predicate} that accepts the {@code Task}s matching the query.
+     * @throws DuchessException If the query is empty or of the wrong format.
+     */
+    public static Predicate<Task> parseQuery(String query) throws DuchessException {
+        QueryParser parser = new QueryParser(query);
+        if (parser.tokens.isEmpty()) {
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+        Predicate<Task> predicate = parser.parseOr();
+        if (parser.hasNext()) {
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+        return predicate;
+    }
+
+    // Private helper methods
+
+    private void tokenize(String query) throws DuchessException {
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end == -1) {
+                    throw new DuchessException(ERROR_INVALID_QUERY);
+                }
+                this.addToken(query.substring(i + 1, end), true);
+                i = end + 1;
+            } else if (isOperatorCharacter(c)) {
+                boolean isTwoCharacterOperator = i + 1 < query.length() && query.charAt(i + 1) == '='
+                        && (c == '<' || c == '>');
+                int end = isTwoCharacterOperator ? i + 2 : i + 1;
+                this.addToken(query.substring(i, end), false);
+                i = end;
+            } else {
+                int end = i;
+                while (end < query.length() && !Character.isWhitespace(query.charAt(end))
+                        && !isOperatorCharacter(query.charAt(end)) && query.charAt(end) != '"') {
+                    end++;
+                }
+                this.addToken(query.substring(i, end).toLowerCase(), false);
+                i = end;
+            }
+        }
+    }
+
+    private void addToken(String token, boolean isQuoted) {
+        this.tokens.add(token);
+        this.isQuotedTokens.add(isQuoted);
+    }
+
+    private static boolean isOperatorCharacter(char c) {
+        return c == '~' || c == '=' || c == '<' || c == '>' || c == '(' || c == ')';
+    }
+
+    private boolean hasNext() {
+        return this.position < this.tokens.size();
+    }
+
+    private boolean isNextKeyword(String keyword) {
+        return this.hasNext() && !this.isQuotedTokens.get(this.position)
+                && this.tokens.get(this.position).equals(keyword);
+    }
+
+    private String next() throws DuchessException {
+        if (!this.hasNext()) {
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+        return this.tokens.get(this.position++);
+    }
+
+    private Predicate<Task> parseOr() throws DuchessException {
+        Predicate<Task> predicate = this.parseAnd();
+        while (this.isNextKeyword("or")) {
+            this.position++;
+            predicate = predicate.or(this.parseAnd());
+        }
+        return predicate;
+    }
+
+    private Predicate<Task> parseAnd() throws DuchessException {
+        Predicate<Task> predicate = this.parseUnary();
+        while (this.isNextKeyword("and")) {
+            this.position++;
+            predicate = predicate.and(this.parseUnary());
+        }
+        return predicate;
+    }
+
+    private Predicate<Task> parseUnary() throws DuchessException {
+        if (this.isNextKeyword("not")) {
+            this.position++;
+            return this.parseUnary().negate();
+        }
+        if (this.isNextKeyword("(")) {
+            this.position++;
+            Predicate<Task> predicate = this.parseOr();
+            if (!this.isNextKeyword(")")) {
+                throw new DuchessException(ERROR_INVALID_QUERY);
+            }
+            this.position++;
+            return predicate;
+        }
+        return this.parseCondition();
+    }
+
+    private Predicate<Task> parseCondition() throws DuchessException {
+        String field = this.next();
+        switch (field) {
+        case "desc":
+            // Fallthrough
+        case "description":
+            return this.parseDescriptionCondition();
+        case "deadline":
+            // Fallthrough
+        case "due":
+            return this.parseTimeCondition(task -> task instanceof Deadline
+                    ? ((Deadline) task).getDeadline() : null);
+        case "created":
+            return this.parseTimeCondition(Task::getCreationTime);
+        case "done":
+            // Fallthrough
+        case "completed":
+            if (this.isNextComparison()) {
+                return this.parseTimeCondition(task -> task.isCompleted() ? task.getCompletionTime() : null);
+            }
+            return Task::isCompleted;
+        case "pending":
+            // Fallthrough
+        case "incomplete":
+            return task -> !task.isCompleted();
+        case "overdue":
+            return task -> task instanceof Deadline && !task.isCompleted()
+                    && ((Deadline) task).getDeadline().isBefore(LocalDateTime.now());
+        case "type":
+            return this.parseTypeCondition();
+        default:
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+    }
+
+    private Predicate<Task> parseDescriptionCondition() throws DuchessException {
+        String operator = this.next();
+        String value = cleanAndLowerString(this.next());
+        switch (operator) {
+        case "~":
+            return task -> task.getDescription().toLowerCase().contains(value);
+        case "=":
+            return task -> cleanAndLowerString(task.getDescription()).equals(value);
+        default:
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+    }
+
+    private Predicate<Task> parseTypeCondition() throws DuchessException {
+        if (!this.next().equals("=")) {
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+        switch (cleanAndLowerString(this.next())) {
+        case "todo":
+            return task -> task instanceof ToDo;
+        case "event":
+            return task -> task instanceof Event;
+        case "deadline":
+            return task -> task instanceof Deadline;
+        case "recurring":
+            return task -> task instanceof RecurringDeadline;
+        default:
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+    }
+
+    private boolean isNextComparison() {
+        return this.isNextKeyword("<") || this.isNextKeyword("<=") || this.isNextKeyword(">")
+                || this.isNextKeyword(">=") || this.isNextKeyword("=") || this.isNextKeyword("before")
+                || this.isNextKeyword("after") || this.isNextKeyword("on");
+    }
+
+    /**
+     * Returns a {@code Predicate} comparing the time given by {@code getTime} against
+     * the time in the query. Tasks without such a time never match.
+     *
+     * @param getTime Function returning the time of a task to compare, or null.
+     * @return {@code Predicate} for the comparison.
+     * @throws DuchessException If the comparison or time is of the wrong format.
+     */
+    private Predicate<Task> parseTimeCondition(Function<Task, LocalDateTime> getTime) throws DuchessException {
+        if (!this.isNextComparison()) {
+            throw new DuchessException(ERROR_INVALID_QUERY);
+        }
+        String operator = this.next();
+        LocalDateTime value = DateTimeParser.parseDateTime(cleanAndLowerString(this.next()));
+        Predicate<LocalDateTime> comparison;
+        switch (operator) {
+        case "<":
+            // Fallthrough
+        case "before":
+            comparison = time -> time.isBefore(value);
+            break;
+        case "<=":
+            comparison = time -> !time.isAfter(value);
+            break;
+        case ">":
+            // Fallthrough
+        case "after":
+            comparison = time -> time.isAfter(value);
+            break;
+        case ">=":
+            comparison = time -> !time.isBefore(value);
+            break;
+        default:
+            // Either "=" or "on", which compare the date only.
+            comparison = time -> time.toLocalDate().equals(value.toLocalDate());
+            break;
+        }
+        return task -> {
+            LocalDateTime time = getTime.apply(task);
+            return time != null && comparison.test(time);
+        };
+    }
+}
@@ -0,0 +1,165 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_INVALID_RECURRENCE_RULE;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import duke.exception.DuchessException;
+import duke.util.Frequency;
+import duke.util.RecurrenceRule;
+
+/**
+ * The {@code RecurrenceRuleParser} is a helper class with static methods to parse
+ * user provided inputs into {@code RecurrenceRule} objects.
+ */
+public class RecurrenceRuleParser {
+    private static final String RRULE_PREFIX = "rrule:";
+    private static final String[] DAY_CODES = {"mo", "tu", "we", "th", "fr", "sa", "su"};
+    private static final DateTimeFormatter UNTIL_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int MAX_MONTH_DAY = 31;
+
+    /**
+     * Returns a {@code RecurrenceRule} based on the given {@code userInput}, which is
+     * either an RFC 5545 RRULE such as "freq=weekly;byday=mo,we;count=10", with or
+     * without the "rrule:" in front, or a frequency accepted by {@code FrequencyParser}.
+     *
+     * <p>The RRULE parts accepted are FREQ (daily, weekly, monthly or yearly), INTERVAL,
+     * BYDAY, BYMONTHDAY, COUNT and UNTIL. UNTIL is a local time such as "20211231T235959",
+     * a UTC time ending with "Z" or a date, which includes the whole day.
+     *
+     * @param userInput Given user input in {@code String} format, cleaned and lowered.
+     * @return A {@code RecurrenceRule} object.
+     * @throws DuchessException If the given {@code userInput} is of the wrong format.
+     */
+    public static RecurrenceRule parseRecurrenceRule(String userInput) throws DuchessException {
+        String rule = userInput.startsWith(RRULE_PREFIX) ? userInput.substring(RRULE_PREFIX.length()) : userInput;
+        if (!rule.contains("freq=")) {
+            return RecurrenceRule.of(FrequencyParser.parseFrequency(userInput));
+        }
+
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.split(";")) {
+            String[] keyAndValue = part.trim().split("=", 2);
+            if (keyAndValue.length < 2 || parts.put(keyAndValue[0], keyAndValue[1]) != null) {
+                throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+            }
+        }
+        Frequency frequency = parseFrequencyPart(parts.remove("freq"));
+        int interval = parts.containsKey("interval") ? parsePositiveNumber(parts.remove("interval")) : 1;
+        Set<DayOfWeek> byDays = parts.containsKey("byday") ? parseDays(parts.remove("byday"))
+                : EnumSet.noneOf(DayOfWeek.class);
+        List<Integer> byMonthDays = parts.containsKey("bymonthday") ? parseMonthDays(parts.remove("bymonthday"))
+                : List.of();
+        int count = parts.containsKey("count") ? parsePositiveNumber(parts.remove("count")) : 0;
+        LocalDateTime until = parts.containsKey("until") ? parseUntil(parts.remove("until")) : null;
+
+        boolean isMonthDayInWeeklyRule = frequency == Frequency.WEEKLY && !byMonthDays.isEmpty();
+        boolean isLimitedTwice = count > 0 && until != null;
+        if (!parts.isEmpty() || isMonthDayInWeeklyRule || isLimitedTwice) {
+            throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+        }
+        return new RecurrenceRule(frequency, interval, byDays, byMonthDays, count, until);
+    }
+
+    private static Frequency parseFrequencyPart(String value) throws DuchessException {
+        if (value == null) {
+            throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+        }
+        switch (value) {
+        case "daily":
+            return Frequency.DAILY;
+        case "weekly":
+            return Frequency.WEEKLY;
+        case "monthly":
+            return Frequency.MONTHLY;
+        case "yearly":
+            return Frequency.YEARLY;
+        default:
+            throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+        }
+    }
+
+    private static int parsePositiveNumber(String value) throws DuchessException {
+        int number = parseNumber(value);
+        if (number <= 0) {
+            throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+        }
+        return number;
+    }
+
+    private static int parseNumber(String value) throws DuchessException {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+        }
+    }
+
+    private static Set<DayOfWeek> parseDays(String value) throws DuchessException {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String code : value.split(",")) {
+            days.add(parseDay(code.trim()));
+        }
+        return days;
+    }
+
+    private static DayOfWeek parseDay(String code) throws DuchessException {
+        for (int i = 0; i < DAY_CODES.length; i++) {
+            if (DAY_CODES[i].equals(code)) {
+                return DayOfWeek.of(i + 1);
+            }
+        }
+        throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+    }
+
+    private static List<Integer> parseMonthDays(String value) throws DuchessException {
+        List<Integer> days = new ArrayList<>();
+        for (String day : value.split(",")) {
+            int dayOfMonth = parseNumber(day);
+            if (dayOfMonth == 0 || Math.abs(dayOfMonth) > MAX_MONTH_DAY) {
+                throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+            }
+            if (!days.contains(dayOfMonth)) {
+                days.add(dayOfMonth);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * Returns the local time of the given UNTIL value.
+     *
+     * @param value UNTIL value, which is a local time, a UTC time ending with "z" or a date.
+     * @return Time of the last possible occurrence.
+     * @throws DuchessException If the value is of the wrong format.
+     */
+    private static LocalDateTime parseUntil(String value) throws DuchessException {
+        String upperValue = value.trim().toUpperCase();
+        try {
+            if (upperValue.endsWith("Z")) {
+                LocalDateTime utcTime = LocalDateTime.parse(upperValue.substring(0, upperValue.length() - 1),
+                        RecurrenceRule.UNTIL_FORMAT);
+                return utcTime.atOffset(ZoneOffset.UTC).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+            }
+            if (upperValue.contains("T")) {
+                return LocalDateTime.parse(upperValue, RecurrenceRule.UNTIL_FORMAT);
+            }
+            return LocalDate.parse(upperValue, UNTIL_DATE_FORMAT).atTime(LocalTime.of(23, 59, 59));
+        } catch (DateTimeParseException e) {
+            throw new DuchessException(ERROR_INVALID_RECURRENCE_RULE);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_INVALID_TAG_FILTER;
+import static duke.util.StringCleaner.cleanAndLowerString;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import duke.exception.DuchessException;
+import duke.util.Pair;
+
+/**
+ * The {@code TagParser} is a helper class with static methods to parse the
+ * #tags in task descriptions and the tag filters of the list command, such as
+ * "#work #urgent -#someday".
+ */
+public class TagParser {
+    private static final Pattern TAG_PATTERN = Pattern.compile("(?<!\\S)#([\\p{L}\\p{N}_-]+)");
+    private static final Pattern FILTER_PATTERN = Pattern.compile("(-?)#([\\p{L}\\p{N}_-]+)");
+    private static final String FILTER_PREFIX = "#";
+    private static final String EXCLUDED_FILTER_PREFIX = "-#";
+
+    /**
+     * Returns the tags in the given {@code description}, which are the words
+     * starting with "#", such as "#work" in "Write report #work". The tags are
+     * lowercase and without the "#", in the order they first appear.
+     *
+     * @param description Description of a task.
+     * @return Distinct tags of the task, which is empty if it has none.
+     */
+    public static List<String> parseTags(String description) {
+        Set<String> tags = new LinkedHashSet<>();
+        Matcher matcher = TAG_PATTERN.matcher(description);
+        while (matcher.find()) {
+            tags.add(cleanAndLowerString(matcher.group(1)));
+        }
+        return List.copyOf(tags);
+    }
+
+    /**
+     * Returns whether the given arguments of the list command are a tag filter,
+     * which starts with "#" or "-#".
+     *
+     * @param arguments Cleaned and lowered arguments of the list command.
+     * @return Whether the arguments are a tag filter.
+     */
+    public static boolean isTagFilter(String arguments) {
+        return arguments.startsWith(FILTER_PREFIX) || arguments.startsWith(EXCLUDED_FILTER_PREFIX);
+    }
+
+    /**
+     * Returns the tags that tasks must have and must not have according to the
+     * given {@code filter}, such as "#work #urgent -#someday".
+     *
+     * @param filter Cleaned and lowered tag filter made up of "#tag"s and "-#tag"s.
+     * @return {@code Pair} of the tags to include and the tags to exclude, without
+     *         the "#".
+     * @throws DuchessException If any part of the filter is not a tag.
+     */
+    public static Pair<List<String>, List<String>> parseTagFilter(String filter) throws DuchessException {
+        assert filter.equals(cleanAndLowerString(filter));
+        List<String> includedTags = new ArrayList<>();
+        List<String> excludedTags = new ArrayList<>();
+        for (String token : filter.split("\\s+")) {
+            Matcher matcher = FILTER_PATTERN.matcher(token);
+            if (!matcher.matches()) {
+                throw new DuchessException(ERROR_INVALID_TAG_FILTER);
+            }
+            (matcher.group(1).isEmpty() ? includedTags : excludedTags).add(matcher.group(2));
+        }
+        return new Pair<>(includedTags, excludedTags);
+    }
+}
@@ -0,0 +1,108 @@
+package duke.io;
+
+import static duke.util.StringCleaner.cleanAndLowerString;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import duke.exception.DuchessException;
+import duke.util.Pair;
+
+/**
+ * The {@code TimeFrameParser} is a helper class with static methods to parse the
+ * time frames of events, such as "2-12-20 1400 - 1600", into the times they start
+ * and end. Time frames are free text, so those that are not times, such as
+ * "Hawaii", are not parsed rather than rejected.
+ */
+public class TimeFrameParser {
+    private static final String[] SEPARATORS = {" - ", " to "};
+    private static final DateTimeFormatter END_TIME_PATTERN = DateTimeFormatter.ofPattern("HHmm");
+    private static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+
+    /**
+     * Returns the start and end of the given {@code timeFrame}, which is either a
+     * single time accepted by {@code DateTimeParser} or two of them joined by " - "
+     * or " to ". The end may also be just a time of day such as "1600", on the day
+     * of the start. A date without a time of day covers the whole day, and a single
+     * time with a time of day lasts an hour.
+     *
+     * @param timeFrame Time frame of an event, cleaned and lowered.
+     * @return {@code Pair} of the start, inclusive, and the end, exclusive, or
+     *         {@code null} if the time frame is not made up of times or ends before
+     *         it starts.
+     */
+    public static Pair<LocalDateTime, LocalDateTime> parseTimeFrame(String timeFrame) {
+        assert timeFrame.equals(cleanAndLowerString(timeFrame));
+        for (String separator : SEPARATORS) {
+            int separatorIndex = timeFrame.indexOf(separator);
+            if (separatorIndex != -1) {
+                return parseRange(timeFrame.substring(0, separatorIndex),
+                        timeFrame.substring(separatorIndex + separator.length()));
+            }
+        }
+        LocalDateTime start = parseTime(timeFrame);
+        if (start == null) {
+            return null;
+        }
+        return isDateOnly(timeFrame)
+                ? new Pair<>(start.toLocalDate().atStartOfDay(), start.toLocalDate().plusDays(1).atStartOfDay())
+                : new Pair<>(start, start.plus(DEFAULT_DURATION));
+    }
+
+    // Private helper methods
+
+    private static Pair<LocalDateTime, LocalDateTime> parseRange(String startInput, String endInput) {
+        LocalDateTime start = parseTime(startInput);
+        if (start == null) {
+            return null;
+        }
+        if (isDateOnly(startInput)) {
+            start = start.toLocalDate().atStartOfDay();
+        }
+        LocalDateTime end;
+        LocalTime endTime = parseTimeOfDay(endInput);
+        if (endTime != null) {
+            end = start.toLocalDate().atTime(endTime);
+        } else {
+            end = parseTime(endInput);
+            if (end != null && isDateOnly(endInput)) {
+                end = end.toLocalDate().plusDays(1).atStartOfDay();
+            }
+        }
+        if (end == null || !end.isAfter(start)) {
+            return null;
+        }
+        return new Pair<>(start, end);
+    }
+
+    private static LocalDateTime parseTime(String input) {
+        try {
+            return DateTimeParser.parseDateTime(input.trim());
+        } catch (DuchessException e) {
+            return null;
+        }
+    }
+
+    private static LocalTime parseTimeOfDay(String input) {
+        try {
+            return LocalTime.parse(input.trim(), END_TIME_PATTERN);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns whether the given time, which {@code DateTimeParser} accepts, has no
+     * time of day. Only "d-M-yy HHmm" and "tonight" have one.
+     *
+     * @param input Time accepted by {@code DateTimeParser}.
+     * @return Whether the input is a date alone.
+     */
+    private static boolean isDateOnly(String input) {
+        String time = input.trim();
+        return !time.contains(" ") && !time.equals("tonight");
+    }
+}
@@ -0,0 +1,248 @@
+package duke.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import duke.command.Command;
+
+/**
+ * The {@code CommandMetrics} class records how long each {@code Command} takes,
+ * how much memory it allocates, and how much of its time is spent saving undo
+ * states, writing the save file and rendering tasks.
+ *
+ * <p>A command is measured by wrapping it in a {@code CommandTimer} from
+ * {@link #startTimer(Command)}. While the timer is open, the parts of the program
+ * that make up a {@code Phase} report their time with {@link #recordPhase(Phase, long)}.
+ * Phases reported outside of a command, such as the save after a batch, are ignored.
+ *
+ * <p>The metrics can be read with the "metrics" command, or over JMX once
+ * {@link #registerMBean()} has been called.
+ */
+public class CommandMetrics {
+    /**
+     * Name of the MBean through which the metrics can be read over JMX.
+     */
+    public static final String MBEAN_NAME = "duke:type=CommandMetrics";
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final ThreadLocal<CommandTimer> CURRENT_TIMER = new ThreadLocal<>();
+    private static final Map<Command, CommandStats> STATS = new EnumMap<>(Command.class);
+    private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+    /**
+     * The parts of a command whose time is recorded separately.
+     */
+    public enum Phase {
+        SAVE_STATE,
+        STORAGE_SAVE,
+        RENDER,
+    }
+
+    /**
+     * Starts measuring the given command on the current thread. The returned timer
+     * must be closed once the command is done, preferably with a try-with-resources
+     * statement.
+     *
+     * @param command Command being run.
+     * @return The started {@code CommandTimer}.
+     */
+    public static CommandTimer startTimer(Command command) {
+        CommandTimer timer = new CommandTimer(command, CURRENT_TIMER.get());
+        CURRENT_TIMER.set(timer);
+        return timer;
+    }
+
+    /**
+     * Adds the given time to a phase of the command being measured on the current
+     * thread, if any.
+     *
+     * @param phase       Phase of the command.
+     * @param elapsedTime Time spent in the phase in nanoseconds.
+     */
+    public static void recordPhase(Phase phase, long elapsedTime) {
+        CommandTimer timer = CURRENT_TIMER.get();
+        if (timer != null) {
+            timer.phaseTimes[phase.ordinal()] += elapsedTime;
+        }
+    }
+
+    /**
+     * Returns a summary of the metrics of every command run so far, in the order
+     * the commands are declared.
+     *
+     * @return List of {@code CommandSummary}s.
+     */
+    public static List<CommandSummary> getSummaries() {
+        List<CommandSummary> summaries = new ArrayList<>();
+        synchronized (STATS) {
+            for (Map.Entry<Command, CommandStats> entry : STATS.entrySet()) {
+                summaries.add(entry.getValue().summarise(entry.getKey().name()));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * Clears the metrics recorded so far.
+     */
+    public static void reset() {
+        synchronized (STATS) {
+            STATS.clear();
+        }
+    }
+
+    /**
+     * Registers the MBean for these metrics with the platform MBean server, if it
+     * has not been registered yet.
+     */
+    public static void registerMBean() {
+        try {
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new CommandMetricsBean(), name);
+            }
+        } catch (JMException e) {
+            // The metrics can still be read with the metrics command.
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        boolean isSupported = allocationBean.isThreadAllocatedMemorySupported()
+                && allocationBean.isThreadAllocatedMemoryEnabled();
+        return isSupported ? allocationBean : null;
+    }
+
+    private static long getAllocatedBytes() {
+        return ALLOCATION_BEAN == null ? -1 : ALLOCATION_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The {@code CommandTimer} measures one run of a command.
+     */
+    public static class CommandTimer implements AutoCloseable {
+        private final Command command;
+        private final CommandTimer previousTimer;
+        private final long startTime;
+        private final long startAllocatedBytes;
+        private final long[] phaseTimes;
+        private boolean isSuccessful;
+
+        private CommandTimer(Command command, CommandTimer previousTimer) {
+            this.command = command;
+            this.previousTimer = previousTimer;
+            this.phaseTimes = new long[Phase.values().length];
+            this.startAllocatedBytes = getAllocatedBytes();
+            this.startTime = System.nanoTime();
+        }
+
+        /**
+         * Marks the command as successful. A command that is not marked before the
+         * timer is closed is counted as an error.
+         */
+        public void markSuccessful() {
+            this.isSuccessful = true;
+        }
+
+        /**
+         * Records the measurements of the command and restores the timer that was
+         * open before this one.
+         */
+        @Override
+        public void close() {
+            long elapsedTime = System.nanoTime() - this.startTime;
+            long allocatedBytes = this.startAllocatedBytes < 0 ? -1 : getAllocatedBytes() - this.startAllocatedBytes;
+            if (CURRENT_TIMER.get() == this) {
+                if (this.previousTimer == null) {
+                    CURRENT_TIMER.remove();
+                } else {
+                    CURRENT_TIMER.set(this.previousTimer);
+                }
+            }
+            CommandStats stats;
+            synchronized (STATS) {
+                stats = STATS.computeIfAbsent(this.command, command -> new CommandStats());
+            }
+            stats.record(elapsedTime, allocatedBytes, this.phaseTimes, this.isSuccessful);
+        }
+    }
+
+    /**
+     * The {@code CommandStats} holds the metrics of one type of command.
+     */
+    private static class CommandStats {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final long[] phaseTimes = new long[Phase.values().length];
+        private long numOfErrors;
+        private long allocatedBytes;
+        private long numOfAllocationSamples;
+
+        synchronized void record(long elapsedTime, long allocatedBytes, long[] phaseTimes, boolean isSuccessful) {
+            this.latencies.record(elapsedTime);
+            for (int i = 0; i < phaseTimes.length; i++) {
+                this.phaseTimes[i] += phaseTimes[i];
+            }
+            if (!isSuccessful) {
+                this.numOfErrors++;
+            }
+            if (allocatedBytes >= 0) {
+                this.allocatedBytes += allocatedBytes;
+                this.numOfAllocationSamples++;
+            }
+        }
+
+        synchronized CommandSummary summarise(String name) {
+            long count = this.latencies.getCount();
+            double meanAllocatedKilobytes = this.numOfAllocationSamples == 0 ? -1
+                    : (double) this.allocatedBytes / this.numOfAllocationSamples / 1024;
+            return new CommandSummary(name, count, this.numOfErrors,
+                    this.latencies.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    this.latencies.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                    this.latencies.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    this.latencies.getMax() / NANOS_PER_MILLI,
+                    meanAllocatedKilobytes,
+                    this.getMeanPhaseMillis(Phase.SAVE_STATE, count),
+                    this.getMeanPhaseMillis(Phase.STORAGE_SAVE, count),
+                    this.getMeanPhaseMillis(Phase.RENDER, count));
+        }
+
+        private double getMeanPhaseMillis(Phase phase, long count) {
+            return count == 0 ? 0 : this.phaseTimes[phase.ordinal()] / NANOS_PER_MILLI / count;
+        }
+    }
+
+    /**
+     * The {@code CommandMetricsBean} exposes the metrics over JMX.
+     */
+    private static class CommandMetricsBean implements CommandMetricsMxBean {
+        @Override
+        public List<CommandSummary> getCommands() {
+            return getSummaries();
+        }
+
+        @Override
+        public String getReport() {
+            StringBuilder report = new StringBuilder();
+            for (CommandSummary summary : getSummaries()) {
+                report.append(summary).append('\n');
+            }
+            return report.toString();
+        }
+
+        @Override
+        public void reset() {
+            CommandMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package duke.metrics;
+
+import java.util.List;
+
+import javax.management.MXBean;
+
+/**
+ * The {@code CommandMetricsMxBean} is the JMX view of {@code CommandMetrics},
+ * registered under {@link CommandMetrics#MBEAN_NAME}.
+ */
+@MXBean
+public interface CommandMetricsMxBean {
+    /**
+     * Returns a summary of the metrics of every command run so far.
+     *
+     * @return List of {@code CommandSummary}s.
+     */
+    List<CommandSummary> getCommands();
+
+    /**
+     * Returns the metrics of every command run so far as text, in the same format
+     * as the "metrics" command.
+     *
+     * @return Metrics report.
+     */
+    String getReport();
+
+    /**
+     * Clears the metrics recorded so far.
+     */
+    void reset();
+}
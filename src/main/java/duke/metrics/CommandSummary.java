@@ -0,0 +1,107 @@
+package duke.metrics;
+
+/**
+ * The {@code CommandSummary} is a snapshot of the metrics recorded for one type of
+ * command. Times are in milliseconds and are averaged over the runs of the
+ * command unless stated otherwise.
+ */
+public class CommandSummary {
+    private final String command;
+    private final long count;
+    private final long numOfErrors;
+    private final double p50Millis;
+    private final double p90Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    private final double meanAllocatedKilobytes;
+    private final double meanSaveStateMillis;
+    private final double meanStorageSaveMillis;
+    private final double meanRenderMillis;
+
+    /**
+     * Initialises a {@code CommandSummary}.
+     *
+     * @param command                Name of the command.
+     * @param count                  Number of runs.
+     * @param numOfErrors            Number of runs that failed.
+     * @param p50Millis              Median latency.
+     * @param p90Millis              90th percentile latency.
+     * @param p99Millis              99th percentile latency.
+     * @param maxMillis              Longest latency.
+     * @param meanAllocatedKilobytes Mean kilobytes allocated, or -1 if unknown.
+     * @param meanSaveStateMillis    Mean time spent saving undo states.
+     * @param meanStorageSaveMillis  Mean time spent writing the save file.
+     * @param meanRenderMillis       Mean time spent rendering tasks.
+     */
+    public CommandSummary(String command, long count, long numOfErrors, double p50Millis, double p90Millis,
+                          double p99Millis, double maxMillis, double meanAllocatedKilobytes,
+                          double meanSaveStateMillis, double meanStorageSaveMillis, double meanRenderMillis) {
+        this.command = command;
+        this.count = count;
+        this.numOfErrors = numOfErrors;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.meanAllocatedKilobytes = meanAllocatedKilobytes;
+        this.meanSaveStateMillis = meanSaveStateMillis;
+        this.meanStorageSaveMillis = meanStorageSaveMillis;
+        this.meanRenderMillis = meanRenderMillis;
+    }
+
+    public String getCommand() {
+        return this.command;
+    }
+
+    public long getCount() {
+        return this.count;
+    }
+
+    public long getNumOfErrors() {
+        return this.numOfErrors;
+    }
+
+    public double getP50Millis() {
+        return this.p50Millis;
+    }
+
+    public double getP90Millis() {
+        return this.p90Millis;
+    }
+
+    public double getP99Millis() {
+        return this.p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return this.maxMillis;
+    }
+
+    public double getMeanAllocatedKilobytes() {
+        return this.meanAllocatedKilobytes;
+    }
+
+    public double getMeanSaveStateMillis() {
+        return this.meanSaveStateMillis;
+    }
+
+    public double getMeanStorageSaveMillis() {
+        return this.meanStorageSaveMillis;
+    }
+
+    public double getMeanRenderMillis() {
+        return this.meanRenderMillis;
+    }
+
+    @Override
+    public String toString() {
+        String allocated = this.meanAllocatedKilobytes < 0 ? "unknown"
+                : String.format("%.1f KB", this.meanAllocatedKilobytes);
+        return String.format("%s: %d %s, %d %s\n\tp50 %.2f ms, p90 %.2f ms, p99 %.2f ms, max %.2f ms\n"
+                        + "\tper run: %s allocated, undo %.2f ms, save %.2f ms, render %.2f ms",
+                this.command.toLowerCase(), this.count, this.count == 1 ? "run" : "runs", this.numOfErrors,
+                this.numOfErrors == 1 ? "error" : "errors", this.p50Millis, this.p90Millis, this.p99Millis,
+                this.maxMillis, allocated, this.meanSaveStateMillis, this.meanStorageSaveMillis,
+                this.meanRenderMillis);
+    }
+}
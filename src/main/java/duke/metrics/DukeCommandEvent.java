@@ -0,0 +1,39 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code DukeCommandEvent} is a JDK Flight Recorder event for one run of a
+ * command. The duration of the event is the latency of the command.
+ */
+@Name("duke.Command")
+@Label("Duchess Command")
+@Category("Duchess")
+@Description("A command run by Duchess")
+public class DukeCommandEvent extends Event {
+    @Label("Command")
+    private String command;
+
+    @Label("Task Count")
+    @Description("Number of active tasks after the command")
+    private int taskCount;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    public void setCommand(String command) {
+        this.command = command;
+    }
+
+    public void setTaskCount(int taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,113 @@
+package duke.metrics;
+
+/**
+ * The {@code LatencyHistogram} records latencies in nanoseconds into log-linear
+ * buckets, in the style of an HDR histogram. Every power of two is split into 64
+ * buckets, so percentiles are accurate to within 1.6% of the recorded values using
+ * a fixed amount of memory, however many latencies are recorded.
+ *
+ * <p>Latencies longer than about 18 minutes are counted in the last bucket.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    private static final int BUCKET_COUNT = getIndex(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long maxValue;
+    private long sum;
+
+    /**
+     * Records a latency.
+     *
+     * @param value Latency in nanoseconds, which must not be negative.
+     */
+    public synchronized void record(long value) {
+        assert value >= 0;
+        long clampedValue = Math.min(value, MAX_VALUE);
+        this.counts[getIndex(clampedValue)]++;
+        this.totalCount++;
+        this.maxValue = Math.max(this.maxValue, clampedValue);
+        this.sum += clampedValue;
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return Number of latencies.
+     */
+    public synchronized long getCount() {
+        return this.totalCount;
+    }
+
+    /**
+     * Returns the longest latency recorded.
+     *
+     * @return Longest latency in nanoseconds, or 0 if none were recorded.
+     */
+    public synchronized long getMax() {
+        return this.maxValue;
+    }
+
+    /**
+     * Returns the mean of the latencies recorded.
+     *
+     * @return Mean latency in nanoseconds, or 0 if none were recorded.
+     */
+    public synchronized double getMean() {
+        return this.totalCount == 0 ? 0 : (double) this.sum / this.totalCount;
+    }
+
+    /**
+     * Returns the latency at the given percentile, i.e. the smallest latency that
+     * at least {@code percentile} percent of the recorded latencies are not above.
+     *
+     * @param percentile Percentile between 0 and 100.
+     * @return Latency in nanoseconds, or 0 if none were recorded.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        if (this.totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * this.totalCount));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += this.counts[i];
+            if (cumulativeCount >= rank) {
+                return Math.min(getHighestValue(i), this.maxValue);
+            }
+        }
+        return this.maxValue;
+    }
+
+    /**
+     * Returns the index of the bucket containing the given value. Values below 128
+     * each have their own bucket. Above that, a value with {@code n} more bits has its
+     * top 7 bits kept, which gives 64 buckets for every power of two.
+     *
+     * @param value Value to find the bucket of.
+     * @return Index of the bucket.
+     */
+    private static int getIndex(long value) {
+        int numOfBits = Long.SIZE - Long.numberOfLeadingZeros(value);
+        if (numOfBits <= SUB_BUCKET_BITS) {
+            return (int) value;
+        }
+        int shift = numOfBits - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    private static long getHighestValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = index - (long) shift * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,52 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code StorageSaveEvent} is a JDK Flight Recorder event for one write of the
+ * save file. The duration of the event covers converting the tasks to JSON as well
+ * as writing them.
+ */
+@Name("duke.StorageSave")
+@Label("Duchess Storage Save")
+@Category("Duchess")
+@Description("A write of the save file")
+public class StorageSaveEvent extends Event {
+    /**
+     * Mode of a save made as soon as the task list changed.
+     */
+    public static final String MODE_IMMEDIATE = "immediate";
+
+    /**
+     * Mode of a save made once at the end of a batch of deferred changes.
+     */
+    public static final String MODE_BATCH = "batch";
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    @Label("Mode")
+    @Description("Whether the save was immediate or the end of a batch")
+    private String mode;
+
+    @Label("Successful")
+    private boolean isSuccessful;
+
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+
+    public void setMode(String mode) {
+        this.mode = mode;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,33 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The {@code UndoSnapshotEvent} is a JDK Flight Recorder event for one copy of the
+ * task list taken so that a change can be undone.
+ */
+@Name("duke.UndoSnapshot")
+@Label("Duchess Undo Snapshot")
+@Category("Duchess")
+@Description("A copy of the task list saved for undo")
+public class UndoSnapshotEvent extends Event {
+    @Label("Tasks Cloned")
+    @Description("Number of active and archived tasks copied")
+    private int tasksCloned;
+
+    @Label("Command")
+    @Description("First word of the command that the snapshot is undone as")
+    private String command;
+
+    public void setTasksCloned(int tasksCloned) {
+        this.tasksCloned = tasksCloned;
+    }
+
+    public void setCommand(String command) {
+        this.command = command;
+    }
+}
@@ -0,0 +1,51 @@
+package duke.reminder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import duke.task.Deadline;
+
+/**
+ * The {@code Reminder} class holds a reminder that a {@code Deadline} is due
+ * after a given lead time.
+ */
+public class Reminder {
+    private final Deadline deadline;
+    private final LocalDateTime dueTime;
+    private final Duration leadTime;
+
+    /**
+     * Initialises a {@code Reminder}.
+     *
+     * @param deadline {@code Deadline} to remind about.
+     * @param dueTime  Deadline of the task when the reminder was scheduled.
+     * @param leadTime Time between the reminder and the deadline.
+     */
+    public Reminder(Deadline deadline, LocalDateTime dueTime, Duration leadTime) {
+        this.deadline = deadline;
+        this.dueTime = dueTime;
+        this.leadTime = leadTime;
+    }
+
+    public Deadline getDeadline() {
+        return this.deadline;
+    }
+
+    public LocalDateTime getDueTime() {
+        return this.dueTime;
+    }
+
+    public Duration getLeadTime() {
+        return this.leadTime;
+    }
+
+    /**
+     * Returns whether this reminder is for the deadline itself, when the task
+     * becomes overdue.
+     *
+     * @return Whether the lead time is zero.
+     */
+    public boolean isOverdue() {
+        return this.leadTime.isZero();
+    }
+}
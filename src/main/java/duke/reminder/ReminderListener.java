@@ -0,0 +1,15 @@
+package duke.reminder;
+
+/**
+ * The {@code ReminderListener} is notified when a {@code Reminder} is due.
+ * Notifications are made on the thread of the {@code ReminderScheduler}, so
+ * listeners should return quickly.
+ */
+public interface ReminderListener {
+    /**
+     * Called when the given {@code Reminder} is due.
+     *
+     * @param reminder {@code Reminder} that is due.
+     */
+    void onReminder(Reminder reminder);
+}
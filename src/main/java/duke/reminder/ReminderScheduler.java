@@ -0,0 +1,258 @@
+package duke.reminder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import duke.reminder.TimingWheel.Timeout;
+import duke.task.Deadline;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.TaskListListener;
+
+/**
+ * The {@code ReminderScheduler} reminds {@code ReminderListener}s of upcoming
+ * {@code Deadline}s at each of a set of lead times before they are due, such as a
+ * day before, an hour before and when they become overdue.
+ *
+ * <p>The scheduler listens to a {@code TaskList} and keeps the next reminder of
+ * every incomplete deadline in a {@code TimingWheel}, so adding, snoozing,
+ * completing and deleting a task only reschedules that task. Once a reminder is
+ * due, the next one for the same deadline is scheduled. Reminders whose time had
+ * already passed when they were scheduled, such as while the program was closed,
+ * are skipped, and if several are due at once only the latest is sent.
+ */
+public class ReminderScheduler implements TaskListListener {
+    /**
+     * Lead times used when none are given: a day before, an hour before and when
+     * the deadline is due.
+     */
+    public static final List<Duration> DEFAULT_LEAD_TIMES = List.of(Duration.ofDays(1), Duration.ofHours(1),
+            Duration.ZERO);
+
+    private static final long TICK_MILLIS = 1000;
+    private static final Logger LOGGER = Logger.getLogger(ReminderScheduler.class.getName());
+
+    private final List<Duration> leadTimes;
+    private final Clock clock;
+    private final TimingWheel<ScheduledReminder> wheel;
+    private final Map<Task, Timeout<ScheduledReminder>> timeouts = new IdentityHashMap<>();
+    private final List<ReminderListener> listeners = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService executor;
+    private TaskList taskList;
+
+    /**
+     * Initialises a {@code ReminderScheduler} with the given lead times.
+     *
+     * @param leadTimes Times before a deadline to remind at, which must not be negative.
+     */
+    public ReminderScheduler(List<Duration> leadTimes) {
+        this(leadTimes, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Initialises a {@code ReminderScheduler} with the given lead times and clock.
+     *
+     * @param leadTimes Times before a deadline to remind at, which must not be negative.
+     * @param clock     Clock giving the current time and time zone of deadlines.
+     */
+    ReminderScheduler(List<Duration> leadTimes, Clock clock) {
+        List<Duration> sortedLeadTimes = new ArrayList<>(leadTimes);
+        // Longest lead time first, which is the earliest reminder.
+        sortedLeadTimes.sort((first, second) -> second.compareTo(first));
+        this.leadTimes = List.copyOf(sortedLeadTimes);
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(TICK_MILLIS, clock.millis());
+    }
+
+    /**
+     * Adds a listener to send reminders to.
+     *
+     * @param listener {@code ReminderListener} to add.
+     */
+    public void addListener(ReminderListener listener) {
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Schedules reminders for the deadlines in the given {@code TaskList} and keeps
+     * them up to date as it changes, then starts checking for due reminders every
+     * second on a background thread.
+     *
+     * @param taskList {@code TaskList} to remind about.
+     */
+    public synchronized void start(TaskList taskList) {
+        assert this.executor == null : "Scheduler already started";
+        this.taskList = taskList;
+        taskList.addListener(this);
+        this.onTasksReplaced(taskList.getTaskArray());
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duchess-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long initialDelay = TICK_MILLIS - Math.floorMod(this.clock.millis(), TICK_MILLIS);
+        this.executor.scheduleAtFixedRate(this::tick, initialDelay, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops checking for due reminders and stops listening to the {@code TaskList}.
+     */
+    public synchronized void stop() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+            this.executor = null;
+        }
+        if (this.taskList != null) {
+            this.taskList.removeListener(this);
+            this.taskList = null;
+        }
+    }
+
+    /**
+     * Sends every reminder that is due by now to the listeners.
+     */
+    public void tick() {
+        List<Reminder> dueReminders = new ArrayList<>();
+        synchronized (this) {
+            long currentTime = this.clock.millis();
+            this.wheel.advance(currentTime, scheduledReminder -> dueReminders.add(
+                    this.onReminderDue(scheduledReminder, currentTime)));
+        }
+        for (Reminder reminder : dueReminders) {
+            for (ReminderListener listener : this.listeners) {
+                try {
+                    listener.onReminder(reminder);
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Reminder listener failed", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of deadlines with a reminder scheduled.
+     *
+     * @return Number of scheduled reminders.
+     */
+    public synchronized int size() {
+        return this.wheel.size();
+    }
+
+    @Override
+    public synchronized void onTaskAdded(int index, Task task) {
+        this.schedule(task);
+    }
+
+    @Override
+    public synchronized void onTaskRemoved(int index, Task task) {
+        this.cancel(task);
+    }
+
+    @Override
+    public synchronized void onTaskUpdated(int index, Task task) {
+        this.cancel(task);
+        this.schedule(task);
+    }
+
+    @Override
+    public synchronized void onTasksReplaced(List<Task> tasks) {
+        this.wheel.clear();
+        this.timeouts.clear();
+        for (Task task : tasks) {
+            this.schedule(task);
+        }
+    }
+
+    // Private helper methods
+
+    /**
+     * Schedules the first reminder of the given task that is still to come, if it
+     * is an incomplete {@code Deadline}.
+     *
+     * @param task {@code Task} to schedule.
+     */
+    private void schedule(Task task) {
+        if (!(task instanceof Deadline) || task.isCompleted()) {
+            return;
+        }
+        Deadline deadline = (Deadline) task;
+        LocalDateTime dueTime = deadline.getDeadline();
+        long dueMillis = dueTime.atZone(this.clock.getZone()).toInstant().toEpochMilli();
+        this.scheduleFrom(new ScheduledReminder(deadline, dueTime, dueMillis, 0), this.clock.millis());
+    }
+
+    /**
+     * Schedules the reminder at the first lead time from the given one whose time
+     * is after {@code currentTime}.
+     *
+     * @param reminder    Reminder with the lead time to start from.
+     * @param currentTime Current time in milliseconds.
+     */
+    private void scheduleFrom(ScheduledReminder reminder, long currentTime) {
+        for (int i = reminder.leadIndex; i < this.leadTimes.size(); i++) {
+            long reminderTime = reminder.dueMillis - this.leadTimes.get(i).toMillis();
+            if (reminderTime > currentTime) {
+                ScheduledReminder nextReminder = new ScheduledReminder(reminder.deadline, reminder.dueTime,
+                        reminder.dueMillis, i);
+                this.timeouts.put(reminder.deadline, this.wheel.schedule(nextReminder, reminderTime));
+                return;
+            }
+        }
+    }
+
+    private void cancel(Task task) {
+        Timeout<ScheduledReminder> timeout = this.timeouts.remove(task);
+        if (timeout != null) {
+            this.wheel.cancel(timeout);
+        }
+    }
+
+    /**
+     * Returns the {@code Reminder} to send for a reminder that has just become due,
+     * using the latest of its lead times that has passed, and schedules the next.
+     *
+     * @param reminder    Reminder that is due.
+     * @param currentTime Current time in milliseconds.
+     * @return {@code Reminder} to send.
+     */
+    private Reminder onReminderDue(ScheduledReminder reminder, long currentTime) {
+        this.timeouts.remove(reminder.deadline);
+        int leadIndex = reminder.leadIndex;
+        while (leadIndex + 1 < this.leadTimes.size()
+                && reminder.dueMillis - this.leadTimes.get(leadIndex + 1).toMillis() <= currentTime) {
+            leadIndex++;
+        }
+        this.scheduleFrom(new ScheduledReminder(reminder.deadline, reminder.dueTime, reminder.dueMillis,
+                leadIndex + 1), currentTime);
+        return new Reminder(reminder.deadline, reminder.dueTime, this.leadTimes.get(leadIndex));
+    }
+
+    /**
+     * The {@code ScheduledReminder} is a reminder for a deadline at one of the lead
+     * times, as held in the {@code TimingWheel}.
+     */
+    private static class ScheduledReminder {
+        private final Deadline deadline;
+        private final LocalDateTime dueTime;
+        private final long dueMillis;
+        private final int leadIndex;
+
+        ScheduledReminder(Deadline deadline, LocalDateTime dueTime, long dueMillis, int leadIndex) {
+            this.deadline = deadline;
+            this.dueTime = dueTime;
+            this.dueMillis = dueMillis;
+            this.leadIndex = leadIndex;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package duke.reminder;
+
+import static duke.util.MagicStrings.ERROR_INVALID_REMINDER_LEAD_TIMES;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import duke.exception.DuchessException;
+
+/**
+ * The {@code ReminderSettings} class holds the settings for reminders given by the
+ * command line flags.
+ *
+ * <p>Use the flag "-remind TIMES" to set how long before a deadline to remind, as
+ * a comma separated list of days, hours and minutes such as "1d,2h,30m,0", where
+ * "0" reminds when the deadline is due. Use "-remind off" for no reminders. Use the
+ * flag "-reminder-hook COMMAND" to also run {@code COMMAND} with the system shell
+ * for every reminder.
+ */
+public class ReminderSettings {
+    private static final Pattern LEAD_TIME_PATTERN = Pattern.compile("(\\d+)([dhm]?)");
+
+    private final List<Duration> leadTimes;
+    private final String hookCommand;
+
+    /**
+     * Initialises a {@code ReminderSettings} instance.
+     *
+     * @param leadTimes   Times before a deadline to remind at, or an empty list for no reminders.
+     * @param hookCommand Command to run for every reminder, or null for none.
+     */
+    public ReminderSettings(List<Duration> leadTimes, String hookCommand) {
+        this.leadTimes = List.copyOf(leadTimes);
+        this.hookCommand = hookCommand;
+    }
+
+    /**
+     * Returns the settings given by the flags, using the default lead times of
+     * {@code ReminderScheduler} if there is no "-remind" flag.
+     *
+     * @param arguments Command line arguments.
+     * @return {@code ReminderSettings} for the flags.
+     * @throws DuchessException If the lead times are not of the correct format.
+     */
+    public static ReminderSettings fromArguments(List<String> arguments) throws DuchessException {
+        String leadTimes = getFlag(arguments, "-remind");
+        return new ReminderSettings(leadTimes == null ? ReminderScheduler.DEFAULT_LEAD_TIMES
+                : parseLeadTimes(leadTimes), getFlag(arguments, "-reminder-hook"));
+    }
+
+    /**
+     * Returns the lead times in the given list, such as "1d,2h,30m,0".
+     *
+     * @param userInput Comma separated lead times, or "off" for none.
+     * @return List of lead times.
+     * @throws DuchessException If the lead times are not of the correct format.
+     */
+    public static List<Duration> parseLeadTimes(String userInput) throws DuchessException {
+        List<Duration> leadTimes = new ArrayList<>();
+        if ("off".equalsIgnoreCase(userInput.strip())) {
+            return leadTimes;
+        }
+        for (String leadTime : userInput.split(",")) {
+            Matcher matcher = LEAD_TIME_PATTERN.matcher(leadTime.strip().toLowerCase());
+            if (!matcher.matches()) {
+                throw new DuchessException(ERROR_INVALID_REMINDER_LEAD_TIMES);
+            }
+            long value = Long.parseLong(matcher.group(1));
+            switch (matcher.group(2)) {
+            case "d":
+                leadTimes.add(Duration.ofDays(value));
+                break;
+            case "h":
+                leadTimes.add(Duration.ofHours(value));
+                break;
+            case "m":
+                leadTimes.add(Duration.ofMinutes(value));
+                break;
+            default:
+                if (value != 0) {
+                    throw new DuchessException(ERROR_INVALID_REMINDER_LEAD_TIMES);
+                }
+                leadTimes.add(Duration.ZERO);
+            }
+        }
+        return leadTimes;
+    }
+
+    public List<Duration> getLeadTimes() {
+        return this.leadTimes;
+    }
+
+    public String getHookCommand() {
+        return this.hookCommand;
+    }
+
+    /**
+     * Returns whether any reminders should be sent.
+     *
+     * @return Whether there are any lead times.
+     */
+    public boolean isEnabled() {
+        return !this.leadTimes.isEmpty();
+    }
+
+    /**
+     * Returns a {@code ReminderScheduler} for these settings that sends reminders
+     * to the given listener, and to the hook command if there is one.
+     *
+     * @param listener {@code ReminderListener} that shows reminders to the user.
+     * @return New {@code ReminderScheduler}, which has not been started.
+     */
+    public ReminderScheduler createScheduler(ReminderListener listener) {
+        ReminderScheduler scheduler = new ReminderScheduler(this.leadTimes);
+        scheduler.addListener(listener);
+        if (this.hookCommand != null) {
+            scheduler.addListener(new ShellHookReminderListener(this.hookCommand));
+        }
+        return scheduler;
+    }
+
+    private static String getFlag(List<String> arguments, String flag) {
+        int index = arguments.indexOf(flag);
+        return index == -1 || index + 1 >= arguments.size() ? null : arguments.get(index + 1);
+    }
+}
@@ -0,0 +1,58 @@
+package duke.reminder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@code ShellHookReminderListener} runs a command with the system shell for
+ * every reminder, such as to show a desktop notification. The details of the
+ * reminder are passed in the environment variables {@code DUCHESS_TASK},
+ * {@code DUCHESS_DUE} (in ISO-8601 format), {@code DUCHESS_LEAD_MINUTES} and
+ * {@code DUCHESS_OVERDUE}. The command runs in the background, and its output
+ * goes to the output of Duchess.
+ */
+public class ShellHookReminderListener implements ReminderListener {
+    private static final Logger LOGGER = Logger.getLogger(ShellHookReminderListener.class.getName());
+
+    private final String command;
+
+    /**
+     * Initialises a {@code ShellHookReminderListener} that runs the given command.
+     *
+     * @param command Command to run with the system shell.
+     */
+    public ShellHookReminderListener(String command) {
+        this.command = command;
+    }
+
+    @Override
+    public void onReminder(Reminder reminder) {
+        ProcessBuilder processBuilder = createProcessBuilder(this.command);
+        Map<String, String> environment = processBuilder.environment();
+        environment.put("DUCHESS_TASK", reminder.getDeadline().getDescription());
+        environment.put("DUCHESS_DUE", reminder.getDueTime().toString());
+        environment.put("DUCHESS_LEAD_MINUTES", String.valueOf(reminder.getLeadTime().toMinutes()));
+        environment.put("DUCHESS_OVERDUE", String.valueOf(reminder.isOverdue()));
+        try {
+            processBuilder.inheritIO().start();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Failed to run reminder hook: " + this.command, e);
+        }
+    }
+
+    /**
+     * Returns a {@code ProcessBuilder} that runs the given command with the shell
+     * of the operating system.
+     *
+     * @param command Command to run.
+     * @return {@code ProcessBuilder} for the command.
+     */
+    static ProcessBuilder createProcessBuilder(String command) {
+        if (System.getProperty("os.name").toLowerCase().startsWith("windows")) {
+            return new ProcessBuilder("cmd", "/c", command);
+        }
+        return new ProcessBuilder("sh", "-c", command);
+    }
+}
@@ -0,0 +1,248 @@
+package duke.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * The {@code TimingWheel} is a hierarchical timing wheel that holds items until
+ * their expiry time. Time is divided into ticks, and each of the 6 levels of the
+ * wheel has 64 slots, where a slot of one level spans all 64 slots of the level
+ * below. With one-second ticks, the wheel covers over 2000 years.
+ *
+ * <p>An item is kept in the lowest level whose slot holds only its expiry tick and
+ * the ticks around it. Scheduling and cancelling take constant time, as each slot
+ * is a doubly linked list. Advancing by a tick only looks at the slot of that tick,
+ * and once every 64 ticks moves the items of one higher slot down a level, so no
+ * tick ever scans all of the scheduled items.
+ *
+ * <p>The {@code TimingWheel} is not thread-safe.
+ *
+ * @param <T> Type of the items held.
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 6;
+
+    private final long tickMillis;
+    private final Timeout<T>[][] slots;
+    private final Timeout<T> overflow;
+    private long currentTick;
+    private int size;
+
+    /**
+     * Initialises an empty {@code TimingWheel}.
+     *
+     * @param tickMillis Length of a tick in milliseconds, which must be positive.
+     * @param startTime  Current time in milliseconds.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public TimingWheel(long tickMillis, long startTime) {
+        assert tickMillis > 0;
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startTime, tickMillis);
+        this.slots = new Timeout[LEVEL_COUNT][SLOT_COUNT];
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                this.slots[level][slot] = Timeout.createSentinel();
+            }
+        }
+        this.overflow = Timeout.createSentinel();
+    }
+
+    /**
+     * Schedules an item to expire at the given time. An item whose time has
+     * already passed expires on the next tick.
+     *
+     * @param item       Item to hold.
+     * @param expiryTime Time in milliseconds at which the item expires.
+     * @return The {@code Timeout} that can be used to cancel the item.
+     */
+    public Timeout<T> schedule(T item, long expiryTime) {
+        long expiryTick = Math.max(Math.floorDiv(expiryTime, this.tickMillis), this.currentTick + 1);
+        Timeout<T> timeout = new Timeout<>(item, expiryTick);
+        this.insert(timeout, this.currentTick + 1);
+        this.size++;
+        return timeout;
+    }
+
+    /**
+     * Cancels the given timeout, if it has not expired or been cancelled yet.
+     *
+     * @param timeout {@code Timeout} to cancel.
+     * @return Whether the timeout was cancelled.
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        if (!timeout.isPending()) {
+            return false;
+        }
+        timeout.unlink();
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Cancels every timeout in the wheel.
+     */
+    public void clear() {
+        for (Timeout<T>[] level : this.slots) {
+            for (Timeout<T> sentinel : level) {
+                sentinel.unlinkAll();
+            }
+        }
+        this.overflow.unlinkAll();
+        this.size = 0;
+    }
+
+    /**
+     * Advances the wheel to the given time, passing every item that expires by
+     * then to {@code onExpired} in order of expiry.
+     *
+     * @param time      Current time in milliseconds.
+     * @param onExpired Receives each expired item.
+     */
+    public void advance(long time, Consumer<T> onExpired) {
+        long targetTick = Math.floorDiv(time, this.tickMillis);
+        while (this.currentTick < targetTick) {
+            if (this.size == 0) {
+                this.currentTick = targetTick;
+                return;
+            }
+            long tick = this.currentTick + 1;
+            this.cascade(tick);
+            Timeout<T> sentinel = this.slots[0][(int) (tick & SLOT_MASK)];
+            this.currentTick = tick;
+            while (sentinel.next != sentinel) {
+                Timeout<T> timeout = sentinel.next;
+                timeout.unlink();
+                this.size--;
+                onExpired.accept(timeout.item);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of items waiting to expire.
+     *
+     * @return Number of pending items.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    // Private helper methods
+
+    /**
+     * Moves the items in the slots that begin at the given tick down to the lower
+     * levels, starting from the highest such level so that items can move down
+     * more than one level.
+     *
+     * @param tick Tick that is about to be processed.
+     */
+    private void cascade(long tick) {
+        int highestLevel = 0;
+        while (highestLevel < LEVEL_COUNT && (tick & ((1L << (SLOT_BITS * (highestLevel + 1))) - 1)) == 0) {
+            highestLevel++;
+        }
+        if (highestLevel == LEVEL_COUNT) {
+            this.reinsertAll(this.overflow, tick);
+            highestLevel--;
+        }
+        for (int level = highestLevel; level > 0; level--) {
+            this.reinsertAll(this.slots[level][(int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK)], tick);
+        }
+    }
+
+    private void reinsertAll(Timeout<T> sentinel, long baseTick) {
+        while (sentinel.next != sentinel) {
+            Timeout<T> timeout = sentinel.next;
+            timeout.unlink();
+            this.insert(timeout, baseTick);
+        }
+    }
+
+    /**
+     * Adds the timeout to the lowest level in which its slot is reached from the
+     * given tick without wrapping around.
+     *
+     * @param timeout  {@code Timeout} to add, which expires no earlier than {@code baseTick}.
+     * @param baseTick Next tick to be processed.
+     */
+    private void insert(Timeout<T> timeout, long baseTick) {
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            if ((timeout.expiryTick >>> shift) == (baseTick >>> shift)) {
+                int slot = (int) ((timeout.expiryTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+                this.slots[level][slot].linkBefore(timeout);
+                return;
+            }
+        }
+        this.overflow.linkBefore(timeout);
+    }
+
+    /**
+     * The {@code Timeout} is an item scheduled in a {@code TimingWheel}, and is a
+     * node in the linked list of its slot.
+     *
+     * @param <T> Type of the item.
+     */
+    public static class Timeout<T> {
+        private final T item;
+        private final long expiryTick;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+
+        private Timeout(T item, long expiryTick) {
+            this.item = item;
+            this.expiryTick = expiryTick;
+        }
+
+        private static <T> Timeout<T> createSentinel() {
+            Timeout<T> sentinel = new Timeout<>(null, 0);
+            sentinel.previous = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        public T getItem() {
+            return this.item;
+        }
+
+        /**
+         * Returns whether the item is still waiting to expire.
+         *
+         * @return Whether the timeout is pending.
+         */
+        public boolean isPending() {
+            return this.next != null;
+        }
+
+        /**
+         * Adds the given timeout at the end of the list that this sentinel heads.
+         *
+         * @param timeout {@code Timeout} to add.
+         */
+        private void linkBefore(Timeout<T> timeout) {
+            timeout.previous = this.previous;
+            timeout.next = this;
+            this.previous.next = timeout;
+            this.previous = timeout;
+        }
+
+        private void unlink() {
+            this.previous.next = this.next;
+            this.next.previous = this.previous;
+            this.previous = null;
+            this.next = null;
+        }
+
+        /**
+         * Removes every timeout from the list that this sentinel heads.
+         */
+        private void unlinkAll() {
+            while (this.next != this) {
+                this.next.unlink();
+            }
+        }
+    }
+}
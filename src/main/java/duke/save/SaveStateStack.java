@@ -2,10 +2,15 @@ package duke.save;
 
 import java.util.ArrayList;
 
+import duke.metrics.CommandMetrics;
+import duke.metrics.CommandMetrics.Phase;
+import duke.metrics.UndoSnapshotEvent;
 import duke.task.TaskList;
 
 public class SaveStateStack {
     private ArrayList<SaveState> saveStates;
+    private String transactionCommand;
+    private boolean isTransactionSaved;
     public static final int MAX_SAVE_STATE_CAPACITY = 10;
 
     /**
@@ -36,6 +41,9 @@ public class SaveStateStack {
      * @return Latest save state.
      */
     public SaveState pop() {
+        if (this.isInTransaction()) {
+            return null; // Save states cannot be rewound halfway through a transaction.
+        }
         int lastIndex = this.saveStates.size() - 1;
         if (lastIndex == -1) {
             return null;
@@ -53,7 +61,66 @@ public class SaveStateStack {
      * @param taskList Task list before update.
      */
     public void saveState(String command, TaskList taskList) {
-        SaveState newSaveState = new SaveState(taskList, command);
-        this.push(newSaveState);
+        if (this.isInTransaction()) {
+            if (!this.isTransactionSaved) {
+                this.push(this.createSaveState(this.transactionCommand, taskList));
+                this.isTransactionSaved = true;
+            }
+        } else {
+            this.push(this.createSaveState(command, taskList));
+        }
+    }
+
+    /**
+     * Begins a transaction, during which all changes are grouped into a single save
+     * state labelled with the given command. The save state is only created when the
+     * first change is made, so a transaction with no changes leaves the stack as is.
+     *
+     * @param command Command that the whole transaction is undone as.
+     */
+    public void beginTransaction(String command) {
+        this.transactionCommand = command;
+        this.isTransactionSaved = false;
+    }
+
+    /**
+     * Ends the current transaction. Subsequent changes are saved individually again.
+     */
+    public void endTransaction() {
+        this.transactionCommand = null;
+        this.isTransactionSaved = false;
+    }
+
+    /**
+     * Returns whether a transaction is in progress.
+     *
+     * @return Whether a transaction is in progress.
+     */
+    public boolean isInTransaction() {
+        return this.transactionCommand != null;
+    }
+
+    /**
+     * Returns a new save state of the given task list. Copying the tasks is
+     * measured by {@code CommandMetrics} and recorded as an {@code UndoSnapshotEvent}.
+     *
+     * @param command  Command that the save state is undone as.
+     * @param taskList Task list to copy.
+     * @return New save state.
+     */
+    private SaveState createSaveState(String command, TaskList taskList) {
+        final long startTime = System.nanoTime();
+        UndoSnapshotEvent event = new UndoSnapshotEvent();
+        event.begin();
+        final SaveState saveState = new SaveState(taskList, command);
+        event.end();
+        CommandMetrics.recordPhase(Phase.SAVE_STATE, System.nanoTime() - startTime);
+        if (event.shouldCommit()) {
+            // Only the command word is recorded, so that task details stay out of recordings.
+            event.setCommand(command.trim().split("\\s", 2)[0]);
+            event.setTasksCloned(taskList.size() + taskList.archiveSize());
+            event.commit();
+        }
+        return saveState;
     }
 }
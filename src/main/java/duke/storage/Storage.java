@@ -3,19 +3,26 @@ package duke.storage;
 import static duke.util.MagicStrings.ERROR_FAIL_TO_LOAD;
 import static duke.util.MagicStrings.ERROR_FAIL_TO_LOAD_AND_SAVE;
 import static duke.util.MagicStrings.ERROR_FAIL_TO_SAVE;
+import static duke.util.MagicStrings.GSON_ATTR_CATCH_UPS;
 import static duke.util.MagicStrings.GSON_ATTR_COMPLETION_TIME;
 import static duke.util.MagicStrings.GSON_ATTR_CREATION_TIME;
 import static duke.util.MagicStrings.GSON_ATTR_DEADLINE;
 import static duke.util.MagicStrings.GSON_ATTR_DESCRIPTION;
+import static duke.util.MagicStrings.GSON_ATTR_END_TIME;
 import static duke.util.MagicStrings.GSON_ATTR_FREQUENCY;
 import static duke.util.MagicStrings.GSON_ATTR_IS_COMPLETED;
 import static duke.util.MagicStrings.GSON_ATTR_IS_COMPLETED_ON_TIME;
+import static duke.util.MagicStrings.GSON_ATTR_PRIORITY;
+import static duke.util.MagicStrings.GSON_ATTR_RECURRENCE;
 import static duke.util.MagicStrings.GSON_ATTR_REPEAT_END_TIME;
+import static duke.util.MagicStrings.GSON_ATTR_START_TIME;
+import static duke.util.MagicStrings.GSON_ATTR_TAGS;
 import static duke.util.MagicStrings.GSON_ATTR_TIME_FRAME;
+import static duke.util.StringCleaner.cleanAndLowerString;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
@@ -28,6 +35,13 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 
 import duke.exception.DuchessException;
+import duke.io.PriorityParser;
+import duke.io.RecurrenceRuleParser;
+import duke.io.TagParser;
+import duke.metrics.CommandMetrics;
+import duke.metrics.CommandMetrics.Phase;
+import duke.metrics.StorageSaveEvent;
+import duke.task.CatchUp;
 import duke.task.Deadline;
 import duke.task.Event;
 import duke.task.RecurringDeadline;
@@ -35,6 +49,7 @@ import duke.task.Task;
 import duke.task.TaskList;
 import duke.task.ToDo;
 import duke.util.Frequency;
+import duke.util.RecurrenceRule;
 
 /**
  * The {@code Storage} class helps to save and load @{code ArrayList}s of
@@ -43,6 +58,8 @@ import duke.util.Frequency;
 public class Storage {
     private String filePath;
     private Gson gson;
+    private boolean isSaveDeferred;
+    private boolean hasPendingSave;
 
     /**
      * Initialises a {@code Storage} instance that works with the given
@@ -64,16 +81,38 @@ public class Storage {
      * @throws DuchessException If it fails to save to the file path.
      */
     public void save(TaskList tasks) throws DuchessException {
-        try {
-            FileWriter fileWriter = new FileWriter(this.filePath);
-            Task[] taskArray = tasks.getTaskArray().toArray(new Task[tasks.size()]);
-            Task[] archiveArray = tasks.getArchiveArray().toArray(new Task[tasks.archiveSize()]);
-            StorageContainer storageContainer = new StorageContainer(taskArray, archiveArray);
-            fileWriter.write(this.gson.toJson(storageContainer, StorageContainer.class));
-            fileWriter.close();
-        } catch (IOException e) {
-            throw new DuchessException(ERROR_FAIL_TO_SAVE);
+        if (this.isSaveDeferred) {
+            this.hasPendingSave = true;
+            return;
+        }
+        this.write(tasks, StorageSaveEvent.MODE_IMMEDIATE);
+    }
+
+    /**
+     * Defers all subsequent saves until {@code commit} is called, so that a batch of
+     * changes only writes to the save file once.
+     */
+    public void deferSaves() {
+        this.isSaveDeferred = true;
+        this.hasPendingSave = false;
+    }
+
+    /**
+     * Stops deferring saves and writes the given list of tasks to the file path if
+     * any save was deferred.
+     *
+     * @param tasks List of tasks to be saved.
+     * @return Whether the save file was written to.
+     * @throws DuchessException If it fails to save to the file path.
+     */
+    public boolean commit(TaskList tasks) throws DuchessException {
+        this.isSaveDeferred = false;
+        if (!this.hasPendingSave) {
+            return false;
         }
+        this.hasPendingSave = false;
+        this.write(tasks, StorageSaveEvent.MODE_BATCH);
+        return true;
     }
 
     /**
@@ -97,6 +136,36 @@ public class Storage {
 
     // Private helper methods
 
+    /**
+     * Writes the given list of tasks to the file path as UTF-8, the encoding it is
+     * loaded with. The write is measured by {@code CommandMetrics} and recorded as a
+     * {@code StorageSaveEvent}.
+     *
+     * @param tasks List of tasks to be saved.
+     * @param mode  Mode of the save, for the {@code StorageSaveEvent}.
+     * @throws DuchessException If it fails to save to the file path.
+     */
+    private void write(TaskList tasks, String mode) throws DuchessException {
+        final long startTime = System.nanoTime();
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        try {
+            Task[] taskArray = tasks.getTaskArray().toArray(new Task[tasks.size()]);
+            Task[] archiveArray = tasks.getArchiveArray().toArray(new Task[tasks.archiveSize()]);
+            StorageContainer storageContainer = new StorageContainer(taskArray, archiveArray);
+            byte[] data = this.gson.toJson(storageContainer, StorageContainer.class).getBytes(StandardCharsets.UTF_8);
+            Files.write(Path.of(this.filePath), data);
+            event.setBytesWritten(data.length);
+            event.setSuccessful(true);
+        } catch (IOException e) {
+            throw new DuchessException(ERROR_FAIL_TO_SAVE);
+        } finally {
+            CommandMetrics.recordPhase(Phase.STORAGE_SAVE, System.nanoTime() - startTime);
+            event.setMode(mode);
+            event.commit();
+        }
+    }
+
     private JsonObject readDataFromFilePath() throws IOException {
         String fileContent = Files.readString(Path.of(this.filePath));
         return JsonParser.parseString(fileContent).getAsJsonObject();
@@ -107,50 +176,110 @@ public class Storage {
         JsonArray tasksJsonArray = jsonArray.getAsJsonArray(keyword);
         for (int i = 0; i < tasksJsonArray.size(); i++) {
             JsonObject taskToCheck = (JsonObject) tasksJsonArray.get(i);
+            Task task;
             if (taskToCheck.has(GSON_ATTR_FREQUENCY) && taskToCheck.has(GSON_ATTR_DEADLINE)) {
-                // Task is a RecurringDeadline
-                if (taskToCheck.has(GSON_ATTR_REPEAT_END_TIME)) {
-                    tasks.add(new RecurringDeadline(
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_DEADLINE), LocalDateTime.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_FREQUENCY), Frequency.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_REPEAT_END_TIME), LocalDateTime.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED), boolean.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_CREATION_TIME), LocalDateTime.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_COMPLETION_TIME), LocalDateTime.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED_ON_TIME), boolean.class)));
-                } else {
-                    tasks.add(new RecurringDeadline(
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_DEADLINE), LocalDateTime.class),
-                            this.gson.fromJson(taskToCheck.get(GSON_ATTR_FREQUENCY), Frequency.class)));
-                }
+                // Task is a RecurringDeadline, with no repeat end time if the attribute is missing
+                task = new RecurringDeadline(
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_DEADLINE), LocalDateTime.class),
+                        this.readRecurrenceRule(taskToCheck),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_REPEAT_END_TIME), LocalDateTime.class),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED), boolean.class),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_CREATION_TIME), LocalDateTime.class),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_COMPLETION_TIME), LocalDateTime.class),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED_ON_TIME), boolean.class),
+                        this.readCatchUps(taskToCheck));
             } else if (taskToCheck.has(GSON_ATTR_DEADLINE)) {
                 // Task is a Deadline
-                tasks.add(new Deadline(this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
+                task = new Deadline(this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_DEADLINE), LocalDateTime.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED), boolean.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_CREATION_TIME), LocalDateTime.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_COMPLETION_TIME), LocalDateTime.class),
-                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED_ON_TIME), boolean.class)));
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED_ON_TIME), boolean.class));
             } else if (taskToCheck.has(GSON_ATTR_TIME_FRAME)) {
                 // Task is an Event
-                tasks.add(new Event(this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
+                task = new Event(this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_TIME_FRAME), String.class),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_START_TIME), LocalDateTime.class),
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_END_TIME), LocalDateTime.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED), boolean.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_CREATION_TIME), LocalDateTime.class),
-                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_COMPLETION_TIME), LocalDateTime.class)));
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_COMPLETION_TIME), LocalDateTime.class));
             } else {
                 // Task is a ToDo
-                tasks.add(new ToDo(this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
+                task = new ToDo(this.gson.fromJson(taskToCheck.get(GSON_ATTR_DESCRIPTION), String.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_IS_COMPLETED), boolean.class),
                         this.gson.fromJson(taskToCheck.get(GSON_ATTR_CREATION_TIME), LocalDateTime.class),
-                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_COMPLETION_TIME), LocalDateTime.class)));
+                        this.gson.fromJson(taskToCheck.get(GSON_ATTR_COMPLETION_TIME), LocalDateTime.class));
             }
+            task.setTags(this.readTags(taskToCheck, task));
+            task.setPriority(this.readPriority(taskToCheck, task));
+            tasks.add(task);
         }
         return tasks;
     }
 
+    /**
+     * Returns the {@code RecurrenceRule} of a saved {@code RecurringDeadline}. Save
+     * files from before recurrence rules were supported only have a {@code Frequency}.
+     *
+     * @param taskToCheck Saved {@code RecurringDeadline}.
+     * @return The rule of the deadline.
+     * @throws DuchessException If the saved rule is of the wrong format.
+     */
+    private RecurrenceRule readRecurrenceRule(JsonObject taskToCheck) throws DuchessException {
+        if (taskToCheck.has(GSON_ATTR_RECURRENCE)) {
+            return RecurrenceRuleParser.parseRecurrenceRule(
+                    cleanAndLowerString(this.gson.fromJson(taskToCheck.get(GSON_ATTR_RECURRENCE), String.class)));
+        }
+        return RecurrenceRule.of(this.gson.fromJson(taskToCheck.get(GSON_ATTR_FREQUENCY), Frequency.class));
+    }
+
+    /**
+     * Returns the times a saved {@code RecurringDeadline} was caught up on, which save
+     * files from before catching up was supported do not have.
+     *
+     * @param taskToCheck Saved {@code RecurringDeadline}.
+     * @return The catch ups of the deadline.
+     */
+    private List<CatchUp> readCatchUps(JsonObject taskToCheck) {
+        if (!taskToCheck.has(GSON_ATTR_CATCH_UPS)) {
+            return List.of();
+        }
+        return List.of(this.gson.fromJson(taskToCheck.get(GSON_ATTR_CATCH_UPS), CatchUp[].class));
+    }
+
+    /**
+     * Returns the tags of a saved {@code Task}. Save files from before tags were
+     * supported do not have them, so they are taken from the description instead.
+     *
+     * @param taskToCheck Saved {@code Task}.
+     * @param task        {@code Task} read from the save file.
+     * @return The tags of the task.
+     */
+    private List<String> readTags(JsonObject taskToCheck, Task task) {
+        if (!taskToCheck.has(GSON_ATTR_TAGS)) {
+            return TagParser.parseTags(task.getDescription());
+        }
+        return List.of(this.gson.fromJson(taskToCheck.get(GSON_ATTR_TAGS), String[].class));
+    }
+
+    /**
+     * Returns the priority of a saved {@code Task}. Save files from before priorities
+     * were supported do not have them, so they are taken from the description instead.
+     *
+     * @param taskToCheck Saved {@code Task}.
+     * @param task        {@code Task} read from the save file.
+     * @return The priority of the task.
+     */
+    private int readPriority(JsonObject taskToCheck, Task task) {
+        if (!taskToCheck.has(GSON_ATTR_PRIORITY)) {
+            return PriorityParser.parsePriority(task.getDescription());
+        }
+        return this.gson.fromJson(taskToCheck.get(GSON_ATTR_PRIORITY), int.class);
+    }
+
     private boolean isAbleToSave() throws DuchessException {
         File file = new File(this.filePath);
         File directories = file.getParentFile();
@@ -0,0 +1,96 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * The {@code AgendaIterator} goes through the deadlines of every incomplete
+ * {@code Deadline} in a list that fall within a time window, in order of time,
+ * with ties in the order of the list.
+ *
+ * <p>Each {@code Deadline} works out its own deadlines lazily, and the iterator
+ * merges them with a heap that holds only the next deadline of each task. Going
+ * through {@code m} occurrences of {@code n} tasks takes {@code O((n + m) log n)}
+ * time, and the occurrences are never all held in memory at once.
+ */
+public class AgendaIterator implements Iterator<Occurrence> {
+    private final LocalDateTime to;
+    private final PriorityQueue<Cursor> cursors;
+
+    /**
+     * Initialises an {@code AgendaIterator} over the given tasks. The tasks must not
+     * change while they are iterated over.
+     *
+     * @param tasks Tasks to go through.
+     * @param from  Start of the window, inclusive.
+     * @param to    End of the window, inclusive.
+     */
+    public AgendaIterator(List<Task> tasks, LocalDateTime from, LocalDateTime to) {
+        this.to = to;
+        List<Cursor> firstCursors = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (!(task instanceof Deadline) || task.isCompleted()) {
+                continue;
+            }
+            Deadline deadline = (Deadline) task;
+            Iterator<LocalDateTime> dueTimes = deadline.getDeadlinesFrom(from);
+            if (dueTimes.hasNext()) {
+                Cursor cursor = new Cursor(deadline, i, dueTimes, dueTimes.next());
+                if (!cursor.dueTime.isAfter(to)) {
+                    firstCursors.add(cursor);
+                }
+            }
+        }
+        // Building the heap from all of the cursors at once takes linear time.
+        this.cursors = new PriorityQueue<>(firstCursors);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !this.cursors.isEmpty();
+    }
+
+    @Override
+    public Occurrence next() {
+        Cursor cursor = this.cursors.poll();
+        if (cursor == null) {
+            throw new NoSuchElementException();
+        }
+        Occurrence occurrence = new Occurrence(cursor.deadline, cursor.index, cursor.dueTime);
+        if (cursor.dueTimes.hasNext()) {
+            cursor.dueTime = cursor.dueTimes.next();
+            if (!cursor.dueTime.isAfter(this.to)) {
+                this.cursors.add(cursor);
+            }
+        }
+        return occurrence;
+    }
+
+    /**
+     * The {@code Cursor} holds the next deadline of one task.
+     */
+    private static class Cursor implements Comparable<Cursor> {
+        private final Deadline deadline;
+        private final int index;
+        private final Iterator<LocalDateTime> dueTimes;
+        private LocalDateTime dueTime;
+
+        Cursor(Deadline deadline, int index, Iterator<LocalDateTime> dueTimes, LocalDateTime dueTime) {
+            this.deadline = deadline;
+            this.index = index;
+            this.dueTimes = dueTimes;
+            this.dueTime = dueTime;
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            int comparison = this.dueTime.compareTo(other.dueTime);
+            return comparison != 0 ? comparison : Integer.compare(this.index, other.index);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * The {@code CatchUp} class records a time a {@code RecurringDeadline} was caught
+ * up on, along with the number of overdue deadlines it skipped. {@code CatchUp}s
+ * are immutable.
+ */
+public class CatchUp {
+    private final LocalDateTime time;
+    private final int numOfSkipped;
+
+    /**
+     * Initialises a {@code CatchUp}.
+     *
+     * @param time         Time the deadline was caught up on.
+     * @param numOfSkipped Number of overdue deadlines skipped.
+     */
+    public CatchUp(LocalDateTime time, int numOfSkipped) {
+        this.time = time;
+        this.numOfSkipped = numOfSkipped;
+    }
+
+    public LocalDateTime getTime() {
+        return this.time;
+    }
+
+    public int getNumOfSkipped() {
+        return this.numOfSkipped;
+    }
+}
@@ -2,6 +2,9 @@ package duke.task;
 
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 import duke.exception.DuchessException;
 import duke.util.DateTimeStringFormatter;
@@ -66,10 +69,36 @@ public class Deadline extends Task {
         this.deadline = this.deadline.plus(snoozePeriod);
     }
 
+    /**
+     * Returns the deadlines of the {@code Deadline} from the given time onwards, in
+     * order. A {@code Deadline} has a single deadline, while a recurring one may go
+     * on forever, so the deadlines are worked out lazily as they are iterated.
+     *
+     * @param from Earliest deadline to return.
+     * @return Iterator over the deadlines.
+     */
+    public Iterator<LocalDateTime> getDeadlinesFrom(LocalDateTime from) {
+        if (this.deadline.isBefore(from)) {
+            return Collections.emptyIterator();
+        }
+        return List.of(this.deadline).iterator();
+    }
+
+    /**
+     * Returns the {@code Deadline} formatted as if it were due at the given time,
+     * such as for one occurrence of a recurring deadline.
+     *
+     * @param dueTime Time to show as the deadline.
+     * @return Formatted {@code Deadline}.
+     */
+    public String toStringDueAt(LocalDateTime dueTime) {
+        return DEADLINE_SYMBOL + super.toString() + " (by: "
+                + DateTimeStringFormatter.formatDateTime(dueTime, this.isCompleted) + ")";
+    }
+
     @Override
     public String toString() {
-        return DEADLINE_SYMBOL + super.toString() + " (by: "
-                + DateTimeStringFormatter.formatDateTime(this.deadline, this.isCompleted) + ")";
+        return this.toStringDueAt(this.deadline);
     }
 
     @Override
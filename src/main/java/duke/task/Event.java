@@ -6,11 +6,15 @@ import duke.exception.DuchessException;
 
 /**
  * The {@code Event} class extends from {@code Task} to allow
- * the setting of a {@code String timeFrame}.
+ * the setting of a {@code String timeFrame}. A time frame made up of times also
+ * has the times that the {@code Event} starts and ends, so that it can be found by
+ * time.
  */
 public class Event extends Task {
     private static final String EVENT_SYMBOL = "[E]";
     private String timeFrame;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
 
     /**
      * Initialises the {@code Event} instance with its description
@@ -25,8 +29,25 @@ public class Event extends Task {
     }
 
     /**
-     * Initialises the {@code Event} instance with all of its information. Mainly used
-     * by {@code Storage} to regenerate instances.
+     * Initialises the {@code Event} instance with its description, timeFrame and the
+     * times that it starts and ends.
+     *
+     * @param description Written description of the task.
+     * @param timeFrame   {@code String} indicating the timeFrame of the task.
+     * @param startTime   {@code LocalDateTime} object indicating when the event starts.
+     * @param endTime     {@code LocalDateTime} object indicating when the event ends,
+     *                    which must be after it starts.
+     */
+    public Event(String description, String timeFrame, LocalDateTime startTime, LocalDateTime endTime) {
+        this(description, timeFrame);
+        assert startTime.isBefore(endTime);
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    /**
+     * Initialises the {@code Event} instance with its description, timeFrame and
+     * completion status, with no times that it starts and ends.
      *
      * @param description    Written description of the task.
      * @param timeFrame      {@code String} indicating the timeFrame of the task.
@@ -38,8 +59,33 @@ public class Event extends Task {
      */
     public Event(String description, String timeFrame, boolean isCompleted,
                  LocalDateTime creationTime, LocalDateTime completionTime) {
+        this(description, timeFrame, null, null, isCompleted, creationTime, completionTime);
+    }
+
+    /**
+     * Initialises the {@code Event} instance with all of its information. Mainly used
+     * by {@code Storage} to regenerate instances.
+     *
+     * @param description    Written description of the task.
+     * @param timeFrame      {@code String} indicating the timeFrame of the task.
+     * @param startTime      {@code LocalDateTime} object indicating when the event starts,
+     *                       or {@code null} if the time frame is not made up of times.
+     * @param endTime        {@code LocalDateTime} object indicating when the event ends,
+     *                       or {@code null} if the time frame is not made up of times.
+     * @param isCompleted    {@code boolean} value indicating whether the task is completed.
+     * @param creationTime   {@code LocalDateTime} object indicating the time of creation of
+     *                       the task.
+     * @param completionTime {@code LocalDateTime} object indicating the time of
+     *                       completion of the task.
+     */
+    public Event(String description, String timeFrame, LocalDateTime startTime, LocalDateTime endTime,
+                 boolean isCompleted, LocalDateTime creationTime, LocalDateTime completionTime) {
         super(description, isCompleted, creationTime, completionTime);
         this.timeFrame = timeFrame;
+        if (startTime != null && endTime != null && startTime.isBefore(endTime)) {
+            this.startTime = startTime;
+            this.endTime = endTime;
+        }
     }
 
     /**
@@ -51,6 +97,35 @@ public class Event extends Task {
         return timeFrame;
     }
 
+    public LocalDateTime getStartTime() {
+        return this.startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return this.endTime;
+    }
+
+    /**
+     * Returns whether the {@code Event} has times that it starts and ends.
+     *
+     * @return Whether the time frame was made up of times.
+     */
+    public boolean isScheduled() {
+        return this.startTime != null;
+    }
+
+    /**
+     * Returns whether the {@code Event} takes place at any time from {@code from} until
+     * before {@code to}. An {@code Event} that is not scheduled never does.
+     *
+     * @param from Start of the period, inclusive.
+     * @param to   End of the period, exclusive.
+     * @return Whether the {@code Event} overlaps the period.
+     */
+    public boolean isDuring(LocalDateTime from, LocalDateTime to) {
+        return this.isScheduled() && this.startTime.isBefore(to) && this.endTime.isAfter(from);
+    }
+
     @Override
     public String toString() {
         return EVENT_SYMBOL + super.toString() + " (at: " + this.timeFrame + ")";
@@ -60,6 +135,8 @@ public class Event extends Task {
     protected Object clone() throws DuchessException {
         Event clonedEvent = (Event) super.clone();
         clonedEvent.timeFrame = this.timeFrame; // String is immutable
+        clonedEvent.startTime = this.startTime; // LocalDateTime is immutable
+        clonedEvent.endTime = this.endTime;
         return clonedEvent;
     }
 }
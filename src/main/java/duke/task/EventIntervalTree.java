@@ -0,0 +1,214 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * The {@code EventIntervalTree} indexes scheduled {@code Event}s by the times they
+ * take place, so that the events during a period can be found without going
+ * through every task.
+ *
+ * <p>The tree is a treap ordered by start time, where each node also keeps the
+ * latest end time in its subtree. A search skips any subtree that ends before the
+ * period, and everything to the right of an event starting after it. A search
+ * still walks down to each of the {@code k} events it finds, so finding them takes
+ * expected {@code O(k log(n / k) + log n)} time, which is {@code O(log n)} for a
+ * handful of events and {@code O(n)} at worst. Adding and removing an event take
+ * expected {@code O(log n)} time.
+ */
+public class EventIntervalTree {
+    private final Map<Event, Node> nodes = new IdentityHashMap<>();
+    private final Random random = new Random();
+    private Node root;
+    private long nextSequence;
+
+    /**
+     * Adds a scheduled {@code Event} to the tree. Adding an {@code Event} that is
+     * already in the tree does nothing.
+     *
+     * @param event Scheduled {@code Event} to add.
+     */
+    public void add(Event event) {
+        assert event.isScheduled();
+        if (this.nodes.containsKey(event)) {
+            return;
+        }
+        Node node = new Node(event, this.nextSequence++, this.random.nextInt());
+        this.nodes.put(event, node);
+        this.root = insert(this.root, node);
+    }
+
+    /**
+     * Removes an {@code Event} from the tree, if it is there.
+     *
+     * @param event {@code Event} to remove.
+     */
+    public void remove(Event event) {
+        Node node = this.nodes.remove(event);
+        if (node != null) {
+            this.root = delete(this.root, node);
+        }
+    }
+
+    /**
+     * Removes every {@code Event} from the tree.
+     */
+    public void clear() {
+        this.nodes.clear();
+        this.root = null;
+    }
+
+    /**
+     * Returns the number of {@code Event}s in the tree.
+     *
+     * @return Number of {@code Event}s.
+     */
+    public int size() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Returns the {@code Event}s that take place at any time from {@code from} until
+     * before {@code to}, in order of when they start, with ties in the order they
+     * were added.
+     *
+     * @param from Start of the period, inclusive.
+     * @param to   End of the period, exclusive.
+     * @return {@code Event}s during the period.
+     */
+    public List<Event> findDuring(LocalDateTime from, LocalDateTime to) {
+        List<Event> events = new ArrayList<>();
+        collect(this.root, from, to, events);
+        return events;
+    }
+
+    // Private helper methods
+
+    private static void collect(Node node, LocalDateTime from, LocalDateTime to, List<Event> events) {
+        if (node == null || !node.maxEnd.isAfter(from)) {
+            return; // Every event in this subtree has ended by the start of the period.
+        }
+        collect(node.left, from, to, events);
+        if (!node.start.isBefore(to)) {
+            return; // This event and every event to its right start after the period.
+        }
+        if (node.end.isAfter(from)) {
+            events.add(node.event);
+        }
+        collect(node.right, from, to, events);
+    }
+
+    private static Node insert(Node root, Node node) {
+        if (root == null) {
+            return node;
+        }
+        if (node.compareTo(root) < 0) {
+            root.left = insert(root.left, node);
+            if (root.left.priority > root.priority) {
+                root = rotateRight(root);
+            }
+        } else {
+            root.right = insert(root.right, node);
+            if (root.right.priority > root.priority) {
+                root = rotateLeft(root);
+            }
+        }
+        root.update();
+        return root;
+    }
+
+    private static Node delete(Node root, Node node) {
+        assert root != null;
+        if (root == node) {
+            return merge(root.left, root.right);
+        }
+        if (node.compareTo(root) < 0) {
+            root.left = delete(root.left, node);
+        } else {
+            root.right = delete(root.right, node);
+        }
+        root.update();
+        return root;
+    }
+
+    /**
+     * Returns the treap made up of two treaps, where every node of {@code left} comes
+     * before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        return newRoot;
+    }
+
+    /**
+     * The {@code Node} holds one {@code Event}, ordered by its start time and then by
+     * when it was added, along with the latest end time in its subtree.
+     */
+    private static class Node implements Comparable<Node> {
+        private final Event event;
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final long sequence;
+        private final int priority;
+        private LocalDateTime maxEnd;
+        private Node left;
+        private Node right;
+
+        Node(Event event, long sequence, int priority) {
+            this.event = event;
+            this.start = event.getStartTime();
+            this.end = event.getEndTime();
+            this.sequence = sequence;
+            this.priority = priority;
+            this.maxEnd = this.end;
+        }
+
+        void update() {
+            this.maxEnd = this.end;
+            if (this.left != null && this.left.maxEnd.isAfter(this.maxEnd)) {
+                this.maxEnd = this.left.maxEnd;
+            }
+            if (this.right != null && this.right.maxEnd.isAfter(this.maxEnd)) {
+                this.maxEnd = this.right.maxEnd;
+            }
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int byStart = this.start.compareTo(other.start);
+            return byStart != 0 ? byStart : Long.compare(this.sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+
+/**
+ * The {@code Occurrence} class holds one deadline of a {@code Deadline}, along
+ * with the position of the {@code Deadline} in the task list. A recurring
+ * deadline has an {@code Occurrence} for every time it is due.
+ */
+public class Occurrence {
+    private final Deadline deadline;
+    private final int index;
+    private final LocalDateTime dueTime;
+
+    /**
+     * Initialises an {@code Occurrence}.
+     *
+     * @param deadline {@code Deadline} that is due.
+     * @param index    Zero-based index of the {@code Deadline} in the task list.
+     * @param dueTime  Time at which it is due.
+     */
+    public Occurrence(Deadline deadline, int index, LocalDateTime dueTime) {
+        this.deadline = deadline;
+        this.index = index;
+        this.dueTime = dueTime;
+    }
+
+    public Deadline getDeadline() {
+        return this.deadline;
+    }
+
+    public int getIndex() {
+        return this.index;
+    }
+
+    public LocalDateTime getDueTime() {
+        return this.dueTime;
+    }
+
+    @Override
+    public String toString() {
+        return this.deadline.toStringDueAt(this.dueTime);
+    }
+}
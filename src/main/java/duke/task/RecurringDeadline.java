@@ -1,16 +1,24 @@
 package duke.task;
 
-import static duke.util.MagicStrings.ERROR_RECURRING_TASK_MISSING_DEADLINE;
-
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 
 import duke.exception.DuchessException;
 import duke.util.Frequency;
+import duke.util.Pair;
+import duke.util.RecurrenceRule;
 
 public class RecurringDeadline extends Deadline {
+    // Kept alongside the rule so that the closest frequency is saved for older versions.
     private Frequency frequency;
+    private String recurrence;
     private LocalDateTime repeatEndTime;
+    private ArrayList<CatchUp> catchUps = new ArrayList<>();
+    private transient RecurrenceRule rule;
 
     /**
      * Initialises the {@code RecurringDeadline} instance with its description, deadline and
@@ -22,8 +30,7 @@ public class RecurringDeadline extends Deadline {
      * @param frequency   {@code Frequency} of the deadline.
      */
     public RecurringDeadline(String description, LocalDateTime deadline, Frequency frequency) {
-        super(description, deadline);
-        this.frequency = frequency;
+        this(description, deadline, RecurrenceRule.of(frequency));
     }
 
     /**
@@ -38,9 +45,7 @@ public class RecurringDeadline extends Deadline {
      */
     public RecurringDeadline(String description, LocalDateTime deadline, Frequency frequency,
                              LocalDateTime repeatEndTime) {
-        super(description, deadline);
-        this.frequency = frequency;
-        this.repeatEndTime = repeatEndTime;
+        this(description, deadline, RecurrenceRule.of(frequency), repeatEndTime);
     }
 
     /**
@@ -59,56 +64,156 @@ public class RecurringDeadline extends Deadline {
     public RecurringDeadline(String description, LocalDateTime deadline, Frequency frequency,
                              LocalDateTime repeatEndTime, boolean isCompleted, LocalDateTime creationTime,
                              LocalDateTime completionTime, boolean isCompletedOnTime) {
+        this(description, deadline, RecurrenceRule.of(frequency), repeatEndTime, isCompleted, creationTime,
+                completionTime, isCompletedOnTime, List.of());
+    }
+
+    /**
+     * Initialises the {@code RecurringDeadline} instance with its description, first
+     * deadline and the rule it repeats by.
+     *
+     * @param description Written description of the task.
+     * @param deadline    {@code LocalDateTime} object indicating the first deadline of
+     *                    the task.
+     * @param rule        {@code RecurrenceRule} of the deadline.
+     */
+    public RecurringDeadline(String description, LocalDateTime deadline, RecurrenceRule rule) {
+        super(description, deadline);
+        this.setRule(rule);
+    }
+
+    /**
+     * Initialises the {@code RecurringDeadline} instance with its description, first
+     * deadline, the rule it repeats by and the time to stop repeating.
+     *
+     * @param description   Written description of the task.
+     * @param deadline      {@code LocalDateTime} object indicating the first deadline of
+     *                      the task.
+     * @param rule          {@code RecurrenceRule} of the deadline.
+     * @param repeatEndTime {@code LocalDateTime} object indicating the time to stop repeating.
+     */
+    public RecurringDeadline(String description, LocalDateTime deadline, RecurrenceRule rule,
+                             LocalDateTime repeatEndTime) {
+        this(description, deadline, rule);
+        this.repeatEndTime = repeatEndTime;
+    }
+
+    /**
+     * Initialises the {@code RecurringDeadline} instance with all of its information and
+     * the rule it repeats by. Mainly used by {@code Storage} to regenerate instances.
+     *
+     * @param description    Written description of the task.
+     * @param deadline       {@code LocalDateTime} object indicating the deadline of
+     *                       the task.
+     * @param rule           {@code RecurrenceRule} of the deadline, counted from {@code deadline}.
+     * @param repeatEndTime  {@code LocalDateTime} object indicating the time to stop repeating,
+     *                       or {@code null} if there is none.
+     * @param isCompleted    State of completion of the deadline.
+     * @param completionTime {@code LocalDateTime} object indicating the time of
+     *                       completion of the task.
+     * @param catchUps       Times the deadline was caught up on.
+     */
+    public RecurringDeadline(String description, LocalDateTime deadline, RecurrenceRule rule,
+                             LocalDateTime repeatEndTime, boolean isCompleted, LocalDateTime creationTime,
+                             LocalDateTime completionTime, boolean isCompletedOnTime, List<CatchUp> catchUps) {
         super(description, deadline, isCompleted, creationTime, completionTime, isCompletedOnTime);
-        this.frequency = frequency;
+        this.setRule(rule);
         this.repeatEndTime = repeatEndTime;
+        this.catchUps.addAll(catchUps);
     }
 
     @Override
-    public String toString() {
-        return super.toString() + " (" + this.getFrequency() + ")";
+    public String toStringDueAt(LocalDateTime dueTime) {
+        return super.toStringDueAt(dueTime) + " (" + this.rule.describe() + ")";
     }
 
     @Override
     protected Object clone() throws DuchessException {
         RecurringDeadline clonedRecurringDeadline = (RecurringDeadline) super.clone();
-        clonedRecurringDeadline.frequency = this.frequency; // The Frequency enum is immutable
+        clonedRecurringDeadline.setRule(this.rule); // The RecurrenceRule is immutable
         clonedRecurringDeadline.repeatEndTime = this.repeatEndTime; // LocalDateTime is immutable
+        clonedRecurringDeadline.catchUps = new ArrayList<>(this.catchUps); // CatchUps are immutable
         return clonedRecurringDeadline;
     }
 
     @Override
     public void completeTask() {
-        LocalDateTime nextDeadline;
-        switch (this.frequency) {
-        case DAILY:
-            nextDeadline = this.deadline.plusDays(1);
-            break;
-        case WEEKLY:
-            nextDeadline = this.deadline.plusWeeks(1);
-            break;
-        case FORTNIGHTLY:
-            nextDeadline = this.deadline.plusWeeks(2);
-            break;
-        case MONTHLY:
-            nextDeadline = this.deadline.plusMonths(1);
-            break;
-        default:
-            throw new DuchessException(ERROR_RECURRING_TASK_MISSING_DEADLINE);
-        }
-        if (repeatEndTime == null || nextDeadline.isBefore(repeatEndTime)) {
-            this.deadline = nextDeadline;
+        Iterator<LocalDateTime> deadlines = this.getDeadlinesFrom(this.deadline);
+        deadlines.next(); // The current deadline
+        if (deadlines.hasNext()) {
+            this.deadline = deadlines.next();
+            this.setRule(this.rule.afterOccurrences(1));
             return;
         }
         super.completeTask();
     }
 
+    /**
+     * Skips every deadline before {@code now} at once, moving the
+     * {@code RecurringDeadline} on to its first deadline after {@code now}. The
+     * deadlines skipped are worked out from the rule rather than one at a time. If
+     * the deadline stops repeating before {@code now}, its last deadline is completed
+     * instead of skipped.
+     *
+     * @param now Time to catch up to, which must be after the current deadline.
+     * @return Number of deadlines skipped.
+     */
+    public int catchUp(LocalDateTime now) {
+        assert !this.isCompleted && this.deadline.isBefore(now);
+        // Deadlines from the repeat end time onwards never happen, so they are not counted.
+        LocalDateTime catchUpTime = this.repeatEndTime != null && this.repeatEndTime.isBefore(now)
+                ? this.repeatEndTime : now;
+        Pair<LocalDateTime, Integer> nextDeadline = this.rule.skipTo(this.deadline, catchUpTime);
+        int numOfSkipped = nextDeadline.getSecond();
+        if (nextDeadline.getFirst() != null && this.isRepeatedAt(nextDeadline.getFirst())) {
+            this.deadline = nextDeadline.getFirst();
+            this.setRule(this.rule.afterOccurrences(numOfSkipped));
+        } else {
+            numOfSkipped = Math.max(numOfSkipped - 1, 0);
+            super.completeTask();
+        }
+        if (numOfSkipped > 0) {
+            this.catchUps.add(new CatchUp(now, numOfSkipped));
+        }
+        return numOfSkipped;
+    }
+
+    /**
+     * Returns the number of deadlines skipped by catching up after the given time.
+     *
+     * @param startTime Time to count from.
+     * @return Number of deadlines skipped.
+     */
+    public int getNumOfSkippedAfter(LocalDateTime startTime) {
+        int numOfSkipped = 0;
+        for (CatchUp catchUp : this.catchUps) {
+            if (catchUp.getTime().isAfter(startTime)) {
+                numOfSkipped += catchUp.getNumOfSkipped();
+            }
+        }
+        return numOfSkipped;
+    }
+
+    /**
+     * Returns the deadlines of the {@code RecurringDeadline} from the given time
+     * onwards, starting from its current deadline and stopping at its repeat end
+     * time, if any. Whole periods of the rule before {@code from} are skipped over.
+     *
+     * @param from Earliest deadline to return.
+     * @return Iterator over the deadlines.
+     */
+    @Override
+    public Iterator<LocalDateTime> getDeadlinesFrom(LocalDateTime from) {
+        return new DeadlineIterator(this.rule.iterator(this.deadline, from));
+    }
+
     @Override
     public void snooze(TemporalAmount snoozePeriod) {
         super.snooze(snoozePeriod);
         if (this.repeatEndTime != null) {
             this.repeatEndTime = this.repeatEndTime.plus(snoozePeriod);
         }
+        this.setRule(this.rule.withUntilPushedBack(snoozePeriod));
     }
 
     /**
@@ -120,19 +225,62 @@ public class RecurringDeadline extends Deadline {
         return this.repeatEndTime;
     }
 
+    /**
+     * Returns the {@code RecurrenceRule} of the {@code RecurringDeadline}, counted
+     * from its current deadline.
+     *
+     * @return The rule the deadline repeats by.
+     */
+    public RecurrenceRule getRecurrenceRule() {
+        return this.rule;
+    }
+
+    private void setRule(RecurrenceRule rule) {
+        this.rule = rule;
+        this.frequency = rule.getFrequency();
+        this.recurrence = rule.toString();
+    }
+
+    private boolean isRepeatedAt(LocalDateTime deadline) {
+        return this.repeatEndTime == null || deadline.isBefore(this.repeatEndTime);
+    }
+
+    /**
+     * The {@code DeadlineIterator} takes the deadlines of the
+     * {@code RecurringDeadline} from its rule one at a time, until the repeat
+     * end time.
+     */
+    private class DeadlineIterator implements Iterator<LocalDateTime> {
+        private final Iterator<LocalDateTime> occurrences;
+        private LocalDateTime nextDeadline;
+
+        DeadlineIterator(Iterator<LocalDateTime> occurrences) {
+            this.occurrences = occurrences;
+            this.nextDeadline = this.takeNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextDeadline != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (this.nextDeadline == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime currentDeadline = this.nextDeadline;
+            this.nextDeadline = this.takeNext();
+            return currentDeadline;
+        }
 
-    private String getFrequency() throws DuchessException {
-        switch (this.frequency) {
-        case DAILY:
-            return "Daily";
-        case WEEKLY:
-            return "Weekly";
-        case FORTNIGHTLY:
-            return "Fortnightly";
-        case MONTHLY:
-            return "Monthly";
-        default:
-            throw new DuchessException(ERROR_RECURRING_TASK_MISSING_DEADLINE);
+        private LocalDateTime takeNext() {
+            if (!this.occurrences.hasNext()) {
+                return null;
+            }
+            LocalDateTime occurrence = this.occurrences.next();
+            // The current deadline is kept even if it has been snoozed past the repeat end time.
+            return occurrence.equals(deadline) || isRepeatedAt(occurrence) ? occurrence : null;
         }
     }
 }
@@ -0,0 +1,105 @@
+package duke.task;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import duke.util.CompressedBitmap;
+
+/**
+ * The {@code TagIndex} indexes the positions of {@code Task}s in a list by their
+ * tags, with a {@code CompressedBitmap} of positions for each tag, so that the
+ * list can be filtered by tags with bitmap operations instead of checking every
+ * task.
+ *
+ * <p>The index is kept up to date as the list changes. Adding a task to the end of
+ * the list adds its position, and removing tasks shifts the positions above them
+ * down in each bitmap, which only touches the chunks from the first removed position
+ * onwards. Changes that reorder the whole list rebuild the index in a single pass.
+ */
+public class TagIndex {
+    private final Map<String, CompressedBitmap> bitmaps = new HashMap<>();
+
+    /**
+     * Adds the tags of a {@code Task} added to the end of the list.
+     *
+     * @param position Position of the {@code Task}, after every other indexed task.
+     * @param task     {@code Task} that was added.
+     */
+    public void add(int position, Task task) {
+        for (String tag : task.getTags()) {
+            this.bitmaps.computeIfAbsent(tag, newTag -> new CompressedBitmap()).add(position);
+        }
+    }
+
+    /**
+     * Removes the {@code Task}s at the given positions from the index, and moves the
+     * {@code Task}s after them to their new positions.
+     *
+     * @param positions Sorted and distinct positions of the removed {@code Task}s.
+     */
+    public void remove(int[] positions) {
+        for (CompressedBitmap bitmap : this.bitmaps.values()) {
+            bitmap.removeAndShift(positions);
+        }
+        this.bitmaps.values().removeIf(bitmap -> bitmap.getCardinality() == 0);
+    }
+
+    /**
+     * Replaces the whole index with one for the given list, after the list has been
+     * reordered or replaced.
+     *
+     * @param tasks List of tasks.
+     */
+    public void replaceAll(List<Task> tasks) {
+        this.clear();
+        for (int i = 0; i < tasks.size(); i++) {
+            this.add(i, tasks.get(i));
+        }
+    }
+
+    /**
+     * Removes every {@code Task} from the index.
+     */
+    public void clear() {
+        this.bitmaps.clear();
+    }
+
+    /**
+     * Returns the sorted positions of the {@code Task}s that have every one of
+     * {@code includedTags} and none of {@code excludedTags}. With no tags to include,
+     * every task is included.
+     *
+     * @param numOfTasks   Number of {@code Task}s in the list.
+     * @param includedTags Tags that the {@code Task}s must have.
+     * @param excludedTags Tags that the {@code Task}s must not have.
+     * @return Sorted positions of the matching {@code Task}s.
+     */
+    public int[] find(int numOfTasks, List<String> includedTags, List<String> excludedTags) {
+        List<CompressedBitmap> includedBitmaps = new ArrayList<>(includedTags.size());
+        for (String tag : includedTags) {
+            CompressedBitmap bitmap = this.bitmaps.get(tag);
+            if (bitmap == null) {
+                return new int[0];
+            }
+            includedBitmaps.add(bitmap);
+        }
+        // Intersecting the rarest tags first keeps every intermediate result small.
+        includedBitmaps.sort(Comparator.comparingInt(CompressedBitmap::getCardinality));
+        CompressedBitmap result = includedBitmaps.isEmpty()
+                ? CompressedBitmap.ofRange(numOfTasks)
+                : includedBitmaps.get(0);
+        for (int i = 1; i < includedBitmaps.size(); i++) {
+            result = result.and(includedBitmaps.get(i));
+        }
+        for (String tag : excludedTags) {
+            CompressedBitmap bitmap = this.bitmaps.get(tag);
+            if (bitmap != null) {
+                result = result.andNot(bitmap);
+            }
+        }
+        return result.toArray();
+    }
+}
@@ -3,6 +3,7 @@ package duke.task;
 import static duke.util.MagicStrings.ERROR_CANNOT_UNDO;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import duke.exception.DuchessException;
 
@@ -10,8 +11,18 @@ import duke.exception.DuchessException;
  * The {@code Task} class creates a task with a description and isCompleted state.
  */
 public class Task implements Cloneable {
+    /**
+     * Priority of tasks that were not given one, which come after tasks of every
+     * priority from 1, the highest, to 5, the lowest.
+     */
+    public static final int NO_PRIORITY = 0;
+    public static final int HIGHEST_PRIORITY = 1;
+    public static final int LOWEST_PRIORITY = 5;
+
     protected boolean isCompleted;
     protected String description;
+    protected List<String> tags;
+    protected int priority;
 
     protected LocalDateTime creationTime;
     protected LocalDateTime completionTime;
@@ -23,6 +34,7 @@ public class Task implements Cloneable {
      */
     public Task(String description) {
         this.description = description;
+        this.tags = List.of();
         this.creationTime = LocalDateTime.now();
         this.isCompleted = false;
     }
@@ -40,12 +52,19 @@ public class Task implements Cloneable {
      */
     public Task(String description, boolean isCompleted, LocalDateTime creationTime, LocalDateTime completionTime) {
         this.description = description;
+        this.tags = List.of();
         this.isCompleted = isCompleted;
         this.creationTime = creationTime;
         this.completionTime = completionTime;
     }
 
-    private String getStatusIcon() {
+    /**
+     * Returns the icon showing the completion status of the task, a tick if it is
+     * completed and a cross if not.
+     *
+     * @return Status icon of the task.
+     */
+    public String getStatusIcon() {
         return (this.isCompleted ? "\u2713" : "\u2718"); // tick or cross depending on isCompleted
     }
 
@@ -60,6 +79,8 @@ public class Task implements Cloneable {
         try {
             clonedTask = (Task) super.clone();
             clonedTask.description = this.description; // Safe due to immutability of strings.
+            clonedTask.tags = this.tags; // Safe as the list of tags is immutable.
+            clonedTask.priority = this.priority;
             clonedTask.isCompleted = this.isCompleted;
             clonedTask.creationTime = this.creationTime; // Safe due to immutability of LocalDateTime
             clonedTask.completionTime = this.completionTime;
@@ -95,6 +116,55 @@ public class Task implements Cloneable {
         return description;
     }
 
+    /**
+     * Returns the tags of the task, such as "work" for a task described with "#work".
+     *
+     * @return Immutable list of lowercase tags without the "#".
+     */
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * Sets the tags of the task. The tags must be set before the task is added to a
+     * {@code TaskList}, as the list indexes tasks by their tags.
+     *
+     * @param tags Lowercase tags without the "#".
+     */
+    public void setTags(List<String> tags) {
+        this.tags = List.copyOf(tags);
+    }
+
+    /**
+     * Returns the priority of the task, from 1, the highest, to 5, the lowest.
+     *
+     * @return Priority of the task, or {@code NO_PRIORITY} if it was not given one.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Sets the priority of the task. The priority must be set before the task is
+     * added to a {@code TaskList}, as the list orders tasks by their priorities.
+     *
+     * @param priority Priority from 1, the highest, to 5, the lowest, or
+     *                 {@code NO_PRIORITY}.
+     */
+    public void setPriority(int priority) {
+        assert priority == NO_PRIORITY || (priority >= HIGHEST_PRIORITY && priority <= LOWEST_PRIORITY);
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the creation time of the task.
+     *
+     * @return Time of creation.
+     */
+    public LocalDateTime getCreationTime() {
+        return creationTime;
+    }
+
     /**
      * Returns the completion time of the task.
      *
@@ -0,0 +1,220 @@
+package duke.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * The {@code TaskHeap} keeps the incomplete {@code Task}s of a list in the order
+ * they should be done in, so that the first few can be found without sorting the
+ * list. Tasks are ordered by priority, with tasks without a priority last, then by
+ * deadline, with tasks without a deadline last, and then by when they were added.
+ *
+ * <p>The heap is an indexed binary heap: it knows where each {@code Task} is in the
+ * heap, so that a {@code Task} whose deadline has changed can be moved to its new
+ * place, or removed, in {@code O(log n)} time. Finding the first {@code k} tasks
+ * takes {@code O(k log k)} time.
+ */
+public class TaskHeap {
+    private static final Comparator<Task> TASK_ORDER = Comparator.comparingInt(TaskHeap::getRank)
+            .thenComparing(TaskHeap::getDeadline, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ArrayList<Node> heap = new ArrayList<>();
+    private final Map<Task, Node> nodes = new IdentityHashMap<>();
+    private long nextSequence;
+
+    /**
+     * Adds an incomplete {@code Task} to the heap. Adding a {@code Task} that is
+     * already in the heap does nothing.
+     *
+     * @param task Incomplete {@code Task} to add.
+     */
+    public void add(Task task) {
+        assert !task.isCompleted();
+        if (this.nodes.containsKey(task)) {
+            return;
+        }
+        Node node = new Node(task, this.nextSequence++);
+        this.nodes.put(task, node);
+        this.heap.add(node);
+        node.index = this.heap.size() - 1;
+        this.siftUp(node.index);
+    }
+
+    /**
+     * Removes a {@code Task} from the heap, if it is there.
+     *
+     * @param task {@code Task} to remove.
+     */
+    public void remove(Task task) {
+        Node node = this.nodes.remove(task);
+        if (node == null) {
+            return;
+        }
+        Node last = this.heap.remove(this.heap.size() - 1);
+        if (last != node) {
+            this.place(last, node.index);
+            this.siftDown(this.siftUp(node.index));
+        }
+    }
+
+    /**
+     * Moves a {@code Task} in the heap to its new place after its deadline has
+     * changed, or removes it if it has been completed.
+     *
+     * @param task {@code Task} that has changed.
+     */
+    public void update(Task task) {
+        if (task.isCompleted()) {
+            this.remove(task);
+            return;
+        }
+        Node node = this.nodes.get(task);
+        if (node != null) {
+            this.siftDown(this.siftUp(node.index));
+        }
+    }
+
+    /**
+     * Replaces every {@code Task} in the heap with the incomplete {@code Task}s in the
+     * given list, in {@code O(n)} time. Ties are broken by the order of the list.
+     *
+     * @param tasks List of tasks.
+     */
+    public void replaceAll(List<Task> tasks) {
+        this.clear();
+        for (Task task : tasks) {
+            if (!task.isCompleted() && !this.nodes.containsKey(task)) {
+                Node node = new Node(task, this.nextSequence++);
+                this.nodes.put(task, node);
+                this.place(node, this.heap.size());
+            }
+        }
+        for (int i = this.heap.size() / 2 - 1; i >= 0; i--) {
+            this.siftDown(i);
+        }
+    }
+
+    /**
+     * Removes every {@code Task} from the heap.
+     */
+    public void clear() {
+        this.heap.clear();
+        this.nodes.clear();
+    }
+
+    /**
+     * Returns the number of {@code Task}s in the heap.
+     *
+     * @return Number of {@code Task}s.
+     */
+    public int size() {
+        return this.heap.size();
+    }
+
+    /**
+     * Returns the first {@code k} {@code Task}s in the heap, in order, without
+     * removing them.
+     *
+     * @param k Number of {@code Task}s to return.
+     * @return The first {@code k} {@code Task}s, or every {@code Task} if there are
+     *         fewer.
+     */
+    public List<Task> peek(int k) {
+        List<Task> tasks = new ArrayList<>(Math.min(k, this.heap.size()));
+        // The next task is always a child of a task already taken, so only those are compared.
+        PriorityQueue<Node> candidates = new PriorityQueue<>();
+        if (!this.heap.isEmpty()) {
+            candidates.add(this.heap.get(0));
+        }
+        while (tasks.size() < k && !candidates.isEmpty()) {
+            Node node = candidates.poll();
+            tasks.add(node.task);
+            for (int child = 2 * node.index + 1; child <= 2 * node.index + 2 && child < this.heap.size(); child++) {
+                candidates.add(this.heap.get(child));
+            }
+        }
+        return tasks;
+    }
+
+    // Private helper methods
+
+    private static int getRank(Task task) {
+        return task.getPriority() == Task.NO_PRIORITY ? Task.LOWEST_PRIORITY + 1 : task.getPriority();
+    }
+
+    private static LocalDateTime getDeadline(Task task) {
+        return task instanceof Deadline ? ((Deadline) task).getDeadline() : null;
+    }
+
+    /**
+     * Moves the node at {@code index} up until its parent comes before it, and
+     * returns where it ends up.
+     */
+    private int siftUp(int index) {
+        Node node = this.heap.get(index);
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (this.heap.get(parent).compareTo(node) <= 0) {
+                break;
+            }
+            this.place(this.heap.get(parent), index);
+            index = parent;
+        }
+        this.place(node, index);
+        return index;
+    }
+
+    /**
+     * Moves the node at {@code index} down until it comes before its children.
+     */
+    private void siftDown(int index) {
+        Node node = this.heap.get(index);
+        while (2 * index + 1 < this.heap.size()) {
+            int child = 2 * index + 1;
+            if (child + 1 < this.heap.size() && this.heap.get(child + 1).compareTo(this.heap.get(child)) < 0) {
+                child++;
+            }
+            if (node.compareTo(this.heap.get(child)) <= 0) {
+                break;
+            }
+            this.place(this.heap.get(child), index);
+            index = child;
+        }
+        this.place(node, index);
+    }
+
+    private void place(Node node, int index) {
+        if (index == this.heap.size()) {
+            this.heap.add(node);
+        } else {
+            this.heap.set(index, node);
+        }
+        node.index = index;
+    }
+
+    /**
+     * The {@code Node} holds one {@code Task} along with where it is in the heap and
+     * when it was added.
+     */
+    private static class Node implements Comparable<Node> {
+        private final Task task;
+        private final long sequence;
+        private int index;
+
+        Node(Task task, long sequence) {
+            this.task = task;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int byTask = TASK_ORDER.compare(this.task, other.task);
+            return byTask != 0 ? byTask : Long.compare(this.sequence, other.sequence);
+        }
+    }
+}
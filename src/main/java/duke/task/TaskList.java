@@ -1,7 +1,9 @@
 package duke.task;
 
+import static duke.util.MagicStrings.ERROR_CATCHING_UP_NON_OVERDUE;
 import static duke.util.MagicStrings.ERROR_INDEX_OUT_OF_BOUNDS;
 import static duke.util.MagicStrings.ERROR_NO_COMPLETED_TASKS;
+import static duke.util.MagicStrings.ERROR_SNOOZING_NON_DEADLINE;
 import static duke.util.MagicStrings.ERROR_TASK_ALREADY_COMPLETED;
 import static duke.util.MagicStrings.ERROR_TASK_CREATED_BEFORE;
 import static duke.util.StringCleaner.cleanAndLowerString;
@@ -10,8 +12,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAmount;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -22,9 +30,19 @@ import duke.util.Pair;
  * The {@code TaskList} object helps to store and manage {@code Task}s.
  */
 public class TaskList {
+    /**
+     * Number of tasks below which queries over the list run sequentially, as splitting
+     * the work across threads costs more than it saves for small lists.
+     */
+    public static final int PARALLEL_THRESHOLD = 10_000;
+
     private ArrayList<Task> tasks;
     private ArrayList<Task> archive;
-    private HashMap<String, Boolean> taskDescriptions;
+    private HashMap<String, Integer> taskDescriptions;
+    private EventIntervalTree eventTree;
+    private TagIndex tagIndex;
+    private TaskHeap nextTasks;
+    private final List<TaskListListener> listeners = new CopyOnWriteArrayList<>();
 
     /**
      * Initialises an empty {@code TaskList}.
@@ -33,6 +51,9 @@ public class TaskList {
         this.tasks = new ArrayList<>();
         this.archive = new ArrayList<>();
         this.taskDescriptions = new HashMap<>();
+        this.eventTree = new EventIntervalTree();
+        this.tagIndex = new TagIndex();
+        this.nextTasks = new TaskHeap();
     }
 
     /**
@@ -44,9 +65,15 @@ public class TaskList {
         this.tasks = tasks;
         this.archive = archive;
         this.taskDescriptions = new HashMap<>();
+        this.eventTree = new EventIntervalTree();
+        this.tagIndex = new TagIndex();
+        this.nextTasks = new TaskHeap();
         for (Task task : this.tasks) {
-            this.taskDescriptions.put(hashTaskToString(task), true);
+            this.addDescription(hashTaskToString(task));
+            this.indexEvent(task);
         }
+        this.tagIndex.replaceAll(this.tasks);
+        this.nextTasks.replaceAll(this.tasks);
     }
 
     /**
@@ -77,8 +104,16 @@ public class TaskList {
         if (this.taskDescriptions.containsKey(hashTaskToString(task))) {
             throw new DuchessException(ERROR_TASK_CREATED_BEFORE);
         }
-        taskDescriptions.put(hashTaskToString(task), true);
+        this.addDescription(hashTaskToString(task));
         this.tasks.add(task);
+        this.indexEvent(task);
+        this.tagIndex.add(this.tasks.size() - 1, task);
+        if (!task.isCompleted) {
+            this.nextTasks.add(task);
+        }
+        for (TaskListListener listener : this.listeners) {
+            listener.onTaskAdded(this.tasks.size() - 1, task);
+        }
     }
 
     /**
@@ -89,18 +124,59 @@ public class TaskList {
      */
     public void removeTask(int index) throws DuchessException {
         try {
-            this.tasks.remove(index);
+            Task removedTask = this.tasks.remove(index);
+            this.removeDescription(hashTaskToString(removedTask));
+            this.unindexEvent(removedTask);
+            this.tagIndex.remove(new int[] {index});
+            this.nextTasks.remove(removedTask);
+            this.notifyRemoved(new int[] {index}, List.of(removedTask));
         } catch (IndexOutOfBoundsException e) {
             throw new DuchessException(ERROR_INDEX_OUT_OF_BOUNDS);
         }
     }
 
+    /**
+     * Removes the {@code Task}s at the given indices from the {@code TaskList} in a
+     * single pass over the list.
+     *
+     * @param indices Sorted and distinct indices of {@code Task}s to be removed.
+     * @return The removed {@code Task}s in the order of their indices.
+     * @throws DuchessException If any index is out of bounds.
+     */
+    public List<Task> removeTasks(int[] indices) throws DuchessException {
+        checkIndices(indices);
+        List<Task> removedTasks = new ArrayList<>(indices.length);
+        int nextToRemove = 0;
+        int writeIndex = 0;
+        for (int readIndex = 0; readIndex < this.tasks.size(); readIndex++) {
+            Task task = this.tasks.get(readIndex);
+            if (nextToRemove < indices.length && indices[nextToRemove] == readIndex) {
+                removedTasks.add(task);
+                this.removeDescription(hashTaskToString(task));
+                this.unindexEvent(task);
+                this.nextTasks.remove(task);
+                nextToRemove++;
+            } else {
+                this.tasks.set(writeIndex, task);
+                writeIndex++;
+            }
+        }
+        this.tasks.subList(writeIndex, this.tasks.size()).clear();
+        this.tagIndex.remove(indices);
+        this.notifyRemoved(indices, removedTasks);
+        return removedTasks;
+    }
+
     /**
      * Clears the list of tasks.
      */
     public void removeAllTasks() {
         this.tasks.clear();
         this.archive.clear();
+        this.eventTree.clear();
+        this.tagIndex.clear();
+        this.nextTasks.clear();
+        this.notifyReplaced();
     }
 
     /**
@@ -145,10 +221,103 @@ public class TaskList {
         if (taskToComplete.isCompleted) {
             throw new DuchessException(ERROR_TASK_ALREADY_COMPLETED);
         }
-        taskToComplete.completeTask();
+        String oldDescription = hashTaskToString(taskToComplete);
+        taskToComplete.completeTask(); // Recurring deadlines move on to their next deadline instead.
+        this.updateDescription(oldDescription, taskToComplete);
+        this.nextTasks.update(taskToComplete);
+        this.notifyUpdated(index, taskToComplete);
         return taskToComplete;
     }
 
+    /**
+     * Completes the {@code Task}s at the given indices in the {@code TaskList}. No
+     * {@code Task} is completed unless all of them can be.
+     *
+     * @param indices Sorted and distinct indices of {@code Task}s in the {@code TaskList}.
+     * @return The {@code Task}s at the given indices.
+     * @throws DuchessException If any index is out of bounds or any task has already
+     *                          been completed.
+     */
+    public List<Task> completeTasks(int[] indices) throws DuchessException {
+        checkIndices(indices);
+        List<Task> tasksToComplete = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            Task taskToComplete = this.tasks.get(index);
+            if (taskToComplete.isCompleted) {
+                throw new DuchessException(ERROR_TASK_ALREADY_COMPLETED);
+            }
+            tasksToComplete.add(taskToComplete);
+        }
+        for (int i = 0; i < indices.length; i++) {
+            String oldDescription = hashTaskToString(tasksToComplete.get(i));
+            tasksToComplete.get(i).completeTask();
+            this.updateDescription(oldDescription, tasksToComplete.get(i));
+            this.nextTasks.update(tasksToComplete.get(i));
+            this.notifyUpdated(indices[i], tasksToComplete.get(i));
+        }
+        return tasksToComplete;
+    }
+
+    /**
+     * Catches up the overdue {@code RecurringDeadline}s at the given indices in the
+     * {@code TaskList}, skipping each of them to their first deadline after
+     * {@code now}. No {@code RecurringDeadline} is caught up unless all of them can be.
+     *
+     * @param indices Sorted and distinct indices of {@code RecurringDeadline}s in the {@code TaskList}.
+     * @param now     Time to catch up to.
+     * @return {@code Pair}s of the caught up {@code RecurringDeadline}s and the number of
+     *         deadlines each of them skipped.
+     * @throws DuchessException If any index is out of bounds, any task has already been
+     *                          completed or any task is not an overdue recurring deadline.
+     */
+    public List<Pair<Task, Integer>> catchUpTasks(int[] indices, LocalDateTime now) throws DuchessException {
+        checkIndices(indices);
+        List<RecurringDeadline> tasksToCatchUp = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            Task taskToCatchUp = this.tasks.get(index);
+            if (taskToCatchUp.isCompleted) {
+                throw new DuchessException(ERROR_TASK_ALREADY_COMPLETED);
+            }
+            if (!(taskToCatchUp instanceof RecurringDeadline)
+                    || !((RecurringDeadline) taskToCatchUp).deadline.isBefore(now)) {
+                throw new DuchessException(ERROR_CATCHING_UP_NON_OVERDUE);
+            }
+            tasksToCatchUp.add((RecurringDeadline) taskToCatchUp);
+        }
+        List<Pair<Task, Integer>> caughtUpTasks = new ArrayList<>(indices.length);
+        for (int i = 0; i < indices.length; i++) {
+            RecurringDeadline taskToCatchUp = tasksToCatchUp.get(i);
+            String oldDescription = hashTaskToString(taskToCatchUp);
+            caughtUpTasks.add(new Pair<>(taskToCatchUp, taskToCatchUp.catchUp(now)));
+            this.updateDescription(oldDescription, taskToCatchUp);
+            this.nextTasks.update(taskToCatchUp);
+            this.notifyUpdated(indices[i], taskToCatchUp);
+        }
+        return caughtUpTasks;
+    }
+
+    /**
+     * Pushes back the deadline of the {@code Deadline} at {@code index} by the given
+     * {@code snoozePeriod}.
+     *
+     * @param index        Index of the {@code Deadline} in the {@code TaskList}.
+     * @param snoozePeriod Duration to push the deadline back by.
+     * @return The snoozed {@code Deadline}.
+     * @throws DuchessException If the index is out of bounds or the task has no deadline.
+     */
+    public Deadline snoozeTask(int index, TemporalAmount snoozePeriod) throws DuchessException {
+        Task taskToSnooze = this.getTask(index);
+        if (!(taskToSnooze instanceof Deadline)) {
+            throw new DuchessException(ERROR_SNOOZING_NON_DEADLINE);
+        }
+        String oldDescription = hashTaskToString(taskToSnooze);
+        ((Deadline) taskToSnooze).snooze(snoozePeriod);
+        this.updateDescription(oldDescription, taskToSnooze);
+        this.nextTasks.update(taskToSnooze);
+        this.notifyUpdated(index, taskToSnooze);
+        return (Deadline) taskToSnooze;
+    }
+
     /**
      * Returns the entire {@code TaskArray}.
      *
@@ -167,6 +336,50 @@ public class TaskList {
         return this.archive;
     }
 
+    /**
+     * Returns the deadlines of the incomplete {@code Deadline}s that fall within the
+     * given window in order of time, with each recurring deadline repeated for every
+     * time it is due. The occurrences are worked out as they are iterated, so the
+     * list must not change until the iteration is done.
+     *
+     * @param from Start of the window, inclusive.
+     * @param to   End of the window, inclusive.
+     * @return Iterator over the {@code Occurrence}s in the window.
+     */
+    public Iterator<Occurrence> getAgenda(LocalDateTime from, LocalDateTime to) {
+        return new AgendaIterator(this.tasks, from, to);
+    }
+
+    /**
+     * Returns the scheduled {@code Event}s that take place at any time from
+     * {@code from} until before {@code to}, in order of when they start. The events
+     * are found with an interval tree rather than by going through every task.
+     *
+     * @param from Start of the period, inclusive.
+     * @param to   End of the period, exclusive.
+     * @return {@code Event}s during the period.
+     */
+    public List<Event> getEvents(LocalDateTime from, LocalDateTime to) {
+        return this.eventTree.findDuring(from, to);
+    }
+
+    /**
+     * Returns the incomplete scheduled {@code Event}s that take place at the same time
+     * as the given {@code Event}, other than the {@code Event} itself.
+     *
+     * @param event {@code Event} to check for clashes.
+     * @return Clashing {@code Event}s in order of when they start, or an empty list if
+     *         the given {@code Event} is not scheduled.
+     */
+    public List<Event> getClashingEvents(Event event) {
+        if (!event.isScheduled()) {
+            return List.of();
+        }
+        List<Event> clashingEvents = this.eventTree.findDuring(event.getStartTime(), event.getEndTime());
+        clashingEvents.removeIf(otherEvent -> otherEvent == event || otherEvent.isCompleted);
+        return clashingEvents;
+    }
+
     /**
      * Returns a list of pairs of {@code Task}s and their index in the original
      * list. This allows the user to see the list with new indices while being able
@@ -179,11 +392,77 @@ public class TaskList {
     public ArrayList<Pair<Task, Integer>> find(String searchWords) {
         assert searchWords.equals(cleanAndLowerString(searchWords));
         // Solution below adapted from https://stackoverflow.com/a/18552071
-        return IntStream.range(0, this.tasks.size()).mapToObj(i -> new Pair<>(this.tasks.get(i), i))
-                .filter(p -> p.getFirst().description.toLowerCase().contains(searchWords))
+        // Ranges of the list are searched in parallel for large lists, and the ordered
+        // collect merges the partial results back in order of their original indices.
+        return getIndexStream(this.tasks.size())
+                .filter(i -> this.tasks.get(i).description.toLowerCase().contains(searchWords))
+                .mapToObj(i -> new Pair<>(this.tasks.get(i), i))
                 .collect(Collectors.toCollection(ArrayList::new));
     }
 
+    /**
+     * Returns the sorted indices of the {@code Task}s that match the given
+     * {@code Predicate}.
+     *
+     * @param predicate {@code Predicate} that the {@code Task}s need to match.
+     * @return Sorted indices of the matching {@code Task}s.
+     */
+    public int[] findIndices(Predicate<Task> predicate) {
+        return IntStream.range(0, this.tasks.size()).filter(i -> predicate.test(this.tasks.get(i))).toArray();
+    }
+
+    /**
+     * Returns the sorted indices of the {@code Task}s that have every one of
+     * {@code includedTags} and none of {@code excludedTags}, found with a bitmap
+     * of positions for each tag rather than by checking every task.
+     *
+     * @param includedTags Tags that the {@code Task}s must have, or an empty list to
+     *                     include every task.
+     * @param excludedTags Tags that the {@code Task}s must not have.
+     * @return Sorted indices of the matching {@code Task}s.
+     */
+    public int[] findIndicesWithTags(List<String> includedTags, List<String> excludedTags) {
+        return this.tagIndex.find(this.tasks.size(), includedTags, excludedTags);
+    }
+
+    /**
+     * Returns the first {@code n} incomplete {@code Task}s to do, ordered by priority
+     * and then by deadline. The tasks are kept in a heap as the list changes, so the
+     * list is never sorted to find them.
+     *
+     * @param n Number of {@code Task}s to return.
+     * @return The first {@code n} {@code Task}s to do, or every incomplete
+     *         {@code Task} if there are fewer.
+     */
+    public List<Task> getNextTasks(int n) {
+        return this.nextTasks.peek(n);
+    }
+
+    /**
+     * Returns the indices of the given {@code Task}s in the {@code TaskList}, found in
+     * a single pass that stops once every {@code Task} has been found.
+     *
+     * @param tasksToFind {@code Task}s in the {@code TaskList}.
+     * @return Indices of the {@code Task}s, in the same order as the {@code Task}s.
+     */
+    public int[] getIndices(List<Task> tasksToFind) {
+        Map<Task, Integer> positions = new IdentityHashMap<>();
+        for (int i = 0; i < tasksToFind.size(); i++) {
+            positions.put(tasksToFind.get(i), i);
+        }
+        int[] indices = new int[tasksToFind.size()];
+        int numOfFound = 0;
+        for (int i = 0; i < this.tasks.size() && numOfFound < positions.size(); i++) {
+            Integer position = positions.get(this.tasks.get(i));
+            if (position != null) {
+                indices[position] = i;
+                numOfFound++;
+            }
+        }
+        assert numOfFound == positions.size();
+        return indices;
+    }
+
     /**
      * Sorts the task array, with {@code Deadline}s at the front, and earlier deadlines
      * at the front.
@@ -206,6 +485,8 @@ public class TaskList {
                 return 0;
             }
         });
+        this.tagIndex.replaceAll(this.tasks);
+        this.notifyReplaced();
     }
 
     /**
@@ -214,17 +495,42 @@ public class TaskList {
      * @throws DuchessException No tasks to archive.
      */
     public void archive() throws DuchessException {
-        long numOfCompletedTasks = this.tasks.stream().filter(x -> x.isCompleted).count();
-        if (numOfCompletedTasks == 0) {
-            throw new DuchessException(ERROR_NO_COMPLETED_TASKS);
-        }
-        for (int i = 0; i < this.tasks.size(); i++) {
-            if (this.tasks.get(i).isCompleted) {
-                Task taskToArchive = this.tasks.remove(i);
-                this.taskDescriptions.remove(hashTaskToString(taskToArchive));
-                this.archive.add(taskToArchive);
+        this.archive(task -> true);
+    }
+
+    /**
+     * Archives the completed tasks that match the given {@code Predicate} into the
+     * archive, in a single pass over the list.
+     *
+     * @param predicate {@code Predicate} that the completed tasks need to match.
+     * @return Number of tasks archived.
+     * @throws DuchessException No tasks to archive.
+     */
+    public int archive(Predicate<Task> predicate) throws DuchessException {
+        int writeIndex = 0;
+        int archiveSizeBefore = this.archive.size();
+        int[] archivedIndices = new int[this.tasks.size()];
+        for (int readIndex = 0; readIndex < this.tasks.size(); readIndex++) {
+            Task task = this.tasks.get(readIndex);
+            if (task.isCompleted && predicate.test(task)) {
+                this.removeDescription(hashTaskToString(task));
+                this.unindexEvent(task);
+                archivedIndices[this.archive.size() - archiveSizeBefore] = readIndex;
+                this.archive.add(task);
+            } else {
+                this.tasks.set(writeIndex, task);
+                writeIndex++;
             }
         }
+        int numOfTasksArchived = this.tasks.size() - writeIndex;
+        if (numOfTasksArchived == 0) {
+            throw new DuchessException(ERROR_NO_COMPLETED_TASKS);
+        }
+        this.tasks.subList(writeIndex, this.tasks.size()).clear();
+        archivedIndices = Arrays.copyOf(archivedIndices, numOfTasksArchived);
+        this.tagIndex.remove(archivedIndices);
+        this.notifyRemoved(archivedIndices, this.archive.subList(archiveSizeBefore, this.archive.size()));
+        return numOfTasksArchived;
     }
 
     /**
@@ -271,41 +577,171 @@ public class TaskList {
         this.tasks = taskList;
         this.archive = archiveList;
         this.taskDescriptions = new HashMap<>();
+        this.eventTree.clear();
         for (Task task : this.tasks) {
-            this.taskDescriptions.put(hashTaskToString(task), true);
+            this.addDescription(hashTaskToString(task));
+            this.indexEvent(task);
         }
+        this.tagIndex.replaceAll(this.tasks);
+        this.nextTasks.replaceAll(this.tasks);
+        this.notifyReplaced();
+    }
+
+    /**
+     * Adds a {@code TaskListListener} to be notified of changes to the active tasks.
+     *
+     * @param listener {@code TaskListListener} to add.
+     */
+    public void addListener(TaskListListener listener) {
+        this.listeners.add(listener);
     }
 
     /**
-     * Returns stats for tasks created, tasks completed, tasks completed on time.
+     * Removes a {@code TaskListListener} added earlier.
+     *
+     * @param listener {@code TaskListListener} to remove.
+     */
+    public void removeListener(TaskListListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Returns stats for tasks created, tasks completed, tasks completed on time and
+     * recurring deadlines skipped by catching up.
      *
      * @param statsPeriod Period to check back.
      * @return An array of {@code String}s containing the above numbers.
      */
     public Integer[] getStats(TemporalAmount statsPeriod) {
         LocalDateTime startTime = LocalDate.now().atTime(0, 0).minus(statsPeriod);
-        int numOfTasksCreated = 0;
-        int numOfTasksCompleted = 0;
-        int numOfTasksCompletedOnTime = 0;
-        ArrayList<Task> allTasks = new ArrayList<>();
-        allTasks.addAll(this.tasks);
-        allTasks.addAll(this.archive);
-        for (Task task : allTasks) {
+        int[] taskStats = getStats(this.tasks, startTime);
+        int[] archiveStats = getStats(this.archive, startTime);
+        return new Integer[]{taskStats[0] + archiveStats[0], taskStats[1] + archiveStats[1],
+            taskStats[2] + archiveStats[2], taskStats[3] + archiveStats[3]};
+    }
+
+    /**
+     * Returns the number of tasks created, completed and completed on time, and the
+     * number of recurring deadlines skipped, after the start time for the given list.
+     * Large lists are counted in parallel ranges whose counts are then added up.
+     *
+     * @param tasks     List of tasks to count.
+     * @param startTime Time to count from.
+     * @return An array of the four counts.
+     */
+    private static int[] getStats(ArrayList<Task> tasks, LocalDateTime startTime) {
+        return getIndexStream(tasks.size()).collect(() -> new int[4], (stats, i) -> {
+            Task task = tasks.get(i);
             if (task.creationTime.isAfter(startTime)) {
-                numOfTasksCreated += 1;
+                stats[0] += 1;
             }
             if (task.isCompleted) {
                 if (task.completionTime.isAfter(startTime)) {
-                    numOfTasksCompleted += 1;
+                    stats[1] += 1;
                 }
                 if (task instanceof Deadline && ((Deadline) task).isCompletedOnTime) {
-                    numOfTasksCompletedOnTime += 1;
+                    stats[2] += 1;
                 }
             }
+            if (task instanceof RecurringDeadline) {
+                stats[3] += ((RecurringDeadline) task).getNumOfSkippedAfter(startTime);
+            }
+        }, TaskList::addStats);
+    }
+
+    private static void addStats(int[] stats, int[] otherStats) {
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] += otherStats[i];
         }
-        return new Integer[]{numOfTasksCreated, numOfTasksCompleted, numOfTasksCompletedOnTime};
     }
 
+    /**
+     * Returns a stream of the indices of a list of the given size, which is parallel
+     * when the list is at least {@code PARALLEL_THRESHOLD} long.
+     *
+     * @param size Size of the list.
+     * @return Stream of indices from 0 to {@code size}.
+     */
+    private static IntStream getIndexStream(int size) {
+        IntStream indices = IntStream.range(0, size);
+        return size < PARALLEL_THRESHOLD ? indices : indices.parallel();
+    }
+
+    private void checkIndices(int[] indices) throws DuchessException {
+        for (int index : indices) {
+            if (index < 0 || index >= this.tasks.size()) {
+                throw new DuchessException(ERROR_INDEX_OUT_OF_BOUNDS);
+            }
+        }
+    }
+
+    /**
+     * Notifies listeners of removed tasks from the highest index down, so that each
+     * index still refers to the list as the listener last saw it.
+     *
+     * @param indices      Sorted indices the tasks were removed from.
+     * @param removedTasks Removed tasks in the order of their indices.
+     */
+    private void notifyRemoved(int[] indices, List<Task> removedTasks) {
+        for (TaskListListener listener : this.listeners) {
+            for (int i = indices.length - 1; i >= 0; i--) {
+                listener.onTaskRemoved(indices[i], removedTasks.get(i));
+            }
+        }
+    }
+
+    private void notifyUpdated(int index, Task task) {
+        for (TaskListListener listener : this.listeners) {
+            listener.onTaskUpdated(index, task);
+        }
+    }
+
+    private void notifyReplaced() {
+        if (this.listeners.isEmpty()) {
+            return;
+        }
+        List<Task> tasksCopy = List.copyOf(this.tasks);
+        for (TaskListListener listener : this.listeners) {
+            listener.onTasksReplaced(tasksCopy);
+        }
+    }
+
+    private void indexEvent(Task task) {
+        if (task instanceof Event && ((Event) task).isScheduled()) {
+            this.eventTree.add((Event) task);
+        }
+    }
+
+    private void unindexEvent(Task task) {
+        if (task instanceof Event) {
+            this.eventTree.remove((Event) task);
+        }
+    }
+
+    /**
+     * Replaces the hashed description of a {@code Task} whose deadline may have moved,
+     * so that it is still found when the task is removed or a duplicate is added.
+     */
+    private void updateDescription(String oldDescription, Task task) {
+        String newDescription = hashTaskToString(task);
+        if (!newDescription.equals(oldDescription)) {
+            this.removeDescription(oldDescription);
+            this.addDescription(newDescription);
+        }
+    }
+
+    /**
+     * Counts a hashed description. A deadline that moves onto the same deadline as a
+     * task with the same description shares its hashed description, so each one is
+     * counted to keep it until both tasks are gone.
+     */
+    private void addDescription(String description) {
+        this.taskDescriptions.merge(description, 1, Integer::sum);
+    }
+
+    private void removeDescription(String description) {
+        this.taskDescriptions.computeIfPresent(description, (key, count) -> count == 1 ? null : count - 1);
+    }
 
     private String hashTaskToString(Task task) {
         String description = task.description.trim().toLowerCase();
@@ -0,0 +1,43 @@
+package duke.task;
+
+import java.util.List;
+
+/**
+ * The {@code TaskListListener} is notified of every change to the active tasks of a
+ * {@code TaskList}, so that views of the list can be updated without re-reading
+ * the whole list. Notifications are made on the thread that changed the list.
+ */
+public interface TaskListListener {
+    /**
+     * Called after a {@code Task} has been added at {@code index}.
+     *
+     * @param index Index of the new {@code Task}.
+     * @param task  {@code Task} that was added.
+     */
+    void onTaskAdded(int index, Task task);
+
+    /**
+     * Called after the {@code Task} at {@code index} has been removed, whether
+     * deleted or archived. Later {@code Task}s have moved up by one.
+     *
+     * @param index Index that the {@code Task} was removed from.
+     * @param task  {@code Task} that was removed.
+     */
+    void onTaskRemoved(int index, Task task);
+
+    /**
+     * Called after the {@code Task} at {@code index} has changed, such as by being
+     * completed or snoozed.
+     *
+     * @param index Index of the changed {@code Task}.
+     * @param task  {@code Task} that was changed.
+     */
+    void onTaskUpdated(int index, Task task);
+
+    /**
+     * Called after the whole list has changed, such as by sorting or undoing.
+     *
+     * @param tasks Copy of the new list of {@code Task}s.
+     */
+    void onTasksReplaced(List<Task> tasks);
+}
@@ -1,13 +1,28 @@
 package duke.ui;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAmount;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import duke.exception.DuchessException;
+import duke.metrics.CommandMetrics;
+import duke.metrics.CommandMetrics.Phase;
+import duke.metrics.CommandSummary;
+import duke.reminder.Reminder;
+import duke.task.Event;
+import duke.task.Occurrence;
 import duke.task.Task;
 import duke.task.TaskList;
 import duke.util.Pair;
@@ -17,7 +32,19 @@ import duke.util.Pair;
  * console.
  */
 public class Ui {
+    private static final String[] TASK_LIST_HEADER = {
+        "Sighs... you never remember what you say, don't you.", "You said these:"
+    };
+    private static final String TASK_LIST_EMPTY = "Is this a trick question? You have not told me anything about "
+            + "'tasks'.";
+    private static final String[] ARCHIVE_HEADER = {
+        "I'm impressed you actually have tasks completed and archived.", "Colour me surprised:"
+    };
+    private static final String ARCHIVE_EMPTY = "You have yet to archive any tasks... Get working!";
+    private static final DateTimeFormatter AGENDA_DAY = DateTimeFormatter.ofPattern("EEE d MMM yyyy");
+
     private Scanner scanner;
+    private Writer consoleWriter;
     public static final String logo = " _____             _\n"
             + "|  __ \\           | |\n"
             + "| |  | |_   _  ___| |__   ___  ___ ___\n"
@@ -32,10 +59,6 @@ public class Ui {
         this.scanner = new Scanner(System.in);
     }
 
-    private String formatString(String string) {
-        return String.format("%s\n", string);
-    }
-
     /**
      * Formats the provided strings appropriately. The strings provided will be
      * formatted to be printable line by line.
@@ -46,7 +69,7 @@ public class Ui {
     public String print(String... strings) {
         StringBuilder returnString = new StringBuilder();
         for (String string : strings) {
-            returnString.append(this.formatString(string));
+            returnString.append(string).append('\n');
         }
         return returnString.toString();
     }
@@ -71,7 +94,9 @@ public class Ui {
     }
 
     /**
-     * Returns out the given {@code TaskList} formatted, task by task.
+     * Returns out the given {@code TaskList} formatted, task by task. In console
+     * mode the list is written straight to the console instead, and an empty
+     * {@code String} is returned.
      *
      * @param taskList The taskList to print.
      * @return The {@code TaskList} formatted {@code String}.
@@ -79,22 +104,58 @@ public class Ui {
      *                          in index out of bounds.
      */
     public String printTaskList(TaskList taskList) throws DuchessException {
-        int size = taskList.size();
-        if (size > 0) {
-            // Solution below adapted from https://stackoverflow.com/a/18552071
-            List<String> result = IntStream.range(0, size)
-                    .mapToObj(i -> (i + 1) + ".\t" + taskList.getTask(i)).collect(Collectors.toList());
-            result.add(0, "Sighs... you never remember what you say, don't you.");
-            result.add(1, "You said these:");
-            String[] resultToPrint = new String[result.size()];
-            return this.print(result.toArray(resultToPrint));
-        } else {
-            return this.print("Is this a trick question? You have not told me anything about 'tasks'.");
-        }
+        return this.render(output -> this.writeTaskList(taskList, output));
+    }
+
+    /**
+     * Writes the given {@code TaskList} to {@code output} task by task, without
+     * building the whole list as one {@code String} first.
+     *
+     * @param taskList The taskList to write.
+     * @param output   Destination of the list, such as a {@code Writer} or {@code StringBuilder}.
+     * @throws DuchessException If the task list changes size during writing, resulting
+     *                          in index out of bounds.
+     */
+    public void writeTaskList(TaskList taskList, Appendable output) throws DuchessException {
+        writeAll(output, taskList.size(), taskList::getTask, TASK_LIST_HEADER, TASK_LIST_EMPTY);
+    }
+
+    /**
+     * Returns one page of the given {@code TaskList} formatted, task by task. In
+     * console mode the page is written straight to the console instead, and an empty
+     * {@code String} is returned.
+     *
+     * @param taskList The taskList to print.
+     * @param page     One-based page number, which must exist if the list is not empty.
+     * @param pageSize Number of tasks on each page.
+     * @return The page of the {@code TaskList} formatted as a {@code String}.
+     * @throws DuchessException If the task list changes size during printing, resulting
+     *                          in index out of bounds.
+     */
+    public String printTaskListPage(TaskList taskList, int page, int pageSize) throws DuchessException {
+        return this.render(output -> this.writeTaskListPage(taskList, page, pageSize, output));
     }
 
     /**
-     * Returns out the given {@code TaskList}'s archive formatted, task by task.
+     * Writes one page of the given {@code TaskList} to {@code output} line by line,
+     * without building the whole page as one {@code String} first.
+     *
+     * @param taskList The taskList to write.
+     * @param page     One-based page number, which must exist if the list is not empty.
+     * @param pageSize Number of tasks on each page.
+     * @param output   Destination of the page, such as a {@code Writer} or {@code StringBuilder}.
+     * @throws DuchessException If the task list changes size during writing, resulting
+     *                          in index out of bounds.
+     */
+    public void writeTaskListPage(TaskList taskList, int page, int pageSize, Appendable output)
+            throws DuchessException {
+        writePage(output, taskList.size(), taskList::getTask, page, pageSize, TASK_LIST_HEADER, TASK_LIST_EMPTY);
+    }
+
+    /**
+     * Returns out the given {@code TaskList}'s archive formatted, task by task. In
+     * console mode the archive is written straight to the console instead, and an
+     * empty {@code String} is returned.
      *
      * @param taskList The taskList containing the archive to print.
      * @return The {@code TaskList}'s archive formatted {@code String}.
@@ -102,18 +163,65 @@ public class Ui {
      *                          in index out of bounds.
      */
     public String printArchive(TaskList taskList) throws DuchessException {
-        int size = taskList.archiveSize();
-        if (size > 0) {
-            // Solution below adapted from https://stackoverflow.com/a/18552071
-            List<String> result = IntStream.range(0, size)
-                    .mapToObj(i -> (i + 1) + ".\t" + taskList.getArchivedTask(i)).collect(Collectors.toList());
-            result.add(0, "I'm impressed you actually have tasks completed and archived.");
-            result.add(1, "Colour me surprised:");
-            String[] resultToPrint = new String[result.size()];
-            return this.print(result.toArray(resultToPrint));
-        } else {
-            return this.print("You have yet to archive any tasks... Get working!");
-        }
+        return this.render(output -> this.writeArchive(taskList, output));
+    }
+
+    /**
+     * Writes the given {@code TaskList}'s archive to {@code output} task by task,
+     * without building the whole archive as one {@code String} first.
+     *
+     * @param taskList The taskList containing the archive to write.
+     * @param output   Destination of the archive, such as a {@code Writer} or {@code StringBuilder}.
+     * @throws DuchessException If the archive changes size during writing, resulting
+     *                          in index out of bounds.
+     */
+    public void writeArchive(TaskList taskList, Appendable output) throws DuchessException {
+        writeAll(output, taskList.archiveSize(), taskList::getArchivedTask, ARCHIVE_HEADER, ARCHIVE_EMPTY);
+    }
+
+    /**
+     * Returns one page of the given {@code TaskList}'s archive formatted, task by task.
+     * In console mode the page is written straight to the console instead, and an
+     * empty {@code String} is returned.
+     *
+     * @param taskList The taskList containing the archive to print.
+     * @param page     One-based page number, which must exist if the archive is not empty.
+     * @param pageSize Number of tasks on each page.
+     * @return The page of the archive formatted as a {@code String}.
+     * @throws DuchessException If the archive changes size during printing, resulting
+     *                          in index out of bounds.
+     */
+    public String printArchivePage(TaskList taskList, int page, int pageSize) throws DuchessException {
+        return this.render(output -> this.writeArchivePage(taskList, page, pageSize, output));
+    }
+
+    /**
+     * Writes one page of the given {@code TaskList}'s archive to {@code output} line
+     * by line, without building the whole page as one {@code String} first.
+     *
+     * @param taskList The taskList containing the archive to write.
+     * @param page     One-based page number, which must exist if the archive is not empty.
+     * @param pageSize Number of tasks on each page.
+     * @param output   Destination of the page, such as a {@code Writer} or {@code StringBuilder}.
+     * @throws DuchessException If the archive changes size during writing, resulting
+     *                          in index out of bounds.
+     */
+    public void writeArchivePage(TaskList taskList, int page, int pageSize, Appendable output)
+            throws DuchessException {
+        writePage(output, taskList.archiveSize(), taskList::getArchivedTask, page, pageSize, ARCHIVE_HEADER,
+                ARCHIVE_EMPTY);
+    }
+
+    /**
+     * Returns the number of pages needed to show {@code size} tasks.
+     *
+     * @param size     Number of tasks.
+     * @param pageSize Number of tasks on each page.
+     * @return Number of pages, which is at least 1.
+     */
+    public static int getNumOfPages(int size, int pageSize) {
+        assert pageSize > 0;
+        return Math.max(1, (int) ((size + (long) pageSize - 1) / pageSize));
     }
 
     /**
@@ -128,6 +236,7 @@ public class Ui {
             return this.print("Couldn't find anything that matches what you want.",
                     "I sure hope you're not testing me!");
         } else {
+            final long startTime = System.nanoTime();
             // Solution below adapted from https://stackoverflow.com/a/18552071
             List<String> result = IntStream.range(0, filteredTaskList.size()).mapToObj(i -> {
                 Pair<Task, Integer> pair = filteredTaskList.get(i);
@@ -136,10 +245,111 @@ public class Ui {
             }).collect(Collectors.toList());
             result.add(0, "Not bad, I found the following:");
             String[] resultToPrint = new String[result.size()];
+            CommandMetrics.recordPhase(Phase.RENDER, System.nanoTime() - startTime);
             return this.print(result.toArray(resultToPrint));
         }
     }
 
+    /**
+     * Returns one page of the deadlines due between two days, grouped by the day they
+     * are due on. The occurrences are written as they are taken from
+     * {@code occurrences}, so recurring deadlines are never expanded beyond what is
+     * shown, and the user is told how to see the next page if there are more.
+     *
+     * @param from        First day of the agenda.
+     * @param to          Last day of the agenda.
+     * @param occurrences Occurrences due from the start of the page to {@code to} in
+     *                    order of due time.
+     * @param page        One-based number of the page.
+     * @param pageSize    Most occurrences to show on the page.
+     * @return The page of the agenda formatted as a {@code String}.
+     */
+    public String printAgenda(LocalDate from, LocalDate to, Iterator<Occurrence> occurrences, int page,
+                              int pageSize) {
+        String range = AGENDA_DAY.format(from) + " to " + AGENDA_DAY.format(to);
+        if (!occurrences.hasNext()) {
+            return this.print("Nothing is due from " + range + ".", "Enjoy it while it lasts.");
+        }
+        final long startTime = System.nanoTime();
+        StringBuilder output = new StringBuilder();
+        writeLines(output, "Here's everything due from " + range + ":");
+        LocalDate currentDay = null;
+        for (int i = 0; i < pageSize && occurrences.hasNext(); i++) {
+            Occurrence occurrence = occurrences.next();
+            LocalDate day = occurrence.getDueTime().toLocalDate();
+            if (!day.equals(currentDay)) {
+                writeLines(output, AGENDA_DAY.format(day) + ":");
+                currentDay = day;
+            }
+            output.append(occurrence.getIndex() + 1).append(".\t").append(occurrence).append('\n');
+        }
+        if (occurrences.hasNext()) {
+            writeLines(output, "Page " + page + ". There's more, add 'page " + (page + 1) + "' to see it.");
+        } else if (page > 1) {
+            writeLines(output, "Page " + page + ", the last one.");
+        }
+        CommandMetrics.recordPhase(Phase.RENDER, System.nanoTime() - startTime);
+        return output.toString();
+    }
+
+    /**
+     * Returns the scheduled events taking place from one day to another, in order of
+     * when they start.
+     *
+     * @param from   First day, inclusive.
+     * @param to     Last day, inclusive.
+     * @param events {@code Event}s taking place over those days.
+     * @return Events message.
+     */
+    public String printEvents(LocalDate from, LocalDate to, List<Event> events) {
+        String range = AGENDA_DAY.format(from) + " to " + AGENDA_DAY.format(to);
+        if (events.isEmpty()) {
+            return this.print("Nothing is on from " + range + ".", "Time to go and do something, perhaps?");
+        }
+        String[] result = new String[events.size() + 1];
+        result[0] = "Here's everything on from " + range + ":";
+        for (int i = 0; i < events.size(); i++) {
+            result[i + 1] = (i + 1) + ".\t" + events.get(i);
+        }
+        return this.print(result);
+    }
+
+    /**
+     * Returns the incomplete tasks to do first, in order, along with their indices in
+     * the full list.
+     *
+     * @param nextTasks Pairs of the tasks to do first and their indices in the list.
+     * @return Next tasks message.
+     */
+    public String printNextTasks(List<Pair<Task, Integer>> nextTasks) {
+        if (nextTasks.isEmpty()) {
+            return this.print("You have nothing left to do... for now.", "Enjoy it while it lasts.");
+        }
+        String[] result = new String[nextTasks.size() + 1];
+        result[0] = "If I were you, I'd get these done first:";
+        for (int i = 0; i < nextTasks.size(); i++) {
+            Pair<Task, Integer> pair = nextTasks.get(i);
+            result[i + 1] = (i + 1) + ".\t" + pair.getFirst() + "\n\t[REF INDEX FOR DELETE/DONE: "
+                    + (pair.getSecond() + 1) + "]";
+        }
+        return this.print(result);
+    }
+
+    /**
+     * Returns the warning that a new event takes place at the same time as others.
+     *
+     * @param events {@code Event}s that clash with the new event.
+     * @return Clash warning message.
+     */
+    public String printClashingEvents(List<Event> events) {
+        String[] result = new String[events.size() + 1];
+        result[0] = "You do know that clashes with " + (events.size() == 1 ? "this?" : "these?");
+        for (int i = 0; i < events.size(); i++) {
+            result[i + 1] = events.get(i).toString();
+        }
+        return this.print(result);
+    }
+
     /**
      * Returns the success message when a task is added.
      *
@@ -166,6 +376,24 @@ public class Ui {
                 "Now I'm tracking " + size + " " + (size == 1 ? "task" : "tasks") + " for you.");
     }
 
+    /**
+     * Returns the success message when multiple tasks are deleted together.
+     *
+     * @param tasks {@code Task}s deleted from a {@code TaskList}.
+     * @param size  New size of the {@code TaskList} after the {@code Task}s have been
+     *              deleted.
+     * @return The deletion message {@code String}.
+     */
+    public String printTasksDeleted(List<Task> tasks, int size) {
+        String[] result = new String[tasks.size() + 2];
+        result[0] = "Great! " + tasks.size() + " fewer things for me to track for you.";
+        for (int i = 0; i < tasks.size(); i++) {
+            result[i + 1] = tasks.get(i) + " [DELETED]";
+        }
+        result[tasks.size() + 1] = "Now I'm tracking " + size + " " + (size == 1 ? "task" : "tasks") + " for you.";
+        return this.print(result);
+    }
+
     /**
      * Returns the success message for the deletion of all tasks.
      *
@@ -190,6 +418,39 @@ public class Ui {
         return this.print("Oh? You actually completed something? Impressive...", task.toString());
     }
 
+    /**
+     * Returns the completion message for multiple tasks formatted appropriately.
+     *
+     * @param tasks The tasks that are completed.
+     * @return The completion message {@code String}.
+     */
+    public String printTasksCompleted(List<Task> tasks) {
+        String[] result = new String[tasks.size() + 1];
+        result[0] = "Oh? You actually completed " + tasks.size() + " things? Impressive...";
+        for (int i = 0; i < tasks.size(); i++) {
+            result[i + 1] = tasks.get(i).toString();
+        }
+        return this.print(result);
+    }
+
+    /**
+     * Returns the caught up message for recurring deadlines formatted appropriately,
+     * with the number of deadlines each of them skipped.
+     *
+     * @param tasks {@code Pair}s of the caught up tasks and the number of deadlines they skipped.
+     * @return The catch up message {@code String}.
+     */
+    public String printTasksCaughtUp(List<Pair<Task, Integer>> tasks) {
+        String[] result = new String[tasks.size() + 1];
+        result[0] = "Better late than never, I suppose. I've moved on past everything you missed.";
+        for (int i = 0; i < tasks.size(); i++) {
+            int numOfSkipped = tasks.get(i).getSecond();
+            result[i + 1] = tasks.get(i).getFirst().toString() + " (skipped " + numOfSkipped
+                    + (numOfSkipped == 1 ? " deadline)" : " deadlines)");
+        }
+        return this.print(result);
+    }
+
     /**
      * Returns the task snoozed message formatted appropriately.
      *
@@ -202,6 +463,23 @@ public class Ui {
                 + "I've pushed back the deadline for you by " + snoozePeriod + ".", task.toString());
     }
 
+    /**
+     * Returns the snoozed message for multiple tasks formatted appropriately.
+     *
+     * @param tasks        The tasks that are snoozed.
+     * @param snoozePeriod The duration that the tasks were snoozed for.
+     * @return The success message {@code String}.
+     */
+    public String printTasksSnoozed(List<Task> tasks, String snoozePeriod) {
+        String[] result = new String[tasks.size() + 1];
+        result[0] = "Behind schedule as always... "
+                + "I've pushed back " + tasks.size() + " deadlines for you by " + snoozePeriod + ".";
+        for (int i = 0; i < tasks.size(); i++) {
+            result[i + 1] = tasks.get(i).toString();
+        }
+        return this.print(result);
+    }
+
     /**
      * Returns a {@code TaskList} sorted success message formatted appropriately.
      *
@@ -250,19 +528,26 @@ public class Ui {
         return this.print("Is this the first time I'm talking with you?",
                 "I can't do everything for you, you know? Here's what I do:",
                 new String(new char[45]).replace("\0", "-"),
-                "list: View current tasks.",
+                "list [page N [size M]]: View current tasks, optionally M (default 20) at a time.",
+                "list #TAG [-#TAG]: View tasks with every #TAG and without any -#TAG.",
                 "todo DESC: Create ToDo.",
-                "event DESC /at TIME: Create Event.",
+                "event DESC /at TIME [- TIME]: Create Event.",
                 "deadline DESC /by TIME [/every FREQ] [/stop TIME]: Create Deadline.",
-                "done INDEX: Complete task at index.",
+                "done INDEX(ES): Complete task(s) at index(es) e.g. 1 4 7-20.",
+                "done INDEX(ES) /catchup: Skip every overdue deadline of recurring deadline(s).",
                 "find WORD(S): Find tasks with said word(s) in name.",
-                "delete INDEX / all: Delete task at index / delete all tasks + archive.",
+                "delete INDEX(ES) / all: Delete task(s) at index(es) / delete all tasks + archive.",
                 "sort: Sorts your list of tasks.",
-                "snooze INDEX /for DURATION: Pushes back deadline by given duration.",
+                "snooze INDEX(ES) /for DURATION: Pushes back deadline(s) by given duration.",
+                "agenda TIME /to TIME [page N [size M]]: See deadlines due over those days, M (default 20) at a time.",
+                "events TIME /to TIME: See every event on from one day to another.",
+                "next [N]: See the N (default 5) tasks to do first, by priority (!1 to !5) then deadline.",
                 "undo: Undo your last command that changed your tasks",
                 "archive: Archive all of your completed tasks",
-                "archive view/show: See your list of archived tasks",
+                "done/delete/archive where QUERY: Work on all tasks matching the query",
+                "archive view/show [page N [size M]]: See your list of archived tasks",
                 "stats [today/this week/this month/this year]: Get stats",
+                "metrics [reset]: See how long each command takes, or clear the measurements",
                 "bye: Bid farewell (sounds great!).",
                 "help: See this message again.",
                 new String(new char[45]).replace("\0", "-"),
@@ -273,10 +558,16 @@ public class Ui {
                 "Monday/Tuesday etc.",
                 new String(new char[45]).replace("\0", "-"),
                 "Accepted frequency formats are:",
-                "Daily/Weekly/Biweekly/Fortnightly/Yearly",
+                "Daily/Weekly/Biweekly/Fortnightly/Monthly/Yearly",
+                "RRULE e.g. FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10",
                 new String(new char[45]).replace("\0", "-"),
                 "Accepted duration formats are:",
-                "[number] hours/days/weeks/months/years");
+                "[number] hours/days/weeks/months/years",
+                new String(new char[45]).replace("\0", "-"),
+                "Queries are made of conditions joined by and/or/not e.g.",
+                "desc~\"standup\" and completed before 1-1-26",
+                "deadline/created/completed </<=/>/>=/= TIME",
+                "incomplete, overdue, type=todo/event/deadline/recurring");
     }
 
     /**
@@ -319,7 +610,108 @@ public class Ui {
         return this.print("The following data is for " + period + ":", "You created " + stats[0]
                 + (stats[0] == 1 ? " task." : " tasks."), "You completed " + stats[1]
                 + (stats[1] == 1 ? " task." : " tasks."), "Out of those, " + stats[2]
-                + (stats[2] == 1 ? " was " : " were ") + "completed on time.", "Interesting!");
+                + (stats[2] == 1 ? " was " : " were ") + "completed on time.", "You skipped " + stats[3]
+                + (stats[3] == 1 ? " overdue deadline" : " overdue deadlines") + " by catching up.",
+                "Interesting!");
+    }
+
+    /**
+     * Returns the metrics of every command run so far.
+     *
+     * @param summaries Summaries of the metrics of each command.
+     * @return Metrics message.
+     */
+    public String printMetrics(List<CommandSummary> summaries) {
+        if (summaries.isEmpty()) {
+            return this.print("You haven't run any commands yet. Why are you even asking?");
+        }
+        String[] result = new String[summaries.size() + 1];
+        result[0] = "Here's how hard I've been working for you:";
+        for (int i = 0; i < summaries.size(); i++) {
+            result[i + 1] = summaries.get(i).toString();
+        }
+        return this.print(result);
+    }
+
+    /**
+     * Returns the message for clearing the metrics.
+     *
+     * @return Metrics reset message.
+     */
+    public String printMetricsReset() {
+        return this.print("Fine, I'll forget how hard I've been working.");
+    }
+
+    /**
+     * Returns the message for a reminder of an upcoming or overdue deadline.
+     *
+     * @param reminder {@code Reminder} that is due.
+     * @return Reminder message.
+     */
+    public String printReminder(Reminder reminder) {
+        if (reminder.isOverdue()) {
+            return this.print("Tick tock! Time's up for this one:", reminder.getDeadline().toString(),
+                    "Don't say I didn't warn you.");
+        }
+        return this.print("Just so you don't forget, this is due in " + formatLeadTime(reminder.getLeadTime()) + ":",
+                reminder.getDeadline().toString());
+    }
+
+    /**
+     * Returns the error message for a command that failed in a batch script.
+     *
+     * @param lineNumber   Line of the script that the command is on.
+     * @param command      Command that failed.
+     * @param errorMessage Error message of the failure.
+     * @return The batch error message {@code String}.
+     */
+    public String printBatchError(int lineNumber, String command, String errorMessage) {
+        return this.print("Line " + lineNumber + ": " + command, errorMessage);
+    }
+
+    /**
+     * Returns the summary of a batch script run with the time taken by each phase.
+     *
+     * @param numOfCommands Number of commands executed successfully.
+     * @param numOfErrors   Number of commands that failed.
+     * @param readTime      Nanoseconds taken to read the script.
+     * @param executeTime   Nanoseconds taken to parse and execute the commands.
+     * @param saveTime      Nanoseconds taken to save the tasks.
+     * @return The batch summary {@code String}.
+     */
+    public String printBatchSummary(int numOfCommands, int numOfErrors, long readTime, long executeTime,
+                                    long saveTime) {
+        return this.print("Done with your script. I ran " + numOfCommands
+                        + (numOfCommands == 1 ? " command" : " commands") + " with " + numOfErrors
+                        + (numOfErrors == 1 ? " error." : " errors."),
+                "Reading took " + formatNanos(readTime) + ".",
+                "Running took " + formatNanos(executeTime) + ".",
+                "Saving took " + formatNanos(saveTime) + ".");
+    }
+
+    private String formatNanos(long nanos) {
+        return String.format("%.2f ms", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Returns the given lead time in the largest units that it is a whole number
+     * of, such as "1 day", "90 minutes" or "36 hours".
+     *
+     * @param leadTime Lead time to format, which must be positive.
+     * @return Formatted lead time.
+     */
+    private String formatLeadTime(Duration leadTime) {
+        long minutes = leadTime.toMinutes();
+        if (minutes % (24 * 60) == 0) {
+            return formatCount(minutes / (24 * 60), "day");
+        } else if (minutes % 60 == 0) {
+            return formatCount(minutes / 60, "hour");
+        }
+        return formatCount(minutes, "minute");
+    }
+
+    private String formatCount(long count, String unit) {
+        return count + " " + unit + (count == 1 ? "" : "s");
     }
 
     // Console Mode Specific Methods
@@ -351,10 +743,89 @@ public class Ui {
         System.out.println(output);
     }
 
+    /**
+     * Sets the {@code Writer} that task lists are written to line by line in console
+     * mode, instead of being returned as one {@code String}.
+     *
+     * @param consoleWriter {@code Writer} over the console.
+     */
+    public void setConsoleWriter(Writer consoleWriter) {
+        this.consoleWriter = consoleWriter;
+    }
+
     /**
      * Prints the console welcome message to console for console mode.
      */
     public void printConsoleWelcome() {
         this.printToConsole("Hello from\n" + logo + "\nMy name is Duchess, as you can see above.\nHow may I help you?");
     }
+
+    /**
+     * Writes the output of {@code writer} to the console in console mode and returns
+     * an empty {@code String}, or returns the output otherwise.
+     */
+    private String render(Consumer<Appendable> writer) {
+        if (this.consoleWriter == null) {
+            StringBuilder output = new StringBuilder();
+            writer.accept(output);
+            return output.toString();
+        }
+        try {
+            writer.accept(this.consoleWriter);
+            this.consoleWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return "";
+    }
+
+    private static void writeAll(Appendable output, int size, IntFunction<Task> getTask, String[] header,
+                                 String emptyMessage) throws DuchessException {
+        if (size == 0) {
+            writeLines(output, emptyMessage);
+            return;
+        }
+        writeLines(output, header);
+        writeTasks(output, getTask, 0, size);
+    }
+
+    private static void writePage(Appendable output, int size, IntFunction<Task> getTask, int page, int pageSize,
+                                  String[] header, String emptyMessage) throws DuchessException {
+        assert page > 0 && pageSize > 0;
+        if (size == 0) {
+            writeLines(output, emptyMessage);
+            return;
+        }
+        int numOfPages = getNumOfPages(size, pageSize);
+        assert page <= numOfPages;
+        int fromIndex = (page - 1) * pageSize;
+        int toIndex = (int) Math.min(size, (long) fromIndex + pageSize);
+        writeLines(output, header);
+        writeTasks(output, getTask, fromIndex, toIndex);
+        writeLines(output, "Page " + page + " of " + numOfPages + ".");
+    }
+
+    private static void writeTasks(Appendable output, IntFunction<Task> getTask, int fromIndex, int toIndex)
+            throws DuchessException {
+        final long startTime = System.nanoTime();
+        try {
+            for (int i = fromIndex; i < toIndex; i++) {
+                output.append(String.valueOf(i + 1)).append(".\t").append(getTask.apply(i).toString()).append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            CommandMetrics.recordPhase(Phase.RENDER, System.nanoTime() - startTime);
+        }
+    }
+
+    private static void writeLines(Appendable output, String... lines) {
+        try {
+            for (String line : lines) {
+                output.append(line).append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,406 @@
+package duke.util;
+
+import java.util.Arrays;
+
+/**
+ * The {@code CompressedBitmap} is a set of non-negative {@code int}s laid out as a
+ * roaring bitmap, so that sets of positions in long lists take little space and can
+ * be intersected quickly.
+ *
+ * <p>Values are grouped into chunks of 65536 by their upper 16 bits. Each chunk is
+ * kept as a sorted array of its lower 16 bits while it holds up to 4096 values, and
+ * as a plain bitmap of 1024 {@code long}s once it holds more. Intersecting two
+ * bitmaps then only visits the chunks they have in common, and two dense chunks are
+ * intersected 64 values at a time.
+ */
+public class CompressedBitmap {
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int NUM_OF_WORDS = CHUNK_SIZE / Long.SIZE;
+
+    private char[] keys;
+    private Container[] containers;
+    private int numOfContainers;
+
+    /**
+     * Initialises an empty {@code CompressedBitmap}.
+     */
+    public CompressedBitmap() {
+        this.keys = new char[4];
+        this.containers = new Container[4];
+    }
+
+    /**
+     * Returns a {@code CompressedBitmap} holding every value from 0 until before
+     * {@code end}.
+     *
+     * @param end End of the range, exclusive.
+     * @return {@code CompressedBitmap} of the range.
+     */
+    public static CompressedBitmap ofRange(int end) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int start = 0; start < end; start += CHUNK_SIZE) {
+            bitmap.append((char) (start >>> CHUNK_BITS), Container.ofRange(Math.min(end - start, CHUNK_SIZE)));
+        }
+        return bitmap;
+    }
+
+    /**
+     * Adds a value to the {@code CompressedBitmap}. Adding values in increasing order
+     * is fastest.
+     *
+     * @param value Non-negative value to add.
+     */
+    public void add(int value) {
+        assert value >= 0;
+        char key = (char) (value >>> CHUNK_BITS);
+        int index = this.numOfContainers > 0 && this.keys[this.numOfContainers - 1] == key
+                ? this.numOfContainers - 1
+                : Arrays.binarySearch(this.keys, 0, this.numOfContainers, key);
+        if (index >= 0) {
+            this.containers[index].add((char) value);
+            return;
+        }
+        this.insert(-index - 1, key, Container.ofValue((char) value));
+    }
+
+    /**
+     * Removes the given values from the {@code CompressedBitmap} and moves every value
+     * above them down by the number of removed values below it, as the positions in a
+     * list move when items are removed from it. Chunks below the first removed value
+     * are left untouched.
+     *
+     * @param removed Sorted and distinct non-negative values to remove.
+     */
+    public void removeAndShift(int[] removed) {
+        if (removed.length == 0) {
+            return;
+        }
+        int start = Arrays.binarySearch(this.keys, 0, this.numOfContainers, (char) (removed[0] >>> CHUNK_BITS));
+        start = start >= 0 ? start : -start - 1;
+        int numOfValues = 0;
+        for (int i = start; i < this.numOfContainers; i++) {
+            numOfValues += this.containers[i].cardinality;
+        }
+        int[] values = new int[numOfValues];
+        int offset = 0;
+        for (int i = start; i < this.numOfContainers; i++) {
+            offset = this.containers[i].writeTo(values, offset, this.keys[i] << CHUNK_BITS);
+            this.containers[i] = null;
+        }
+        this.numOfContainers = start;
+        int numOfRemovedBelow = 0;
+        for (int value : values) {
+            while (numOfRemovedBelow < removed.length && removed[numOfRemovedBelow] < value) {
+                numOfRemovedBelow++;
+            }
+            if (numOfRemovedBelow == removed.length || removed[numOfRemovedBelow] != value) {
+                this.add(value - numOfRemovedBelow);
+            }
+        }
+    }
+
+    /**
+     * Returns whether the {@code CompressedBitmap} holds the given value.
+     *
+     * @param value Value to look for.
+     * @return Whether the value is in the bitmap.
+     */
+    public boolean contains(int value) {
+        int index = Arrays.binarySearch(this.keys, 0, this.numOfContainers, (char) (value >>> CHUNK_BITS));
+        return value >= 0 && index >= 0 && this.containers[index].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in the {@code CompressedBitmap}.
+     *
+     * @return Number of values.
+     */
+    public int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < this.numOfContainers; i++) {
+            cardinality += this.containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns a new {@code CompressedBitmap} of the values in both this bitmap and
+     * {@code other}.
+     *
+     * @param other Bitmap to intersect with.
+     * @return Intersection of the bitmaps.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < this.numOfContainers && j < other.numOfContainers) {
+            if (this.keys[i] < other.keys[j]) {
+                i++;
+            } else if (this.keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(this.keys[i], this.containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new {@code CompressedBitmap} of the values in this bitmap that are not
+     * in {@code other}.
+     *
+     * @param other Bitmap of values to leave out.
+     * @return Difference of the bitmaps.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < this.numOfContainers; i++) {
+            while (j < other.numOfContainers && other.keys[j] < this.keys[i]) {
+                j++;
+            }
+            boolean isInOther = j < other.numOfContainers && other.keys[j] == this.keys[i];
+            result.append(this.keys[i],
+                    isInOther ? this.containers[i].andNot(other.containers[j]) : this.containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in the {@code CompressedBitmap} in increasing order.
+     *
+     * @return Sorted values.
+     */
+    public int[] toArray() {
+        int[] values = new int[this.getCardinality()];
+        int offset = 0;
+        for (int i = 0; i < this.numOfContainers; i++) {
+            offset = this.containers[i].writeTo(values, offset, this.keys[i] << CHUNK_BITS);
+        }
+        return values;
+    }
+
+    // Private helper methods
+
+    /**
+     * Adds a container after every other container, unless it is empty.
+     */
+    private void append(char key, Container container) {
+        if (container != null) {
+            this.insert(this.numOfContainers, key, container);
+        }
+    }
+
+    private void insert(int index, char key, Container container) {
+        if (this.numOfContainers == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, this.keys.length * 2);
+            this.containers = Arrays.copyOf(this.containers, this.containers.length * 2);
+        }
+        System.arraycopy(this.keys, index, this.keys, index + 1, this.numOfContainers - index);
+        System.arraycopy(this.containers, index, this.containers, index + 1, this.numOfContainers - index);
+        this.keys[index] = key;
+        this.containers[index] = container;
+        this.numOfContainers++;
+    }
+
+    /**
+     * The {@code Container} holds the lower 16 bits of the values in one chunk, either
+     * as a sorted array when there are few of them or as a bitmap when there are many.
+     * Exactly one of {@code values} and {@code words} is set.
+     */
+    private static class Container {
+        private char[] values;
+        private long[] words;
+        private int cardinality;
+
+        static Container ofValue(char value) {
+            Container container = new Container();
+            container.values = new char[] {value, 0, 0, 0};
+            container.cardinality = 1;
+            return container;
+        }
+
+        static Container ofRange(int end) {
+            long[] words = new long[NUM_OF_WORDS];
+            Arrays.fill(words, 0, end / Long.SIZE, -1L);
+            if (end % Long.SIZE != 0) {
+                words[end / Long.SIZE] = (1L << end) - 1;
+            }
+            return ofWords(words);
+        }
+
+        /**
+         * Returns a container of the set bits of {@code words}, as an array if there
+         * are few of them, or {@code null} if there are none.
+         */
+        static Container ofWords(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+            Container container = new Container();
+            container.cardinality = cardinality;
+            if (cardinality > ARRAY_LIMIT) {
+                container.words = words;
+                return container;
+            }
+            container.values = new char[cardinality];
+            int index = 0;
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    container.values[index++] = (char) (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return container;
+        }
+
+        static Container ofValues(char[] values, int cardinality) {
+            if (cardinality == 0) {
+                return null;
+            }
+            Container container = new Container();
+            container.values = values;
+            container.cardinality = cardinality;
+            return container;
+        }
+
+        void add(char value) {
+            if (this.words != null) {
+                long bit = 1L << value;
+                if ((this.words[value / Long.SIZE] & bit) == 0) {
+                    this.words[value / Long.SIZE] |= bit;
+                    this.cardinality++;
+                }
+                return;
+            }
+            int index = this.cardinality > 0 && this.values[this.cardinality - 1] < value
+                    ? -this.cardinality - 1
+                    : Arrays.binarySearch(this.values, 0, this.cardinality, value);
+            if (index >= 0) {
+                return;
+            }
+            if (this.cardinality == ARRAY_LIMIT) {
+                this.toWords();
+                this.add(value);
+                return;
+            }
+            index = -index - 1;
+            if (this.cardinality == this.values.length) {
+                this.values = Arrays.copyOf(this.values, Math.min(this.values.length * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(this.values, index, this.values, index + 1, this.cardinality - index);
+            this.values[index] = value;
+            this.cardinality++;
+        }
+
+        boolean contains(char value) {
+            return this.words != null
+                    ? (this.words[value / Long.SIZE] & (1L << value)) != 0
+                    : Arrays.binarySearch(this.values, 0, this.cardinality, value) >= 0;
+        }
+
+        Container and(Container other) {
+            if (this.words != null && other.words != null) {
+                long[] words = new long[NUM_OF_WORDS];
+                for (int i = 0; i < NUM_OF_WORDS; i++) {
+                    words[i] = this.words[i] & other.words[i];
+                }
+                return ofWords(words);
+            }
+            if (this.words != null) {
+                return other.and(this);
+            }
+            char[] values = new char[this.cardinality];
+            int count = 0;
+            if (other.words != null) {
+                for (int i = 0; i < this.cardinality; i++) {
+                    if (other.contains(this.values[i])) {
+                        values[count++] = this.values[i];
+                    }
+                }
+                return ofValues(values, count);
+            }
+            int i = 0;
+            int j = 0;
+            while (i < this.cardinality && j < other.cardinality) {
+                if (this.values[i] < other.values[j]) {
+                    i++;
+                } else if (this.values[i] > other.values[j]) {
+                    j++;
+                } else {
+                    values[count++] = this.values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return ofValues(values, count);
+        }
+
+        Container andNot(Container other) {
+            if (this.words != null) {
+                long[] words = this.words.clone();
+                if (other.words != null) {
+                    for (int i = 0; i < NUM_OF_WORDS; i++) {
+                        words[i] &= ~other.words[i];
+                    }
+                } else {
+                    for (int i = 0; i < other.cardinality; i++) {
+                        words[other.values[i] / Long.SIZE] &= ~(1L << other.values[i]);
+                    }
+                }
+                return ofWords(words);
+            }
+            char[] values = new char[this.cardinality];
+            int count = 0;
+            for (int i = 0; i < this.cardinality; i++) {
+                if (!other.contains(this.values[i])) {
+                    values[count++] = this.values[i];
+                }
+            }
+            return ofValues(values, count);
+        }
+
+        Container copy() {
+            Container container = new Container();
+            container.values = this.values == null ? null : Arrays.copyOf(this.values, this.cardinality);
+            container.words = this.words == null ? null : this.words.clone();
+            container.cardinality = this.cardinality;
+            return container;
+        }
+
+        /**
+         * Writes the values in the container, with the given upper bits, into
+         * {@code output} from {@code offset}, and returns the offset after them.
+         */
+        int writeTo(int[] output, int offset, int high) {
+            if (this.values != null) {
+                for (int i = 0; i < this.cardinality; i++) {
+                    output[offset++] = high | this.values[i];
+                }
+                return offset;
+            }
+            for (int i = 0; i < NUM_OF_WORDS; i++) {
+                for (long word = this.words[i]; word != 0; word &= word - 1) {
+                    output[offset++] = high | (i * Long.SIZE + Long.numberOfTrailingZeros(word));
+                }
+            }
+            return offset;
+        }
+
+        private void toWords() {
+            this.words = new long[NUM_OF_WORDS];
+            for (int i = 0; i < this.cardinality; i++) {
+                this.words[this.values[i] / Long.SIZE] |= 1L << this.values[i];
+            }
+            this.values = null;
+        }
+    }
+}
@@ -5,10 +5,13 @@ import static duke.util.MagicStrings.DATE_TIME_OVERDUE;
 import static duke.util.MagicStrings.DATE_TIME_TODAY;
 import static duke.util.MagicStrings.DATE_TIME_TOMORROW;
 import static duke.util.MagicStrings.DATE_TIME_YESTERDAY;
-import static java.time.temporal.ChronoUnit.DAYS;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * The {@code DateTimeStringFormatter} is a helper class with
@@ -20,12 +23,19 @@ import java.time.format.DateTimeFormatter;
  *
  * <p>An example would be "Today" if the given {@code LocalDateTime}
  * object is dated today.
+ *
+ * <p>While a {@code RenderContext} is open on the current thread, every
+ * {@code LocalDateTime} is formatted relative to the time the context was
+ * opened, and labels already formatted within the context are reused.
  */
 public class DateTimeStringFormatter {
-    private static final DateTimeFormatter HOUR_MINUTES = DateTimeFormatter.ofPattern("h:mm a");
-    private static final DateTimeFormatter MONTH_HOUR_MINUTES = DateTimeFormatter.ofPattern("MMM d h:mm a");
-    private static final DateTimeFormatter MONTH_YEAR_HOUR_MINUTES = DateTimeFormatter.ofPattern("MMM d yyyy h:mm a");
-    private static final DateTimeFormatter WEEKDAY_HOUR_MINUTES = DateTimeFormatter.ofPattern("EEE h:mm a");
+    private static final DateTimeFormatter HOUR_MINUTES = withLowerAmPm("h:mm ");
+    private static final DateTimeFormatter MONTH_HOUR_MINUTES = withLowerAmPm("MMM d h:mm ");
+    private static final DateTimeFormatter MONTH_YEAR_HOUR_MINUTES = withLowerAmPm("MMM d yyyy h:mm ");
+    private static final DateTimeFormatter WEEKDAY_HOUR_MINUTES = withLowerAmPm("EEE h:mm ");
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final ThreadLocal<RenderContext> CURRENT_CONTEXT = new ThreadLocal<>();
 
     /**
      * Formats {@code LocalDateTime} objects into meaningful {@code String}s.
@@ -35,41 +45,128 @@ public class DateTimeStringFormatter {
      * @return Meaningfully formatted {@code String}.
      */
     public static String formatDateTime(LocalDateTime dateTime, boolean isCompleted) {
-        LocalDateTime currentDateTime = LocalDateTime.now();
-        long differenceInDays = DAYS.between(dateTime.toLocalDate(), currentDateTime.toLocalDate());
-        boolean isToday = differenceInDays == 0;
-        boolean isOneDayDifference = Math.abs(differenceInDays) == 1;
-        boolean isDifferentYear = dateTime.getYear() != currentDateTime.getYear();
-        if (dateTime.isBefore(currentDateTime)) {
-            if (isToday) {
-                return lowerAmPm(DATE_TIME_TODAY + dateTime.format(HOUR_MINUTES)
-                        + (isCompleted ? BLANK : DATE_TIME_OVERDUE));
+        RenderContext context = CURRENT_CONTEXT.get();
+        if (context == null) {
+            return new RenderContext(LocalDateTime.now(), null).format(dateTime, isCompleted);
+        }
+        return context.getLabel(dateTime, isCompleted);
+    }
 
-            } else if (isOneDayDifference) {
-                // isYesterday
-                return lowerAmPm(DATE_TIME_YESTERDAY + dateTime.format(HOUR_MINUTES)
-                        + (isCompleted ? BLANK : DATE_TIME_OVERDUE));
-            } else if (isDifferentYear) {
-                return lowerAmPm(dateTime.format(MONTH_YEAR_HOUR_MINUTES) + (isCompleted ? BLANK : DATE_TIME_OVERDUE));
+    /**
+     * Opens a {@code RenderContext} on the current thread that captures the current
+     * time once. It should be closed in a {@code finally} block once the output of a
+     * command has been rendered.
+     *
+     * @return The opened {@code RenderContext}.
+     */
+    public static RenderContext openRenderContext() {
+        RenderContext context = new RenderContext(LocalDateTime.now(), CURRENT_CONTEXT.get());
+        CURRENT_CONTEXT.set(context);
+        return context;
+    }
+
+    private static DateTimeFormatter withLowerAmPm(String pattern) {
+        return new DateTimeFormatterBuilder()
+                .appendPattern(pattern)
+                .appendText(ChronoField.AMPM_OF_DAY, Map.of(0L, "am", 1L, "pm"))
+                .toFormatter();
+    }
+
+    private static long getEpochMinute(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().toEpochDay() * MINUTES_PER_DAY + dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+
+    /**
+     * The {@code RenderContext} holds the current time and day boundaries used to
+     * format dates for one command, along with the labels formatted so far.
+     */
+    public static class RenderContext implements AutoCloseable {
+        private final LocalDateTime currentDateTime;
+        private final long currentEpochDay;
+        private final int currentYear;
+        private final RenderContext previousContext;
+        private final Map<Long, String> labels;
+
+        private RenderContext(LocalDateTime currentDateTime, RenderContext previousContext) {
+            this.currentDateTime = currentDateTime;
+            this.currentEpochDay = currentDateTime.toLocalDate().toEpochDay();
+            this.currentYear = currentDateTime.getYear();
+            this.previousContext = previousContext;
+            this.labels = new HashMap<>();
+        }
+
+        /**
+         * Returns the time at which this context was opened.
+         *
+         * @return Current time of this context.
+         */
+        public LocalDateTime getCurrentDateTime() {
+            return this.currentDateTime;
+        }
+
+        /**
+         * Restores the context that was open before this one.
+         */
+        @Override
+        public void close() {
+            if (CURRENT_CONTEXT.get() == this) {
+                if (this.previousContext == null) {
+                    CURRENT_CONTEXT.remove();
+                } else {
+                    CURRENT_CONTEXT.set(this.previousContext);
+                }
             }
-            return lowerAmPm(dateTime.format(MONTH_HOUR_MINUTES) + (isCompleted ? BLANK : DATE_TIME_OVERDUE));
         }
 
-        boolean isThisWeek = differenceInDays > -7;
-        if (isToday) {
-            return lowerAmPm(DATE_TIME_TODAY + dateTime.format(HOUR_MINUTES));
-        } else if (isOneDayDifference) {
-            // isTomorrow
-            return lowerAmPm(DATE_TIME_TOMORROW + dateTime.format(HOUR_MINUTES));
-        } else if (isThisWeek) {
-            return lowerAmPm(dateTime.format(WEEKDAY_HOUR_MINUTES));
-        } else if (isDifferentYear) {
-            return lowerAmPm(dateTime.format(MONTH_YEAR_HOUR_MINUTES));
+        /**
+         * Returns the label for the given {@code dateTime}, reusing the label of an
+         * earlier {@code dateTime} in the same minute and bucket.
+         *
+         * @param dateTime    {@code LocalDateTime} object representing the deadline.
+         * @param isCompleted Whether the task has been completed.
+         * @return Meaningfully formatted {@code String}.
+         */
+        private String getLabel(LocalDateTime dateTime, boolean isCompleted) {
+            boolean isPast = dateTime.isBefore(this.currentDateTime);
+            long key = getEpochMinute(dateTime) * 4 + (isPast ? 2 : 0) + (isCompleted ? 1 : 0);
+            String label = this.labels.get(key);
+            if (label == null) {
+                label = this.format(dateTime, isCompleted);
+                this.labels.put(key, label);
+            }
+            return label;
         }
-        return lowerAmPm(dateTime.format(MONTH_HOUR_MINUTES));
-    }
 
-    private static String lowerAmPm(String dateTimeString) {
-        return dateTimeString.replace("AM", "am").replace("PM", "pm");
+        private String format(LocalDateTime dateTime, boolean isCompleted) {
+            long differenceInDays = this.currentEpochDay - dateTime.toLocalDate().toEpochDay();
+            boolean isToday = differenceInDays == 0;
+            boolean isOneDayDifference = Math.abs(differenceInDays) == 1;
+            boolean isDifferentYear = dateTime.getYear() != this.currentYear;
+            if (dateTime.isBefore(this.currentDateTime)) {
+                String overdueLabel = isCompleted ? BLANK : DATE_TIME_OVERDUE;
+                if (isToday) {
+                    return DATE_TIME_TODAY + HOUR_MINUTES.format(dateTime) + overdueLabel;
+                } else if (isOneDayDifference) {
+                    // isYesterday
+                    return DATE_TIME_YESTERDAY + HOUR_MINUTES.format(dateTime) + overdueLabel;
+                } else if (isDifferentYear) {
+                    return MONTH_YEAR_HOUR_MINUTES.format(dateTime) + overdueLabel;
+                }
+                return MONTH_HOUR_MINUTES.format(dateTime) + overdueLabel;
+            }
+
+            boolean isThisWeek = differenceInDays > -7;
+            if (isToday) {
+                return DATE_TIME_TODAY + HOUR_MINUTES.format(dateTime);
+            } else if (isOneDayDifference) {
+                // isTomorrow
+                return DATE_TIME_TOMORROW + HOUR_MINUTES.format(dateTime);
+            } else if (isThisWeek) {
+                return WEEKDAY_HOUR_MINUTES.format(dateTime);
+            } else if (isDifferentYear) {
+                return MONTH_YEAR_HOUR_MINUTES.format(dateTime);
+            }
+            return MONTH_HOUR_MINUTES.format(dateTime);
+        }
     }
 }
@@ -8,4 +8,5 @@ public enum Frequency {
     WEEKLY,
     FORTNIGHTLY,
     MONTHLY,
+    YEARLY,
 }
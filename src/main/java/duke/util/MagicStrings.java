@@ -13,10 +13,17 @@ public class MagicStrings {
     public static final String DATE_TIME_YESTERDAY = "Yesterday ";
 
     // Error messages
+    public static final String ERROR_AGENDA_INVALID_RANGE = "Your agenda ends before it starts! Something like "
+            + "'agenda today /to 31-12-20' would work.";
+    public static final String ERROR_AGENDA_MISSING_RANGE = "I need to know when your agenda starts and ends! "
+            + "Something like 'agenda today /to 31-12-20' would work.";
     public static final String ERROR_CANNOT_UNDO = "Failed to save your actions... You wont't be able to undo!";
+    public static final String ERROR_CATCHING_UP_NON_OVERDUE = "I can only help you catch up on recurring "
+            + "deadlines that are overdue!";
+    public static final String ERROR_COMMAND_FAILED = "Something went wrong while I was working on that. "
+            + "Please try again.";
     public static final String ERROR_COMMAND_MISSING_INDEX = "Your command needs the position of the task to "
             + "operate with!";
-    public static final String ERROR_COMMAND_TOO_MANY_INDICES = "Your command can only work with a single index!";
     public static final String ERROR_DEADLINE_MISSING_CONTENT = "Your deadline content cannot be empty! "
             + "Type help if you need help.";
     public static final String ERROR_DEADLINE_MISSING_DEADLINE = "I don't know when your deadline is! "
@@ -25,10 +32,24 @@ public class MagicStrings {
             + "Type help if you need help.";
     public static final String ERROR_EVENT_MISSING_TIME_FRAME = "I don't know when is your event! "
             + "Please use /at [time here].";
+    public static final String ERROR_EVENTS_INVALID_RANGE = "You can't look for events that end before they "
+            + "start! Something like 'events today /to 31-12-20' would work.";
+    public static final String ERROR_EVENTS_MISSING_RANGE = "I need to know when to look for events from and "
+            + "until! Something like 'events today /to 31-12-20' would work.";
     public static final String ERROR_INDEX_OUT_OF_BOUNDS = "You're referring to a task which does not exist!";
     public static final String ERROR_INVALID_COMMAND = "I don't see what I can do with what you just told me.";
     //    public static final String ERROR_INVALID_FILE_PATH = "Your file path is invalid. A new JSON file will "
     //            + "be used for saving.";
+    public static final String ERROR_INVALID_INDEX_RANGE = "Your range of tasks is backwards! Something like "
+            + "'3-9' would work.";
+    public static final String ERROR_INVALID_NEXT_COUNT = "I don't know how many tasks you want! Something like "
+            + "'next 5' would work.";
+    public static final String ERROR_INVALID_PAGE = "I don't know which page you want! Something like "
+            + "'list page 2 size 20' would work.";
+    public static final String ERROR_INVALID_QUERY = "I don't understand your query! Something like "
+            + "'where desc~\"standup\" and completed before 1-1-26' would work.";
+    public static final String ERROR_INVALID_TAG_FILTER = "I can only filter your list by tags! Something like "
+            + "'list #work #urgent -#someday' would work.";
     public static final String ERROR_INVALID_SNOOZE_DURATION = "Your snooze duration is not valid! Something "
             + "like '/for 3 days' would work";
     public static final String ERROR_INVALID_UNIT_OF_TIME = "Your unit of time is not recognised! Please use "
@@ -36,13 +57,20 @@ public class MagicStrings {
     public static final String ERROR_FAIL_TO_LOAD = "Failed to load save file! Creating new save file.";
     public static final String ERROR_FAIL_TO_LOAD_AND_SAVE = "Failed to load save file! "
             + "You will also not be able to save.";
+    public static final String ERROR_FAIL_TO_READ_SCRIPT = "Failed to read your script file!";
     public static final String ERROR_FAIL_TO_SAVE = "Facing difficulties saving your tasks right now.";
+    public static final String ERROR_INVALID_RECURRENCE_RULE = "I don't understand your recurrence rule! "
+            + "Something like 'FREQ=WEEKLY;BYDAY=MO,WE;COUNT=10' would work.";
+    public static final String ERROR_INVALID_REMINDER_LEAD_TIMES = "Reminder times should look like \"1d,2h,30m,0\", "
+            + "or \"off\" for no reminders.";
     public static final String ERROR_NO_COMPLETED_TASKS = "You don't have any completed tasks in your main list!";
+    public static final String ERROR_NO_MATCHING_TASKS = "None of your tasks match your query!";
     public static final String ERROR_NO_MORE_UNDOS = "Sorry, you're all out of undos!";
-    public static final String ERROR_RECURRING_TASK_MISSING_DEADLINE = "This recurring task "
-            + "seem to have no deadline!";
+    public static final String ERROR_PAGE_OUT_OF_BOUNDS = "You don't have that many pages of tasks!";
     public static final String ERROR_SNOOZING_NON_DEADLINE = "You can't snooze a task with no deadline!";
     public static final String ERROR_SORTING_EMPTY_LIST = "You don't have any tasks... Sort yourself out first.";
+    public static final String ERROR_METRICS_INVALID_OPTION = "I can only show the metrics, or reset them with "
+            + "\"metrics reset\".";
     public static final String ERROR_STATS_INVALID_TIME = "I need to know the time frame: today/this week/this month/"
             + "this year!";
     public static final String ERROR_TASK_ALREADY_COMPLETED = "You have already completed this task!";
@@ -57,13 +85,19 @@ public class MagicStrings {
             + "Type help to view the accepted formats.";
 
     // GSON helper strings.
+    public static final String GSON_ATTR_CATCH_UPS = "catchUps";
     public static final String GSON_ATTR_COMPLETION_TIME = "completionTime";
     public static final String GSON_ATTR_CREATION_TIME = "creationTime";
     public static final String GSON_ATTR_DEADLINE = "deadline";
     public static final String GSON_ATTR_DESCRIPTION = "description";
+    public static final String GSON_ATTR_END_TIME = "endTime";
     public static final String GSON_ATTR_FREQUENCY = "frequency";
     public static final String GSON_ATTR_IS_COMPLETED = "isCompleted";
     public static final String GSON_ATTR_IS_COMPLETED_ON_TIME = "isCompletedOnTime";
+    public static final String GSON_ATTR_PRIORITY = "priority";
+    public static final String GSON_ATTR_RECURRENCE = "recurrence";
+    public static final String GSON_ATTR_START_TIME = "startTime";
+    public static final String GSON_ATTR_TAGS = "tags";
     public static final String GSON_ATTR_TIME_FRAME = "timeFrame";
     public static final String GSON_ATTR_REPEAT_END_TIME = "repeatEndTime";
 }
@@ -0,0 +1,559 @@
+package duke.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * The {@code RecurrenceRule} describes when a recurring task repeats, following
+ * the RRULE of RFC 5545. A rule repeats every {@code interval} days, weeks, months
+ * or years, optionally only on the days of the week in BYDAY and the days of the
+ * month in BYMONTHDAY, where -1 is the last day of the month. It may stop after
+ * COUNT occurrences or once UNTIL has passed.
+ *
+ * <p>The rule is compiled into bitmasks when it is created, so the next occurrence
+ * is found by jumping straight to the next matching day of the week or month
+ * rather than by trying every day. A rule without BYDAY or BYMONTHDAY repeats on
+ * the same day as its first occurrence, and like {@code LocalDate.plusMonths} falls
+ * on the last day of shorter months.
+ *
+ * <p>Every {@code Frequency} has an equivalent rule from {@link #of(Frequency)}.
+ * {@code RecurrenceRule}s are immutable.
+ */
+public class RecurrenceRule {
+    /**
+     * Format of UNTIL in an RRULE, as a local time.
+     */
+    public static final DateTimeFormatter UNTIL_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+
+    private static final DateTimeFormatter UNTIL_DISPLAY_FORMAT = DateTimeFormatter.ofPattern("MMM d yyyy");
+    private static final String[] DAY_CODES = {"MO", "TU", "WE", "TH", "FR", "SA", "SU"};
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MIN_MONTH_LENGTH = 28;
+    private static final int MAX_MONTH_LENGTH = 31;
+    // Rules such as the 30th of every February never occur, so the search gives up.
+    private static final int MAX_EMPTY_PERIODS = 3000;
+
+    private final Frequency frequency;
+    private final ChronoUnit unit;
+    private final int interval;
+    private final int byDays;
+    private final List<Integer> byMonthDays;
+    private final long[] monthDayMasks;
+    private final int count;
+    private final LocalDateTime until;
+    private final boolean isSimple;
+
+    /**
+     * Initialises a {@code RecurrenceRule}. A fortnightly rule is kept as a weekly
+     * rule with twice the interval.
+     *
+     * @param frequency   How often the rule repeats.
+     * @param interval    Number of days, weeks, months or years between repeats, which must be positive.
+     * @param byDays      Days of the week to repeat on, or an empty set for any day.
+     * @param byMonthDays Days of the month to repeat on from 1 to 31, or -1 to -31 counting from the end
+     *                    of the month, or an empty list for any day. Must be empty for weekly rules.
+     * @param count       Number of occurrences, or 0 for no limit.
+     * @param until       Time of the last possible occurrence, or {@code null} for no limit.
+     */
+    public RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDays, List<Integer> byMonthDays,
+                          int count, LocalDateTime until) {
+        assert interval > 0 && count >= 0;
+        boolean isFortnightly = frequency == Frequency.FORTNIGHTLY;
+        this.frequency = isFortnightly ? Frequency.WEEKLY : frequency;
+        this.interval = isFortnightly ? interval * 2 : interval;
+        this.byDays = compileDays(byDays);
+        List<Integer> sortedMonthDays = new ArrayList<>(byMonthDays);
+        Collections.sort(sortedMonthDays);
+        this.byMonthDays = List.copyOf(sortedMonthDays);
+        this.monthDayMasks = compileMonthDays(this.byMonthDays);
+        this.count = count;
+        this.until = until;
+        this.unit = getUnit(this.frequency);
+        this.isSimple = this.byDays == 0 && this.byMonthDays.isEmpty();
+        assert this.byMonthDays.isEmpty() || this.frequency != Frequency.WEEKLY;
+    }
+
+    /**
+     * Returns the rule equivalent to the given {@code Frequency}.
+     *
+     * @param frequency {@code Frequency} of a recurring task.
+     * @return The equivalent {@code RecurrenceRule}.
+     */
+    public static RecurrenceRule of(Frequency frequency) {
+        return new RecurrenceRule(frequency, 1, EnumSet.noneOf(DayOfWeek.class), List.of(), 0, null);
+    }
+
+    /**
+     * Returns the {@code Frequency} closest to this rule, ignoring anything but how
+     * often it repeats.
+     *
+     * @return The closest {@code Frequency}.
+     */
+    public Frequency getFrequency() {
+        if (this.frequency == Frequency.WEEKLY && this.interval == 2) {
+            return Frequency.FORTNIGHTLY;
+        }
+        return this.frequency;
+    }
+
+    public int getCount() {
+        return this.count;
+    }
+
+    public LocalDateTime getUntil() {
+        return this.until;
+    }
+
+    /**
+     * Returns this rule with the given number of occurrences used up, so that the
+     * rule can be started from a later occurrence. A rule without a COUNT is
+     * returned as it is.
+     *
+     * @param numOfOccurrences Number of occurrences that have passed, which must be
+     *                         fewer than the COUNT of the rule, if any.
+     * @return The remaining rule.
+     */
+    public RecurrenceRule afterOccurrences(int numOfOccurrences) {
+        if (this.count == 0) {
+            return this;
+        }
+        assert numOfOccurrences < this.count;
+        return new RecurrenceRule(this.frequency, this.interval, this.getByDays(), this.byMonthDays,
+                this.count - numOfOccurrences, this.until);
+    }
+
+    /**
+     * Returns this rule with its UNTIL moved later by the given amount, if it has one.
+     *
+     * @param period Amount to move UNTIL by.
+     * @return The moved rule.
+     */
+    public RecurrenceRule withUntilPushedBack(TemporalAmount period) {
+        if (this.until == null) {
+            return this;
+        }
+        return new RecurrenceRule(this.frequency, this.interval, this.getByDays(), this.byMonthDays, this.count,
+                this.until.plus(period));
+    }
+
+    /**
+     * Returns the occurrences of the rule starting from {@code start}, which is
+     * always the first occurrence.
+     *
+     * @param start First occurrence.
+     * @return Iterator over the occurrences.
+     */
+    public Iterator<LocalDateTime> iterator(LocalDateTime start) {
+        return new OccurrenceIterator(start, false);
+    }
+
+    /**
+     * Returns the occurrences of the rule starting from {@code start} that are no
+     * earlier than {@code from}. Whole periods before {@code from} are skipped without
+     * being looked at, unless the rule has a COUNT and a varying number of
+     * occurrences in each period, which needs every occurrence to be counted.
+     *
+     * @param start First occurrence.
+     * @param from  Earliest occurrence to return.
+     * @return Iterator over the occurrences.
+     */
+    public Iterator<LocalDateTime> iterator(LocalDateTime start, LocalDateTime from) {
+        OccurrenceIterator occurrences = new OccurrenceIterator(start, false);
+        occurrences.skipTo(from);
+        return occurrences;
+    }
+
+    /**
+     * Returns the first occurrence of the rule starting from {@code start} that is
+     * no earlier than {@code from}, along with the number of occurrences before it.
+     * Rules that repeat the same number of times every period, which are those
+     * without BYDAY or BYMONTHDAY and weekly rules on days of the week, are counted
+     * by arithmetic on the periods in between. Other rules are stepped through.
+     *
+     * @param start First occurrence.
+     * @param from  Earliest occurrence to return.
+     * @return {@code Pair} of the first occurrence no earlier than {@code from}, or
+     *         {@code null} if the rule ends before then, and the number of occurrences
+     *         before it.
+     */
+    public Pair<LocalDateTime, Integer> skipTo(LocalDateTime start, LocalDateTime from) {
+        OccurrenceIterator occurrences = new OccurrenceIterator(start, true);
+        occurrences.skipTo(from);
+        return new Pair<>(occurrences.nextOccurrence, Math.toIntExact(occurrences.numOfSkipped));
+    }
+
+    /**
+     * Returns the rule as an RRULE value, such as "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE".
+     *
+     * @return The RRULE value.
+     */
+    @Override
+    public String toString() {
+        StringBuilder rule = new StringBuilder("FREQ=").append(this.frequency.name());
+        if (this.interval != 1) {
+            rule.append(";INTERVAL=").append(this.interval);
+        }
+        if (this.byDays != 0) {
+            rule.append(";BYDAY=").append(String.join(",", this.getDayNames(DAY_CODES)));
+        }
+        if (!this.byMonthDays.isEmpty()) {
+            rule.append(";BYMONTHDAY=");
+            for (int i = 0; i < this.byMonthDays.size(); i++) {
+                rule.append(i == 0 ? "" : ",").append(this.byMonthDays.get(i));
+            }
+        }
+        if (this.count > 0) {
+            rule.append(";COUNT=").append(this.count);
+        }
+        if (this.until != null) {
+            rule.append(";UNTIL=").append(UNTIL_FORMAT.format(this.until));
+        }
+        return rule.toString();
+    }
+
+    /**
+     * Returns the rule in words, such as "Every 2 weeks on Mon, Wed". Rules
+     * equivalent to a {@code Frequency} are described by it alone, such as "Weekly".
+     *
+     * @return Description of the rule.
+     */
+    public String describe() {
+        StringBuilder description = new StringBuilder(this.describeInterval());
+        if (this.byDays != 0) {
+            String[] names = new String[DAYS_PER_WEEK];
+            for (DayOfWeek day : DayOfWeek.values()) {
+                String name = day.name();
+                names[day.ordinal()] = name.charAt(0) + name.substring(1, 3).toLowerCase();
+            }
+            description.append(" on ").append(String.join(", ", this.getDayNames(names)));
+        }
+        if (!this.byMonthDays.isEmpty()) {
+            List<String> days = new ArrayList<>();
+            for (int day : this.byMonthDays) {
+                days.add(day == -1 ? "last" : day < 0 ? toOrdinal(-day) + " last" : toOrdinal(day));
+            }
+            description.append(this.byDays != 0 ? " that fall on the " : " on the ").append(String.join(", ", days));
+        }
+        if (this.count > 0) {
+            description.append(", ").append(this.count).append(this.count == 1 ? " time" : " times");
+        }
+        if (this.until != null) {
+            description.append(", until ").append(UNTIL_DISPLAY_FORMAT.format(this.until));
+        }
+        return description.toString();
+    }
+
+    // Private helper methods
+
+    private String describeInterval() {
+        String unitName;
+        switch (this.frequency) {
+        case DAILY:
+            unitName = "day";
+            break;
+        case WEEKLY:
+            unitName = "week";
+            break;
+        case MONTHLY:
+            unitName = "month";
+            break;
+        default:
+            unitName = "year";
+            break;
+        }
+        if (this.interval == 1) {
+            return this.frequency == Frequency.DAILY ? "Daily"
+                    : Character.toUpperCase(unitName.charAt(0)) + unitName.substring(1) + "ly";
+        }
+        if (this.getFrequency() == Frequency.FORTNIGHTLY) {
+            return "Fortnightly";
+        }
+        return "Every " + this.interval + " " + unitName + "s";
+    }
+
+    private Set<DayOfWeek> getByDays() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((this.byDays & (1 << day.ordinal())) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    private List<String> getDayNames(String[] names) {
+        List<String> dayNames = new ArrayList<>();
+        for (DayOfWeek day : this.getByDays()) {
+            dayNames.add(names[day.ordinal()]);
+        }
+        return dayNames;
+    }
+
+    private static String toOrdinal(int number) {
+        if (number % 100 >= 11 && number % 100 <= 13) {
+            return number + "th";
+        }
+        switch (number % 10) {
+        case 1:
+            return number + "st";
+        case 2:
+            return number + "nd";
+        case 3:
+            return number + "rd";
+        default:
+            return number + "th";
+        }
+    }
+
+    private static int compileDays(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << day.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Returns a mask of the days of the month to repeat on for each month length
+     * from 28 to 31 days, where bit {@code i} stands for day {@code i + 1}.
+     *
+     * @param monthDays Days of the month, which may count from the end of the month.
+     * @return Masks indexed by month length minus 28, or all zeroes if any day will do.
+     */
+    private static long[] compileMonthDays(List<Integer> monthDays) {
+        long[] masks = new long[MAX_MONTH_LENGTH - MIN_MONTH_LENGTH + 1];
+        for (int length = MIN_MONTH_LENGTH; length <= MAX_MONTH_LENGTH; length++) {
+            for (int day : monthDays) {
+                assert day != 0 && Math.abs(day) <= MAX_MONTH_LENGTH;
+                int dayOfMonth = day > 0 ? day : length + day + 1;
+                if (dayOfMonth >= 1 && dayOfMonth <= length) {
+                    masks[length - MIN_MONTH_LENGTH] |= 1L << (dayOfMonth - 1);
+                }
+            }
+        }
+        return masks;
+    }
+
+    private LocalDate getPeriodStart(LocalDate date) {
+        switch (this.frequency) {
+        case DAILY:
+            return date;
+        case WEEKLY:
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        case MONTHLY:
+            return date.withDayOfMonth(1);
+        default:
+            return date.withDayOfYear(1);
+        }
+    }
+
+    private static ChronoUnit getUnit(Frequency frequency) {
+        switch (frequency) {
+        case DAILY:
+            return ChronoUnit.DAYS;
+        case WEEKLY:
+            return ChronoUnit.WEEKS;
+        case MONTHLY:
+            return ChronoUnit.MONTHS;
+        default:
+            return ChronoUnit.YEARS;
+        }
+    }
+
+    /**
+     * Returns the first day from {@code from} and before {@code periodEnd} that the
+     * rule repeats on, jumping from one matching day of the week or month to the next.
+     *
+     * @param from      First day to consider.
+     * @param periodEnd Day after the last day to consider.
+     * @return The first matching day, or {@code null} if there is none.
+     */
+    private LocalDate findMatch(LocalDate from, LocalDate periodEnd) {
+        LocalDate candidate = from;
+        boolean hasMonthDays = !this.byMonthDays.isEmpty();
+        while (candidate.isBefore(periodEnd)) {
+            if (hasMonthDays) {
+                long mask = this.monthDayMasks[candidate.lengthOfMonth() - MIN_MONTH_LENGTH]
+                        >>> (candidate.getDayOfMonth() - 1);
+                if (mask == 0) {
+                    candidate = candidate.withDayOfMonth(1).plusMonths(1);
+                    continue;
+                }
+                candidate = candidate.plusDays(Long.numberOfTrailingZeros(mask));
+                if (!candidate.isBefore(periodEnd)) {
+                    return null;
+                }
+            }
+            int dayIndex = candidate.getDayOfWeek().ordinal();
+            if (this.byDays == 0 || (this.byDays & (1 << dayIndex)) != 0) {
+                return candidate;
+            }
+            if (hasMonthDays) {
+                candidate = candidate.plusDays(1);
+            } else {
+                // Rotating the mask puts the days after this one in the lowest bits.
+                int laterDays = (this.byDays | (this.byDays << DAYS_PER_WEEK)) >>> (dayIndex + 1);
+                candidate = candidate.plusDays(Integer.numberOfTrailingZeros(laterDays) + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The {@code OccurrenceIterator} works out the occurrences of the rule one at a
+     * time. Each call to {@code next} takes amortised constant time, as it looks at
+     * no more than the matching days of the current period and the periods skipped.
+     * When counting, periods are only skipped if their occurrences can be counted.
+     */
+    private class OccurrenceIterator implements Iterator<LocalDateTime> {
+        private final LocalTime time;
+        private final boolean isCounting;
+        private LocalDate periodStart;
+        private LocalDateTime nextOccurrence;
+        private long numOfRemaining;
+        private long numOfSkipped;
+
+        OccurrenceIterator(LocalDateTime start, boolean isCounting) {
+            this.time = start.toLocalTime();
+            this.isCounting = isCounting || count > 0;
+            this.periodStart = getPeriodStart(start.toLocalDate());
+            this.numOfRemaining = count == 0 ? Long.MAX_VALUE : count;
+            // Like DTSTART, the start is always an occurrence, even if it does not match the rule.
+            this.nextOccurrence = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.nextOccurrence != null;
+        }
+
+        @Override
+        public LocalDateTime next() {
+            if (this.nextOccurrence == null) {
+                throw new NoSuchElementException();
+            }
+            LocalDateTime occurrence = this.nextOccurrence;
+            this.advance();
+            return occurrence;
+        }
+
+        /**
+         * Moves on to the first occurrence no earlier than {@code from}, counting the
+         * occurrences passed over.
+         *
+         * @param from Earliest occurrence to keep.
+         */
+        void skipTo(LocalDateTime from) {
+            if (this.nextOccurrence == null || !this.nextOccurrence.isBefore(from)) {
+                return;
+            }
+            // Occurrences after UNTIL must not be counted, so periods are only skipped up to it.
+            this.skipPeriods(until != null && until.isBefore(from) ? until : from);
+            while (this.nextOccurrence != null && this.nextOccurrence.isBefore(from)) {
+                this.advance();
+                this.numOfSkipped++;
+            }
+        }
+
+        /**
+         * Jumps over the whole periods before the one containing {@code target}, along
+         * with the occurrences in them.
+         *
+         * @param target Time to skip towards.
+         */
+        private void skipPeriods(LocalDateTime target) {
+            final LocalDate current = this.nextOccurrence.toLocalDate();
+            // Simple rules only keep track of their period when skipping.
+            LocalDate currentPeriodStart = isSimple ? getPeriodStart(current) : this.periodStart;
+            long numOfPeriods = unit.between(currentPeriodStart, getPeriodStart(target.toLocalDate()))
+                    / interval * interval;
+            if (numOfPeriods <= interval) {
+                return;
+            }
+            // Leave one period to step through, so the next occurrence is found normally.
+            numOfPeriods -= interval;
+            long numOfRepeats = numOfPeriods / interval;
+            long numOfOccurrences;
+            if (isSimple) {
+                // Months and years that fall on the same day each time can be jumped over, but
+                // those clamped to a shorter month have to be stepped through.
+                boolean isClamped = frequency != Frequency.DAILY && frequency != Frequency.WEEKLY
+                        && current.getDayOfMonth() > MIN_MONTH_LENGTH;
+                if (isClamped) {
+                    return;
+                }
+                numOfOccurrences = numOfRepeats;
+            } else if (frequency == Frequency.WEEKLY) {
+                // The current occurrence and the rest of its week, then every day in BYDAY each period.
+                int laterDays = byDays >>> (current.getDayOfWeek().ordinal() + 1);
+                numOfOccurrences = 1 + Integer.bitCount(laterDays) + (numOfRepeats - 1) * Integer.bitCount(byDays);
+            } else if (this.isCounting) {
+                return;
+            } else {
+                numOfOccurrences = 0;
+            }
+
+            if (numOfOccurrences >= this.numOfRemaining) {
+                this.numOfSkipped += this.numOfRemaining;
+                this.nextOccurrence = null;
+                return;
+            }
+            this.numOfRemaining -= numOfOccurrences;
+            this.numOfSkipped += numOfOccurrences;
+            if (isSimple) {
+                this.setNextOccurrence(current.plus(numOfPeriods, unit));
+            } else {
+                this.periodStart = currentPeriodStart.plus(numOfPeriods, unit);
+                this.setNextOccurrence(this.findNextDay(this.periodStart));
+            }
+        }
+
+        private void advance() {
+            if (--this.numOfRemaining <= 0) {
+                this.nextOccurrence = null;
+                return;
+            }
+            LocalDate current = this.nextOccurrence.toLocalDate();
+            this.setNextOccurrence(isSimple ? current.plus(interval, unit) : this.findNextDay(current.plusDays(1)));
+        }
+
+        private void setNextOccurrence(LocalDate day) {
+            LocalDateTime occurrence = day == null ? null : day.atTime(this.time);
+            this.nextOccurrence = occurrence != null && isWithinUntil(occurrence) ? occurrence : null;
+        }
+
+        /**
+         * Returns the first day from {@code from} that the rule repeats on, starting in
+         * the current period and moving on by the interval while periods have no match.
+         *
+         * @param from First day to consider, which is in or before the current period.
+         * @return The matching day, or {@code null} if the rule never repeats again.
+         */
+        private LocalDate findNextDay(LocalDate from) {
+            LocalDate periodEnd = this.periodStart.plus(1, unit);
+            LocalDate match = from.isBefore(periodEnd) ? findMatch(from, periodEnd) : null;
+            for (int i = 0; match == null && i < MAX_EMPTY_PERIODS; i++) {
+                this.periodStart = this.periodStart.plus(interval, unit);
+                match = findMatch(this.periodStart, this.periodStart.plus(1, unit));
+            }
+            return match;
+        }
+
+        private boolean isWithinUntil(LocalDateTime occurrence) {
+            return until == null || !occurrence.isAfter(until);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package duke.util;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+
+/**
+ * The {@code StartupTimer} logs how long each phase of starting up the program
+ * took, measured from the time the JVM was started.
+ *
+ * <p>Each call to {@link #mark(String)} ends a phase, and phases may be marked
+ * from any thread. A phase that runs alongside others, such as loading the save
+ * file in the background, is timed from the previous mark on any thread.
+ */
+public class StartupTimer {
+    private static final Logger LOGGER = Logger.getLogger(StartupTimer.class.getName());
+
+    private final long startTime;
+    private final LongSupplier clock;
+    private final List<String> phases;
+    private long lastMarkTime;
+
+    /**
+     * Initialises a {@code StartupTimer} that measures from the time the JVM was
+     * started, or from now if that time is not known.
+     */
+    public StartupTimer() {
+        this(ProcessHandle.current().info().startInstant().map(Instant::toEpochMilli)
+                .orElse(System.currentTimeMillis()), System::currentTimeMillis);
+    }
+
+    /**
+     * Initialises a {@code StartupTimer} that measures from the given time.
+     *
+     * @param startTime Start time in milliseconds.
+     * @param clock     Clock returning the current time in milliseconds.
+     */
+    StartupTimer(long startTime, LongSupplier clock) {
+        this.startTime = startTime;
+        this.clock = clock;
+        this.phases = new ArrayList<>();
+        this.lastMarkTime = startTime;
+    }
+
+    /**
+     * Ends the given phase and logs its duration along with the total time
+     * since the JVM was started.
+     *
+     * @param phase Name of the phase that just ended.
+     * @return Milliseconds since the JVM was started.
+     */
+    public synchronized long mark(String phase) {
+        long currentTime = this.clock.getAsLong();
+        String summary = String.format("%s: %d ms (%d ms since JVM start)", phase,
+                currentTime - this.lastMarkTime, currentTime - this.startTime);
+        this.phases.add(summary);
+        this.lastMarkTime = currentTime;
+        LOGGER.info(summary);
+        return currentTime - this.startTime;
+    }
+
+    /**
+     * Returns the summaries of the phases marked so far, in the order they ended.
+     *
+     * @return List of phase summaries.
+     */
+    public synchronized List<String> getPhases() {
+        return List.copyOf(this.phases);
+    }
+}
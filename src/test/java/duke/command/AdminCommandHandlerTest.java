@@ -1,7 +1,9 @@
 package duke.command;
 
+import static duke.util.MagicStrings.ERROR_METRICS_INVALID_OPTION;
 import static duke.util.MagicStrings.ERROR_NO_MORE_UNDOS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -14,6 +16,7 @@ import java.util.ArrayList;
 import org.junit.jupiter.api.Test;
 
 import duke.exception.DuchessException;
+import duke.metrics.CommandMetrics;
 import duke.save.SaveState;
 import duke.save.SaveStateStack;
 import duke.storage.Storage;
@@ -138,4 +141,43 @@ public class AdminCommandHandlerTest {
             verifyNoMoreInteractions(saveStateStackMock);
         }
     }
+
+    /**
+     * Tests the handling of the metrics command when resetting the metrics.
+     */
+    @Test
+    public void metrics_reset_metricsCleared() {
+        // Mocking the Ui
+        Ui uiMock = mock(Ui.class);
+        when(uiMock.printMetricsReset()).thenReturn("Metrics cleared.");
+
+        try (CommandMetrics.CommandTimer timer = CommandMetrics.startTimer(Command.LIST)) {
+            timer.markSuccessful();
+        }
+        String command = "metrics reset";
+
+        // Testing
+        assertEquals("Metrics cleared.", AdminCommandHandler.handleMetricsCommand(command, dummyTaskList, uiMock,
+                dummyStorageMock, dummySaveStateStack));
+        assertTrue(CommandMetrics.getSummaries().isEmpty());
+        verify(uiMock, times(1)).printMetricsReset();
+        verifyNoMoreInteractions(uiMock);
+    }
+
+    /**
+     * Tests the error handling of the metrics command for an unknown option.
+     */
+    @Test
+    public void metrics_invalidOption_exceptionThrown() {
+        String command = "metrics clear";
+
+        // Testing
+        try {
+            AdminCommandHandler.handleMetricsCommand(command, dummyTaskList, dummyUi, dummyStorageMock,
+                    dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_METRICS_INVALID_OPTION, e.getMessage());
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package duke.command;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -25,9 +28,13 @@ public class CommandTest {
             Command.valueOf("DELETE");
             Command.valueOf("SNOOZE");
             Command.valueOf("SORT");
+            Command.valueOf("AGENDA");
+            Command.valueOf("EVENTS");
+            Command.valueOf("NEXT");
             Command.valueOf("HELP");
             Command.valueOf("UNDO");
             Command.valueOf("ARCHIVE");
+            Command.valueOf("METRICS");
             Command.valueOf("BYE");
         } catch (IllegalArgumentException e) {
             fail();
@@ -43,4 +50,19 @@ public class CommandTest {
             assertTrue(command.commands.size() > 0);
         }
     }
+
+    /**
+     * Tests that every alias of every command can be looked up.
+     */
+    @Test
+    public void lookup_allAliases_success() {
+        for (Command command : Command.values()) {
+            for (String alias : command.commands) {
+                assertEquals(command, Command.lookup(alias));
+                assertTrue(command.hasCommand(alias));
+            }
+        }
+        assertNull(Command.lookup("random"));
+        assertFalse(Command.TODO.hasCommand("dl"));
+    }
 }
@@ -5,6 +5,7 @@ import static duke.util.MagicStrings.ERROR_DEADLINE_MISSING_DEADLINE;
 import static duke.util.MagicStrings.ERROR_EVENT_MISSING_CONTENT;
 import static duke.util.MagicStrings.ERROR_EVENT_MISSING_TIME_FRAME;
 import static duke.util.MagicStrings.ERROR_TODO_MISSING_CONTENT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
@@ -16,6 +17,8 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -124,6 +127,57 @@ public class TaskCreationHandlerTest {
         verifyNoMoreInteractions(uiMock);
     }
 
+    /**
+     * Tests that an Event with a time frame made up of times is scheduled, and warns
+     * of the events it clashes with.
+     */
+    @Test
+    public void event_clashingTimeFrame_warned() {
+        TaskList testTaskList = new TaskList();
+        TaskCreationHandler.handleEventCommand("event Workshop /at 3-6-30 0900 - 1200", testTaskList, dummyUi,
+                dummyStorageMock, dummySaveStateStack);
+        Event workshop = (Event) testTaskList.getTask(0);
+        assertEquals(LocalDateTime.of(2030, 6, 3, 9, 0), workshop.getStartTime());
+        assertEquals(LocalDateTime.of(2030, 6, 3, 12, 0), workshop.getEndTime());
+        assertEquals("[E][\u2718] Workshop (at: 3-6-30 0900 - 1200)", workshop.toString()); // cross mark
+
+        String result = TaskCreationHandler.handleEventCommand("event Lunch /at 3-6-30 1130 to 1300", testTaskList,
+                dummyUi, dummyStorageMock, dummySaveStateStack);
+        assertEquals(dummyUi.printTaskAdded(testTaskList.getTask(1), 2)
+                + dummyUi.printClashingEvents(List.of(workshop)), result);
+    }
+
+    /**
+     * Tests that the #tags in the description of a new task are taken as its tags.
+     */
+    @Test
+    public void toDo_tagsInDescription_tagged() {
+        TaskList testTaskList = new TaskList();
+        TaskCreationHandler.handleTodoCommand("todo Write report #Work #urgent #work", testTaskList, dummyUi,
+                dummyStorageMock, dummySaveStateStack);
+        TaskCreationHandler.handleDeadlineCommand("deadline Submit #work /by 3-6-30", testTaskList, dummyUi,
+                dummyStorageMock, dummySaveStateStack);
+        assertEquals(List.of("work", "urgent"), testTaskList.getTask(0).getTags());
+        assertEquals("Write report #Work #urgent #work", testTaskList.getTask(0).getDescription());
+        assertArrayEquals(new int[] {0, 1}, testTaskList.findIndicesWithTags(List.of("work"), List.of()));
+    }
+
+    /**
+     * Tests that the priority in the description of a new task is taken as its
+     * priority.
+     */
+    @Test
+    public void deadline_priorityInDescription_prioritised() {
+        TaskList testTaskList = new TaskList();
+        TaskCreationHandler.handleDeadlineCommand("deadline Pay rent !2 /by 3-6-30", testTaskList, dummyUi,
+                dummyStorageMock, dummySaveStateStack);
+        TaskCreationHandler.handleTodoCommand("todo Wow!1", testTaskList, dummyUi, dummyStorageMock,
+                dummySaveStateStack);
+        assertEquals(2, testTaskList.getTask(0).getPriority());
+        assertEquals(Task.NO_PRIORITY, testTaskList.getTask(1).getPriority());
+        assertEquals(List.of(testTaskList.getTask(0), testTaskList.getTask(1)), testTaskList.getNextTasks(5));
+    }
+
     /**
      * Tests the exception handling when creating an Event without time frame.
      */
@@ -342,4 +396,34 @@ public class TaskCreationHandlerTest {
         verifyNoMoreInteractions(storageMock);
         verifyNoMoreInteractions(uiMock);
     }
+
+    /**
+     * Tests that slashes in the description of a Deadline are kept.
+     */
+    @Test
+    public void deadline_slashInDescription_descriptionKept() {
+        String input = "deadline Read 1/2 of book/notes /by tonight";
+        TaskList testTaskList = new TaskList();
+
+        TaskCreationHandler.handleDeadlineCommand(input, testTaskList, dummyUi, dummyStorageMock,
+                dummySaveStateStack);
+
+        assertEquals(new Deadline("Read 1/2 of book/notes", LocalDate.now().atTime(21, 0)).toString(),
+                testTaskList.getTask(0).toString());
+    }
+
+    /**
+     * Tests the exception handling when creating an Event with an empty time frame.
+     */
+    @Test
+    public void event_emptyTimeFrame_exceptionThrown() {
+        String input = "event Meeting /at ";
+        try {
+            TaskCreationHandler.handleEventCommand(input, dummyTaskList, dummyUi, dummyStorageMock,
+                    dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_EVENT_MISSING_TIME_FRAME, e.getMessage());
+        }
+    }
 }
@@ -1,11 +1,20 @@
 package duke.command;
 
+import static duke.util.MagicStrings.ERROR_AGENDA_INVALID_RANGE;
+import static duke.util.MagicStrings.ERROR_AGENDA_MISSING_RANGE;
 import static duke.util.MagicStrings.ERROR_COMMAND_MISSING_INDEX;
-import static duke.util.MagicStrings.ERROR_COMMAND_TOO_MANY_INDICES;
+import static duke.util.MagicStrings.ERROR_EVENTS_INVALID_RANGE;
 import static duke.util.MagicStrings.ERROR_INDEX_OUT_OF_BOUNDS;
 import static duke.util.MagicStrings.ERROR_INVALID_COMMAND;
+import static duke.util.MagicStrings.ERROR_INVALID_NEXT_COUNT;
+import static duke.util.MagicStrings.ERROR_INVALID_PAGE;
+import static duke.util.MagicStrings.ERROR_INVALID_TAG_FILTER;
+import static duke.util.MagicStrings.ERROR_NO_MATCHING_TASKS;
+import static duke.util.MagicStrings.ERROR_PAGE_OUT_OF_BOUNDS;
 import static duke.util.MagicStrings.ERROR_USED_FOR_TESTING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -13,14 +22,23 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import duke.exception.DuchessException;
 import duke.save.SaveStateStack;
 import duke.storage.Storage;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.RecurringDeadline;
 import duke.task.Task;
 import duke.task.TaskList;
+import duke.task.ToDo;
 import duke.ui.Ui;
+import duke.util.Frequency;
 
 /**
  * JUnit test for {@code TaskListCommandHandler}.
@@ -52,6 +70,121 @@ public class TaskListCommandHandlerTest {
         verify(uiMock, times(1)).printTaskList(dummyTaskList);
     }
 
+    /**
+     * Tests the List command handler for pages of the task list.
+     */
+    @Test
+    public void list_page_success() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 45; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+        }
+        Ui uiMock = mock(Ui.class);
+        when(uiMock.printTaskListPage(taskList, 3, 20)).thenReturn("Third page");
+        when(uiMock.printTaskListPage(taskList, 9, 5)).thenReturn("Last page");
+
+        assertEquals("Third page", TaskListCommandHandler.handleListCommand("list page 3", taskList, uiMock,
+                dummyStorageMock, dummySaveStateStack));
+        assertEquals("Last page", TaskListCommandHandler.handleListCommand("l  PAGE 9 size 5", taskList, uiMock,
+                dummyStorageMock, dummySaveStateStack));
+        verify(uiMock, times(1)).printTaskListPage(taskList, 3, 20);
+        verify(uiMock, times(1)).printTaskListPage(taskList, 9, 5);
+        verifyNoMoreInteractions(uiMock);
+    }
+
+    /**
+     * Tests the List command handler filtering by tags, with the indices of the
+     * tasks in the full list.
+     */
+    @Test
+    public void list_tags_success() {
+        TaskList taskList = new TaskList();
+        String[][] tags = {{"work"}, {"work", "urgent"}, {"urgent"}, {"work", "urgent", "someday"}};
+        for (int i = 0; i < tags.length; i++) {
+            Task task = new ToDo("Task " + i);
+            task.setTags(List.of(tags[i]));
+            taskList.addTask(task);
+        }
+
+        assertEquals(dummyUi.print("Not bad, I found the following:", "1.\t" + taskList.getTask(1)
+                + "\n\t[REF INDEX FOR DELETE/DONE: 2]"), TaskListCommandHandler.handleListCommand(
+                        "list #WORK #urgent -#someday", taskList, dummyUi, dummyStorageMock, dummySaveStateStack));
+        assertEquals(dummyUi.print("Not bad, I found the following:", "1.\t" + taskList.getTask(2)
+                + "\n\t[REF INDEX FOR DELETE/DONE: 3]"), TaskListCommandHandler.handleListCommand(
+                        "l -#work", taskList, dummyUi, dummyStorageMock, dummySaveStateStack));
+        try {
+            TaskListCommandHandler.handleListCommand("list #work urgent", taskList, dummyUi, dummyStorageMock,
+                    dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_INVALID_TAG_FILTER, e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the exception handling of List command handler for invalid pages.
+     */
+    @Test
+    public void list_invalidPage_exceptionThrown() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new ToDo("Task"));
+        String[] invalidCommands = {"list page", "list page 0", "list page two", "list 2", "list page 1 size",
+            "list page 1 size 0", "list page 1 with 2"};
+        for (String command : invalidCommands) {
+            try {
+                TaskListCommandHandler.handleListCommand(command, taskList, dummyUi, dummyStorageMock,
+                        dummySaveStateStack);
+                fail(command);
+            } catch (DuchessException e) {
+                assertEquals(ERROR_INVALID_PAGE, e.getMessage());
+            }
+        }
+        try {
+            TaskListCommandHandler.handleListCommand("list page 2", taskList, dummyUi, dummyStorageMock,
+                    dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_PAGE_OUT_OF_BOUNDS, e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that the List command handler rejects arguments that are neither a page
+     * nor a tag filter, instead of ignoring them and printing the whole list.
+     */
+    @Test
+    public void list_unknownArguments_exceptionThrown() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new ToDo("Task"));
+        Ui uiMock = mock(Ui.class);
+        try {
+            TaskListCommandHandler.handleListCommand("list foo", taskList, uiMock, dummyStorageMock,
+                    dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_INVALID_PAGE, e.getMessage());
+        }
+        verifyNoMoreInteractions(uiMock);
+    }
+
+    /**
+     * Tests viewing a page of the archive.
+     */
+    @Test
+    public void archive_viewPage_success() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 3; i++) {
+            taskList.addTask(new ToDo("Task " + i));
+            taskList.completeTask(i);
+        }
+        taskList.archive();
+
+        assertEquals("I'm impressed you actually have tasks completed and archived.\nColour me surprised:\n"
+                + "3.\t" + taskList.getArchivedTask(2) + "\nPage 2 of 2.\n",
+                TaskListCommandHandler.handleArchiveCommand("archive view page 2 size 2", taskList, dummyUi,
+                        dummyStorageMock, dummySaveStateStack));
+    }
+
     /**
      * Tests the exception handling of List command handler for an invalid task list.
      */
@@ -108,6 +241,45 @@ public class TaskListCommandHandlerTest {
         verifyNoMoreInteractions(uiMock);
     }
 
+    /**
+     * Tests the handling of the delete and done commands with queries, which should
+     * only save once.
+     */
+    @Test
+    public void deleteAndDone_query_success() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 6; i++) {
+            taskList.addTask(new ToDo(i % 2 == 0 ? "Standup " + i : "Review " + i));
+        }
+        final Storage storageMock = mock(Storage.class);
+        final SaveStateStack saveStateStack = new SaveStateStack();
+
+        TaskListCommandHandler.handleDoneCommand("done where desc~review", taskList, dummyUi, storageMock,
+                saveStateStack);
+        assertEquals(3, taskList.findIndices(Task::isCompleted).length);
+        TaskListCommandHandler.handleDeleteCommand("delete where desc~\"standup\" or completed", taskList,
+                dummyUi, storageMock, saveStateStack);
+        assertEquals(0, taskList.size());
+        verify(storageMock, times(2)).save(taskList);
+        assertEquals(3, saveStateStack.pop().getTasksFromSave().stream().filter(Task::isCompleted).count());
+    }
+
+    /**
+     * Tests the handling of the done command with a query that matches nothing.
+     */
+    @Test
+    public void done_queryWithoutMatches_exceptionThrown() {
+        final SaveStateStack saveStateStackMock = mock(SaveStateStack.class);
+        try {
+            TaskListCommandHandler.handleDoneCommand("done where overdue", dummyTaskList, dummyUi,
+                    dummyStorageMock, saveStateStackMock);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_NO_MATCHING_TASKS, e.getMessage());
+            verifyNoMoreInteractions(saveStateStackMock);
+        }
+    }
+
     /**
      * Tests the handling of the done command for commands missing indices.
      */
@@ -126,20 +298,76 @@ public class TaskListCommandHandlerTest {
     }
 
     /**
-     * Tests the handling of the done command for commands with too many indices.
+     * Tests the handling of the done command for multiple indices and ranges, which
+     * should only save once.
      */
     @Test
-    public void done_tooManyIndices_exceptionThrown() {
-        String command = "done 1 2 3 4";
+    public void done_multipleIndices_success() {
+        // Mocking classes
+        final String command = "done 1 4 7-9";
+        final SaveStateStack saveStateStackMock = mock(SaveStateStack.class);
+        final Storage storageMock = mock(Storage.class);
+        List<Task> dummyTasks = List.of(new Task("This is a dummy task"));
+
+        TaskList taskListMock = mock(TaskList.class);
+        when(taskListMock.size()).thenReturn(10);
+        when(taskListMock.completeTasks(new int[]{0, 3, 6, 7, 8})).thenReturn(dummyTasks);
+
+        Ui uiMock = mock(Ui.class);
+        when(uiMock.printTasksCompleted(dummyTasks)).thenReturn("Tasks completed");
 
         // Testing
-        try {
-            TaskListCommandHandler.handleDoneCommand(command, dummyTaskList, dummyUi, dummyStorageMock,
-                    dummySaveStateStack);
-            fail();
-        } catch (DuchessException e) {
-            assertEquals(ERROR_COMMAND_TOO_MANY_INDICES, e.getMessage());
+        assertEquals("Tasks completed", TaskListCommandHandler.handleDoneCommand(command, taskListMock, uiMock,
+                storageMock, saveStateStackMock));
+        verify(saveStateStackMock, times(1)).saveState(command, taskListMock);
+        verify(storageMock, times(1)).save(taskListMock);
+        verify(taskListMock, times(1)).completeTasks(new int[]{0, 3, 6, 7, 8});
+        verifyNoMoreInteractions(saveStateStackMock);
+        verifyNoMoreInteractions(storageMock);
+    }
+
+    /**
+     * Tests the handling of the done command catching up on an overdue recurring
+     * deadline, which should skip to its next deadline with a single save.
+     */
+    @Test
+    public void done_catchUp_success() {
+        LocalDateTime lastYear = LocalDateTime.now().minusYears(1);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new ToDo("Not recurring"));
+        taskList.addTask(new RecurringDeadline("Stand-up", lastYear, Frequency.DAILY));
+        final Storage storageMock = mock(Storage.class);
+        final SaveStateStack saveStateStack = new SaveStateStack();
+
+        String message = TaskListCommandHandler.handleDoneCommand("done 2 /catchup", taskList, dummyUi,
+                storageMock, saveStateStack);
+        Deadline caughtUp = (Deadline) taskList.getTask(1);
+        assertEquals(lastYear.plusDays(ChronoUnit.DAYS.between(lastYear, LocalDateTime.now()) + 1),
+                caughtUp.getDeadline());
+        assertFalse(caughtUp.isCompleted());
+        assertTrue(message.contains(caughtUp.toString()));
+        verify(storageMock, times(1)).save(taskList);
+        assertEquals(lastYear, ((Deadline) saveStateStack.pop().getTasksFromSave().get(1)).getDeadline());
+    }
+
+    /**
+     * Tests the handling of the delete command for a range, which should remove
+     * every task in the range together.
+     */
+    @Test
+    public void delete_range_success() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 10; i++) {
+            taskList.addTask(new ToDo("Task " + i));
         }
+        final Storage storageMock = mock(Storage.class);
+        final SaveStateStack saveStateStack = new SaveStateStack();
+
+        TaskListCommandHandler.handleDeleteCommand("delete 3-9", taskList, dummyUi, storageMock, saveStateStack);
+        assertEquals(3, taskList.size());
+        assertEquals("Task 9", taskList.getTask(2).getDescription());
+        verify(storageMock, times(1)).save(taskList);
+        assertEquals(10, saveStateStack.pop().getTasksFromSave().size());
     }
 
     /**
@@ -204,4 +432,142 @@ public class TaskListCommandHandlerTest {
             verifyNoMoreInteractions(taskListMock);
         }
     }
+
+    /**
+     * Tests that the agenda command shows the deadlines due on the given days.
+     */
+    @Test
+    public void agenda_validRange_success() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Deadline("Submit report", LocalDateTime.of(2030, 6, 3, 10, 0)));
+        taskList.addTask(new Deadline("Later", LocalDateTime.of(2030, 6, 5, 10, 0)));
+
+        assertEquals("Here's everything due from Sun 2 Jun 2030 to Mon 3 Jun 2030:\nMon 3 Jun 2030:\n1.\t"
+                + taskList.getTask(0) + "\n", TaskListCommandHandler.handleAgendaCommand(
+                        "agenda 2-6-30 /to 3-6-30", taskList, dummyUi, dummyStorageMock, dummySaveStateStack));
+    }
+
+    /**
+     * Tests that the agenda command shows one page of the deadlines at a time, and
+     * tells the user how to see the next page if there are more.
+     */
+    @Test
+    public void agenda_pages_success() {
+        TaskList taskList = new TaskList();
+        taskList.addTask(new RecurringDeadline("Stand-up", LocalDateTime.of(2030, 6, 1, 10, 0), Frequency.DAILY));
+
+        String firstPage = TaskListCommandHandler.handleAgendaCommand("agenda 1-6-30 /to 10-6-30 page 1 size 4",
+                taskList, dummyUi, dummyStorageMock, dummySaveStateStack);
+        assertEquals(4, firstPage.split("\n1\\.\t", -1).length - 1);
+        assertTrue(firstPage.startsWith("Here's everything due from Sat 1 Jun 2030 to Mon 10 Jun 2030:\n"
+                + "Sat 1 Jun 2030:\n"));
+        assertTrue(firstPage.endsWith("Page 1. There's more, add 'page 2' to see it.\n"));
+        String lastPage = TaskListCommandHandler.handleAgendaCommand("ag 1-6-30 /to 10-6-30 PAGE 3 size 4",
+                taskList, dummyUi, dummyStorageMock, dummySaveStateStack);
+        assertEquals(2, lastPage.split("\n1\\.\t", -1).length - 1);
+        assertTrue(lastPage.contains("\nSun 9 Jun 2030:\n"));
+        assertTrue(lastPage.endsWith("Page 3, the last one.\n"));
+        String wholeAgenda = TaskListCommandHandler.handleAgendaCommand("agenda 1-6-30 /to 10-6-30", taskList,
+                dummyUi, dummyStorageMock, dummySaveStateStack);
+        assertEquals(10, wholeAgenda.split("\n1\\.\t", -1).length - 1);
+        assertFalse(wholeAgenda.contains("Page"));
+        String defaultPage = TaskListCommandHandler.handleAgendaCommand("agenda 1-6-30 /to 30-6-30", taskList,
+                dummyUi, dummyStorageMock, dummySaveStateStack);
+        assertEquals(20, defaultPage.split("\n1\\.\t", -1).length - 1);
+        assertTrue(defaultPage.endsWith("Page 1. There's more, add 'page 2' to see it.\n"));
+
+        try {
+            TaskListCommandHandler.handleAgendaCommand("agenda 1-6-30 /to 10-6-30 page 4 size 4", taskList,
+                    dummyUi, dummyStorageMock, dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_PAGE_OUT_OF_BOUNDS, e.getMessage());
+        }
+        try {
+            TaskListCommandHandler.handleAgendaCommand("agenda 1-6-30 /to 10-6-30 page two", taskList, dummyUi,
+                    dummyStorageMock, dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_INVALID_PAGE, e.getMessage());
+        }
+    }
+
+    /**
+     * Tests the handling of the agenda command with a missing or backwards range.
+     */
+    @Test
+    public void agenda_invalidRange_exceptionThrown() {
+        String[] missingRanges = {"agenda", "agenda today", "agenda /to tomorrow", "agenda today /to"};
+        for (String command : missingRanges) {
+            try {
+                TaskListCommandHandler.handleAgendaCommand(command, dummyTaskList, dummyUi, dummyStorageMock,
+                        dummySaveStateStack);
+                fail(command);
+            } catch (DuchessException e) {
+                assertEquals(ERROR_AGENDA_MISSING_RANGE, e.getMessage());
+            }
+        }
+        try {
+            TaskListCommandHandler.handleAgendaCommand("agenda tomorrow /to today", dummyTaskList, dummyUi,
+                    dummyStorageMock, dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_AGENDA_INVALID_RANGE, e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that the next command shows the first incomplete tasks by priority, with
+     * their indices in the full list.
+     */
+    @Test
+    public void next_validCount_success() {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 8; i++) {
+            Task task = new ToDo("Task " + i);
+            task.setPriority(i % 3 == 2 ? Task.HIGHEST_PRIORITY : Task.NO_PRIORITY);
+            taskList.addTask(task);
+        }
+
+        assertEquals(dummyUi.print("If I were you, I'd get these done first:",
+                "1.\t" + taskList.getTask(2) + "\n\t[REF INDEX FOR DELETE/DONE: 3]",
+                "2.\t" + taskList.getTask(5) + "\n\t[REF INDEX FOR DELETE/DONE: 6]",
+                "3.\t" + taskList.getTask(0) + "\n\t[REF INDEX FOR DELETE/DONE: 1]"),
+                TaskListCommandHandler.handleNextCommand("next 3", taskList, dummyUi, dummyStorageMock,
+                        dummySaveStateStack));
+        assertEquals(dummyUi.printNextTasks(List.of()), TaskListCommandHandler.handleNextCommand("n",
+                new TaskList(), dummyUi, dummyStorageMock, dummySaveStateStack));
+        for (String command : new String[] {"next 0", "next two", "next 1 2"}) {
+            try {
+                TaskListCommandHandler.handleNextCommand(command, taskList, dummyUi, dummyStorageMock,
+                        dummySaveStateStack);
+                fail(command);
+            } catch (DuchessException e) {
+                assertEquals(ERROR_INVALID_NEXT_COUNT, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tests that the events command shows the events taking place on the given days.
+     */
+    @Test
+    public void events_validRange_success() {
+        LocalDateTime start = LocalDateTime.of(2030, 6, 2, 23, 0);
+        TaskList taskList = new TaskList();
+        taskList.addTask(new Event("Overnight", "2-6-30 2300 - 3-6-30 0100", start, start.plusHours(2)));
+        taskList.addTask(new Event("Earlier", "1-6-30", start.minusDays(1).withHour(0), start.withHour(0)));
+        taskList.addTask(new Event("Holiday", "Hawaii"));
+
+        assertEquals("Here's everything on from Mon 3 Jun 2030 to Mon 3 Jun 2030:\n1.\t" + taskList.getTask(0)
+                + "\n", TaskListCommandHandler.handleEventsCommand("events 3-6-30 /to 3-6-30", taskList, dummyUi,
+                        dummyStorageMock, dummySaveStateStack));
+        try {
+            TaskListCommandHandler.handleEventsCommand("events 3-6-30 /to 2-6-30", taskList, dummyUi,
+                    dummyStorageMock, dummySaveStateStack);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_EVENTS_INVALID_RANGE, e.getMessage());
+        }
+    }
 }
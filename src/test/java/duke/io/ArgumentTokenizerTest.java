@@ -0,0 +1,91 @@
+package duke.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import duke.io.ArgumentTokenizer.Prefix;
+
+/**
+ * JUnit test class for {@code ArgumentTokenizer}.
+ */
+public class ArgumentTokenizerTest {
+    private static final Set<Prefix> DEADLINE_PREFIXES = EnumSet.of(Prefix.BY, Prefix.EVERY, Prefix.STOP);
+
+    /**
+     * Tests the splitting of a command with every prefix given.
+     */
+    @Test
+    public void tokenize_allPrefixes_success() {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(
+                "deadline  Submit report /by 2-12-20 1600 /every week /stop 1-3-21", DEADLINE_PREFIXES);
+        assertEquals("deadline", tokenizer.getCommandWord());
+        assertEquals("Submit report", tokenizer.getPreamble());
+        assertEquals("2-12-20 1600", tokenizer.getValue(Prefix.BY));
+        assertEquals("week", tokenizer.getValue(Prefix.EVERY));
+        assertEquals("1-3-21", tokenizer.getValue(Prefix.STOP));
+    }
+
+    /**
+     * Tests that the order of prefixes does not matter and absent prefixes have no value.
+     */
+    @Test
+    public void tokenize_reorderedAndAbsentPrefixes_success() {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize("dl Run /every day /BY tonight",
+                DEADLINE_PREFIXES);
+        assertEquals("Run", tokenizer.getPreamble());
+        assertEquals("tonight", tokenizer.getValue(Prefix.BY));
+        assertEquals("day", tokenizer.getValue(Prefix.EVERY));
+        assertFalse(tokenizer.hasPrefix(Prefix.STOP));
+        assertNull(tokenizer.getValue(Prefix.STOP));
+    }
+
+    /**
+     * Tests that slashes which are not recognised prefixes stay in the surrounding text.
+     */
+    @Test
+    public void tokenize_slashesInText_keptInText() {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize(
+                "deadline Read 1/2 of book/notes /at home /by mon /bytes", DEADLINE_PREFIXES);
+        assertEquals("Read 1/2 of book/notes /at home", tokenizer.getPreamble());
+        assertEquals("mon /bytes", tokenizer.getValue(Prefix.BY));
+        assertFalse(tokenizer.hasPrefix(Prefix.AT));
+    }
+
+    /**
+     * Tests that the first occurrence of a repeated prefix is used.
+     */
+    @Test
+    public void tokenize_repeatedPrefix_firstValueUsed() {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize("event Meet /at noon /at night",
+                EnumSet.of(Prefix.AT));
+        assertEquals("Meet", tokenizer.getPreamble());
+        assertEquals("noon", tokenizer.getValue(Prefix.AT));
+    }
+
+    /**
+     * Tests commands with missing parts.
+     */
+    @Test
+    public void tokenize_missingParts_emptyValues() {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.tokenize("event /at", EnumSet.of(Prefix.AT));
+        assertEquals("event", tokenizer.getCommandWord());
+        assertEquals("", tokenizer.getPreamble());
+        assertTrue(tokenizer.hasPrefix(Prefix.AT));
+        assertEquals("", tokenizer.getValue(Prefix.AT));
+
+        tokenizer = ArgumentTokenizer.tokenize("todo", EnumSet.noneOf(Prefix.class));
+        assertEquals("todo", tokenizer.getCommandWord());
+        assertEquals("", tokenizer.getPreamble());
+
+        tokenizer = ArgumentTokenizer.tokenize("snooze 1-3 /for 2 days", EnumSet.of(Prefix.FOR));
+        assertEquals("1-3", tokenizer.getPreamble());
+        assertEquals("2 days", tokenizer.getValue(Prefix.FOR));
+    }
+}
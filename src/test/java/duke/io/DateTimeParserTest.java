@@ -2,11 +2,16 @@ package duke.io;
 
 import static duke.util.MagicStrings.ERROR_WRONG_DATE_FORMAT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -57,4 +62,82 @@ public class DateTimeParserTest {
             assertEquals(ERROR_WRONG_DATE_FORMAT, e.getMessage());
         }
     }
+
+    /**
+     * Tests that shortened days of the week are still recognised.
+     */
+    @Test
+    public void parse_shortenedDayOfWeek_success() {
+        assertEquals(LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.MONDAY)).atTime(17, 0),
+                DateTimeParser.parseDateTime("mon"));
+        assertEquals(LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.TUESDAY)).atTime(17, 0),
+                DateTimeParser.parseDateTime("tues"));
+        assertEquals(LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.WEDNESDAY)).atTime(17, 0),
+                DateTimeParser.parseDateTime("wednes"));
+        assertEquals(LocalDate.now().with(TemporalAdjusters.next(DayOfWeek.SATURDAY)).atTime(17, 0),
+                DateTimeParser.parseDateTime("satur"));
+    }
+
+    /**
+     * Tests that the scanner gives the same results as the {@code DateTimeFormatter}s
+     * over valid dates, boundary dates and malformed numeric inputs.
+     */
+    @Test
+    public void parse_numericDateTimeStrings_matchesFormatters() {
+        List<String> inputs = new ArrayList<>();
+        for (int month = 0; month <= 13; month++) {
+            for (int day = 0; day <= 32; day++) {
+                inputs.add(day + "-" + month + "-20");
+                inputs.add(day + "-" + month + "-21 0930");
+            }
+        }
+        String[] edgeCases = {
+            "29-2-20", "29-2-21", "31-4-20", "30-4-20", "1-1-00", "31-12-99", "01-01-20", "1-01-20",
+            "001-1-20", "1-1-2020", "1-1-2", "1-1-20 2359", "1-1-20 2400", "1-1-20 1260", "1-1-20 930",
+            "1-1-20 09300", "1-1-20  0930", "1-1-20-", "1--1-20", "1-1", "1", "12-12-20 0000",
+            "1-1-20x", "1-1-20 09:30", "1/1/20", "-1-1-20", "1-1-+2",
+        };
+        inputs.addAll(List.of(edgeCases));
+        for (String input : inputs) {
+            LocalDateTime expected = parseUsingFormatters(input);
+            if (expected == null) {
+                try {
+                    DateTimeParser.parseDateTime(input);
+                    fail(input);
+                } catch (DuchessException e) {
+                    assertEquals(ERROR_WRONG_DATE_FORMAT, e.getMessage());
+                }
+            } else {
+                assertEquals(expected, DateTimeParser.parseDateTime(input), input);
+            }
+        }
+    }
+
+    /**
+     * Tests that words which are not relative timings or days of the week are rejected.
+     */
+    @Test
+    public void parse_unknownWords_throwsException() {
+        for (String input : new String[] {"", "day", "mondayday", "tue", "weds", "next monday", "yesterday"}) {
+            try {
+                DateTimeParser.parseDateTime(input);
+                fail(input);
+            } catch (DuchessException e) {
+                assertEquals(ERROR_WRONG_DATE_FORMAT, e.getMessage());
+            }
+        }
+        assertNull(parseUsingFormatters("monday"));
+    }
+
+    private static LocalDateTime parseUsingFormatters(String input) {
+        try {
+            return LocalDateTime.parse(input, DateTimeParser.dateTimePattern);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDate.parse(input, DateTimeParser.datePattern).atTime(17, 0);
+            } catch (DateTimeParseException e2) {
+                return null;
+            }
+        }
+    }
 }
@@ -31,5 +31,8 @@ public class FrequencyParserTest {
         assertEquals(Frequency.MONTHLY, FrequencyParser.parseFrequency("every month"));
         assertEquals(Frequency.MONTHLY, FrequencyParser.parseFrequency("monthly"));
         assertEquals(Frequency.MONTHLY, FrequencyParser.parseFrequency("month"));
+        assertEquals(Frequency.YEARLY, FrequencyParser.parseFrequency("yearly"));
+        assertEquals(Frequency.YEARLY, FrequencyParser.parseFrequency("every year"));
+        assertEquals(Frequency.YEARLY, FrequencyParser.parseFrequency("annually"));
     }
 }
@@ -0,0 +1,52 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_COMMAND_MISSING_INDEX;
+import static duke.util.MagicStrings.ERROR_INDEX_OUT_OF_BOUNDS;
+import static duke.util.MagicStrings.ERROR_INVALID_COMMAND;
+import static duke.util.MagicStrings.ERROR_INVALID_INDEX_RANGE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.Test;
+
+import duke.exception.DuchessException;
+
+/**
+ * JUnit test class for {@code IndexParser}.
+ */
+public class IndexParserTest {
+    /**
+     * Tests the {@code parseIndices} static method with single indices and ranges.
+     */
+    @Test
+    public void parseIndices_validInput_success() {
+        assertArrayEquals(new int[]{3}, IndexParser.parseIndices("4", 10));
+        assertArrayEquals(new int[]{0, 3, 6, 7, 8}, IndexParser.parseIndices("1 4 7-9", 10));
+        assertArrayEquals(new int[]{1, 2, 3, 4}, IndexParser.parseIndices(" 5 2-4\t3 ", 10));
+        assertArrayEquals(new int[]{9}, IndexParser.parseIndices("10-10", 10));
+    }
+
+    /**
+     * Tests the {@code parseIndices} static method with invalid input.
+     */
+    @Test
+    public void parseIndices_invalidInput_exceptionThrown() {
+        assertParseIndicesThrows(" ", ERROR_COMMAND_MISSING_INDEX);
+        assertParseIndicesThrows("done", ERROR_INVALID_COMMAND);
+        assertParseIndicesThrows("1-a", ERROR_INVALID_COMMAND);
+        assertParseIndicesThrows("9-3", ERROR_INVALID_INDEX_RANGE);
+        assertParseIndicesThrows("0", ERROR_INDEX_OUT_OF_BOUNDS);
+        assertParseIndicesThrows("-3", ERROR_INDEX_OUT_OF_BOUNDS);
+        assertParseIndicesThrows("8-11", ERROR_INDEX_OUT_OF_BOUNDS);
+    }
+
+    private void assertParseIndicesThrows(String userInput, String errorMessage) {
+        try {
+            IndexParser.parseIndices(userInput, 10);
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(errorMessage, e.getMessage());
+        }
+    }
+}
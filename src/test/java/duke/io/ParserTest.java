@@ -45,4 +45,31 @@ public class ParserTest {
             assertEquals("I don't see what I can do with what you just told me.", e.getMessage());
         }
     }
+
+    /**
+     * Tests the {@code parse} method of the {@code Parser} class with aliases, mixed
+     * casing and different whitespace separators.
+     *
+     * @throws DuchessException If command is not recognized.
+     */
+    @Test
+    public void parse_aliasesAndWhitespace_success() throws DuchessException {
+        assertEquals(Command.DEADLINE, Parser.parse("dl finish ip /by today"));
+        assertEquals(Command.STATISTICS, Parser.parse("STATS\tthis week"));
+        assertEquals(Command.LIST, Parser.parse("Li"));
+        assertEquals(Command.ARCHIVE, Parser.parse("archive\nview"));
+        assertEquals(Command.BYE, Parser.parse("quit"));
+    }
+
+    /**
+     * Tests the {@code getFirstToken} method against the regex based splitting it
+     * replaces.
+     */
+    @Test
+    public void getFirstToken_variousInputs_matchesRegexSplit() {
+        String[] inputs = {"todo go for a run", "list", "", " list", "done\t3", "find\r\nrun", "snooze 3 /for 1 day"};
+        for (String input : inputs) {
+            assertEquals(input.split("\\s", 2)[0], Parser.getFirstToken(input));
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package duke.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Task;
+
+/**
+ * JUnit test class for {@code PriorityParser}.
+ */
+public class PriorityParserTest {
+    /**
+     * Tests that the first word from "!1" to "!5" is taken as the priority.
+     */
+    @Test
+    public void parsePriority_validPriority_success() {
+        assertEquals(1, PriorityParser.parsePriority("!1 Pay rent"));
+        assertEquals(3, PriorityParser.parsePriority("Pay rent !3 !1"));
+        assertEquals(5, PriorityParser.parsePriority("Pay rent !5"));
+    }
+
+    /**
+     * Tests that descriptions without a priority from "!1" to "!5" have none.
+     */
+    @Test
+    public void parsePriority_noPriority_noPriorityReturned() {
+        String[] descriptions = {"Pay rent", "Pay rent !0", "Pay rent !6", "Pay rent !12", "Wow!1", "!1st place"};
+        for (String description : descriptions) {
+            assertEquals(Task.NO_PRIORITY, PriorityParser.parsePriority(description), description);
+        }
+    }
+}
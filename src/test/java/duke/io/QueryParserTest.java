@@ -0,0 +1,83 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_INVALID_QUERY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import duke.exception.DuchessException;
+import duke.task.Deadline;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.ToDo;
+
+/**
+ * JUnit test class for {@code QueryParser}.
+ */
+public class QueryParserTest {
+    private final Task standup = new ToDo("Daily Standup", true, LocalDateTime.of(2025, 12, 1, 9, 0),
+            LocalDateTime.of(2025, 12, 1, 10, 0));
+    private final Task report = new Deadline("Submit report", LocalDateTime.of(2020, 2, 2, 17, 0));
+    private final Task party = new Event("Standup comedy", "Friday 8pm");
+
+    /**
+     * Tests queries on the description of tasks.
+     */
+    @Test
+    public void parseQuery_descriptionQueries_success() {
+        Predicate<Task> contains = QueryParser.parseQuery("desc~\"standup\"");
+        assertTrue(contains.test(standup));
+        assertTrue(contains.test(party));
+        assertFalse(contains.test(report));
+
+        Predicate<Task> equals = QueryParser.parseQuery("description = \"submit report\"");
+        assertTrue(equals.test(report));
+        assertFalse(equals.test(standup));
+    }
+
+    /**
+     * Tests queries combining conditions on completion and time.
+     */
+    @Test
+    public void parseQuery_combinedQueries_success() {
+        Predicate<Task> query = QueryParser.parseQuery("desc~\"standup\" and completed before 1-1-26");
+        assertTrue(query.test(standup));
+        assertFalse(query.test(party));
+
+        Predicate<Task> deadlineQuery = QueryParser.parseQuery("deadline < today");
+        assertTrue(deadlineQuery.test(report));
+        assertFalse(deadlineQuery.test(standup));
+
+        Predicate<Task> orQuery = QueryParser.parseQuery("type=event or (overdue and not completed)");
+        assertTrue(orQuery.test(party));
+        assertTrue(orQuery.test(report));
+        assertFalse(orQuery.test(standup));
+
+        Predicate<Task> createdQuery = QueryParser.parseQuery("created on \"1-12-25 0000\" and incomplete");
+        assertFalse(createdQuery.test(standup));
+        assertTrue(QueryParser.parseQuery("created on 1-12-25").test(standup));
+    }
+
+    /**
+     * Tests queries of the wrong format.
+     */
+    @Test
+    public void parseQuery_invalidQueries_exceptionThrown() {
+        String[] invalidQueries = {"", "desc", "desc < standup", "colour = red", "(completed", "completed and",
+            "desc~\"unclosed", "type = meeting", "completed overdue"};
+        for (String invalidQuery : invalidQueries) {
+            try {
+                QueryParser.parseQuery(invalidQuery);
+                fail();
+            } catch (DuchessException e) {
+                assertEquals(ERROR_INVALID_QUERY, e.getMessage());
+            }
+        }
+    }
+}
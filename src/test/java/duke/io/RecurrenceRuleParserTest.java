@@ -0,0 +1,78 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_INVALID_RECURRENCE_RULE;
+import static duke.util.MagicStrings.ERROR_WRONG_FREQUENCY_FORMAT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import duke.exception.DuchessException;
+import duke.util.Frequency;
+import duke.util.RecurrenceRule;
+
+/**
+ * JUnit test class for {@code RecurrenceRuleParser}.
+ */
+public class RecurrenceRuleParserTest {
+    /**
+     * Tests parsing RRULEs, with or without the "rrule:" in front.
+     */
+    @Test
+    public void parseRecurrenceRule_validRule_success() {
+        // Assumption is that the input is already cleaned and lowered.
+        assertEquals("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR;COUNT=10",
+                RecurrenceRuleParser.parseRecurrenceRule("rrule:freq=weekly;byday=fr,mo;interval=2;count=10")
+                        .toString());
+        assertEquals("FREQ=MONTHLY;BYMONTHDAY=-1,15",
+                RecurrenceRuleParser.parseRecurrenceRule("freq=monthly;bymonthday=15,-1").toString());
+        assertEquals("FREQ=YEARLY;UNTIL=20301231T235959",
+                RecurrenceRuleParser.parseRecurrenceRule("freq=yearly;until=20301231").toString());
+        LocalDateTime utcUntil = LocalDateTime.of(2030, 6, 1, 12, 0).atOffset(ZoneOffset.UTC)
+                .atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        assertEquals(utcUntil, RecurrenceRuleParser.parseRecurrenceRule("freq=daily;until=20300601t120000z")
+                .getUntil());
+    }
+
+    /**
+     * Tests that frequencies are still accepted in place of RRULEs.
+     */
+    @Test
+    public void parseRecurrenceRule_frequency_success() {
+        assertEquals(RecurrenceRule.of(Frequency.FORTNIGHTLY).toString(),
+                RecurrenceRuleParser.parseRecurrenceRule("every two weeks").toString());
+        assertEquals(RecurrenceRule.of(Frequency.YEARLY).toString(),
+                RecurrenceRuleParser.parseRecurrenceRule("yearly").toString());
+        try {
+            RecurrenceRuleParser.parseRecurrenceRule("sometimes");
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_WRONG_FREQUENCY_FORMAT, e.getMessage());
+        }
+    }
+
+    /**
+     * Tests that RRULEs with parts that are unknown, repeated, out of range or not
+     * allowed together are rejected.
+     */
+    @Test
+    public void parseRecurrenceRule_invalidRule_exceptionThrown() {
+        String[] invalidRules = {"freq=hourly", "freq=", "freq=daily;interval", "freq=daily;interval=0",
+            "freq=daily;interval=two", "freq=weekly;byday=mon", "freq=weekly;byday=1mo", "freq=weekly;bymonthday=1",
+            "freq=monthly;bymonthday=0", "freq=monthly;bymonthday=32", "freq=daily;count=-1",
+            "freq=daily;count=2;until=20301231", "freq=daily;until=31-12-30", "freq=daily;freq=weekly",
+            "freq=yearly;bymonth=2", "rrule:count=3;byday=mo;freq=sometimes"};
+        for (String rule : invalidRules) {
+            try {
+                RecurrenceRuleParser.parseRecurrenceRule(rule);
+                fail(rule);
+            } catch (DuchessException e) {
+                assertEquals(ERROR_INVALID_RECURRENCE_RULE, e.getMessage(), rule);
+            }
+        }
+    }
+}
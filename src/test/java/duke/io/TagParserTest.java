@@ -0,0 +1,61 @@
+package duke.io;
+
+import static duke.util.MagicStrings.ERROR_INVALID_TAG_FILTER;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.exception.DuchessException;
+import duke.util.Pair;
+
+/**
+ * JUnit test class for {@code TagParser}.
+ */
+public class TagParserTest {
+    /**
+     * Tests that the words starting with "#" are taken as tags, lowercase and without
+     * duplicates, while a "#" in the middle of a word is not.
+     */
+    @Test
+    public void parseTags_description_success() {
+        assertEquals(List.of("work", "q3-report", "urgent"),
+                TagParser.parseTags("#Work on the #q3-report, #urgent #WORK"));
+        assertEquals(List.of(), TagParser.parseTags("Learn C# and F#"));
+        assertEquals(List.of(), TagParser.parseTags("Buy # 2 pencils"));
+    }
+
+    /**
+     * Tests that tag filters are split into the tags to include and to exclude.
+     */
+    @Test
+    public void parseTagFilter_validFilter_success() {
+        // Assumption is that the input is already cleaned and lowered.
+        assertTrue(TagParser.isTagFilter("#work"));
+        assertTrue(TagParser.isTagFilter("-#someday"));
+        assertFalse(TagParser.isTagFilter("page 2"));
+        Pair<List<String>, List<String>> tags = TagParser.parseTagFilter("#work  #urgent -#someday");
+        assertEquals(List.of("work", "urgent"), tags.getFirst());
+        assertEquals(List.of("someday"), tags.getSecond());
+    }
+
+    /**
+     * Tests that tag filters with anything other than tags are rejected.
+     */
+    @Test
+    public void parseTagFilter_invalidFilter_exceptionThrown() {
+        String[] invalidFilters = {"#work urgent", "#", "-#", "#work page 2", "--#work"};
+        for (String filter : invalidFilters) {
+            try {
+                TagParser.parseTagFilter(filter);
+                fail(filter);
+            } catch (DuchessException e) {
+                assertEquals(ERROR_INVALID_TAG_FILTER, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package duke.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import duke.util.Pair;
+
+/**
+ * JUnit test class for {@code TimeFrameParser}.
+ */
+public class TimeFrameParserTest {
+    private static final LocalDateTime MEETING = LocalDateTime.of(2030, 6, 2, 14, 0);
+
+    /**
+     * Tests time frames between two times, where the end may be just a time of day
+     * and dates cover their whole day.
+     */
+    @Test
+    public void parseTimeFrame_range_success() {
+        // Assumption is that the input is already cleaned and lowered.
+        assertTimes(MEETING, MEETING.withHour(16), TimeFrameParser.parseTimeFrame("2-6-30 1400 - 1600"));
+        assertTimes(MEETING, MEETING.withHour(16), TimeFrameParser.parseTimeFrame("2-6-30 1400 to 2-6-30 1600"));
+        assertTimes(MEETING.withHour(0), LocalDateTime.of(2030, 6, 6, 0, 0),
+                TimeFrameParser.parseTimeFrame("2-6-30 - 5-6-30"));
+        assertTimes(MEETING, LocalDateTime.of(2030, 6, 3, 0, 0),
+                TimeFrameParser.parseTimeFrame("2-6-30 1400 - 2-6-30"));
+    }
+
+    /**
+     * Tests time frames of a single time, which last an hour, or a single day, which
+     * last the whole day.
+     */
+    @Test
+    public void parseTimeFrame_singleTime_success() {
+        assertTimes(MEETING, MEETING.withHour(15), TimeFrameParser.parseTimeFrame("2-6-30 1400"));
+        assertTimes(MEETING.withHour(0), MEETING.withHour(0).plusDays(1), TimeFrameParser.parseTimeFrame("2-6-30"));
+        LocalDateTime tonight = LocalDate.now().atTime(21, 0);
+        assertTimes(tonight, tonight.plusHours(1), TimeFrameParser.parseTimeFrame("tonight"));
+        assertTimes(LocalDate.now().plusDays(1).atStartOfDay(), LocalDate.now().plusDays(2).atStartOfDay(),
+                TimeFrameParser.parseTimeFrame("tomorrow"));
+    }
+
+    /**
+     * Tests that time frames which are not times, or end before they start, are left
+     * unparsed.
+     */
+    @Test
+    public void parseTimeFrame_notTimes_null() {
+        String[] timeFrames = {"hawaii", "3-5pm", "tembusu tonight", "2-6-30 1600 - 1400", "2-6-30 - hawaii",
+            "2-6-30 1400 - 1400"};
+        for (String timeFrame : timeFrames) {
+            assertNull(TimeFrameParser.parseTimeFrame(timeFrame), timeFrame);
+        }
+    }
+
+    private static void assertTimes(LocalDateTime start, LocalDateTime end, Pair<LocalDateTime, LocalDateTime> times) {
+        assertEquals(start, times.getFirst());
+        assertEquals(end, times.getSecond());
+    }
+}
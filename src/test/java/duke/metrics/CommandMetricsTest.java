@@ -0,0 +1,57 @@
+package duke.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.Command;
+import duke.metrics.CommandMetrics.CommandTimer;
+import duke.metrics.CommandMetrics.Phase;
+
+/**
+ * JUnit test class for {@code CommandMetrics}.
+ */
+public class CommandMetricsTest {
+    /**
+     * Tests that commands and their phases are recorded, and that phases outside
+     * of a command are ignored.
+     */
+    @Test
+    public void startTimer_commandsWithPhases_recorded() {
+        CommandMetrics.reset();
+        CommandMetrics.recordPhase(Phase.STORAGE_SAVE, 5_000_000);
+        try (CommandTimer timer = CommandMetrics.startTimer(Command.DONE)) {
+            CommandMetrics.recordPhase(Phase.SAVE_STATE, 2_000_000);
+            CommandMetrics.recordPhase(Phase.STORAGE_SAVE, 4_000_000);
+            timer.markSuccessful();
+        }
+        // A timer closed without being marked successful records an error.
+        CommandTimer failedTimer = CommandMetrics.startTimer(Command.DONE);
+        CommandMetrics.recordPhase(Phase.RENDER, 1_000_000);
+        failedTimer.close();
+        try (CommandTimer timer = CommandMetrics.startTimer(Command.LIST)) {
+            timer.markSuccessful();
+        }
+
+        List<CommandSummary> summaries = CommandMetrics.getSummaries();
+        assertEquals(2, summaries.size());
+        CommandSummary listSummary = summaries.get(0);
+        assertEquals("LIST", listSummary.getCommand());
+        assertEquals(1, listSummary.getCount());
+        CommandSummary doneSummary = summaries.get(1);
+        assertEquals("DONE", doneSummary.getCommand());
+        assertEquals(2, doneSummary.getCount());
+        assertEquals(1, doneSummary.getNumOfErrors());
+        assertEquals(1.0, doneSummary.getMeanSaveStateMillis());
+        assertEquals(2.0, doneSummary.getMeanStorageSaveMillis());
+        assertEquals(0.5, doneSummary.getMeanRenderMillis());
+        assertTrue(doneSummary.getP50Millis() <= doneSummary.getMaxMillis());
+        assertTrue(doneSummary.toString().startsWith("done: 2 runs, 1 error\n"));
+
+        CommandMetrics.reset();
+        assertTrue(CommandMetrics.getSummaries().isEmpty());
+    }
+}
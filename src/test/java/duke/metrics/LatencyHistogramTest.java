@@ -0,0 +1,68 @@
+package duke.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test class for {@code LatencyHistogram}.
+ */
+public class LatencyHistogramTest {
+    /**
+     * Tests that an empty histogram reports zeroes.
+     */
+    @Test
+    public void getValueAtPercentile_emptyHistogram_zero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getMean());
+    }
+
+    /**
+     * Tests that small values are recorded exactly.
+     */
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+        assertEquals(50.5, histogram.getMean());
+    }
+
+    /**
+     * Tests that percentiles of values from microseconds to seconds are within
+     * the precision of the buckets.
+     */
+    @Test
+    public void getValueAtPercentile_largeValues_withinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_003L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000 * 1_000_003L, histogram.getMax());
+        long[][] expectedValues = {{50, 500 * 1_000_003L}, {90, 900 * 1_000_003L}, {99, 990 * 1_000_003L}};
+        for (long[] expected : expectedValues) {
+            long actual = histogram.getValueAtPercentile(expected[0]);
+            assertTrue(Math.abs(actual - expected[1]) <= expected[1] / 64, expected[0] + ": " + actual);
+        }
+    }
+
+    /**
+     * Tests that values beyond the range of the histogram are clamped.
+     */
+    @Test
+    public void record_hugeValue_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals((1L << 40) - 1, histogram.getMax());
+        assertEquals((1L << 40) - 1, histogram.getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,156 @@
+package duke.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.Deadline;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.ToDo;
+
+/**
+ * JUnit test class for {@code ReminderScheduler}.
+ */
+public class ReminderSchedulerTest {
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2020, 3, 2, 9, 0);
+    private static final List<Duration> LEAD_TIMES = List.of(Duration.ZERO, Duration.ofDays(1), Duration.ofHours(1));
+
+    private final MutableClock clock = new MutableClock(START_TIME);
+    private final ReminderScheduler scheduler = new ReminderScheduler(LEAD_TIMES, clock);
+    private final List<Reminder> reminders = new ArrayList<>();
+    private final TaskList taskList = new TaskList();
+
+    /**
+     * Initialises the scheduler to record reminders for changes to the task list.
+     */
+    public ReminderSchedulerTest() {
+        scheduler.addListener(reminders::add);
+        taskList.addListener(scheduler);
+    }
+
+    /**
+     * Tests that a deadline is reminded about at each lead time, from the longest.
+     */
+    @Test
+    public void tick_addedDeadline_remindedAtEachLeadTime() {
+        Deadline deadline = new Deadline("Submit report", START_TIME.plusDays(2));
+        taskList.addTask(deadline);
+        taskList.addTask(new ToDo("Go for a run"));
+        assertEquals(1, scheduler.size());
+
+        advanceTo(START_TIME.plusDays(1).minusMinutes(1));
+        assertTrue(reminders.isEmpty());
+        advanceTo(START_TIME.plusDays(1));
+        advanceTo(START_TIME.plusDays(2).minusHours(1));
+        advanceTo(START_TIME.plusDays(2));
+        advanceTo(START_TIME.plusDays(10));
+
+        assertEquals(3, reminders.size());
+        assertEquals(List.of(Duration.ofDays(1), Duration.ofHours(1), Duration.ZERO),
+                List.of(reminders.get(0).getLeadTime(), reminders.get(1).getLeadTime(),
+                        reminders.get(2).getLeadTime()));
+        assertSame(deadline, reminders.get(2).getDeadline());
+        assertTrue(reminders.get(2).isOverdue());
+        assertEquals(0, scheduler.size());
+    }
+
+    /**
+     * Tests that completing or deleting a deadline cancels its reminders.
+     */
+    @Test
+    public void tick_completedAndDeletedDeadlines_notReminded() {
+        taskList.addTask(new Deadline("Submit report", START_TIME.plusHours(2)));
+        taskList.addTask(new Deadline("Pay bills", START_TIME.plusHours(2)));
+        assertEquals(2, scheduler.size());
+        taskList.completeTask(0);
+        taskList.removeTask(1);
+        assertEquals(0, scheduler.size());
+
+        advanceTo(START_TIME.plusDays(1));
+        assertTrue(reminders.isEmpty());
+    }
+
+    /**
+     * Tests that snoozing a deadline moves its reminders.
+     */
+    @Test
+    public void tick_snoozedDeadline_remindedAtNewTime() {
+        taskList.addTask(new Deadline("Submit report", START_TIME.plusHours(2)));
+        taskList.snoozeTask(0, Duration.ofHours(3));
+
+        advanceTo(START_TIME.plusHours(2));
+        assertTrue(reminders.isEmpty());
+        advanceTo(START_TIME.plusHours(4));
+        assertEquals(1, reminders.size());
+        assertEquals(Duration.ofHours(1), reminders.get(0).getLeadTime());
+        assertEquals(START_TIME.plusHours(5), reminders.get(0).getDueTime());
+    }
+
+    /**
+     * Tests that only the latest reminder is sent when several are due at once, and
+     * that reminders whose time had passed when the tasks were loaded are skipped.
+     */
+    @Test
+    public void tick_missedReminders_onlyLatestSent() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        tasks.add(new Deadline("Submit report", START_TIME.plusHours(12)));
+        tasks.add(new Deadline("Pay bills", START_TIME.plusMinutes(30)));
+        taskList.replaceLists(tasks, new ArrayList<>());
+        assertEquals(2, scheduler.size());
+
+        advanceTo(START_TIME.plusHours(11).plusMinutes(30));
+        assertEquals(2, reminders.size());
+        assertEquals("Pay bills", reminders.get(0).getDeadline().getDescription());
+        assertTrue(reminders.get(0).isOverdue());
+        assertEquals("Submit report", reminders.get(1).getDeadline().getDescription());
+        assertEquals(Duration.ofHours(1), reminders.get(1).getLeadTime());
+        assertEquals(1, scheduler.size());
+    }
+
+    private void advanceTo(LocalDateTime time) {
+        clock.setTime(time);
+        scheduler.tick();
+    }
+
+    /**
+     * The {@code MutableClock} is a {@code Clock} in UTC whose time is set by the test.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(LocalDateTime time) {
+            this.setTime(time);
+        }
+
+        void setTime(LocalDateTime time) {
+            this.instant = time.toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return this.instant;
+        }
+    }
+}
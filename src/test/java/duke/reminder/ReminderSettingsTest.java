@@ -0,0 +1,59 @@
+package duke.reminder;
+
+import static duke.util.MagicStrings.ERROR_INVALID_REMINDER_LEAD_TIMES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.exception.DuchessException;
+
+/**
+ * JUnit test class for {@code ReminderSettings}.
+ */
+public class ReminderSettingsTest {
+    /**
+     * Tests that lead times in days, hours and minutes are parsed.
+     */
+    @Test
+    public void parseLeadTimes_validInput_success() {
+        assertEquals(List.of(Duration.ofDays(2), Duration.ofHours(3), Duration.ofMinutes(30), Duration.ZERO),
+                ReminderSettings.parseLeadTimes("2d, 3H,30m,0"));
+        assertEquals(List.of(), ReminderSettings.parseLeadTimes("OFF"));
+    }
+
+    /**
+     * Tests the error handling of lead times with an unknown unit or no unit.
+     */
+    @Test
+    public void parseLeadTimes_invalidInput_exceptionThrown() {
+        for (String userInput : new String[] {"1w", "5", "1 day", "-1h", ""}) {
+            try {
+                ReminderSettings.parseLeadTimes(userInput);
+                fail(userInput);
+            } catch (DuchessException e) {
+                assertEquals(ERROR_INVALID_REMINDER_LEAD_TIMES, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Tests that the settings are read from the flags, with defaults for missing flags.
+     */
+    @Test
+    public void fromArguments_flags_success() {
+        ReminderSettings defaultSettings = ReminderSettings.fromArguments(List.of("-mode", "console"));
+        assertEquals(ReminderScheduler.DEFAULT_LEAD_TIMES, defaultSettings.getLeadTimes());
+        assertNull(defaultSettings.getHookCommand());
+
+        ReminderSettings settings = ReminderSettings.fromArguments(List.of("-remind", "off", "-reminder-hook",
+                "notify-send \"$DUCHESS_TASK\""));
+        assertFalse(settings.isEnabled());
+        assertEquals("notify-send \"$DUCHESS_TASK\"", settings.getHookCommand());
+    }
+}
@@ -0,0 +1,116 @@
+package duke.reminder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import duke.reminder.TimingWheel.Timeout;
+
+/**
+ * JUnit test class for {@code TimingWheel}.
+ */
+public class TimingWheelTest {
+    /**
+     * Tests that items expire on the tick of their expiry time and not before.
+     */
+    @Test
+    public void advance_scheduledItems_expireOnTime() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 0);
+        wheel.schedule("later", 5_500);
+        wheel.schedule("soon", 2_000);
+        List<String> expired = new ArrayList<>();
+
+        wheel.advance(1_999, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(2_000, expired::add);
+        assertEquals(List.of("soon"), expired);
+        wheel.advance(5_999, expired::add);
+        assertEquals(List.of("soon", "later"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    /**
+     * Tests that items far in the future move down the levels and expire in order,
+     * including across the boundaries of higher levels.
+     */
+    @Test
+    public void advance_itemsAcrossLevels_expireInOrder() {
+        long startTime = 63;
+        TimingWheel<Long> wheel = new TimingWheel<>(1, startTime);
+        Random random = new Random(7);
+        List<Long> expiryTimes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            long expiryTime = startTime + 1 + random.nextInt(1 << 20);
+            expiryTimes.add(expiryTime);
+            wheel.schedule(expiryTime, expiryTime);
+        }
+        expiryTimes.sort(Long::compare);
+
+        List<Long> expired = new ArrayList<>();
+        long time = startTime;
+        while (wheel.size() > 0) {
+            time += 1 + random.nextInt(5000);
+            long currentTime = time;
+            wheel.advance(currentTime, expiryTime -> {
+                assertTrue(expiryTime <= currentTime);
+                expired.add(expiryTime);
+            });
+        }
+        assertEquals(expiryTimes, expired);
+    }
+
+    /**
+     * Tests that cancelled items never expire, and that an item can only be
+     * cancelled once.
+     */
+    @Test
+    public void cancel_pendingItem_neverExpires() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 0);
+        Timeout<String> cancelled = wheel.schedule("cancelled", 100_000_000);
+        wheel.schedule("kept", 100_000_000);
+        assertTrue(wheel.cancel(cancelled));
+        assertFalse(wheel.cancel(cancelled));
+        assertFalse(cancelled.isPending());
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(100_000_000, expired::add);
+        assertEquals(List.of("kept"), expired);
+    }
+
+    /**
+     * Tests that an item whose time has passed expires on the next tick.
+     */
+    @Test
+    public void schedule_pastTime_expiresOnNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 10_000);
+        Timeout<String> timeout = wheel.schedule("late", 0);
+        assertTrue(timeout.isPending());
+        List<String> expired = new ArrayList<>();
+        wheel.advance(10_999, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(11_000, expired::add);
+        assertEquals(List.of("late"), expired);
+    }
+
+    /**
+     * Tests that clearing the wheel cancels every item.
+     */
+    @Test
+    public void clear_scheduledItems_noneExpire() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 0);
+        final Timeout<String> timeout = wheel.schedule("first", 3_000);
+        wheel.schedule("second", 1L << 50);
+        wheel.clear();
+        assertEquals(0, wheel.size());
+        assertFalse(timeout.isPending());
+        List<String> expired = new ArrayList<>();
+        wheel.advance(1L << 51, expired::add);
+        assertTrue(expired.isEmpty());
+    }
+}
@@ -1,12 +1,16 @@
 package duke.save;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
 import duke.task.TaskList;
+import duke.task.ToDo;
 
 /**
  * JUnit test class for {@code SaveStateStack}.
@@ -47,4 +51,38 @@ public class SaveStateStackTest {
         assertNull(testSaveStateStack.pop());
     }
 
+    /**
+     * Tests that a transaction keeps a single save state from before its first change.
+     */
+    @Test
+    public void saveState_duringTransaction_singleSaveState() {
+        SaveStateStack testSaveStateStack = new SaveStateStack();
+        TaskList taskList = new TaskList();
+        testSaveStateStack.beginTransaction("batch script.txt");
+        assertTrue(testSaveStateStack.isInTransaction());
+        for (int i = 0; i < 3; i++) {
+            testSaveStateStack.saveState("todo task " + i, taskList);
+            taskList.addTask(new ToDo("task " + i));
+        }
+        assertNull(testSaveStateStack.pop());
+        testSaveStateStack.endTransaction();
+        assertFalse(testSaveStateStack.isInTransaction());
+
+        SaveState saveState = testSaveStateStack.pop();
+        assertNotNull(saveState);
+        assertEquals("batch script.txt", saveState.getLastCommand());
+        assertTrue(saveState.getTasksFromSave().isEmpty());
+        assertNull(testSaveStateStack.pop());
+    }
+
+    /**
+     * Tests that a transaction without changes does not create a save state.
+     */
+    @Test
+    public void endTransaction_noChanges_noSaveState() {
+        SaveStateStack testSaveStateStack = new SaveStateStack();
+        testSaveStateStack.beginTransaction("batch script.txt");
+        testSaveStateStack.endTransaction();
+        assertNull(testSaveStateStack.pop());
+    }
 }
@@ -1,6 +1,7 @@
 package duke.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -10,12 +11,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.stream.Stream;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Test;
 
@@ -24,9 +32,12 @@ import com.google.gson.Gson;
 import duke.exception.DuchessException;
 import duke.task.Deadline;
 import duke.task.Event;
+import duke.task.RecurringDeadline;
 import duke.task.Task;
 import duke.task.TaskList;
 import duke.task.ToDo;
+import duke.util.Frequency;
+import duke.util.RecurrenceRule;
 
 /**
  * JUnit test class for {@code Storage}.
@@ -213,6 +224,180 @@ public class StorageTest {
                 ((Deadline) loadedTaskList.getTask(2)).getDeadline());
     }
 
+    /**
+     * Tests that deferred saves are only written to the save file on {@code commit}.
+     *
+     * @throws DuchessException If the storage fails to save.
+     */
+    @Test
+    public void commit_deferredSaves_savedOnce() throws DuchessException {
+        File folder = new File("storageTestSeven");
+        if (!folder.exists()) {
+            boolean isDirectoryCreated = folder.mkdir();
+            if (!isDirectoryCreated) {
+                throw new DuchessException("Folder failed to be created!");
+            }
+        }
+        TaskList taskList = new TaskList();
+        Storage storageSeven = new Storage("storageTestSeven/data.json");
+        storageSeven.deferSaves();
+        assertFalse(storageSeven.commit(taskList));
+
+        storageSeven.deferSaves();
+        taskList.addTask(new ToDo("Go for a run"));
+        storageSeven.save(taskList);
+        taskList.addTask(new ToDo("Go for a swim"));
+        storageSeven.save(taskList);
+        File saveFile = new File("storageTestSeven/data.json");
+        assertFalse(saveFile.exists());
+
+        assertTrue(storageSeven.commit(taskList));
+        assertTrue(saveFile.exists());
+        assertEquals(2, storageSeven.load().get(0).size());
+    }
+
+    /**
+     * Tests that saves are recorded as {@code StorageSaveEvent}s by JDK Flight Recorder.
+     *
+     * @throws DuchessException If the storage fails to save.
+     * @throws IOException      If the recording fails to be written or read.
+     */
+    @Test
+    public void save_flightRecording_eventsRecorded() throws DuchessException, IOException {
+        File folder = new File("storageTestEight");
+        if (!folder.exists()) {
+            boolean isDirectoryCreated = folder.mkdir();
+            if (!isDirectoryCreated) {
+                throw new DuchessException("Folder failed to be created!");
+            }
+        }
+        TaskList taskList = new TaskList();
+        taskList.addTask(new ToDo("Go for a run"));
+        Storage storageEight = new Storage("storageTestEight/data.json");
+        Path recordingPath = Path.of("storageTestEight/recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("duke.StorageSave");
+            recording.start();
+            storageEight.save(taskList);
+            storageEight.deferSaves();
+            storageEight.save(taskList);
+            storageEight.commit(taskList);
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        assertEquals(2, events.size());
+        assertEquals("immediate", events.get(0).getString("mode"));
+        assertEquals("batch", events.get(1).getString("mode"));
+        long fileSize = Files.size(Path.of("storageTestEight/data.json"));
+        for (RecordedEvent event : events) {
+            assertEquals(fileSize, event.getLong("bytesWritten"));
+            assertTrue(event.getBoolean("isSuccessful"));
+        }
+    }
+
+    /**
+     * Tests that recurring deadlines keep their recurrence rules when saved and
+     * loaded, and that those saved with only a frequency can still be loaded.
+     *
+     * @throws DuchessException If the storage fails to load or save.
+     * @throws IOException      If the old save file fails to be written.
+     */
+    @Test
+    public void loadAndSave_recurringDeadlines_rulesKept() throws DuchessException, IOException {
+        File folder = new File("storageTestNine");
+        if (!folder.exists()) {
+            boolean isDirectoryCreated = folder.mkdir();
+            if (!isDirectoryCreated) {
+                throw new DuchessException("Folder failed to be created!");
+            }
+        }
+        Files.writeString(Path.of("storageTestNine/data.json"), "{\"tasks\":[{\"frequency\":\"FORTNIGHTLY\","
+                + "\"deadline\":{\"date\":{\"year\":2021,\"month\":3,\"day\":1},"
+                + "\"time\":{\"hour\":9,\"minute\":0,\"second\":0,\"nano\":0}},\"isCompletedOnTime\":false,"
+                + "\"description\":\"Old\",\"isCompleted\":false}],\"archive\":[]}");
+        Storage storageNine = new Storage("storageTestNine/data.json");
+        Task oldTask = storageNine.load().get(0).get(0);
+        assertTrue(oldTask instanceof RecurringDeadline);
+        assertEquals(RecurrenceRule.of(Frequency.FORTNIGHTLY).toString(),
+                ((RecurringDeadline) oldTask).getRecurrenceRule().toString());
+
+        TaskList taskList = new TaskList();
+        RecurrenceRule rule = new RecurrenceRule(Frequency.MONTHLY, 2, EnumSet.of(DayOfWeek.FRIDAY), List.of(-1),
+                0, LocalDateTime.of(2030, 1, 1, 0, 0));
+        taskList.addTask(new RecurringDeadline("New", LocalDateTime.of(2021, 4, 30, 17, 0), rule));
+        LocalDateTime caughtUpTime = LocalDateTime.of(2022, 1, 1, 12, 0);
+        final int numOfSkipped = taskList.catchUpTasks(new int[]{0}, caughtUpTime).get(0).getSecond();
+        storageNine.save(taskList);
+        RecurringDeadline loadedTask = (RecurringDeadline) storageNine.load().get(0).get(0);
+        assertEquals(rule.toString(), loadedTask.getRecurrenceRule().toString());
+        assertEquals(taskList.getTask(0).toString(), loadedTask.toString());
+        assertEquals(numOfSkipped, loadedTask.getNumOfSkippedAfter(caughtUpTime.minusDays(1)));
+    }
+
+    /**
+     * Tests that the times of scheduled events are saved and loaded, and that events
+     * saved before times were kept are loaded unscheduled.
+     *
+     * @throws DuchessException If the storage fails to load or save the file.
+     * @throws IOException      If the old save file fails to be written.
+     */
+    @Test
+    public void loadAndSave_scheduledEvents_timesKept() throws DuchessException, IOException {
+        File folder = new File("storageTestTen");
+        if (!folder.exists()) {
+            boolean isDirectoryCreated = folder.mkdir();
+            if (!isDirectoryCreated) {
+                throw new DuchessException("Folder failed to be created!");
+            }
+        }
+        Files.writeString(Path.of("storageTestTen/data.json"), "{\"tasks\":[{\"timeFrame\":\"2-6-30 1400\","
+                + "\"description\":\"Old\",\"isCompleted\":false}],\"archive\":[]}");
+        Storage storageTen = new Storage("storageTestTen/data.json");
+        assertFalse(((Event) storageTen.load().get(0).get(0)).isScheduled());
+
+        TaskList taskList = new TaskList();
+        LocalDateTime start = LocalDateTime.of(2030, 6, 2, 14, 0);
+        taskList.addTask(new Event("New", "2-6-30 1400 - 1600", start, start.plusHours(2)));
+        storageTen.save(taskList);
+        Event loadedEvent = (Event) storageTen.load().get(0).get(0);
+        assertEquals(start, loadedEvent.getStartTime());
+        assertEquals(start.plusHours(2), loadedEvent.getEndTime());
+    }
+
+    /**
+     * Tests that the tags and priorities of tasks are saved and loaded, and that tasks
+     * in save files from before they were supported take them from their descriptions.
+     *
+     * @throws DuchessException If the storage fails to load or save the file.
+     * @throws IOException      If the old save file fails to be written.
+     */
+    @Test
+    public void loadAndSave_taggedTasks_tagsAndPrioritiesKept() throws DuchessException, IOException {
+        File folder = new File("storageTestEleven");
+        if (!folder.exists()) {
+            boolean isDirectoryCreated = folder.mkdir();
+            if (!isDirectoryCreated) {
+                throw new DuchessException("Folder failed to be created!");
+            }
+        }
+        Files.writeString(Path.of("storageTestEleven/data.json"), "{\"tasks\":[{\"description\":\"Old #Work !2\","
+                + "\"isCompleted\":false}],\"archive\":[]}");
+        Storage storageEleven = new Storage("storageTestEleven/data.json");
+        assertEquals(List.of("work"), storageEleven.load().get(0).get(0).getTags());
+        assertEquals(2, storageEleven.load().get(0).get(0).getPriority());
+
+        TaskList taskList = new TaskList();
+        Task task = new ToDo("New #work");
+        task.setTags(List.of("work", "urgent"));
+        task.setPriority(Task.HIGHEST_PRIORITY);
+        taskList.addTask(task);
+        storageEleven.save(taskList);
+        assertEquals(List.of("work", "urgent"), storageEleven.load().get(0).get(0).getTags());
+        assertEquals(Task.HIGHEST_PRIORITY, storageEleven.load().get(0).get(0).getPriority());
+    }
+
     /**
      * Cleans up folders created when testing Storage.
      *
@@ -221,7 +406,8 @@ public class StorageTest {
     @AfterAll
     public static void cleanUp() throws DuchessException {
         ArrayList<String> folders = new ArrayList<>(Arrays.asList("storageTestOne", "storageTestTwo",
-                "storageTestThree", "storageTestFour", "storageTestSix"));
+                "storageTestThree", "storageTestFour", "storageTestSix", "storageTestSeven", "storageTestEight",
+                "storageTestNine", "storageTestTen", "storageTestEleven"));
         deleteDirectory("storageTestFour/oneMoreFolder");
         for (String folder : folders) {
             deleteDirectory(folder);
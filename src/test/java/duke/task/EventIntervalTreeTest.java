@@ -0,0 +1,84 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test class for {@code EventIntervalTree}.
+ */
+public class EventIntervalTreeTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 3, 9, 0);
+
+    /**
+     * Tests that events touching either end of the period are not during it, while
+     * those overlapping it by any amount are.
+     */
+    @Test
+    public void findDuring_boundaries_halfOpen() {
+        EventIntervalTree tree = new EventIntervalTree();
+        Event before = createEvent("Before", 0, 60);
+        Event overlapping = createEvent("Overlapping", 30, 90);
+        Event inside = createEvent("Inside", 70, 80);
+        Event after = createEvent("After", 120, 180);
+        Event around = createEvent("Around", -60, 240);
+        for (Event event : List.of(before, overlapping, inside, after, around)) {
+            tree.add(event);
+        }
+        assertEquals(List.of(around, overlapping, inside), tree.findDuring(START.plusMinutes(60),
+                START.plusMinutes(120)));
+        tree.remove(around);
+        tree.remove(around);
+        assertEquals(List.of(overlapping, inside), tree.findDuring(START.plusMinutes(60), START.plusMinutes(120)));
+        assertEquals(4, tree.size());
+    }
+
+    /**
+     * Tests that the tree finds the same events as checking every event, in order of
+     * when they start, as events are added and removed.
+     */
+    @Test
+    public void findDuring_randomEvents_sameAsCheckingEveryEvent() {
+        Random random = new Random(2030);
+        EventIntervalTree tree = new EventIntervalTree();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!events.isEmpty() && random.nextInt(4) == 0) {
+                tree.remove(events.remove(random.nextInt(events.size())));
+            } else {
+                int startMinute = random.nextInt(10_000);
+                Event event = createEvent("Event " + i, startMinute, startMinute + 1 + random.nextInt(500));
+                events.add(event);
+                tree.add(event);
+            }
+            if (i % 50 == 0) {
+                LocalDateTime from = START.plusMinutes(random.nextInt(10_000));
+                LocalDateTime to = from.plusMinutes(random.nextInt(300));
+                List<Event> expected = new ArrayList<>();
+                for (Event event : events) {
+                    if (event.isDuring(from, to)) {
+                        expected.add(event);
+                    }
+                }
+                expected.sort((a, b) -> a.getStartTime().compareTo(b.getStartTime()));
+                List<Event> found = tree.findDuring(from, to);
+                assertEquals(expected.size(), found.size());
+                for (int j = 0; j < found.size(); j++) {
+                    assertEquals(expected.get(j).getStartTime(), found.get(j).getStartTime());
+                    assertTrue(found.get(j).isDuring(from, to));
+                }
+            }
+        }
+        assertEquals(events.size(), tree.size());
+    }
+
+    private static Event createEvent(String description, int startMinute, int endMinute) {
+        return new Event(description, "Somewhere", START.plusMinutes(startMinute), START.plusMinutes(endMinute));
+    }
+}
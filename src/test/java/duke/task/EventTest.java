@@ -36,4 +36,24 @@ public class EventTest {
         assertEquals("[E][\u2713] Go for a run (at: 3-5pm)", // tick mark
                 new Event("Go for a run", "3-5pm", true, LocalDateTime.now(), LocalDateTime.now()).toString());
     }
+
+    /**
+     * Tests that only events with times are scheduled, and that they take place over
+     * their times only.
+     */
+    @Test
+    public void isDuring_scheduledAndUnscheduled_success() {
+        LocalDateTime start = LocalDateTime.of(2030, 6, 2, 14, 0);
+        Event meeting = new Event("Meeting", "2-6-30 1400 - 1600", start, start.plusHours(2));
+        assertTrue(meeting.isScheduled());
+        assertTrue(meeting.isDuring(start.plusHours(1), start.plusHours(5)));
+        assertFalse(meeting.isDuring(start.plusHours(2), start.plusHours(5)));
+        assertFalse(meeting.isDuring(start.minusHours(1), start));
+
+        Event holiday = new Event("Holiday", "Hawaii");
+        assertFalse(holiday.isScheduled());
+        assertFalse(holiday.isDuring(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertFalse(new Event("Backwards", "Sometime", start, start.minusHours(1), false, start, null)
+                .isScheduled());
+    }
 }
@@ -4,13 +4,19 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import duke.util.Frequency;
+import duke.util.RecurrenceRule;
 
 /**
  * JUnit test class for {@code RecurringDeadline}.
@@ -74,4 +80,88 @@ public class RecurringDeadlineTest {
                         LocalDate.now().atTime(18, 0), true, LocalDateTime.now(),
                         LocalDateTime.now(), true).toString());
     }
+
+    /**
+     * Tests that {@code getDeadlinesFrom()} skips ahead to the first deadline on
+     * or after the given time and stops at the repeat end time.
+     */
+    @Test
+    public void getDeadlinesFrom_weeklyWithRepeatEnd_skipsAheadAndStops() {
+        LocalDateTime start = LocalDateTime.of(2020, 1, 6, 9, 0);
+        RecurringDeadline weekly = new RecurringDeadline("Weekly", start, Frequency.WEEKLY,
+                start.plusWeeks(60));
+        Iterator<LocalDateTime> deadlines = weekly.getDeadlinesFrom(LocalDateTime.of(2020, 12, 31, 0, 0));
+        assertEquals(LocalDateTime.of(2021, 1, 4, 9, 0), deadlines.next());
+        assertEquals(LocalDateTime.of(2021, 1, 11, 9, 0), deadlines.next());
+
+        List<LocalDateTime> remaining = new ArrayList<>();
+        weekly.getDeadlinesFrom(start.plusWeeks(58)).forEachRemaining(remaining::add);
+        assertEquals(List.of(start.plusWeeks(58), start.plusWeeks(59)), remaining);
+        assertFalse(weekly.getDeadlinesFrom(start.plusWeeks(61)).hasNext());
+    }
+
+    /**
+     * Tests that {@code getDeadlinesFrom()} keeps monthly deadlines on the same day
+     * of the month where it exists.
+     */
+    @Test
+    public void getDeadlinesFrom_monthly_success() {
+        RecurringDeadline monthly = new RecurringDeadline("Rent", LocalDateTime.of(2021, 1, 15, 12, 0),
+                Frequency.MONTHLY);
+        Iterator<LocalDateTime> deadlines = monthly.getDeadlinesFrom(LocalDateTime.of(2021, 3, 16, 0, 0));
+        assertEquals(LocalDateTime.of(2021, 4, 15, 12, 0), deadlines.next());
+        assertEquals(LocalDateTime.of(2021, 5, 15, 12, 0), deadlines.next());
+        assertEquals(LocalDateTime.of(2021, 1, 15, 12, 0),
+                monthly.getDeadlinesFrom(LocalDateTime.of(2020, 1, 1, 0, 0)).next());
+    }
+
+    /**
+     * Tests that completing a deadline with a recurrence rule moves it to the next
+     * matching day, and completes it once its COUNT runs out.
+     */
+    @Test
+    public void completeTask_recurrenceRuleWithCount_completedAtEnd() {
+        LocalDateTime monday = LocalDateTime.of(2021, 3, 1, 9, 0);
+        RecurringDeadline testRecurringDeadline = new RecurringDeadline("Gym", monday,
+                new RecurrenceRule(Frequency.WEEKLY, 1, EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY), List.of(),
+                        3, null));
+        testRecurringDeadline.completeTask();
+        assertEquals(monday.plusDays(3), testRecurringDeadline.getDeadline());
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,TH;COUNT=2", testRecurringDeadline.getRecurrenceRule().toString());
+        testRecurringDeadline.completeTask();
+        assertEquals(monday.plusDays(7), testRecurringDeadline.getDeadline());
+        assertFalse(testRecurringDeadline.isCompleted());
+        testRecurringDeadline.completeTask();
+        assertTrue(testRecurringDeadline.isCompleted());
+        assertEquals("[D][\u2713] Gym (by: Mar 8 2021 9:00 am) (Weekly on Mon, Thu, 1 time)", // tick mark
+                testRecurringDeadline.toString());
+    }
+
+    /**
+     * Tests that catching up on a long-overdue deadline jumps straight to its first
+     * deadline after now, counting every deadline skipped, and completes a deadline
+     * that stopped repeating in the meantime.
+     */
+    @Test
+    public void catchUp_longOverdue_skippedToNextDeadline() {
+        LocalDateTime now = LocalDateTime.of(2022, 1, 1, 12, 0);
+        RecurringDeadline daily = new RecurringDeadline("Stand-up", now.minusDays(300).withHour(9),
+                Frequency.DAILY);
+        assertEquals(301, daily.catchUp(now));
+        assertEquals(now.plusDays(1).withHour(9), daily.getDeadline());
+        assertFalse(daily.isCompleted());
+        assertEquals(301, daily.getNumOfSkippedAfter(now.minusDays(1)));
+        assertEquals(0, daily.getNumOfSkippedAfter(now));
+
+        RecurringDeadline tenTimes = new RecurringDeadline("Physio", now.minusWeeks(3),
+                new RecurrenceRule(Frequency.WEEKLY, 1, EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.SATURDAY), List.of(),
+                        10, null));
+        assertEquals(6, tenTimes.catchUp(now));
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,SA;COUNT=4", tenTimes.getRecurrenceRule().toString());
+
+        RecurringDeadline stopped = new RecurringDeadline("Revision", now.minusDays(30), Frequency.WEEKLY,
+                now.minusDays(10));
+        assertEquals(2, stopped.catchUp(now));
+        assertTrue(stopped.isCompleted());
+    }
 }
@@ -0,0 +1,50 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test class for {@code TagIndex}.
+ */
+public class TagIndexTest {
+    /**
+     * Tests that the index is kept up to date as tasks are added to the end, removed
+     * and replaced.
+     */
+    @Test
+    public void find_addedRemovedAndReplaced_keptUpToDate() {
+        List<Task> tasks = new ArrayList<>();
+        tasks.add(createTask("First", "work"));
+        tasks.add(createTask("Second", "home"));
+        TagIndex index = new TagIndex();
+        index.replaceAll(tasks);
+        assertArrayEquals(new int[] {0}, index.find(tasks.size(), List.of("work"), List.of()));
+
+        tasks.add(createTask("Third", "work", "urgent"));
+        index.add(2, tasks.get(2));
+        assertArrayEquals(new int[] {0, 2}, index.find(tasks.size(), List.of("work"), List.of()));
+        assertArrayEquals(new int[] {1}, index.find(tasks.size(), List.of(), List.of("work")));
+        assertArrayEquals(new int[0], index.find(tasks.size(), List.of("urgent", "home"), List.of()));
+
+        tasks.remove(0);
+        index.remove(new int[] {0});
+        assertArrayEquals(new int[] {1}, index.find(tasks.size(), List.of("work"), List.of("home")));
+        tasks.remove(0);
+        index.remove(new int[] {0});
+        assertArrayEquals(new int[0], index.find(tasks.size(), List.of("home"), List.of()));
+        assertArrayEquals(new int[] {0}, index.find(tasks.size(), List.of("urgent"), List.of()));
+
+        index.clear();
+        assertArrayEquals(new int[0], index.find(tasks.size(), List.of("work"), List.of()));
+    }
+
+    private static Task createTask(String description, String... tags) {
+        Task task = new ToDo(description);
+        task.setTags(List.of(tags));
+        return task;
+    }
+}
@@ -0,0 +1,93 @@
+package duke.task;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test class for {@code TaskHeap}.
+ */
+public class TaskHeapTest {
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 3, 9, 0);
+
+    /**
+     * Tests that tasks are ordered by priority, with no priority last, then by
+     * deadline, with no deadline last, then by when they were added, and that
+     * snoozed and completed tasks are moved or removed.
+     */
+    @Test
+    public void peek_prioritiesAndDeadlines_ordered() {
+        Task later = createTask(new Deadline("Later", START.plusDays(2)), 1);
+        Task sooner = createTask(new Deadline("Sooner", START), 1);
+        Task todo = createTask(new ToDo("Todo"), 1);
+        Task unprioritised = createTask(new Deadline("Unprioritised", START.minusDays(9)), Task.NO_PRIORITY);
+        Task lowest = createTask(new ToDo("Lowest"), 5);
+        Task otherTodo = createTask(new ToDo("Other todo"), 1);
+        TaskHeap heap = new TaskHeap();
+        for (Task task : List.of(later, sooner, todo, unprioritised, lowest, otherTodo)) {
+            heap.add(task);
+        }
+        assertEquals(List.of(sooner, later, todo, otherTodo, lowest, unprioritised), heap.peek(10));
+        assertEquals(List.of(sooner, later), heap.peek(2));
+
+        ((Deadline) sooner).snooze(Period.ofDays(3));
+        heap.update(sooner);
+        assertEquals(List.of(later, sooner, todo), heap.peek(3));
+        later.completeTask();
+        heap.update(later);
+        heap.remove(todo);
+        assertEquals(List.of(sooner, otherTodo, lowest, unprioritised), heap.peek(10));
+        assertEquals(4, heap.size());
+    }
+
+    /**
+     * Tests that the heap finds the same tasks as sorting them, as tasks are added,
+     * snoozed, completed and removed, and after being rebuilt.
+     */
+    @Test
+    public void peek_randomTasks_sameAsSorting() {
+        Random random = new Random(2030);
+        Comparator<Task> order = Comparator.<Task>comparingInt(task -> task.getPriority() == Task.NO_PRIORITY
+                ? 6 : task.getPriority()).thenComparing(task -> ((Deadline) task).getDeadline());
+        TaskHeap heap = new TaskHeap();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            // Deadlines are distinct, so that ties do not depend on when tasks were added.
+            Task task = createTask(new Deadline("Task " + i, START.plusMinutes(random.nextInt(1_000_000) * 1000L + i)),
+                    random.nextInt(6));
+            tasks.add(task);
+            heap.add(task);
+            Task changedTask = tasks.get(random.nextInt(tasks.size()));
+            int change = random.nextInt(4);
+            if (change == 0) {
+                ((Deadline) changedTask).snooze(Period.ofDays(random.nextInt(5000) - 2500));
+                heap.update(changedTask);
+            } else if (change == 1 && !changedTask.isCompleted()) {
+                changedTask.completeTask();
+                heap.update(changedTask);
+            } else if (change == 2) {
+                tasks.remove(changedTask);
+                heap.remove(changedTask);
+            }
+            List<Task> expected = tasks.stream().filter(otherTask -> !otherTask.isCompleted()).sorted(order)
+                    .limit(20).collect(Collectors.toList());
+            assertEquals(expected, heap.peek(20));
+        }
+        heap.replaceAll(tasks);
+        assertEquals(tasks.stream().filter(task -> !task.isCompleted()).sorted(order).collect(Collectors.toList()),
+                heap.peek(tasks.size()));
+    }
+
+    private static Task createTask(Task task, int priority) {
+        task.setPriority(priority);
+        return task;
+    }
+}
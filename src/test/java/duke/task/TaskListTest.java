@@ -1,17 +1,26 @@
 package duke.task;
 
+import static duke.util.MagicStrings.ERROR_CATCHING_UP_NON_OVERDUE;
+import static duke.util.MagicStrings.ERROR_TASK_ALREADY_COMPLETED;
 import static duke.util.MagicStrings.ERROR_TASK_CREATED_BEFORE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.LocalDateTime;
+import java.time.Period;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
 import duke.exception.DuchessException;
+import duke.util.Frequency;
 import duke.util.Pair;
 
 /**
@@ -136,6 +145,170 @@ public class TaskListTest {
         }
     }
 
+    /**
+     * Tests the {@code removeTasks} method of {@code TaskList} with multiple indices.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void removeTasks_multipleIndices_success() throws DuchessException {
+        TaskList testTaskList = new TaskList();
+        for (int i = 0; i < 6; i++) {
+            testTaskList.addTask(new ToDo("Task " + i));
+        }
+        List<Task> removedTasks = testTaskList.removeTasks(new int[]{0, 2, 3, 5});
+        assertEquals(4, removedTasks.size());
+        assertEquals("Task 2", removedTasks.get(1).getDescription());
+        assertEquals(2, testTaskList.size());
+        assertEquals("Task 1", testTaskList.getTask(0).getDescription());
+        assertEquals("Task 4", testTaskList.getTask(1).getDescription());
+
+        // Removed tasks can be added again.
+        testTaskList.addTask(new ToDo("Task 0"));
+        assertEquals(3, testTaskList.size());
+    }
+
+    /**
+     * Tests the {@code removeTasks} method of {@code TaskList} with an index out of
+     * bounds, which should leave the list unchanged.
+     */
+    @Test
+    public void removeTasks_indexOutOfBounds_exceptionThrown() {
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new ToDo("Task"));
+        try {
+            testTaskList.removeTasks(new int[]{0, 1});
+            fail();
+        } catch (DuchessException e) {
+            assertEquals("You're referring to a task which does not exist!", e.getMessage());
+            assertEquals(1, testTaskList.size());
+        }
+    }
+
+    /**
+     * Tests the {@code completeTasks} method of {@code TaskList}, which should not
+     * complete any task if one of them is already completed.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void completeTasks_multipleIndices_allOrNothing() throws DuchessException {
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new ToDo("Task 0"));
+        testTaskList.addTask(new ToDo("Task 1"));
+        testTaskList.addTask(new ToDo("Task 2", true, LocalDateTime.now(), LocalDateTime.now()));
+        try {
+            testTaskList.completeTasks(new int[]{0, 2});
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_TASK_ALREADY_COMPLETED, e.getMessage());
+            assertFalse(testTaskList.getTask(0).isCompleted());
+        }
+        assertEquals(2, testTaskList.completeTasks(new int[]{0, 1}).size());
+        assertTrue(testTaskList.getTask(0).isCompleted());
+        assertTrue(testTaskList.getTask(1).isCompleted());
+    }
+
+    /**
+     * Tests that {@code catchUpTasks} catches up on every task or none of them, and
+     * that the deadlines skipped are counted in the stats.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void catchUpTasks_overdueRecurringDeadlines_allOrNothingAndCounted() throws DuchessException {
+        LocalDateTime now = LocalDateTime.now();
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new RecurringDeadline("Stand-up", now.minusDays(100).minusHours(1), Frequency.DAILY));
+        testTaskList.addTask(new RecurringDeadline("Review", now.minusWeeks(4).minusHours(1), Frequency.WEEKLY));
+        testTaskList.addTask(new RecurringDeadline("Future", now.plusDays(1), Frequency.DAILY));
+        testTaskList.addTask(new Deadline("One-off", now.minusDays(1)));
+        for (int[] indices : new int[][]{{0, 2}, {1, 3}}) {
+            try {
+                testTaskList.catchUpTasks(indices, now);
+                fail();
+            } catch (DuchessException e) {
+                assertEquals(ERROR_CATCHING_UP_NON_OVERDUE, e.getMessage());
+                assertEquals(now.minusDays(100).minusHours(1), ((Deadline) testTaskList.getTask(0)).getDeadline());
+            }
+        }
+
+        List<Pair<Task, Integer>> caughtUp = testTaskList.catchUpTasks(new int[]{0, 1}, now);
+        assertEquals(101, caughtUp.get(0).getSecond());
+        assertEquals(5, caughtUp.get(1).getSecond());
+        assertEquals(now.plusDays(1).minusHours(1), ((Deadline) testTaskList.getTask(0)).getDeadline());
+        assertEquals(106, testTaskList.getStats(Period.ofDays(0))[3]);
+    }
+
+    /**
+     * Tests that a deadline moved by catching up, snoozing or completing a recurring
+     * deadline is checked for duplicates at its new deadline only, and can be added
+     * again at its new deadline once deleted.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void movedDeadlines_duplicatesCheckedAtNewDeadline() throws DuchessException {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime overdue = now.minusDays(3).minusHours(1);
+        LocalDateTime report = now.plusDays(5);
+        LocalDateTime gym = now.plusDays(2);
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new RecurringDeadline("Stand-up", overdue, Frequency.DAILY));
+        testTaskList.addTask(new Deadline("Report", report));
+        testTaskList.addTask(new RecurringDeadline("Gym", gym, Frequency.WEEKLY));
+
+        testTaskList.catchUpTasks(new int[]{0}, now);
+        testTaskList.snoozeTask(1, Period.ofDays(1));
+        testTaskList.completeTask(2);
+        Task[] duplicates = {new Deadline("Stand-up", now.plusDays(1).minusHours(1)),
+            new Deadline("Report", report.plusDays(1)), new Deadline("Gym", gym.plusWeeks(1))};
+        for (Task duplicate : duplicates) {
+            try {
+                testTaskList.addTask(duplicate);
+                fail(duplicate.toString());
+            } catch (DuchessException e) {
+                assertEquals(ERROR_TASK_CREATED_BEFORE, e.getMessage());
+            }
+        }
+        testTaskList.addTask(new Deadline("Stand-up", overdue));
+        testTaskList.addTask(new Deadline("Report", report));
+        testTaskList.addTask(new Deadline("Gym", gym));
+        assertEquals(6, testTaskList.size());
+
+        testTaskList.removeTasks(new int[]{0, 1, 2});
+        for (Task duplicate : duplicates) {
+            testTaskList.addTask(duplicate);
+        }
+        assertEquals(6, testTaskList.size());
+    }
+
+    /**
+     * Tests that a deadline moved onto the same deadline as another task with the same
+     * description still blocks duplicates after either of them is deleted.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void movedDeadlines_sameAsAnotherTask_duplicatesStillRejected() throws DuchessException {
+        LocalDateTime due = LocalDateTime.now().plusDays(5);
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new Deadline("Report", due));
+        testTaskList.addTask(new RecurringDeadline("Report", due.minusDays(1), Frequency.DAILY));
+        testTaskList.completeTask(1);
+
+        testTaskList.removeTask(0);
+        try {
+            testTaskList.addTask(new Deadline("Report", due));
+            fail();
+        } catch (DuchessException e) {
+            assertEquals(ERROR_TASK_CREATED_BEFORE, e.getMessage());
+        }
+        testTaskList.snoozeTask(0, Period.ofDays(1));
+        testTaskList.addTask(new Deadline("Report", due));
+        assertEquals(2, testTaskList.size());
+    }
+
     /**
      * Tests the {@code completeTask} method of {@code TaskList} when the
      * {@code Task} in question is incomplete.
@@ -223,4 +396,258 @@ public class TaskListTest {
         assertEquals(0, testTaskList.size());
         assertEquals(1, testTaskList.archiveSize());
     }
+
+    /**
+     * Tests the {@code findIndices} method of {@code TaskList}.
+     */
+    @Test
+    public void findIndices_predicate_success() {
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new ToDo("Standup"));
+        testTaskList.addTask(new ToDo("Lunch"));
+        testTaskList.addTask(new ToDo("Standup again"));
+        assertArrayEquals(new int[]{0, 2}, testTaskList.findIndices(task -> task.getDescription().startsWith("Stand")));
+        assertArrayEquals(new int[0], testTaskList.findIndices(Task::isCompleted));
+    }
+
+    /**
+     * Tests the {@code archive} method of {@code TaskList} with consecutive completed
+     * tasks and a {@code Predicate}.
+     */
+    @Test
+    public void archive_predicate_onlyMatchingCompletedTasksArchived() {
+        TaskList testTaskList = new TaskList();
+        for (int i = 0; i < 5; i++) {
+            testTaskList.addTask(new ToDo("Task " + i, i < 4, LocalDateTime.now(), LocalDateTime.now()));
+        }
+        assertEquals(2, testTaskList.archive(task -> !task.getDescription().equals("Task 1")
+                && !task.getDescription().equals("Task 3")));
+        assertEquals(3, testTaskList.size());
+        assertEquals(2, testTaskList.archiveSize());
+        testTaskList.archive();
+        assertEquals(1, testTaskList.size());
+        assertEquals("Task 4", testTaskList.getTask(0).getDescription());
+    }
+
+    /**
+     * Tests that {@code find} and {@code getStats} keep their results in order and
+     * count correctly for lists large enough to be processed in parallel.
+     */
+    @Test
+    public void findAndGetStats_largeTaskList_sameAsSequential() {
+        ArrayList<Task> tasks = new ArrayList<>();
+        int size = TaskList.PARALLEL_THRESHOLD * 2;
+        for (int i = 0; i < size; i++) {
+            tasks.add(new ToDo("Task " + i, i % 3 == 0, LocalDateTime.now(), LocalDateTime.now()));
+        }
+        TaskList testTaskList = new TaskList(tasks, new ArrayList<>(tasks.subList(0, 10)));
+
+        ArrayList<Pair<Task, Integer>> results = testTaskList.find("7");
+        long expectedSize = IntStream.range(0, size).filter(i -> String.valueOf(i).contains("7")).count();
+        assertEquals(expectedSize, results.size());
+        for (int i = 1; i < results.size(); i++) {
+            assertTrue(results.get(i - 1).getSecond() < results.get(i).getSecond());
+            assertEquals(tasks.get(results.get(i).getSecond()), results.get(i).getFirst());
+        }
+
+        Integer[] stats = testTaskList.getStats(Period.ofDays(0));
+        assertEquals(size + 10, stats[0]);
+        assertEquals((size + 2) / 3 + 4, stats[1]);
+        assertEquals(0, stats[2]);
+        assertEquals(0, stats[3]);
+    }
+
+    /**
+     * Tests that listeners are told of every change at the right index, such that
+     * replaying the events on a copy of the list gives the same list.
+     */
+    @Test
+    public void listener_changes_replayedCorrectly() throws DuchessException {
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new ToDo("Existing"));
+        List<Task> replayedTasks = new ArrayList<>(testTaskList.getTaskArray());
+        List<String> events = new ArrayList<>();
+        testTaskList.addListener(new TaskListListener() {
+            @Override
+            public void onTaskAdded(int index, Task task) {
+                events.add("added " + index);
+                replayedTasks.add(index, task);
+            }
+
+            @Override
+            public void onTaskRemoved(int index, Task task) {
+                events.add("removed " + index);
+                assertEquals(task, replayedTasks.remove(index));
+            }
+
+            @Override
+            public void onTaskUpdated(int index, Task task) {
+                events.add("updated " + index);
+                assertEquals(task, replayedTasks.get(index));
+            }
+
+            @Override
+            public void onTasksReplaced(List<Task> tasks) {
+                events.add("replaced");
+                replayedTasks.clear();
+                replayedTasks.addAll(tasks);
+            }
+        });
+
+        for (int i = 1; i <= 6; i++) {
+            testTaskList.addTask(new ToDo("Task " + i));
+        }
+        testTaskList.addTask(new Deadline("Deadline", LocalDateTime.now()));
+        testTaskList.completeTasks(new int[] {1, 3, 5});
+        testTaskList.snoozeTask(7, Period.ofDays(1));
+        testTaskList.removeTasks(new int[] {0, 2});
+        testTaskList.archive();
+        testTaskList.sort();
+        testTaskList.removeTask(0);
+
+        assertEquals(List.of("added 1", "added 2", "added 3", "added 4", "added 5", "added 6", "added 7",
+                "updated 1", "updated 3", "updated 5", "updated 7", "removed 2", "removed 0", "removed 3",
+                "removed 1", "removed 0", "replaced", "removed 0"), events);
+        assertEquals(testTaskList.getTaskArray(), replayedTasks);
+    }
+
+    /**
+     * Tests that the agenda merges the deadlines of every incomplete task in order
+     * of time, within the window only.
+     */
+    @Test
+    public void getAgenda_recurringAndSingleDeadlines_mergedInOrder() {
+        LocalDateTime monday = LocalDateTime.of(2021, 3, 1, 9, 0);
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(new RecurringDeadline("Stand-up", monday, Frequency.DAILY));
+        testTaskList.addTask(new ToDo("No deadline"));
+        testTaskList.addTask(new Deadline("Report", monday.plusDays(1).withHour(8)));
+        testTaskList.addTask(new RecurringDeadline("Review", monday.minusWeeks(3), Frequency.WEEKLY));
+        testTaskList.addTask(new Deadline("Done already", monday.plusDays(1)));
+        testTaskList.addTask(new Deadline("Too late", monday.plusDays(3)));
+        testTaskList.completeTask(4);
+
+        List<String> agenda = new ArrayList<>();
+        Iterator<Occurrence> occurrences = testTaskList.getAgenda(monday, monday.plusDays(2));
+        occurrences.forEachRemaining(occurrence -> agenda.add(occurrence.getIndex() + " "
+                + occurrence.getDueTime()));
+        assertEquals(List.of("0 2021-03-01T09:00", "3 2021-03-01T09:00", "2 2021-03-02T08:00",
+                "0 2021-03-02T09:00", "0 2021-03-03T09:00"), agenda);
+        assertFalse(testTaskList.getAgenda(monday.plusDays(10).plusHours(1), monday.plusDays(11).minusHours(1))
+                .hasNext());
+    }
+
+    /**
+     * Tests that the events found by time and the clashes of an event stay up to date
+     * as tasks are removed, archived and replaced.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void getEventsAndClashes_listChanges_keptUpToDate() throws DuchessException {
+        LocalDateTime nine = LocalDateTime.of(2030, 6, 3, 9, 0);
+        TaskList testTaskList = new TaskList();
+        Event standUp = new Event("Stand-up", "3-6-30 0900 - 0930", nine, nine.plusMinutes(30));
+        Event workshop = new Event("Workshop", "3-6-30 0900 - 1200", nine, nine.plusHours(3));
+        Event lunch = new Event("Lunch", "3-6-30 1200 - 1300", nine.plusHours(3), nine.plusHours(4));
+        testTaskList.addTask(standUp);
+        testTaskList.addTask(new Event("Holiday", "Hawaii"));
+        testTaskList.addTask(workshop);
+        testTaskList.addTask(lunch);
+        assertEquals(List.of(standUp, workshop, lunch), testTaskList.getEvents(nine, nine.plusDays(1)));
+        assertEquals(List.of(standUp), testTaskList.getClashingEvents(workshop));
+        assertEquals(List.of(), testTaskList.getClashingEvents(lunch));
+
+        final List<Task> savedTasks = testTaskList.getImmutableDeepCopyOfTasks();
+        testTaskList.completeTask(0);
+        assertEquals(List.of(), testTaskList.getClashingEvents(workshop));
+        testTaskList.archive();
+        testTaskList.removeTask(1);
+        assertEquals(List.of(lunch), testTaskList.getEvents(nine, nine.plusDays(1)));
+
+        testTaskList.replaceLists(new ArrayList<>(savedTasks), new ArrayList<>());
+        assertEquals(3, testTaskList.getEvents(nine, nine.plusDays(1)).size());
+        testTaskList.removeAllTasks();
+        assertEquals(List.of(), testTaskList.getEvents(nine, nine.plusDays(1)));
+    }
+
+    /**
+     * Tests that filtering by tags finds the indices of the tasks with every included
+     * tag and no excluded tag, as tasks are added, removed, sorted, archived and
+     * restored.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void findIndicesWithTags_listChanges_keptUpToDate() throws DuchessException {
+        TaskList testTaskList = new TaskList();
+        testTaskList.addTask(createTaggedTask(new ToDo("Email"), "work"));
+        testTaskList.addTask(createTaggedTask(new ToDo("Report"), "work", "urgent"));
+        testTaskList.addTask(createTaggedTask(new ToDo("Garden"), "home", "someday"));
+        assertArrayEquals(new int[] {1}, testTaskList.findIndicesWithTags(List.of("urgent", "work"), List.of()));
+        assertArrayEquals(new int[] {0, 1}, testTaskList.findIndicesWithTags(List.of(), List.of("someday")));
+        assertArrayEquals(new int[0], testTaskList.findIndicesWithTags(List.of("unknown"), List.of()));
+
+        final List<Task> savedTasks = testTaskList.getImmutableDeepCopyOfTasks();
+        testTaskList.addTask(createTaggedTask(new ToDo("Slides"), "work", "someday"));
+        assertArrayEquals(new int[] {0, 1}, testTaskList.findIndicesWithTags(List.of("work"), List.of("someday")));
+        testTaskList.removeTask(0);
+        assertArrayEquals(new int[] {0, 2}, testTaskList.findIndicesWithTags(List.of("work"), List.of()));
+        testTaskList.completeTask(0);
+        testTaskList.archive();
+        assertArrayEquals(new int[] {1}, testTaskList.findIndicesWithTags(List.of("work"), List.of()));
+
+        testTaskList.replaceLists(new ArrayList<>(savedTasks), new ArrayList<>());
+        assertEquals(List.of("work", "urgent"), testTaskList.getTask(1).getTags());
+        assertArrayEquals(new int[] {0, 1}, testTaskList.findIndicesWithTags(List.of("work"), List.of()));
+        testTaskList.addTask(createTaggedTask(new ToDo("Slides"), "work", "someday"));
+        testTaskList.removeTasks(new int[] {0, 2});
+        assertArrayEquals(new int[] {0, 1}, testTaskList.findIndicesWithTags(List.of("work"), List.of()));
+        assertArrayEquals(new int[0], testTaskList.findIndicesWithTags(List.of("home"), List.of()));
+        testTaskList.removeAllTasks();
+        assertArrayEquals(new int[0], testTaskList.findIndicesWithTags(List.of(), List.of()));
+    }
+
+    /**
+     * Tests that the next tasks to do are ordered by priority and then deadline, as
+     * tasks are added, snoozed, completed, removed and restored.
+     *
+     * @throws DuchessException If any index is out of bounds.
+     */
+    @Test
+    public void getNextTasks_listChanges_keptUpToDate() throws DuchessException {
+        LocalDateTime nine = LocalDateTime.of(2030, 6, 3, 9, 0);
+        TaskList testTaskList = new TaskList();
+        Task rent = new Deadline("Rent", nine.plusDays(2));
+        rent.setPriority(1);
+        Task taxes = new Deadline("Taxes", nine);
+        taxes.setPriority(1);
+        Task standUp = new RecurringDeadline("Stand-up", nine, Frequency.DAILY);
+        Task laundry = new ToDo("Laundry");
+        for (Task task : List.of(laundry, rent, taxes, standUp)) {
+            testTaskList.addTask(task);
+        }
+        assertEquals(List.of(taxes, rent, standUp), testTaskList.getNextTasks(3));
+        assertArrayEquals(new int[] {2, 1, 3}, testTaskList.getIndices(testTaskList.getNextTasks(3)));
+
+        final List<Task> savedTasks = testTaskList.getImmutableDeepCopyOfTasks();
+        testTaskList.snoozeTask(2, Period.ofDays(3));
+        testTaskList.completeTask(1);
+        assertEquals(List.of(taxes, standUp, laundry), testTaskList.getNextTasks(5));
+        testTaskList.completeTask(3);
+        testTaskList.removeTask(0);
+        assertEquals(List.of(taxes, standUp), testTaskList.getNextTasks(5));
+        assertEquals(nine.plusDays(1), ((Deadline) testTaskList.getNextTasks(5).get(1)).getDeadline());
+
+        testTaskList.replaceLists(new ArrayList<>(savedTasks), new ArrayList<>());
+        assertEquals(List.of("Taxes", "Rent", "Stand-up", "Laundry"), testTaskList.getNextTasks(5).stream()
+                .map(Task::getDescription).collect(Collectors.toList()));
+        testTaskList.removeAllTasks();
+        assertEquals(List.of(), testTaskList.getNextTasks(5));
+    }
+
+    private static Task createTaggedTask(Task task, String... tags) {
+        task.setTags(List.of(tags));
+        return task;
+    }
 }
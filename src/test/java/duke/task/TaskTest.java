@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,6 +44,17 @@ public class TaskTest {
         assertTrue(testTask.isCompleted());
     }
 
+    /**
+     * Tests the {@code getStatusIcon()} method.
+     */
+    @Test
+    public void testGetStatusIcon() {
+        Task testTask = new Task("Task description");
+        assertEquals("\u2718", testTask.getStatusIcon()); // cross mark
+        testTask.completeTask();
+        assertEquals("\u2713", testTask.getStatusIcon()); // tick mark
+    }
+
     /**
      * Tests the overridden {@code toString()} method.
      */
@@ -54,4 +67,32 @@ public class TaskTest {
 
     }
 
+    /**
+     * Tests the {@code getTags()} and {@code setTags()} methods, and that clones keep
+     * the tags.
+     */
+    @Test
+    public void testTags() {
+        Task testTask = new Task("Write report #work");
+        assertEquals(List.of(), testTask.getTags());
+        ArrayList<String> tags = new ArrayList<>(List.of("work"));
+        testTask.setTags(tags);
+        tags.add("urgent");
+        assertEquals(List.of("work"), testTask.getTags());
+        assertEquals(List.of("work"), ((Task) testTask.clone()).getTags());
+    }
+
+    /**
+     * Tests the {@code getPriority()} and {@code setPriority()} methods, and that
+     * clones keep the priority.
+     */
+    @Test
+    public void testPriority() {
+        Task testTask = new Task("Pay rent !1");
+        assertEquals(Task.NO_PRIORITY, testTask.getPriority());
+        testTask.setPriority(Task.HIGHEST_PRIORITY);
+        assertEquals(1, testTask.getPriority());
+        assertEquals(1, ((Task) testTask.clone()).getPriority());
+    }
+
 }
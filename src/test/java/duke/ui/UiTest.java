@@ -3,6 +3,7 @@ package duke.ui;
 import static duke.util.MagicStrings.ERROR_USED_FOR_TESTING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,7 +14,11 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -21,6 +26,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import duke.exception.DuchessException;
+import duke.reminder.Reminder;
+import duke.task.Deadline;
 import duke.task.Task;
 import duke.task.TaskList;
 import duke.util.Pair;
@@ -121,6 +128,27 @@ public class UiTest {
         verifyNoMoreInteractions(taskMock);
     }
 
+    /**
+     * Tests the commands that print content related to multiple tasks.
+     */
+    @Test
+    public void returnStrings_multipleTaskRelated_success() {
+        // Mocking the classes
+        Task taskMock = mock(Task.class);
+        when(taskMock.toString()).thenReturn("Task info");
+        List<Task> tasks = List.of(taskMock, taskMock);
+
+        Ui testUi = new Ui();
+
+        // Testing
+        assertEquals("Great! 2 fewer things for me to track for you.\nTask info [DELETED]\nTask info [DELETED]"
+                + "\nNow I'm tracking 1 task for you.\n", testUi.printTasksDeleted(tasks, 1));
+        assertEquals("Oh? You actually completed 2 things? Impressive...\nTask info\nTask info\n",
+                testUi.printTasksCompleted(tasks));
+        assertEquals("Behind schedule as always... I've pushed back 2 deadlines for you by 5 days.\nTask info"
+                + "\nTask info\n", testUi.printTasksSnoozed(tasks, "5 days"));
+    }
+
     /**
      * Tests the {@code printTaskList} method with a valid non-empty task list.
      */
@@ -146,6 +174,63 @@ public class UiTest {
         verifyNoMoreInteractions(taskListMock);
     }
 
+    /**
+     * Tests that in console mode the task list and archive are written to the console
+     * {@code Writer} instead of being returned.
+     */
+    @Test
+    public void printTaskListAndArchive_consoleWriter_writtenToConsole() {
+        TaskList taskListMock = mock(TaskList.class);
+        Task taskMock = mock(Task.class);
+        when(taskMock.toString()).thenReturn("Task info");
+        when(taskListMock.size()).thenReturn(2);
+        when(taskListMock.getTask(anyInt())).thenReturn(taskMock);
+        when(taskListMock.archiveSize()).thenReturn(0);
+
+        Ui testUi = new Ui();
+        StringWriter console = new StringWriter();
+        testUi.setConsoleWriter(console);
+
+        assertEquals("", testUi.printTaskList(taskListMock));
+        assertEquals("", testUi.printArchive(taskListMock));
+        assertEquals("Sighs... you never remember what you say, don't you.\nYou said these:\n"
+                + "1.\tTask info\n2.\tTask info\nYou have yet to archive any tasks... Get working!\n",
+                console.toString());
+    }
+
+    /**
+     * Tests the {@code printTaskListPage} and {@code writeTaskListPage} methods.
+     */
+    @Test
+    public void returnStrings_printTaskListPage_success() {
+        // Mocking the classes
+        TaskList taskListMock = mock(TaskList.class);
+        Task taskMock = mock(Task.class);
+        when(taskMock.toString()).thenReturn("Task info");
+        when(taskListMock.size()).thenReturn(5);
+        when(taskListMock.getTask(anyInt())).thenReturn(taskMock);
+
+        Ui testUi = new Ui();
+
+        // Testing
+        assertEquals("Sighs... you never remember what you say, don't you.\nYou said these:\n"
+                + "3.\tTask info\n4.\tTask info\nPage 2 of 3.\n", testUi.printTaskListPage(taskListMock, 2, 2));
+        StringBuilder output = new StringBuilder();
+        testUi.writeTaskListPage(taskListMock, 3, 2, output);
+        assertEquals("Sighs... you never remember what you say, don't you.\nYou said these:\n"
+                + "5.\tTask info\nPage 3 of 3.\n", output.toString());
+
+        verify(taskListMock, times(2)).size();
+        verify(taskListMock, times(1)).getTask(2);
+        verify(taskListMock, times(1)).getTask(3);
+        verify(taskListMock, times(1)).getTask(4);
+        verifyNoMoreInteractions(taskListMock);
+
+        assertEquals(1, Ui.getNumOfPages(0, 20));
+        assertEquals(1, Ui.getNumOfPages(20, 20));
+        assertEquals(2, Ui.getNumOfPages(21, 20));
+    }
+
     /**
      * Tests the {@code printTaskList} method with a valid empty task list.
      */
@@ -243,6 +328,25 @@ public class UiTest {
                 + "How may I help you?\n", outContent.toString());
     }
 
+    /**
+     * Tests the reminder messages for upcoming and overdue deadlines.
+     */
+    @Test
+    public void printReminder_leadTimes_formatted() {
+        Ui testUi = new Ui();
+        Deadline deadlineMock = mock(Deadline.class);
+        when(deadlineMock.toString()).thenReturn("Deadline info");
+        LocalDateTime dueTime = LocalDateTime.of(2020, 3, 2, 16, 0);
+        assertEquals("Just so you don't forget, this is due in 1 day:\nDeadline info\n",
+                testUi.printReminder(new Reminder(deadlineMock, dueTime, Duration.ofDays(1))));
+        assertEquals("Just so you don't forget, this is due in 36 hours:\nDeadline info\n",
+                testUi.printReminder(new Reminder(deadlineMock, dueTime, Duration.ofHours(36))));
+        assertEquals("Just so you don't forget, this is due in 90 minutes:\nDeadline info\n",
+                testUi.printReminder(new Reminder(deadlineMock, dueTime, Duration.ofMinutes(90))));
+        assertEquals("Tick tock! Time's up for this one:\nDeadline info\nDon't say I didn't warn you.\n",
+                testUi.printReminder(new Reminder(deadlineMock, dueTime, Duration.ZERO)));
+    }
+
     /**
      * Tests the {@code printToConsole} method.
      */
@@ -0,0 +1,121 @@
+package duke.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test class for {@code CompressedBitmap}.
+ */
+public class CompressedBitmapTest {
+    private static final int MAX_VALUE = 300_000;
+
+    /**
+     * Tests adding values in any order, including duplicates, to both sparse and
+     * dense chunks.
+     */
+    @Test
+    public void add_sparseAndDenseChunks_success() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value = 200_000; value < 210_000; value++) {
+            bitmap.add(value); // More than fits in a sorted array
+        }
+        for (int value = 70_000; value >= 0; value -= 7) {
+            bitmap.add(value);
+            bitmap.add(value);
+        }
+        assertEquals(10_000 + 10_001, bitmap.getCardinality());
+        assertTrue(bitmap.contains(0));
+        assertTrue(bitmap.contains(69_993));
+        assertTrue(bitmap.contains(209_999));
+        assertFalse(bitmap.contains(1));
+        assertFalse(bitmap.contains(210_000));
+        assertFalse(bitmap.contains(-7));
+        int[] values = bitmap.toArray();
+        assertEquals(0, values[0]);
+        assertEquals(209_999, values[values.length - 1]);
+    }
+
+    /**
+     * Tests that {@code and()}, {@code andNot()} and {@code ofRange()} give the same
+     * values as a {@code BitSet}, for bitmaps of every density.
+     */
+    @Test
+    public void andAndNot_randomBitmaps_sameAsBitSet() {
+        Random random = new Random(2030);
+        double[] densities = {0.001, 0.05, 0.5, 0.99};
+        for (double first : densities) {
+            for (double second : densities) {
+                BitSet firstSet = createBitSet(random, first);
+                BitSet secondSet = createBitSet(random, second);
+                CompressedBitmap firstBitmap = createBitmap(firstSet);
+                CompressedBitmap secondBitmap = createBitmap(secondSet);
+
+                BitSet intersection = (BitSet) firstSet.clone();
+                intersection.and(secondSet);
+                assertArrayEquals(intersection.stream().toArray(), firstBitmap.and(secondBitmap).toArray());
+                BitSet difference = (BitSet) firstSet.clone();
+                difference.andNot(secondSet);
+                assertArrayEquals(difference.stream().toArray(), firstBitmap.andNot(secondBitmap).toArray());
+            }
+        }
+        BitSet range = new BitSet();
+        range.set(0, MAX_VALUE);
+        assertArrayEquals(range.stream().toArray(), CompressedBitmap.ofRange(MAX_VALUE).toArray());
+        assertEquals(0, CompressedBitmap.ofRange(0).getCardinality());
+    }
+
+    /**
+     * Tests that {@code removeAndShift()} gives the same values as removing the same
+     * positions from a list, for removed values in and across every kind of chunk.
+     */
+    @Test
+    public void removeAndShift_randomBitmaps_sameAsList() {
+        Random random = new Random(2030);
+        for (double density : new double[] {0.001, 0.05, 0.5, 0.99}) {
+            BitSet bitSet = createBitSet(random, density);
+            CompressedBitmap bitmap = createBitmap(bitSet);
+            int[] removed = random.ints(50, 0, MAX_VALUE).distinct().sorted().toArray();
+            List<Boolean> list = new ArrayList<>(MAX_VALUE);
+            for (int value = 0; value < MAX_VALUE; value++) {
+                list.add(bitSet.get(value));
+            }
+            for (int i = removed.length - 1; i >= 0; i--) {
+                list.remove(removed[i]);
+            }
+
+            bitmap.removeAndShift(removed);
+            assertArrayEquals(IntStream.range(0, list.size()).filter(list::get).toArray(), bitmap.toArray());
+        }
+        CompressedBitmap bitmap = createBitmap(BitSet.valueOf(new long[] {0b1011}));
+        bitmap.removeAndShift(new int[0]);
+        assertArrayEquals(new int[] {0, 1, 3}, bitmap.toArray());
+        bitmap.removeAndShift(new int[] {0, 2});
+        assertArrayEquals(new int[] {0, 1}, bitmap.toArray());
+    }
+
+    private static BitSet createBitSet(Random random, double density) {
+        BitSet bitSet = new BitSet(MAX_VALUE);
+        for (int value = 0; value < MAX_VALUE; value++) {
+            if (random.nextDouble() < density) {
+                bitSet.set(value);
+            }
+        }
+        return bitSet;
+    }
+
+    private static CompressedBitmap createBitmap(BitSet bitSet) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitSet.stream().forEach(bitmap::add);
+        return bitmap;
+    }
+}
@@ -1,6 +1,8 @@
 package duke.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -8,6 +10,8 @@ import java.time.format.DateTimeFormatter;
 
 import org.junit.jupiter.api.Test;
 
+import duke.util.DateTimeStringFormatter.RenderContext;
+
 /**
  * JUnit test class for {@code DateTimeStringFormatter}.
  */
@@ -50,4 +54,24 @@ public class DateTimeStringFormatterTest {
                 DateTimeStringFormatter.formatDateTime(notOverdueTime.plusYears(1), false));
     }
 
+    /**
+     * Tests that dates are formatted relative to the time the render context was opened
+     * and that labels are reused within the context.
+     */
+    @Test
+    public void testRenderContext() {
+        LocalDateTime notOverdueTime = LocalDate.now().atTime(23, 59, 59);
+        try (RenderContext context = DateTimeStringFormatter.openRenderContext()) {
+            String label = DateTimeStringFormatter.formatDateTime(notOverdueTime, false);
+            assertEquals("Today 11:59 pm", label);
+            assertSame(label, DateTimeStringFormatter.formatDateTime(notOverdueTime.withSecond(0), false));
+
+            // The completion status and whether the time has passed are part of the label.
+            LocalDateTime overdueTime = context.getCurrentDateTime().minusDays(1).withHour(0).withMinute(0);
+            assertEquals("Yesterday 12:00 am [OVERDUE]", DateTimeStringFormatter.formatDateTime(overdueTime, false));
+            assertEquals("Yesterday 12:00 am", DateTimeStringFormatter.formatDateTime(overdueTime, true));
+        }
+        assertNotSame(DateTimeStringFormatter.formatDateTime(notOverdueTime, false),
+                DateTimeStringFormatter.formatDateTime(notOverdueTime, false));
+    }
 }
@@ -9,7 +9,7 @@ import org.junit.jupiter.api.Test;
  * JUnit test class for {@code Frequency} enum.
  */
 public class FrequencyTest {
-    private static final int NUM_FREQUENCY = 4;
+    private static final int NUM_FREQUENCY = 5;
 
     /**
      * Tests the integrity of the {@code Frequency} enum.
@@ -22,6 +22,7 @@ public class FrequencyTest {
             Frequency.valueOf("WEEKLY");
             Frequency.valueOf("FORTNIGHTLY");
             Frequency.valueOf("MONTHLY");
+            Frequency.valueOf("YEARLY");
         } catch (IllegalArgumentException e) {
             fail();
         }
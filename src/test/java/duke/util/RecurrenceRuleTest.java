@@ -0,0 +1,192 @@
+package duke.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.io.RecurrenceRuleParser;
+
+/**
+ * JUnit test class for {@code RecurrenceRule}.
+ */
+public class RecurrenceRuleTest {
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2021, 3, 1, 9, 0);
+
+    /**
+     * Tests that the rules of each {@code Frequency} repeat like the frequency did,
+     * including monthly deadlines falling on the last day of shorter months.
+     */
+    @Test
+    public void iterator_frequencyRules_sameAsFrequency() {
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2)),
+                take(RecurrenceRule.of(Frequency.DAILY).iterator(MONDAY), 3));
+        assertEquals(List.of(MONDAY, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2)),
+                take(RecurrenceRule.of(Frequency.WEEKLY).iterator(MONDAY), 3));
+        assertEquals(List.of(MONDAY, MONDAY.plusWeeks(2), MONDAY.plusWeeks(4)),
+                take(RecurrenceRule.of(Frequency.FORTNIGHTLY).iterator(MONDAY), 3));
+        assertEquals(List.of(MONDAY, MONDAY.plusYears(1)), take(RecurrenceRule.of(Frequency.YEARLY).iterator(MONDAY),
+                2));
+        LocalDateTime endOfJanuary = LocalDateTime.of(2021, 1, 31, 18, 0);
+        assertEquals(List.of(endOfJanuary, LocalDateTime.of(2021, 2, 28, 18, 0), LocalDateTime.of(2021, 3, 28, 18, 0)),
+                take(RecurrenceRule.of(Frequency.MONTHLY).iterator(endOfJanuary), 3));
+    }
+
+    /**
+     * Tests weekly rules on several days of the week, every other week.
+     */
+    @Test
+    public void iterator_weeklyByDay_success() {
+        RecurrenceRule rule = new RecurrenceRule(Frequency.WEEKLY, 2,
+                EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.WEDNESDAY), List.of(), 0, null);
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(2), MONDAY.plusDays(14), MONDAY.plusDays(16),
+                MONDAY.plusDays(28)), take(rule.iterator(MONDAY), 5));
+        // A first occurrence that does not match the rule still counts, like DTSTART.
+        assertEquals(List.of(MONDAY.plusDays(4), MONDAY.plusDays(14)), take(rule.iterator(MONDAY.plusDays(4)), 2));
+    }
+
+    /**
+     * Tests monthly rules on days counted from either end of the month, and on days
+     * of the month that must also fall on a day of the week.
+     */
+    @Test
+    public void iterator_monthlyByMonthDay_success() {
+        LocalDateTime newYear = LocalDateTime.of(2021, 1, 1, 12, 0);
+        RecurrenceRule firstAndLast = new RecurrenceRule(Frequency.MONTHLY, 1, EnumSet.noneOf(DayOfWeek.class),
+                List.of(1, -1), 0, null);
+        assertEquals(List.of(newYear, newYear.withDayOfMonth(31), newYear.withMonth(2),
+                LocalDateTime.of(2021, 2, 28, 12, 0), newYear.withMonth(3)), take(firstAndLast.iterator(newYear), 5));
+
+        RecurrenceRule fridayThe13th = new RecurrenceRule(Frequency.MONTHLY, 1, EnumSet.of(DayOfWeek.FRIDAY),
+                List.of(13), 0, null);
+        assertEquals(List.of(newYear, LocalDateTime.of(2021, 8, 13, 12, 0), LocalDateTime.of(2022, 5, 13, 12, 0),
+                LocalDateTime.of(2023, 1, 13, 12, 0)), take(fridayThe13th.iterator(newYear), 4));
+    }
+
+    /**
+     * Tests that COUNT and UNTIL end the occurrences, and that a rule that can never
+     * occur again ends instead of searching forever.
+     */
+    @Test
+    public void iterator_limitedRules_end() {
+        RecurrenceRule threeTimes = new RecurrenceRule(Frequency.DAILY, 1, EnumSet.noneOf(DayOfWeek.class),
+                List.of(), 3, null);
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(1), MONDAY.plusDays(2)), take(threeTimes.iterator(MONDAY), 5));
+        assertEquals(List.of(MONDAY.plusDays(1)), take(threeTimes.afterOccurrences(2).iterator(MONDAY.plusDays(1)),
+                5));
+
+        RecurrenceRule untilFriday = new RecurrenceRule(Frequency.DAILY, 2, EnumSet.noneOf(DayOfWeek.class),
+                List.of(), 0, MONDAY.plusDays(4));
+        assertEquals(List.of(MONDAY, MONDAY.plusDays(2), MONDAY.plusDays(4)), take(untilFriday.iterator(MONDAY), 5));
+
+        RecurrenceRule never = new RecurrenceRule(Frequency.MONTHLY, 12, EnumSet.noneOf(DayOfWeek.class),
+                List.of(30), 0, null);
+        LocalDateTime february = LocalDateTime.of(2021, 2, 1, 9, 0);
+        assertEquals(List.of(february), take(never.iterator(february), 2));
+    }
+
+    /**
+     * Tests that skipping ahead to a time gives the same occurrences as going through
+     * every occurrence before it.
+     */
+    @Test
+    public void iterator_from_sameAsSteppingThrough() {
+        String[] rules = {"freq=daily", "freq=daily;interval=3;byday=mo,tu", "freq=weekly;interval=2",
+            "freq=weekly;byday=tu,sa", "freq=monthly", "freq=monthly;interval=5;bymonthday=-2,3",
+            "freq=monthly;byday=su", "freq=yearly;byday=fr;bymonthday=13", "freq=yearly;interval=4",
+            "freq=daily;count=400", "freq=weekly;byday=mo;until=20230301t090000"};
+        LocalDateTime[] starts = {MONDAY, LocalDateTime.of(2020, 1, 31, 23, 30), LocalDateTime.of(2020, 2, 29, 8, 0)};
+        for (String text : rules) {
+            RecurrenceRule rule = RecurrenceRuleParser.parseRecurrenceRule(text);
+            for (LocalDateTime start : starts) {
+                for (int days = 0; days < 1500; days += 97) {
+                    LocalDateTime from = start.plusDays(days).plusHours(days % 24);
+                    List<LocalDateTime> expected = new ArrayList<>();
+                    Iterator<LocalDateTime> occurrences = rule.iterator(start);
+                    while (occurrences.hasNext() && expected.size() < 3) {
+                        LocalDateTime occurrence = occurrences.next();
+                        if (!occurrence.isBefore(from)) {
+                            expected.add(occurrence);
+                        }
+                    }
+                    assertEquals(expected, take(rule.iterator(start, from), 3), text + " from " + from);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that skipping ahead to a time counts the same occurrences before it as
+     * going through every one of them.
+     */
+    @Test
+    public void skipTo_numOfSkipped_sameAsSteppingThrough() {
+        String[] rules = {"freq=daily", "freq=daily;interval=3;byday=mo,tu", "freq=weekly;interval=3",
+            "freq=weekly;interval=2;byday=tu,sa", "freq=monthly", "freq=monthly;bymonthday=-2,3",
+            "freq=yearly;interval=4", "freq=daily;count=400", "freq=weekly;byday=mo,we;count=100",
+            "freq=weekly;byday=mo;until=20230301t090000"};
+        LocalDateTime[] starts = {MONDAY, MONDAY.plusDays(4), LocalDateTime.of(2020, 1, 31, 23, 30)};
+        for (String text : rules) {
+            RecurrenceRule rule = RecurrenceRuleParser.parseRecurrenceRule(text);
+            for (LocalDateTime start : starts) {
+                for (int days = 0; days < 1500; days += 97) {
+                    LocalDateTime from = start.plusDays(days).plusHours(days % 24);
+                    int numOfSkipped = 0;
+                    LocalDateTime next = null;
+                    Iterator<LocalDateTime> occurrences = rule.iterator(start);
+                    while (occurrences.hasNext() && next == null) {
+                        LocalDateTime occurrence = occurrences.next();
+                        if (occurrence.isBefore(from)) {
+                            numOfSkipped++;
+                        } else {
+                            next = occurrence;
+                        }
+                    }
+                    Pair<LocalDateTime, Integer> skipped = rule.skipTo(start, from);
+                    assertEquals(next, skipped.getFirst(), text + " from " + from);
+                    assertEquals(numOfSkipped, skipped.getSecond(), text + " from " + from);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests the RRULE and the description of rules.
+     */
+    @Test
+    public void toStringAndDescribe_success() {
+        assertEquals("FREQ=WEEKLY", RecurrenceRule.of(Frequency.WEEKLY).toString());
+        assertEquals("Weekly", RecurrenceRule.of(Frequency.WEEKLY).describe());
+        assertEquals("FREQ=WEEKLY;INTERVAL=2", RecurrenceRule.of(Frequency.FORTNIGHTLY).toString());
+        assertEquals(Frequency.FORTNIGHTLY, RecurrenceRule.of(Frequency.FORTNIGHTLY).getFrequency());
+        assertEquals("Fortnightly", RecurrenceRule.of(Frequency.FORTNIGHTLY).describe());
+
+        RecurrenceRule rule = new RecurrenceRule(Frequency.MONTHLY, 3, EnumSet.noneOf(DayOfWeek.class),
+                List.of(-1, 1, -2), 4, null);
+        assertEquals("FREQ=MONTHLY;INTERVAL=3;BYMONTHDAY=-2,-1,1;COUNT=4", rule.toString());
+        assertEquals("Every 3 months on the 2nd last, last, 1st, 4 times", rule.describe());
+
+        RecurrenceRule weekdays = new RecurrenceRule(Frequency.WEEKLY, 1,
+                EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY), List.of(), 0, LocalDateTime.of(2021, 6, 30, 0, 0));
+        assertEquals("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR;UNTIL=20210630T000000", weekdays.toString());
+        assertEquals("Weekly on Mon, Tue, Wed, Thu, Fri, until Jun 30 2021", weekdays.describe());
+        assertEquals(weekdays.toString(),
+                RecurrenceRuleParser.parseRecurrenceRule(weekdays.toString().toLowerCase()).toString());
+        assertFalse(rule.afterOccurrences(1).toString().contains("COUNT=4"));
+    }
+
+    private static List<LocalDateTime> take(Iterator<LocalDateTime> occurrences, int limit) {
+        List<LocalDateTime> taken = new ArrayList<>();
+        while (occurrences.hasNext() && taken.size() < limit) {
+            taken.add(occurrences.next());
+        }
+        return taken;
+    }
+}
@@ -0,0 +1,31 @@
+package duke.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * JUnit test class for {@code StartupTimer}.
+ */
+public class StartupTimerTest {
+    /**
+     * Tests that each phase is timed from the previous mark.
+     */
+    @Test
+    public void mark_multiplePhases_timedFromPreviousMark() {
+        AtomicLong currentTime = new AtomicLong(1000);
+        StartupTimer timer = new StartupTimer(1000, currentTime::get);
+        currentTime.set(1200);
+        assertEquals(200, timer.mark("FX init"));
+        currentTime.set(1250);
+        assertEquals(250, timer.mark("FXML"));
+        currentTime.set(1600);
+        assertEquals(600, timer.mark("First paint"));
+        assertEquals(List.of("FX init: 200 ms (200 ms since JVM start)",
+                "FXML: 50 ms (250 ms since JVM start)",
+                "First paint: 350 ms (600 ms since JVM start)"), timer.getPhases());
+    }
+}